@@ -38,7 +38,7 @@ if %errorlevel% equ 0 (
     echo.
     echo 다음 단계:
     echo 1. Spring Boot 애플리케이션 시작: gradlew.bat bootRun
-    echo 2. 데이터 동기화: curl -X POST http://localhost:8080/api/admin/promos/sync-all
+    echo 2. 전체 재색인, 관리자 토큰 필요: curl -X POST http://localhost:8080/api/admin/search/reindex -H "Authorization: Bearer {JWT_TOKEN}"
     echo.
 )
 
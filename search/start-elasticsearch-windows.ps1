@@ -87,7 +87,7 @@ if ($bashPath) {
     Write-Host ""
     Write-Host "다음 단계:" -ForegroundColor Cyan
     Write-Host "1. Spring Boot 애플리케이션 시작: .\gradlew.bat bootRun" -ForegroundColor White
-    Write-Host "2. 데이터 동기화: curl -X POST http://localhost:8080/api/admin/promos/sync-all" -ForegroundColor White
+    Write-Host "2. 전체 재색인 (관리자 토큰 필요): curl -X POST http://localhost:8080/api/admin/search/reindex -H `"Authorization: Bearer {JWT_TOKEN}`"" -ForegroundColor White
     Write-Host ""
     Write-Host "유용한 명령어:" -ForegroundColor Cyan
     Write-Host "- 서비스 중지: docker-compose -f docker-compose.elasticsearch.windows.yml down" -ForegroundColor White
@@ -135,8 +135,8 @@ echo "Elasticsearch 환경 설정이 완료되었습니다!"
 echo ""
 echo "다음 단계:"
 echo "1. Spring Boot 애플리케이션 시작: ./gradlew bootRun"
-echo "2. 데이터 동기화: curl -X POST http://localhost:8080/api/admin/promos/sync-all"
-echo "3. 검색 테스트: curl -X GET 'http://localhost:8080/api/promos/search-v2?keyword=락밴드'"
+echo "2. 전체 재색인 (관리자 토큰 필요): curl -X POST http://localhost:8080/api/admin/search/reindex -H 'Authorization: Bearer {JWT_TOKEN}'"
+echo "3. 검색 테스트: curl -X GET 'http://localhost:8080/api/search?keyword=락밴드'"
 echo ""
 echo "유용한 명령어:"
 echo "- 서비스 중지: docker-compose -f $COMPOSE_FILE down"
@@ -15,6 +15,7 @@ import com.jandi.band_backend.global.exception.UserNotFoundException;
 import com.jandi.band_backend.poll.repository.PollRepository;
 import com.jandi.band_backend.poll.repository.PollSongRepository;
 import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
 import com.jandi.band_backend.promo.repository.*;
 import com.jandi.band_backend.security.jwt.JwtTokenProvider;
 import com.jandi.band_backend.team.repository.TeamEventRepository;
@@ -31,6 +32,7 @@ import com.jandi.band_backend.user.repository.UserTimetableRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -66,6 +68,7 @@ public class AuthService {
     private final VoteRepository voteRepository;
     private final PromoLikeRepository promoLikeRepository;
     private final PromoCommentLikeRepository promoCommentLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${user-withdraw.days}")
     private Integer userWithdrawDays;
@@ -182,6 +185,7 @@ public class AuthService {
         int pollSongCount = pollSongRepository.anonymizeBySuggesterId(userId);
         int promoCount = promoRepository.anonymizeByCreatorId(userId);
         int promoPhotoCount = promoPhotoRepository.anonymizeByUserId(userId);
+        // 댓글은 작성자만 익명화하고 남겨두므로 공연 홍보의 comment_count 는 바뀌지 않음
         int promoCommentCount = promoCommentRepository.anonymizeByUserId(userId);
         int teamCount = teamRepository.anonymizeByCreatorId(userId);
         int teamEventCount = teamEventRepository.anonymizeByUserId(userId);
@@ -200,9 +204,12 @@ public class AuthService {
         List<Integer> promoIds = promoLikeRepository.findPromoIdsByUserId(userId);
         for (Integer promoId : promoIds) {
             promoRepository.decrementLikeCount(promoId);
+            // 좋아요 취소와 같이 커밋 후 조회 캐시 무효화, 인기 순위 차감
+            eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.LIKED, -1));
         }
         int promoLikeCount = promoLikeRepository.deleteByUserId(userId);
 
+        promoCommentRepository.decrementLikeCountsLikedByUser(userId);
         int promoCommentLikeCount = promoCommentLikeRepository.deleteByUserId(userId);
 
         log.info("그룹 3 하드 삭제 완료 - 투표: {}, 홍보좋아요: {} ({}개 홍보글 카운트 조정), 댓글좋아요: {}",
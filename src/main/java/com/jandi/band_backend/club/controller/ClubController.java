@@ -9,6 +9,7 @@ import com.jandi.band_backend.club.dto.TransferRepresentativeReqDTO;
 import com.jandi.band_backend.club.service.ClubService;
 import com.jandi.band_backend.global.dto.CommonRespDTO;
 import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
 import com.jandi.band_backend.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,11 +18,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
@@ -32,6 +35,9 @@ import jakarta.validation.Valid;
 @RequiredArgsConstructor
 public class ClubController {
 
+    // 동아리 정보는 수정될 수 있으므로 매번 재검증 (변경 없으면 304)
+    private static final CacheControl CLUB_CACHE_CONTROL = CacheControl.noCache();
+
     private final ClubService clubService;
 
     @Operation(summary = "동아리 생성")
@@ -48,16 +54,20 @@ public class ClubController {
     @Operation(summary = "동아리 목록 조회")
     @GetMapping
     public ResponseEntity<CommonRespDTO<PagedRespDTO<ClubRespDTO>>> getClubList(
-            @PageableDefault(size = 5, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 5, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         Page<ClubRespDTO> response = clubService.getClubList(pageable);
-        return ResponseEntity.ok(CommonRespDTO.success("동아리 목록 조회 성공", PagedRespDTO.from(response)));
+        return ConditionalResponseUtil.respond(webRequest, CLUB_CACHE_CONTROL,
+                CommonRespDTO.success("동아리 목록 조회 성공", PagedRespDTO.from(response)));
     }
 
     @Operation(summary = "동아리 상세 조회")
     @GetMapping("/{clubId}")
-    public ResponseEntity<CommonRespDTO<ClubDetailRespDTO>> getClubDetail(@PathVariable Integer clubId) {
-        ClubDetailRespDTO response = clubService.getClubDetail(clubId);
-        return ResponseEntity.ok(CommonRespDTO.success("동아리 상세 정보 조회 성공", response));
+    public ResponseEntity<CommonRespDTO<ClubDetailRespDTO>> getClubDetail(
+            @PathVariable Integer clubId,
+            WebRequest webRequest) {
+        return ConditionalResponseUtil.respond(webRequest, clubService.getClubDetailEtag(clubId), CLUB_CACHE_CONTROL,
+                () -> CommonRespDTO.success("동아리 상세 정보 조회 성공", clubService.getClubDetail(clubId)));
     }
 
     @Operation(summary = "동아리 부원 명단 조회")
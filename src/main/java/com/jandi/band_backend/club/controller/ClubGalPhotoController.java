@@ -3,12 +3,14 @@ package com.jandi.band_backend.club.controller;
 import com.jandi.band_backend.club.dto.ClubGalPhotoReqDTO;
 import com.jandi.band_backend.club.dto.ClubGalPhotoRespDTO;
 import com.jandi.band_backend.club.dto.ClubGalPhotoRespDetailDTO;
+import com.jandi.band_backend.club.dto.ClubGalPhotoUploadConfirmReqDTO;
 import com.jandi.band_backend.club.service.ClubGalPhotoService;
 import com.jandi.band_backend.global.dto.CommonRespDTO;
 import com.jandi.band_backend.global.dto.PagedRespDTO;
 import com.jandi.band_backend.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -67,6 +69,20 @@ public class ClubGalPhotoController {
         return ResponseEntity.ok(CommonRespDTO.success("동아리 사진 생성 성공", response));
     }
 
+    @Operation(summary = "동아리 사진 생성 (직접 업로드 확인)",
+            description = "POST /api/images/presigned (purpose=CLUB_GALLERY) 로 받은 주소에 파일을 올린 뒤 uploadId 로 사진을 생성합니다.")
+    @PostMapping("/photo/upload-confirm")
+    public ResponseEntity<CommonRespDTO<ClubGalPhotoRespDTO>> createClubGalPhotoFromUpload(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Integer clubId,
+            @Valid @RequestBody ClubGalPhotoUploadConfirmReqDTO reqDTO
+    ) {
+        Integer userId = userDetails.getUserId();
+
+        ClubGalPhotoRespDTO response = clubGalPhotoService.createClubGalPhotoFromUpload(clubId, userId, reqDTO);
+        return ResponseEntity.ok(CommonRespDTO.success("동아리 사진 생성 성공", response));
+    }
+
     @Operation(summary = "동아리 사진 수정")
     @PatchMapping("/photo/{photoId}")
     public ResponseEntity<CommonRespDTO<ClubGalPhotoRespDetailDTO>> updateClubGalPhotoList(
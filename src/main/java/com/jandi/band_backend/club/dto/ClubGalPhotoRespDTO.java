@@ -9,6 +9,8 @@ public class ClubGalPhotoRespDTO {
     private Integer uploaderId;
     private String uploaderName;
     private String imageUrl;
+    // 목록용 썸네일 (생성 전이면 원본)
+    private String thumbnailUrl;
     private Boolean isPinned;
     private Boolean isPublic;
 
@@ -17,6 +19,7 @@ public class ClubGalPhotoRespDTO {
         uploaderId = photo.getUploader().getId();
         uploaderName = photo.getUploader().getNickname();
         imageUrl = photo.getImageUrl();
+        thumbnailUrl = photo.thumbnailOrImageUrl();
         isPinned = photo.getIsPinned();
         isPublic = photo.getIsPublic();
     }
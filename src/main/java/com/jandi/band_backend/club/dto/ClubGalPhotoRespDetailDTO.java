@@ -13,6 +13,8 @@ public class ClubGalPhotoRespDetailDTO {
     private Integer uploaderId;
     private String uploaderName;
     private String imageUrl;
+    // 화면 표시용 축소본 (생성 전이면 원본)
+    private String displayUrl;
     private String description;
     private Boolean isPinned;
     private Boolean isPublic;
@@ -23,6 +25,7 @@ public class ClubGalPhotoRespDetailDTO {
         uploaderId = photo.getUploader().getId();
         uploaderName = photo.getUploader().getNickname();
         imageUrl = photo.getImageUrl();
+        displayUrl = photo.getDisplayUrl() != null ? photo.getDisplayUrl() : photo.getImageUrl();
         description = photo.getDescription();
         isPinned = photo.getIsPinned();
         isPublic = photo.getIsPublic();
@@ -0,0 +1,14 @@
+package com.jandi.band_backend.club.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ClubGalPhotoUploadConfirmReqDTO {
+    @NotBlank(message = "업로드 ID는 필수입니다")
+    String uploadId;
+    String description = "";
+    Boolean isPublic = true;
+}
@@ -19,6 +19,9 @@ public class ClubRespDTO {
     private Boolean isUnionClub;
     
     private String photoUrl;
+
+    // 목록용 썸네일 (생성 전이면 원본)
+    private String thumbnailUrl;
     
     private Integer memberCount;
 }
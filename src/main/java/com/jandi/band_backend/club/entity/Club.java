@@ -4,6 +4,7 @@ import com.jandi.band_backend.poll.entity.Poll;
 import com.jandi.band_backend.promo.entity.Promo;
 import com.jandi.band_backend.team.entity.Team;
 import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.search.listener.SearchEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(SearchEntityListener.class)
 @Table(name = "club")
 @Getter
 @Setter
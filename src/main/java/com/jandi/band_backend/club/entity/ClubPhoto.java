@@ -27,6 +27,13 @@ public class ClubPhoto {
     @Column(name = "image_url", nullable = false, length = 512)
     private String imageUrl;
 
+    // 이미지 변형 (커밋 후 비동기로 생성 - 생성 전이거나 실패하면 null)
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    @Column(name = "display_url", length = 512)
+    private String displayUrl;
+
     @Column(name = "is_current", nullable = false)
     private Boolean isCurrent = true;
 
@@ -36,6 +43,11 @@ public class ClubPhoto {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 목록용 이미지 URL - 썸네일이 아직 없으면 원본
+    public String thumbnailOrImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
     @PrePersist
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
@@ -0,0 +1,21 @@
+package com.jandi.band_backend.club.repository;
+
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동아리 상세 응답의 검증 값 (조건부 조회용 ETag 생성)
+ * - 동아리 수정 시각, 부원 수와 부원 정보 최종 수정 시각(대표자 변경 포함), 현재 대표 사진 URL
+ *   (사진 교체/삭제는 같은 행의 URL 만 바꾸므로 사진 ID 로는 변경을 알 수 없음)
+ */
+public record ClubDetailVersion(
+        LocalDateTime updatedAt,
+        Long memberCount,
+        LocalDateTime membersUpdatedAt,
+        String photoUrl) {
+
+    public String etag(Integer clubId) {
+        return ConditionalResponseUtil.weakEtag("club", clubId, updatedAt, memberCount, membersUpdatedAt, photoUrl);
+    }
+}
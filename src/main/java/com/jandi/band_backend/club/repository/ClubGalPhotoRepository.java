@@ -31,4 +31,13 @@ public interface ClubGalPhotoRepository extends JpaRepository<ClubGalPhoto, Inte
     @Modifying
     @Query(value = "UPDATE club_gal_photo SET uploader_user_id = -1 WHERE uploader_user_id = :userId", nativeQuery = true)
     int anonymizeByUserId(@Param("userId") Integer userId);
-}
\ No newline at end of file
+
+    // 이미지 변형 기록 - 생성 중 사진이 교체/삭제됐으면 갱신하지 않음
+    @Modifying
+    @Query("UPDATE ClubGalPhoto p SET p.thumbnailUrl = :thumbnailUrl, p.displayUrl = :displayUrl " +
+           "WHERE p.id = :id AND p.imageUrl = :imageUrl AND p.deletedAt IS NULL")
+    int updateDerivatives(@Param("id") Integer id,
+                          @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("displayUrl") String displayUrl);
+}
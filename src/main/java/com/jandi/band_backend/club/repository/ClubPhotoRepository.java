@@ -2,6 +2,9 @@ package com.jandi.band_backend.club.repository;
 
 import com.jandi.band_backend.club.entity.ClubPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,13 @@ import java.util.Optional;
 public interface ClubPhotoRepository extends JpaRepository<ClubPhoto, Integer> {
     List<ClubPhoto> findByClubId(Integer clubId);
     Optional<ClubPhoto> findByClubIdAndIsCurrentTrueAndDeletedAtIsNull(Integer clubId);
+
+    // 이미지 변형 기록 - 생성 중 사진이 교체/삭제됐으면 갱신하지 않음
+    @Modifying
+    @Query("UPDATE ClubPhoto cp SET cp.thumbnailUrl = :thumbnailUrl, cp.displayUrl = :displayUrl " +
+           "WHERE cp.id = :id AND cp.imageUrl = :imageUrl AND cp.deletedAt IS NULL")
+    int updateDerivatives(@Param("id") Integer id,
+                          @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("displayUrl") String displayUrl);
 }
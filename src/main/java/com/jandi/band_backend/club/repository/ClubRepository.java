@@ -4,6 +4,8 @@ import com.jandi.band_backend.club.entity.Club;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,14 @@ public interface ClubRepository extends JpaRepository<Club, Integer> {
     List<Club> findAllByDeletedAtIsNull();
     Page<Club> findAllByDeletedAtIsNull(Pageable pageable);
     Optional<Club> findByIdAndDeletedAtIsNull(Integer clubId);
+    // ID 순차 조회 (검색 색인 재구성용)
+    List<Club> findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(Integer lastId, Pageable pageable);
+
+    // 상세 응답 검증 값만 조회 (엔티티 로드 없이 ETag 생성)
+    @Query("SELECT new com.jandi.band_backend.club.repository.ClubDetailVersion(c.updatedAt, " +
+           "(SELECT COUNT(m) FROM ClubMember m WHERE m.club.id = c.id AND m.deletedAt IS NULL), " +
+           "(SELECT MAX(m.updatedAt) FROM ClubMember m WHERE m.club.id = c.id), " +
+           "(SELECT MAX(ph.imageUrl) FROM ClubPhoto ph WHERE ph.club.id = c.id AND ph.isCurrent = true AND ph.deletedAt IS NULL)) " +
+           "FROM Club c WHERE c.id = :clubId AND c.deletedAt IS NULL")
+    Optional<ClubDetailVersion> findDetailVersion(@Param("clubId") Integer clubId);
 }
@@ -3,6 +3,7 @@ package com.jandi.band_backend.club.service;
 import com.jandi.band_backend.club.dto.ClubGalPhotoReqDTO;
 import com.jandi.band_backend.club.dto.ClubGalPhotoRespDTO;
 import com.jandi.band_backend.club.dto.ClubGalPhotoRespDetailDTO;
+import com.jandi.band_backend.club.dto.ClubGalPhotoUploadConfirmReqDTO;
 import com.jandi.band_backend.club.entity.Club;
 import com.jandi.band_backend.club.entity.ClubGalPhoto;
 import com.jandi.band_backend.club.entity.ClubMember;
@@ -13,7 +14,11 @@ import com.jandi.band_backend.global.exception.ClubNotFoundException;
 import com.jandi.band_backend.global.exception.InvalidAccessException;
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
 import com.jandi.band_backend.global.exception.UserNotFoundException;
-import com.jandi.band_backend.image.S3Service;
+import com.jandi.band_backend.image.ImageDerivativeService;
+import com.jandi.band_backend.image.ImageUploadPurpose;
+import com.jandi.band_backend.image.PresignedUploadService;
+import com.jandi.band_backend.image.StorageService;
+import com.jandi.band_backend.image.StorageDeletionOutbox;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -35,7 +40,10 @@ public class ClubGalPhotoService {
     private final ClubRepository clubRepository;
     private final UserRepository userRepository;
     private final ClubMemberRepository clubMemberRepository;
-    private final S3Service s3Service;
+    private final StorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final PresignedUploadService presignedUploadService;
+    private final StorageDeletionOutbox storageDeletionOutbox;
 
     private static final String S3_DIRNAME = "club-gal-photo";
 
@@ -63,6 +71,20 @@ public class ClubGalPhotoService {
         throw new InvalidAccessException("권한이 없습니다: 동아리원만 업로드할 수 있습니다.");
     }
 
+    @Transactional
+    public ClubGalPhotoRespDTO createClubGalPhotoFromUpload(Integer clubId, Integer userId, ClubGalPhotoUploadConfirmReqDTO reqDTO) {
+        if(!isClubMember(clubId, userId))
+            throw new InvalidAccessException("권한이 없습니다: 동아리원만 업로드할 수 있습니다.");
+
+        String imageUrl = presignedUploadService.confirm(userId, ImageUploadPurpose.CLUB_GALLERY, reqDTO.getUploadId());
+        ClubGalPhoto photo = saveClubPhotoRecord(clubId, userId, imageUrl, reqDTO.getDescription(), reqDTO.getIsPublic());
+
+        Integer photoId = photo.getId();
+        imageDerivativeService.requestDerivatives(imageUrl, (thumbnailUrl, displayUrl) ->
+                clubGalPhotoRepository.updateDerivatives(photoId, imageUrl, thumbnailUrl, displayUrl));
+        return new ClubGalPhotoRespDTO(photo);
+    }
+
     @Transactional
     public ClubGalPhotoRespDetailDTO updateClubGalPhoto(Integer clubId, Integer userId, Integer photoId, ClubGalPhotoReqDTO reqDTO) {
         ClubGalPhoto photo = getClubGalPhotoRecord(clubId, photoId);
@@ -116,15 +138,21 @@ public class ClubGalPhotoService {
     }
 
     private ClubGalPhotoRespDTO createClubPhotoRecord(Integer clubId, Integer userId, ClubGalPhotoReqDTO reqDTO) {
+        String imageUrl = uploadImage(reqDTO.getImage());
+        ClubGalPhoto photo = saveClubPhotoRecord(clubId, userId, imageUrl, reqDTO.getDescription(), reqDTO.getIsPublic());
+        requestDerivatives(photo, reqDTO.getImage());
+        return new ClubGalPhotoRespDTO(photo);
+    }
+
+    private ClubGalPhoto saveClubPhotoRecord(Integer clubId, Integer userId, String imageUrl, String description, Boolean isPublic) {
         Club club = getClubRecord(clubId);
         Users user = getUserRecord(userId);
-        String imageUrl = uploadImage(reqDTO.getImage());
 
         ClubGalPhoto photo = new ClubGalPhoto();
         photo.setClub(club);
         photo.setUploader(user);
-        photo.setDescription(reqDTO.getDescription());
-        photo.setIsPublic(reqDTO.getIsPublic());
+        photo.setDescription(description);
+        photo.setIsPublic(isPublic);
         photo.setImageUrl(imageUrl);
 
         try{
@@ -134,15 +162,20 @@ public class ClubGalPhotoService {
             deleteImage(imageUrl);
             throw new RuntimeException("DB 저장 실패: " + e);
         }
-        return new ClubGalPhotoRespDTO(photo);
+        return photo;
     }
 
     private ClubGalPhotoRespDetailDTO updateMyGalPhotoRecord(ClubGalPhoto photo, ClubGalPhotoReqDTO reqDTO) {
         String oldImageUrl = photo.getImageUrl();
+        String oldThumbnailUrl = photo.getThumbnailUrl();
+        String oldDisplayUrl = photo.getDisplayUrl();
+        boolean imageChanged = reqDTO.getImage() != null && !reqDTO.getImage().isEmpty();
 
-        if(reqDTO.getImage() != null && !reqDTO.getImage().isEmpty()) {
+        if(imageChanged) {
             String newImageUrl = uploadImage(reqDTO.getImage());
             photo.setImageUrl(newImageUrl);
+            photo.setThumbnailUrl(null);
+            photo.setDisplayUrl(null);
         }
         if(reqDTO.getDescription() != null) {
             photo.setDescription(reqDTO.getDescription());
@@ -153,10 +186,13 @@ public class ClubGalPhotoService {
 
         try{
             clubGalPhotoRepository.save(photo);
-            deleteImage(oldImageUrl);
         }catch (Exception e){
             throw new RuntimeException("DB 저장 실패: " + e);
         }
+        if(imageChanged) {
+            storageDeletionOutbox.enqueue(oldImageUrl, oldThumbnailUrl, oldDisplayUrl);
+            requestDerivatives(photo, reqDTO.getImage());
+        }
         return new ClubGalPhotoRespDetailDTO(photo);
     }
 
@@ -169,6 +205,8 @@ public class ClubGalPhotoService {
 
     private void deleteGalPhotoRecord(ClubGalPhoto photo) {
         String imageUrl = photo.getImageUrl();
+        String thumbnailUrl = photo.getThumbnailUrl();
+        String displayUrl = photo.getDisplayUrl();
 
         // soft delete 처리
         try {
@@ -179,8 +217,8 @@ public class ClubGalPhotoService {
             throw new RuntimeException("DB 삭제 실패", e);
         }
 
-        // DB 반영 후 S3 삭제
-        deleteImage(imageUrl);
+        // 커밋되면 S3 삭제
+        storageDeletionOutbox.enqueue(imageUrl, thumbnailUrl, displayUrl);
     }
 
     /// 권한 검증 관련
@@ -216,18 +254,27 @@ public class ClubGalPhotoService {
     /// S3 이미지 처리 관련
     private String uploadImage(MultipartFile file){
         try {
-            return s3Service.uploadImage(file, S3_DIRNAME);
+            return storageService.uploadImage(file, S3_DIRNAME);
         } catch (IOException e) {
             throw new RuntimeException("이미지 업로드 실패: " + e);
         }
     }
 
+    // 커밋 후 썸네일 / 화면 표시용 축소본 생성
+    private void requestDerivatives(ClubGalPhoto photo, MultipartFile file) {
+        Integer photoId = photo.getId();
+        String imageUrl = photo.getImageUrl();
+        imageDerivativeService.requestDerivatives(file, imageUrl, (thumbnailUrl, displayUrl) ->
+                clubGalPhotoRepository.updateDerivatives(photoId, imageUrl, thumbnailUrl, displayUrl));
+    }
+
+    // 방금 올린 이미지 즉시 삭제 (트랜잭션이 롤백되므로 삭제 대기열에 기록할 수 없음)
     private void deleteImage(String imageUrl){
         try {
             if (imageUrl != null)
-                s3Service.deleteImage(imageUrl);
+                storageService.deleteImage(imageUrl);
         } catch (Exception e) {
-            log.warn("기존 이미지 삭제 실패: {}", imageUrl, e);
+            log.warn("업로드 이미지 롤백 삭제 실패: {}", imageUrl, e);
         }
     }
 }
@@ -112,10 +112,11 @@ public class ClubService {
         Page<Club> clubPage = clubRepository.findAllByDeletedAtIsNull(pageable);
 
         return clubPage.map(club -> {
-            String photoUrl = getClubMainPhotoUrl(club.getId());
+            ClubPhoto photo = clubPhotoRepository.findByClubIdAndIsCurrentTrueAndDeletedAtIsNull(club.getId())
+                    .orElse(null);
             int memberCount = clubMemberRepository.countByClubIdAndDeletedAtIsNull(club.getId());
 
-            return convertToClubRespDTO(club, photoUrl, memberCount);
+            return convertToClubRespDTO(club, photo, memberCount);
         });
     }
 
@@ -130,6 +131,16 @@ public class ClubService {
         return convertToClubDetailRespDTO(club, photoUrl, memberCount, representativeId);
     }
 
+    /**
+     * 동아리 상세 응답의 약한 ETag (검증 값만 조회, 동아리가 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getClubDetailEtag(Integer clubId) {
+        return clubRepository.findDetailVersion(clubId)
+                .map(version -> version.etag(clubId))
+                .orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public ClubMembersRespDTO getClubMembers(Integer clubId) {
         Club club = entityValidationUtil.validateClubExists(clubId);
@@ -253,6 +264,7 @@ public class ClubService {
         clubGalPhotos.forEach(clubGalPhoto -> {
             // S3에서 이미지 삭제
             s3FileManagementUtil.deleteFileSafely(clubGalPhoto.getImageUrl());
+            s3FileManagementUtil.deleteDerivativesSafely(clubGalPhoto.getThumbnailUrl(), clubGalPhoto.getDisplayUrl());
 
             // DB 레코드 소프트 삭제
             clubGalPhoto.setDeletedAt(deletedTime);
@@ -339,10 +351,17 @@ public class ClubService {
         // S3에서 이전 이미지 삭제 및 새로운 이미지 업로드 후 적용
         String newUrl = s3FileManagementUtil.uploadFile(image, CLUB_PHOTO_DIR, "동아리 사진 업로드 실패");
         s3FileManagementUtil.deleteFileIfNotDefault(originalUrl, DEFAULT_CLUB_PHOTO_URL);
+        s3FileManagementUtil.deleteDerivativesSafely(clubPhoto.getThumbnailUrl(), clubPhoto.getDisplayUrl());
         clubPhoto.setImageUrl(newUrl);
+        clubPhoto.setThumbnailUrl(null);
+        clubPhoto.setDisplayUrl(null);
         clubPhoto.setUploadedAt(LocalDateTime.now());
         clubPhotoRepository.save(clubPhoto);
 
+        Integer clubPhotoId = clubPhoto.getId();
+        s3FileManagementUtil.requestDerivatives(image, newUrl, (thumbnailUrl, displayUrl) ->
+                clubPhotoRepository.updateDerivatives(clubPhotoId, newUrl, thumbnailUrl, displayUrl));
+
         return newUrl;
     }
 
@@ -359,7 +378,10 @@ public class ClubService {
 
         // S3에서 이전 이미지 삭제 및 기본 이미지 적용
         s3FileManagementUtil.deleteFileIfNotDefault(originalUrl, DEFAULT_CLUB_PHOTO_URL);
+        s3FileManagementUtil.deleteDerivativesSafely(clubPhoto.getThumbnailUrl(), clubPhoto.getDisplayUrl());
         clubPhoto.setImageUrl(DEFAULT_CLUB_PHOTO_URL);
+        clubPhoto.setThumbnailUrl(null);
+        clubPhoto.setDisplayUrl(null);
         clubPhoto.setUploadedAt(LocalDateTime.now());
         clubPhotoRepository.save(clubPhoto);
     }
@@ -391,7 +413,7 @@ public class ClubService {
                 .build();
     }
 
-    private ClubRespDTO convertToClubRespDTO(Club club, String photoUrl, int memberCount) {
+    private ClubRespDTO convertToClubRespDTO(Club club, ClubPhoto photo, int memberCount) {
         String universityName = null;
         boolean isUnionClub = (club.getUniversity() == null);
 
@@ -404,7 +426,8 @@ public class ClubService {
                 .name(club.getName())
                 .universityName(universityName)
                 .isUnionClub(isUnionClub)
-                .photoUrl(photoUrl)
+                .photoUrl(photo != null ? photo.getImageUrl() : null)
+                .thumbnailUrl(photo != null ? photo.thumbnailOrImageUrl() : null)
                 .memberCount(memberCount)
                 .build();
     }
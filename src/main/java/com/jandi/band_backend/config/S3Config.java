@@ -1,14 +1,20 @@
 package com.jandi.band_backend.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+// storage.backend=local 이면 S3 클라이언트를 만들지 않음 (자격 증명 없이 실행 가능)
 @Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${cloud.aws.credentials.access-key}")
@@ -20,12 +26,37 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 저장소(MinIO 등) 주소 - 비어 있으면 AWS S3 사용
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 일시적 오류(5xx, 스로틀링, 연결 끊김) 재시도 횟수 - 지수 백오프 적용
+    @Value("${cloud.aws.s3.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${cloud.aws.s3.connection-timeout-ms:3000}")
+    private int connectionTimeoutMillis;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(region)
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withRetryPolicy(PredefinedRetryPolicies.getDefaultRetryPolicyWithCustomMaxRetries(maxRetries))
+                .withMaxConnections(maxConnections)
+                .withConnectionTimeout(connectionTimeoutMillis);
+
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+                .withClientConfiguration(clientConfiguration);
+        if (endpoint == null || endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+        return (AmazonS3Client) builder.build();
     }
-} 
\ No newline at end of file
+}
@@ -33,21 +33,28 @@ public class SecurityConfig {
                                 "/api/auth/login",
                                 "/api/auth/refresh"
                         ).permitAll()
+                        // 직접 업로드 주소는 요청자에게 묶이므로 인증 필요
+                        .requestMatchers("/api/images/presigned").authenticated()
                         .requestMatchers(
                                 "/health",
                                 "/api/clubs/**",
                                 "/api/images/**",
+                                // 로컬 저장소 파일 (업로드는 서명으로 검증)
+                                "/files/**",
                                 "/api/promos",
                                 "/api/promos/{promoId}",
+                                "/api/promos/feed",
+                                "/api/promos/trending",
                                 "/api/promos/search",
                                 "/api/promos/filter",
                                 "/api/promos/map",
+                                "/api/promos/map/clusters",
+                                "/api/promos/nearby",
                                 "/api/promos/status",
                                 "/api/promos/*/comments",
                                 "/api/promos/reports",
                                 "/api/promos/comments/reports",
                                 "/api/search/**",
-                                "/api/admin/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
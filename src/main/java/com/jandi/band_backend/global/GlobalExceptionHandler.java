@@ -156,6 +156,15 @@ public class GlobalExceptionHandler {
                 .body(CommonRespDTO.error(ex.getMessage(), "TEAM_LEAVE_NOT_ALLOWED"));
     }
 
+    /// 외부 서비스 예외 처리
+    // 외부 의존 서비스 장애
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<CommonRespDTO<?>> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(CommonRespDTO.error(ex.getMessage(), "SERVICE_UNAVAILABLE"));
+    }
+
     /// 카카오 예외 처리
     // 카카오 로그인 토큰 발급 실패
     @ExceptionHandler(FailKakaoLoginException.class)
@@ -0,0 +1,38 @@
+package com.jandi.band_backend.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 페이지네이션 응답 DTO")
+public class CursorRespDTO<T> {
+
+    @Schema(description = "실제 데이터 목록")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 요청 시 전달할 커서 (다음 페이지가 없으면 null)", example = "1532.4471:42")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    private int size;
+
+    public static <T> CursorRespDTO<T> of(List<T> content, String nextCursor, int size) {
+        return CursorRespDTO.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .size(size)
+                .build();
+    }
+}
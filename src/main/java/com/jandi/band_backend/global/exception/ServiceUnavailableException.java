@@ -0,0 +1,12 @@
+package com.jandi.band_backend.global.exception;
+
+// 외부 의존 서비스(검색 서버 등) 장애로 일시적으로 처리할 수 없음
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
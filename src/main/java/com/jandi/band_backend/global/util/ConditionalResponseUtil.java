@@ -0,0 +1,105 @@
+package com.jandi.band_backend.global.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET 응답 (약한 ETag, If-None-Match → 304, Cache-Control)
+ * - 버전 ETag: 수정 시각/개수 등 검증 값만 먼저 조회해 만들고, 일치하면 본문을 만들지 않고 304 반환
+ * - 본문 ETag: 이미 가벼운 경로(캐시, 프로젝션)로 만든 응답 본문의 해시
+ */
+public final class ConditionalResponseUtil {
+
+    private static final ObjectMapper HASH_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private ConditionalResponseUtil() {
+    }
+
+    /**
+     * 검증 값들로 약한 ETag 생성 (W/"md5")
+     */
+    public static String weakEtag(Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return toWeakEtag(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 버전 ETag 가 요청의 If-None-Match 와 일치하면 304, 아니면 본문을 만들어 200 반환
+     * - etag 가 null 이면 (대상 없음 등) 조건 검사 없이 본문 생성 (본문 생성 중 발생한 예외는 그대로 전달)
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, String etag, CacheControl cacheControl,
+                                                Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+        }
+        if (matches(request, etag)) {
+            return notModified(etag, cacheControl);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * 응답 본문 해시를 ETag 로 사용
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, CacheControl cacheControl, T body) {
+        String etag = contentEtag(body);
+        if (matches(request, etag)) {
+            return notModified(etag, cacheControl);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body);
+    }
+
+    static String contentEtag(Object body) {
+        try {
+            return toWeakEtag(HASH_MAPPER.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ETag 생성을 위한 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * If-None-Match 약한 비교 (W/ 접두사 무시, * 는 항상 일치)
+     */
+    static boolean matches(WebRequest request, String etag) {
+        String[] headers = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (headers == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String header : headers) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || stripWeak(tag).equals(opaque)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+
+    private static String toWeakEtag(byte[] source) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(source) + "\"";
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -1,6 +1,11 @@
 package com.jandi.band_backend.global.util;
 
-import com.jandi.band_backend.image.S3Service;
+import com.jandi.band_backend.image.ImageDerivativeRecorder;
+import com.jandi.band_backend.image.ImageDerivativeService;
+import com.jandi.band_backend.image.ImageUploadPurpose;
+import com.jandi.band_backend.image.PresignedUploadService;
+import com.jandi.band_backend.image.StorageService;
+import com.jandi.band_backend.image.StorageDeletionOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -10,14 +15,17 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 @Slf4j
 public class S3FileManagementUtil {
-    private final S3Service s3Service;
+    private final StorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final PresignedUploadService presignedUploadService;
+    private final StorageDeletionOutbox storageDeletionOutbox;
 
     /**
      * 안전한 파일 업로드 (예외 처리 포함)
      */
     public String uploadFile(MultipartFile file, String directory, String errorMessage) {
         try {
-            return s3Service.uploadImage(file, directory);
+            return storageService.uploadImage(file, directory);
         } catch (Exception e) {
             log.error("S3 파일 업로드 실패: directory={}, error={}", directory, e.getMessage());
             throw new RuntimeException(errorMessage + ": " + e.getMessage());
@@ -25,7 +33,35 @@ public class S3FileManagementUtil {
     }
 
     /**
-     * 안전한 파일 삭제 (예외 처리 포함, 카카오 URL 제외)
+     * 저장소 직접 업로드 확인 (요청자/용도/크기/형식 검증 후 파일 URL 반환)
+     */
+    public String confirmDirectUpload(Integer userId, ImageUploadPurpose purpose, String uploadId) {
+        return presignedUploadService.confirm(userId, purpose, uploadId);
+    }
+
+    /**
+     * 업로드한 원본의 썸네일 등 이미지 변형 생성 요청 (커밋 후 비동기 처리, 완료되면 recorder 로 기록)
+     */
+    public void requestDerivatives(MultipartFile file, String originalUrl, ImageDerivativeRecorder recorder) {
+        imageDerivativeService.requestDerivatives(file, originalUrl, recorder);
+    }
+
+    /**
+     * 저장소에 직접 올라온 원본의 이미지 변형 생성 요청 (커밋 후 워커에서 원본을 내려받아 처리)
+     */
+    public void requestDerivatives(String originalUrl, ImageDerivativeRecorder recorder) {
+        imageDerivativeService.requestDerivatives(originalUrl, recorder);
+    }
+
+    /**
+     * 이미지 변형 삭제 예약 (아직 생성되지 않아 null 인 URL 은 건너뜀)
+     */
+    public void deleteDerivativesSafely(String... derivativeUrls) {
+        storageDeletionOutbox.enqueue(derivativeUrls);
+    }
+
+    /**
+     * 파일 삭제 예약 (카카오 URL 제외)
      */
     public void deleteFileWithKakaoCheck(String fileUrl) {
         // 카카오 기본 프로필인 경우 삭제하지 않음
@@ -37,20 +73,15 @@ public class S3FileManagementUtil {
     }
 
     /**
-     * 안전한 파일 삭제 (예외 처리 포함)
+     * 파일 삭제 예약 - 현재 트랜잭션과 함께 커밋되면 삭제 워커가 지우고, 롤백되면 취소됨
      */
     public void deleteFileSafely(String fileUrl) {
-        try {
-            s3Service.deleteImage(fileUrl);
-            log.info("S3 파일 삭제 성공: {}", fileUrl);
-        } catch (Exception e) {
-            log.error("S3 파일 삭제 실패: url={}, error={}", fileUrl, e.getMessage());
-            // 파일 삭제 실패는 치명적이지 않으므로 예외를 던지지 않음
-        }
+        storageDeletionOutbox.enqueue(fileUrl);
+        log.debug("S3 파일 삭제 예약: {}", fileUrl);
     }
 
     /**
-     * 조건부 파일 삭제 (기본 URL과 다른 경우에만 삭제)
+     * 조건부 파일 삭제 예약 (기본 URL과 다른 경우에만 삭제)
      */
     public void deleteFileIfNotDefault(String fileUrl, String defaultUrl) {
         if (!fileUrl.equals(defaultUrl)) {
@@ -0,0 +1,41 @@
+package com.jandi.band_backend.global.util;
+
+import com.jandi.band_backend.global.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 허용된 정렬 기준만 받는 페이지 요청 생성
+ * - "속성,방향" 형식의 sort 파라미터를 허용 목록의 정렬 속성들로 변환 (인덱스 순서와 맞춘 보조 정렬 포함)
+ * - 허용 목록에 없는 속성은 임의 컬럼 정렬(인덱스 없는 filesort)을 막기 위해 400 Bad Request
+ */
+public final class SortWhitelistUtil {
+
+    private SortWhitelistUtil() {
+    }
+
+    /**
+     * @param sortableProperties 요청 속성 → 실제 정렬 속성 목록 (모두 같은 방향으로 정렬)
+     */
+    public static Pageable createPageable(int page, int size, String sort, Map<String, List<String>> sortableProperties) {
+        if (sort == null || sort.trim().isEmpty()) {
+            return PageRequest.of(page, size);
+        }
+
+        String[] sortParts = sort.split(",");
+        List<String> properties = sortableProperties.get(sortParts[0].trim());
+        if (properties == null) {
+            throw new BadRequestException("정렬 기준은 " + String.join(", ", sortableProperties.keySet().stream().sorted().toList())
+                    + " 중 하나여야 합니다.");
+        }
+        Sort.Direction direction = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim())
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        return PageRequest.of(page, size, Sort.by(direction, properties.toArray(String[]::new)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jandi.band_backend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionSyncUtil {
+
+    private TransactionSyncUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업 실행 (트랜잭션 밖이면 즉시 실행)
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백된 뒤 작업 실행 (트랜잭션 밖이면 되돌릴 것이 없으므로 실행하지 않음)
+     */
+    public static void runAfterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
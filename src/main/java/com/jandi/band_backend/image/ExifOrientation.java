@@ -0,0 +1,133 @@
+package com.jandi.band_backend.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * JPEG EXIF 방향(Orientation) 태그 처리
+ * - ImageIO 는 EXIF 방향을 적용하지 않으므로 휴대폰 세로 사진이 눕혀진 채로 축소되는 것을 막기 위해 직접 읽어 회전
+ * - APP1(Exif) 세그먼트의 IFD0 에서 0x0112 태그만 찾음 (그 외 메타데이터는 변형에 포함하지 않음)
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * EXIF 방향 값 (1~8, JPEG 가 아니거나 태그가 없으면 1)
+     */
+    static int read(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return NORMAL;
+        }
+        int offset = 2;
+        while (offset + 4 <= data.length) {
+            if ((data[offset] & 0xFF) != 0xFF) {
+                return NORMAL;
+            }
+            int marker = data[offset + 1] & 0xFF;
+            // SOS, EOI 이후에는 메타데이터 세그먼트가 없음
+            if (marker == 0xDA || marker == 0xD9) {
+                return NORMAL;
+            }
+            int length = readUnsignedShort(data, offset + 2, false);
+            if (length < 2) {
+                return NORMAL;
+            }
+            if (marker == 0xE1) {
+                int orientation = readApp1(data, offset + 4, Math.min(offset + 2 + length, data.length));
+                if (orientation != 0) {
+                    return orientation;
+                }
+            }
+            offset += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 방향 값에 맞게 회전/반전한 이미지 (1 이면 그대로)
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // x' = m00·x + m01·y + m02, y' = m10·x + m11·y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);        // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);  // 180° 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);       // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);             // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);       // 시계 방향 90° 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);  // 반대 대각선 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90° 회전
+        };
+        boolean swapsAxes = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(
+                swapsAxes ? height : width,
+                swapsAxes ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 에서 방향 태그 값 (없으면 0)
+    private static int readApp1(byte[] data, int start, int end) {
+        if (start + 14 > end || data[start] != 'E' || data[start + 1] != 'x' || data[start + 2] != 'i'
+                || data[start + 3] != 'f' || data[start + 4] != 0 || data[start + 5] != 0) {
+            return 0;
+        }
+        int tiff = start + 6;
+        boolean littleEndian;
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (data[tiff] == 'M' && data[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return 0;
+        }
+        long ifdOffset = readUnsignedInt(data, tiff + 4, littleEndian);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return 0;
+        }
+        int ifd = tiff + (int) ifdOffset;
+        int entries = readUnsignedShort(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 0;
+            }
+            if (readUnsignedShort(data, entry, littleEndian) == ORIENTATION_TAG) {
+                int value = readUnsignedShort(data, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean littleEndian) {
+        int first = data[offset] & 0xFF;
+        int second = data[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static long readUnsignedInt(byte[] data, int offset, boolean littleEndian) {
+        long high = readUnsignedShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        long low = readUnsignedShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
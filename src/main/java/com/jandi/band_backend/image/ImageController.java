@@ -1,11 +1,14 @@
 package com.jandi.band_backend.image;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.image.dto.PresignedUploadReqDTO;
+import com.jandi.band_backend.image.dto.PresignedUploadRespDTO;
 import com.jandi.band_backend.security.CustomUserDetails;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,9 +23,20 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class ImageController {
 
-    private final S3Service s3Service;
+    private final StorageService storageService;
+    private final PresignedUploadService presignedUploadService;
     private final UserRepository userRepository;
 
+    @Operation(summary = "직접 업로드 주소 발급",
+            description = "발급받은 주소로 파일을 PUT 한 뒤 용도별 확인 API 에 uploadId 를 보내 등록합니다.")
+    @PostMapping("/presigned")
+    public ResponseEntity<CommonRespDTO<PresignedUploadRespDTO>> issuePresignedUpload(
+            @Valid @RequestBody PresignedUploadReqDTO request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PresignedUploadRespDTO response = presignedUploadService.issue(userDetails.getUserId(), request);
+        return ResponseEntity.ok(CommonRespDTO.success("업로드 주소 발급 성공", response));
+    }
+
     @Operation(summary = "이미지 업로드 (관리자 전용)")
     @PostMapping("/upload")
     public ResponseEntity<CommonRespDTO<String>> uploadImage(
@@ -33,7 +47,7 @@ public class ImageController {
         // ADMIN 권한 체크
         validateAdminPermission(userDetails.getUserId());
         
-        String imageUrl = s3Service.uploadImage(file, dirName);
+        String imageUrl = storageService.uploadImage(file, dirName);
         return ResponseEntity.ok(CommonRespDTO.success("이미지 업로드 성공", imageUrl));
     }
 
@@ -46,7 +60,7 @@ public class ImageController {
         // ADMIN 권한 체크
         validateAdminPermission(userDetails.getUserId());
         
-        s3Service.deleteImage(fileUrl);
+        storageService.deleteImage(fileUrl);
         return ResponseEntity.ok(CommonRespDTO.success("이미지 삭제 성공"));
     }
 
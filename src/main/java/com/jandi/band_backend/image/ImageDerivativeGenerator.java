@@ -0,0 +1,176 @@
+package com.jandi.band_backend.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 업로드 이미지 변형 생성기 (JDK ImageIO 만 사용, 외부 네이티브 코덱 없음)
+ * - 원본은 한 번만 디코딩 - 가장 큰 변형의 2배 이상이 남는 범위에서 서브샘플링으로 읽어 디코딩 비용/메모리 절감
+ * - 큰 변형부터 만들고 작은 변형은 앞 결과에서 다시 축소 (절반씩 단계적으로 줄여 계단 현상 방지)
+ * - 출력 형식은 설정값(기본 jpeg, 투명도가 있으면 PNG) - ImageIO 에 해당 형식 writer 가 없으면 JPEG/PNG 로 대체
+ *   (JDK ImageIO 에는 WebP writer 가 없으므로 webp 는 별도 ImageIO 플러그인을 추가한 경우에만 사용)
+ */
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    /**
+     * 인코딩된 변형 (extension: S3 키 확장자)
+     */
+    public record EncodedImage(byte[] bytes, String extension, String contentType) {
+    }
+
+    private final String preferredFormat;
+    private final boolean preferredFormatWritable;
+    private final float quality;
+    private final long maxPixels;
+
+    public ImageDerivativeGenerator(@Value("${image.derivative.format:jpeg}") String format,
+                                    @Value("${image.derivative.quality:0.8}") float quality,
+                                    @Value("${image.derivative.max-pixels:40000000}") long maxPixels) {
+        this.preferredFormat = format.toLowerCase();
+        this.preferredFormatWritable = ImageIO.getImageWritersByFormatName(preferredFormat).hasNext();
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        if (!preferredFormatWritable) {
+            log.warn("{} 이미지 writer 가 없어 이미지 변형을 JPEG/PNG 로 저장합니다.", preferredFormat);
+        }
+    }
+
+    /**
+     * 모든 변형 생성 (디코딩할 수 없는 형식이거나 해상도 제한을 넘으면 IOException)
+     */
+    public Map<ImageVariant, EncodedImage> generate(byte[] source) throws IOException {
+        BufferedImage decoded = decode(source, ImageVariant.values()[0].maxEdge() * 2);
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        int orientation = ExifOrientation.read(source);
+
+        Map<ImageVariant, EncodedImage> images = new EnumMap<>(ImageVariant.class);
+        BufferedImage current = decoded;
+        for (ImageVariant variant : ImageVariant.values()) {
+            current = resize(current, variant.maxEdge(), alpha);
+            // 방향 보정은 가장 큰 변형에 한 번만 (이후 변형은 보정된 결과에서 축소)
+            if (orientation != ExifOrientation.NORMAL) {
+                current = ExifOrientation.apply(current, orientation);
+                orientation = ExifOrientation.NORMAL;
+            }
+            images.put(variant, encode(current, alpha));
+        }
+        return images;
+    }
+
+    // 긴 변이 minEdge 이상 남는 최대 서브샘플링 비율로 디코딩
+    private BufferedImage decode(byte[] source, int minEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / minEdge);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxEdge 이하가 되도록 축소 (이미 작으면 크기 유지, 픽셀 형식만 RGB/ARGB 로 맞춤)
+    static BufferedImage resize(BufferedImage image, int maxEdge, boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, type);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private EncodedImage encode(BufferedImage image, boolean alpha) throws IOException {
+        String format = outputFormat(alpha);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                // 무손실 형식(PNG)은 품질 값이 압축 속도 의미라 기본값 사용
+                if (param.isCompressionLossless()) {
+                    param.setCompressionMode(ImageWriteParam.MODE_DEFAULT);
+                } else {
+                    param.setCompressionQuality(quality);
+                }
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return switch (format) {
+            case "jpeg" -> new EncodedImage(bytes.toByteArray(), "jpg", "image/jpeg");
+            case "png" -> new EncodedImage(bytes.toByteArray(), "png", "image/png");
+            default -> new EncodedImage(bytes.toByteArray(), format, "image/" + format);
+        };
+    }
+
+    String outputFormat(boolean alpha) {
+        boolean preferredSupportsAlpha = !preferredFormat.equals("jpeg") && !preferredFormat.equals("jpg");
+        if (preferredFormatWritable && (!alpha || preferredSupportsAlpha)) {
+            return preferredFormat.equals("jpg") ? "jpeg" : preferredFormat;
+        }
+        return alpha ? "png" : "jpeg";
+    }
+}
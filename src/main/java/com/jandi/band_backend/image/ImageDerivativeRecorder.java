@@ -0,0 +1,13 @@
+package com.jandi.band_backend.image;
+
+/**
+ * 생성된 이미지 변형 URL 을 사진 레코드에 기록
+ */
+@FunctionalInterface
+public interface ImageDerivativeRecorder {
+
+    /**
+     * 갱신한 행 수 반환 - 0 이면 처리 중 원본이 교체/삭제된 것으로 보고 만든 변형을 삭제
+     */
+    int record(String thumbnailUrl, String displayUrl);
+}
@@ -0,0 +1,190 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 이미지 변형 파이프라인 (썸네일 / 화면 표시용 축소본)
+ * - 원본 업로드는 지금처럼 요청 안에서 처리하고, 변형은 커밋 후 고정 크기 워커 풀에서 생성해 S3 에 올린 뒤 사진 레코드에 기록
+ * - 대기열이 가득 차거나 생성에 실패하면 변형 없이 원본만 사용 (목록 응답은 원본 URL 로 대체)
+ * - 기록 시점에 원본이 이미 교체/삭제됐으면 만든 변형을 바로 삭제
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private final ImageDerivativeGenerator generator;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Timer durationTimer;
+    private final Counter generatedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter discardedCounter;
+
+    public ImageDerivativeService(ImageDerivativeGenerator generator,
+                                  StorageService storageService,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${image.derivative.threads:2}") int threads,
+                                  @Value("${image.derivative.queue-capacity:16}") int queueCapacity) {
+        this.generator = generator;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기 중인 작업마다 원본 바이트를 들고 있으므로 대기열 크기로 메모리 사용량을 제한
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.durationTimer = Timer.builder("jandi.image.derivative.duration")
+                .description("Time to decode, resize, encode and upload derivatives of one image")
+                .register(meterRegistry);
+        this.generatedCounter = resultCounter(meterRegistry, "generated");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.rejectedCounter = resultCounter(meterRegistry, "rejected");
+        this.discardedCounter = resultCounter(meterRegistry, "discarded");
+        Gauge.builder("jandi.image.derivative.queue", executor, pool -> pool.getQueue().size())
+                .description("Number of images waiting for derivative generation")
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jandi.image.derivative.total")
+                .description("Image derivative jobs by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원본 업로드 직후 호출 - 파일 내용을 복사해 두고 현재 트랜잭션 커밋 후 작업 등록 (롤백되면 생성하지 않음)
+     */
+    public void requestDerivatives(MultipartFile file, String originalUrl, ImageDerivativeRecorder recorder) {
+        byte[] source;
+        try {
+            source = file.getBytes();
+        } catch (IOException e) {
+            failedCounter.increment();
+            log.warn("이미지 변형용 원본 읽기 실패: url={}, error={}", originalUrl, e.getMessage());
+            return;
+        }
+        TransactionSyncUtil.runAfterCommit(() -> submit(source, originalUrl, recorder));
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올린 원본 - 커밋 후 워커에서 원본을 내려받아 생성
+     */
+    public void requestDerivatives(String originalUrl, ImageDerivativeRecorder recorder) {
+        TransactionSyncUtil.runAfterCommit(() -> execute(() -> {
+            String originalKey = storageService.extractKey(originalUrl);
+            if (originalKey == null) {
+                return;
+            }
+            byte[] source;
+            try {
+                source = storageService.downloadBytes(originalKey);
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("이미지 변형용 원본 다운로드 실패: url={}, error={}", originalUrl, e.getMessage());
+                return;
+            }
+            process(source, originalUrl, recorder);
+        }, originalUrl));
+    }
+
+    void submit(byte[] source, String originalUrl, ImageDerivativeRecorder recorder) {
+        execute(() -> process(source, originalUrl, recorder), originalUrl);
+    }
+
+    private void execute(Runnable task, String originalUrl) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("이미지 변형 대기열이 가득 차 건너뜁니다: url={}", originalUrl);
+        }
+    }
+
+    void process(byte[] source, String originalUrl, ImageDerivativeRecorder recorder) {
+        String originalKey = storageService.extractKey(originalUrl);
+        if (originalKey == null) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        try {
+            for (Map.Entry<ImageVariant, ImageDerivativeGenerator.EncodedImage> entry : generator.generate(source).entrySet()) {
+                ImageDerivativeGenerator.EncodedImage image = entry.getValue();
+                urls.put(entry.getKey(), storageService.uploadBytes(
+                        derivativeKey(originalKey, entry.getKey(), image.extension()), image.bytes(), image.contentType()));
+            }
+            Integer updated = transactionTemplate.execute(status ->
+                    recorder.record(urls.get(ImageVariant.THUMBNAIL), urls.get(ImageVariant.DISPLAY)));
+            if (updated == null || updated == 0) {
+                discardedCounter.increment();
+                deleteQuietly(urls.values());
+                return;
+            }
+            generatedCounter.increment();
+        } catch (Exception e) {
+            failedCounter.increment();
+            deleteQuietly(urls.values());
+            log.warn("이미지 변형 생성 실패: url={}, error={}", originalUrl, e.getMessage());
+        } finally {
+            durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 원본 키 기준 변형 키 (예: promo-photo/uuid.jpg → promo-photo/uuid_thumb.jpg)
+    static String derivativeKey(String originalKey, ImageVariant variant, String extension) {
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > originalKey.lastIndexOf('/') ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + variant.suffix() + "." + extension;
+    }
+
+    private void deleteQuietly(Collection<String> urls) {
+        for (String url : urls) {
+            try {
+                storageService.deleteImage(url);
+            } catch (Exception e) {
+                log.warn("이미지 변형 삭제 실패: url={}, error={}", url, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 작업을 마칠 때까지 대기 후 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("이미지 변형 작업 {}건을 마치지 못하고 종료합니다.", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jandi.band_backend.image;
+
+/**
+ * 직접 업로드 용도 - 저장 디렉토리와 확인(confirm) 시 붙일 대상 구분
+ */
+public enum ImageUploadPurpose {
+    PROMO("promo-photo"),
+    CLUB_GALLERY("club-gal-photo"),
+    NOTICE("notice-photo"),
+    PROFILE("user-photo");
+
+    private final String dirName;
+
+    ImageUploadPurpose(String dirName) {
+        this.dirName = dirName;
+    }
+
+    public String dirName() {
+        return dirName;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jandi.band_backend.image;
+
+/**
+ * 업로드 이미지에서 만드는 변형 (큰 변형부터 선언 - 작은 변형은 앞 변형의 결과에서 다시 축소)
+ */
+public enum ImageVariant {
+    // 상세 화면용 축소본
+    DISPLAY(1280, "display"),
+    // 목록용 썸네일
+    THUMBNAIL(320, "thumb");
+
+    private final int maxEdge;
+    private final String suffix;
+
+    ImageVariant(int maxEdge, String suffix) {
+        this.maxEdge = maxEdge;
+        this.suffix = suffix;
+    }
+
+    // 긴 변 최대 길이 (px) - 원본이 더 작으면 크기를 유지하고 다시 인코딩만 함
+    public int maxEdge() {
+        return maxEdge;
+    }
+
+    // S3 키 접미사 (원본 키_접미사.확장자)
+    public String suffix() {
+        return suffix;
+    }
+}
@@ -0,0 +1,272 @@
+package com.jandi.band_backend.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 로컬 디스크 저장소 (storage.backend=local) - 개발 환경, 단일 서버 배포용
+ * - 키를 storage.local.root 아래 상대 경로로 저장 (임시 파일에 쓴 뒤 이동해 읽는 쪽에서 쓰다 만 파일을 보지 않음)
+ * - 파일은 LocalStorageController 가 storage.local.base-url(기본 /files) 로 제공
+ * - 직접 업로드 주소는 key, Content-Type, Content-Length, 만료 시각을 HMAC-SHA256 으로 서명
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final String TEMP_SUFFIX = ".uploading";
+    private static final String HMAC = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final byte[] signingSecret;
+
+    public LocalStorageBackend(@Value("${storage.local.root:./storage}") String root,
+                               @Value("${storage.local.base-url:http://localhost:8080/files}") String baseUrl,
+                               @Value("${storage.local.signing-secret:}") String signingSecret) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        if (signingSecret == null || signingSecret.isBlank()) {
+            log.warn("storage.local.signing-secret 이 비어 있어 임의 값을 사용합니다. 재시작하면 발급된 업로드 주소가 무효가 됩니다.");
+            this.signingSecret = new byte[32];
+            new SecureRandom().nextBytes(this.signingSecret);
+        } else {
+            this.signingSecret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType) {
+        Path target = resolve(key);
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(target.getParent());
+            long written = Files.copy(content, temp);
+            if (written != size) {
+                throw new IOException("expected " + size + " bytes but got " + written);
+            }
+            move(temp, target);
+            log.debug("Local storage put: key={}, size={}", key, size);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.error("Upload failed: key={}, size={}, error={}", key, size, e.getMessage(), e);
+            throw new RuntimeException("Failed to upload file to local storage", e);
+        }
+    }
+
+    @Override
+    public StoredObject head(String key) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new StoredObject(key, attributes.size(), contentType(key), attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            log.debug("Local storage delete: key={}", key);
+        } catch (IOException e) {
+            log.error("Delete failed: key={}, error={}", key, e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> keys) {
+        Map<String, String> failures = new HashMap<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | IllegalArgumentException e) {
+                failures.put(key, e.getClass().getSimpleName());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 접두어가 속한 디렉터리 아래만 키 순서로 훑어 continuationToken(이전 페이지 마지막 키) 다음부터 반환
+     * - 디렉터리마다 이름만으로 토큰 이전/접두어 밖 항목을 먼저 거르고, 남은 항목만 속성 조회 후 정렬해 내려감
+     *   (이전 페이지까지의 하위 디렉터리는 열지 않으므로 페이지마다 전체 트리를 다시 훑지 않음)
+     */
+    @Override
+    public ObjectPage list(String prefix, String continuationToken, int maxKeys) {
+        int slash = prefix.lastIndexOf('/');
+        String startKey = slash >= 0 ? prefix.substring(0, slash + 1) : "";
+        Path start = startKey.isEmpty() ? root : resolve(startKey);
+        List<StoredObject> objects = new ArrayList<>();
+        try {
+            collect(start, startKey, prefix, continuationToken, maxKeys + 1, objects);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (objects.size() <= maxKeys) {
+            return new ObjectPage(objects, null);
+        }
+        List<StoredObject> page = List.copyOf(objects.subList(0, maxKeys));
+        return new ObjectPage(page, page.get(maxKeys - 1).key());
+    }
+
+    // dirKey: dir 의 키 접두어 ("" 또는 "promo-photo/"), limit 개를 채우면 중단
+    private void collect(Path dir, String dirKey, String prefix, String after, int limit, List<StoredObject> objects)
+            throws IOException {
+        List<ListEntry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                String key = dirKey + name;
+                if (name.endsWith(TEMP_SUFFIX) || !mayContain(key, prefix, after)) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class);
+                if (attributes.isDirectory()) {
+                    entries.add(new ListEntry(child, key + "/", attributes));
+                } else if (attributes.isRegularFile() && key.startsWith(prefix)
+                        && (after == null || key.compareTo(after) > 0)) {
+                    entries.add(new ListEntry(child, key, attributes));
+                }
+            }
+        } catch (NoSuchFileException | NotDirectoryException e) {
+            return;
+        }
+        // 디렉터리는 "이름/" 으로 비교해야 하위 키까지 포함한 전체 키 순서와 같아짐
+        entries.sort(Comparator.comparing(ListEntry::key));
+        for (ListEntry entry : entries) {
+            if (objects.size() >= limit) {
+                return;
+            }
+            if (entry.attributes().isDirectory()) {
+                collect(entry.path(), entry.key(), prefix, after, limit, objects);
+            } else {
+                objects.add(new StoredObject(entry.key(), entry.attributes().size(), contentType(entry.key()),
+                        entry.attributes().lastModifiedTime().toInstant()));
+            }
+        }
+    }
+
+    // 이름만으로 판단 - 파일(key) 이든 디렉터리(key/) 든 접두어와 토큰 조건을 만족할 수 있으면 true
+    private static boolean mayContain(String key, String prefix, String after) {
+        String dirKey = key + "/";
+        boolean fileMatches = key.startsWith(prefix) && (after == null || key.compareTo(after) > 0);
+        boolean dirMatches = (dirKey.startsWith(prefix) || prefix.startsWith(dirKey))
+                && (after == null || dirKey.compareTo(after) > 0 || after.startsWith(dirKey));
+        return fileMatches || dirMatches;
+    }
+
+    private record ListEntry(Path path, String key, BasicFileAttributes attributes) {
+    }
+
+    @Override
+    public String presignPut(String key, String contentType, long contentLength, Instant expiresAt) {
+        long expires = expiresAt.getEpochSecond();
+        return baseUrl + "/" + key
+                + "?expires=" + expires
+                + "&signature=" + URLEncoder.encode(sign(key, contentType, contentLength, expires), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 직접 업로드 요청 검증 - 만료 전이고 서명한 형식/크기와 같은 요청만 통과
+     */
+    public boolean verifyUpload(String key, String contentType, long contentLength, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 키에 해당하는 파일 경로 - 루트 밖을 가리키는 키(../ 등)와 업로드 중인 임시 파일은 거부
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (key.isBlank() || !path.startsWith(root) || path.equals(root)
+                || path.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    public String contentType(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(signingSecret, HMAC));
+            String payload = key + "\n" + contentType + "\n" + contentLength + "\n" + expires;
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jandi.band_backend.image;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 로컬 저장소 파일 제공 / 직접 업로드 수신 (storage.backend=local 일 때만 등록)
+ * - GET/HEAD /files/{key}: LocalFileResponder 로 sendfile / Range / 캐시 헤더 처리
+ * - PUT /files/{key}?expires=&signature=: presignPut 으로 발급한 주소만 허용, 서명한 Content-Type/Content-Length 와 같아야 함
+ */
+@Slf4j
+@Hidden
+@RestController
+@RequestMapping(LocalStorageController.PATH)
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalStorageController {
+
+    static final String PATH = "/files";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final LocalStorageBackend localStorageBackend;
+
+    @RequestMapping(value = "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file;
+        String key = key(request);
+        try {
+            file = localStorageBackend.resolve(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        LocalFileResponder.respond(file, localStorageBackend.contentType(key), request, response);
+    }
+
+    @PutMapping("/**")
+    public ResponseEntity<Void> upload(@RequestParam("expires") long expires,
+                                       @RequestParam("signature") String signature,
+                                       HttpServletRequest request) throws IOException {
+        String key = key(request);
+        String contentType = request.getContentType();
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0
+                || !localStorageBackend.verifyUpload(key, contentType, contentLength, expires, signature)) {
+            log.warn("로컬 저장소 업로드 거부: key={}, contentType={}, contentLength={}", key, contentType, contentLength);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try (InputStream inputStream = request.getInputStream()) {
+            localStorageBackend.put(key, inputStream, contentLength, contentType);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private static String key(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        return path.length() > PATH.length() + 1 ? path.substring(PATH.length() + 1) : "";
+    }
+}
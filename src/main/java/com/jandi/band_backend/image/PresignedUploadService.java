@@ -0,0 +1,142 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.exception.InvalidAccessException;
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
+import com.jandi.band_backend.image.dto.PresignedUploadReqDTO;
+import com.jandi.band_backend.image.StorageBackend.StoredObject;
+import com.jandi.band_backend.image.dto.PresignedUploadRespDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 저장소 직접 업로드 (이미지 바이트가 서버를 거치지 않음)
+ * 1. 발급: 용도/형식/크기를 검사하고 Content-Type, Content-Length 가 서명된 PUT 주소 발급, 업로드 정보는 Redis 에 보관
+ * 2. 클라이언트가 주소로 직접 업로드
+ * 3. 확인: 업로드 정보와 요청자/용도를 대조하고 HEAD 로 객체 크기/형식을 확인한 뒤 URL 반환 (한 번만 사용 가능)
+ *    URL 을 등록하는 트랜잭션이 롤백되면 업로드 정보를 복원해 다시 확인할 수 있음
+ * - 확인되지 않은 업로드는 Redis 에서 만료되고, 남은 객체는 StorageOrphanReconciler 가 유예 기간 뒤 삭제
+ */
+@Slf4j
+@Service
+public class PresignedUploadService {
+
+    private static final String KEY_PREFIX = "image:upload:";
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+
+    /**
+     * Redis 에 보관하는 업로드 정보 ("userId|purpose|key|contentType|contentLength")
+     */
+    record UploadTicket(Integer userId, ImageUploadPurpose purpose, String key, String contentType, long contentLength) {
+
+        String serialize() {
+            return userId + "|" + purpose + "|" + key + "|" + contentType + "|" + contentLength;
+        }
+
+        static UploadTicket parse(String value) {
+            String[] parts = value.split("\\|");
+            return new UploadTicket(Integer.valueOf(parts[0]), ImageUploadPurpose.valueOf(parts[1]), parts[2],
+                    parts[3], Long.parseLong(parts[4]));
+        }
+    }
+
+    private final StorageService storageService;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration expiry;
+    private final long maxBytes;
+
+    public PresignedUploadService(StorageService storageService,
+                                  StringRedisTemplate redisTemplate,
+                                  @Value("${image.presigned.expiry:5m}") Duration expiry,
+                                  @Value("${image.presigned.max-size:10MB}") DataSize maxSize) {
+        this.storageService = storageService;
+        this.redisTemplate = redisTemplate;
+        this.expiry = expiry;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public PresignedUploadRespDTO issue(Integer userId, PresignedUploadReqDTO request) {
+        String contentType = request.getContentType().toLowerCase();
+        String extension = EXTENSIONS.get(contentType);
+        if (extension == null) {
+            throw new BadRequestException("지원하지 않는 이미지 형식입니다: " + request.getContentType());
+        }
+        if (request.getContentLength() > maxBytes) {
+            throw new BadRequestException("이미지 크기는 " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB 이하여야 합니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        String key = request.getPurpose().dirName() + "/" + UUID.randomUUID() + extension;
+        Instant expiresAt = Instant.now().plus(expiry);
+        String uploadUrl = storageService.presignPut(key, contentType, request.getContentLength(), expiresAt);
+
+        // 주소 만료 직전에 끝난 업로드도 확인할 수 있도록 업로드 정보는 만료 시간의 두 배 동안 보관
+        UploadTicket ticket = new UploadTicket(userId, request.getPurpose(), key, contentType, request.getContentLength());
+        redisTemplate.opsForValue().set(KEY_PREFIX + uploadId, ticket.serialize(), expiry.multipliedBy(2));
+
+        return new PresignedUploadRespDTO(uploadId, uploadUrl, "PUT", Map.of("Content-Type", contentType),
+                LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+
+    /**
+     * 업로드 확인 - 요청자/용도가 발급 때와 같고 객체가 선언한 크기/형식으로 올라왔으면 파일 URL 반환
+     */
+    public String confirm(Integer userId, ImageUploadPurpose purpose, String uploadId) {
+        String redisKey = KEY_PREFIX + uploadId;
+        String value = redisTemplate.opsForValue().get(redisKey);
+        if (value == null) {
+            throw new BadRequestException("업로드 정보를 찾을 수 없거나 만료되었습니다.");
+        }
+        UploadTicket ticket = UploadTicket.parse(value);
+        if (!ticket.userId().equals(userId)) {
+            throw new InvalidAccessException("권한이 없습니다: 본인이 발급받은 업로드만 확인할 수 있습니다.");
+        }
+        if (ticket.purpose() != purpose) {
+            throw new BadRequestException("업로드 용도가 일치하지 않습니다.");
+        }
+
+        StoredObject stored = storageService.findObject(ticket.key());
+        if (stored == null) {
+            // 아직 업로드 중일 수 있으므로 업로드 정보는 남겨 둠
+            throw new BadRequestException("업로드된 파일을 찾을 수 없습니다.");
+        }
+        if (stored.size() != ticket.contentLength()
+                || !ticket.contentType().equalsIgnoreCase(stored.contentType())) {
+            redisTemplate.delete(redisKey);
+            storageService.deleteImage(storageService.toUrl(ticket.key()));
+            log.warn("직접 업로드 검증 실패: key={}, size={}, contentType={}",
+                    ticket.key(), stored.size(), stored.contentType());
+            throw new BadRequestException("업로드된 파일이 요청한 크기/형식과 다릅니다.");
+        }
+
+        // 동시에 들어온 확인 요청 중 하나만 통과
+        if (!Boolean.TRUE.equals(redisTemplate.delete(redisKey))) {
+            throw new BadRequestException("이미 확인된 업로드입니다.");
+        }
+        // 객체는 이미 저장소에 있으므로 등록이 롤백되면 클라이언트가 다시 확인할 수 있게 업로드 정보 복원
+        TransactionSyncUtil.runAfterRollback(() -> restoreTicket(redisKey, value));
+        return storageService.toUrl(ticket.key());
+    }
+
+    private void restoreTicket(String redisKey, String value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey, value, expiry);
+        } catch (RuntimeException e) {
+            log.warn("직접 업로드 정보 복원 실패: key={}, error={}", redisKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.jandi.band_backend.image;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 저장소 (storage.backend=s3, 기본값)
+ * - 업로드마다 버킷 존재/ACL 을 확인하지 않고 바로 PutObject (버킷 설정 오류는 업로드 실패로 드러남)
+ * - 기준 크기 미만은 요청 스레드에서 단일 PutObject, 이상은 TransferManager 멀티파트 업로드 (파트 크기만큼씩 스트림에서 읽어 전송)
+ * - 멀티파트 업로드는 고정 크기 업로드 풀에서 처리 (풀과 대기열이 가득 차면 요청 스레드에서 직접 처리)
+ * - 재시도 횟수는 S3 클라이언트 설정(cloud.aws.s3.max-retries)을 따름
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
+public class S3StorageBackend implements StorageBackend {
+
+    private static final String SINGLE = "single";
+    private static final String MULTIPART = "multipart";
+
+    private final AmazonS3Client amazonS3Client;
+    private final MeterRegistry meterRegistry;
+    private final String bucket;
+    private final String s3Url;
+    private final long multipartThreshold;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final TransferManager transferManager;
+
+    public S3StorageBackend(AmazonS3Client amazonS3Client,
+                            MeterRegistry meterRegistry,
+                            @Value("${cloud.aws.s3.bucket}") String bucket,
+                            @Value("${cloud.aws.s3.url}") String s3Url,
+                            @Value("${cloud.aws.s3.upload.threads:4}") int uploadThreads,
+                            @Value("${cloud.aws.s3.upload.multipart-threshold:8MB}") DataSize multipartThreshold,
+                            @Value("${cloud.aws.s3.upload.part-size:5MB}") DataSize partSize) {
+        this.amazonS3Client = amazonS3Client;
+        this.meterRegistry = meterRegistry;
+        this.bucket = bucket;
+        this.s3Url = s3Url;
+        this.multipartThreshold = multipartThreshold.toBytes();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(uploadThreads),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> uploadExecutor)
+                .withShutDownThreadPools(false)
+                .withMultipartUploadThreshold(this.multipartThreshold)
+                .withMinimumUploadPartSize(partSize.toBytes())
+                .build();
+
+        Gauge.builder("jandi.s3.upload.queue", uploadExecutor, pool -> pool.getQueue().size())
+                .description("Number of multipart uploads waiting for an upload thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String baseUrl() {
+        return s3Url;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(size);
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, content, objectMetadata);
+
+        String method = size >= multipartThreshold ? MULTIPART : SINGLE;
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            if (MULTIPART.equals(method)) {
+                transferManager.upload(putObjectRequest).waitForUploadResult();
+            } else {
+                // 재시도 시 처음부터 다시 보낼 수 있도록 본문 전체를 되감기 가능 범위로 지정 (기준 크기 미만이라 메모리 사용량 제한됨)
+                putObjectRequest.getRequestClientOptions().setReadLimit((int) size + 1);
+                amazonS3Client.putObject(putObjectRequest);
+            }
+            succeeded = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Upload interrupted: key={}", key);
+            throw new RuntimeException("Failed to upload file to S3", e);
+        } catch (Exception e) {
+            log.error("Upload failed: key={}, size={}, error={}", key, size, e.getMessage(), e);
+            throw new RuntimeException("Failed to upload file to S3", e);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            recordUpload(method, succeeded, size, elapsed);
+            log.debug("S3 upload: key={}, size={}, method={}, succeeded={}, elapsed={}ms",
+                    key, size, method, succeeded, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void recordUpload(String method, boolean succeeded, long size, long elapsedNanos) {
+        Timer.builder("jandi.s3.upload.duration")
+                .description("S3 upload latency")
+                .tag("method", method)
+                .tag("result", succeeded ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (succeeded) {
+            DistributionSummary.builder("jandi.s3.upload.bytes")
+                    .description("Size of files uploaded to S3")
+                    .baseUnit("bytes")
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(size);
+        }
+    }
+
+    /**
+     * Content-Type 과 Content-Length 를 서명에 포함해 다른 값으로는 올릴 수 없음
+     */
+    @Override
+    public String presignPut(String key, String contentType, long contentLength, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+
+    @Override
+    public StoredObject head(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, key);
+            Date lastModified = metadata.getLastModified();
+            return new StoredObject(key, metadata.getContentLength(), metadata.getContentType(),
+                    lastModified != null ? lastModified.toInstant() : null);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        try (S3Object object = amazonS3Client.getObject(bucket, key);
+             InputStream inputStream = object.getObjectContent()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, key));
+            log.debug("S3 delete: key={}", key);
+        } catch (Exception e) {
+            log.error("Delete failed: key={}, error={}", key, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * DeleteObjects 한 번으로 삭제 (최대 1000개) - 요청 자체가 실패하면 예외를 그대로 던짐
+     */
+    @Override
+    public Map<String, String> deleteAll(List<String> keys) {
+        Map<String, String> failures = new HashMap<>();
+        if (keys.isEmpty()) {
+            return failures;
+        }
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            amazonS3Client.deleteObjects(request);
+        } catch (MultiObjectDeleteException e) {
+            for (DeleteError error : e.getErrors()) {
+                failures.put(error.getKey(), error.getCode());
+            }
+        }
+        log.debug("S3 batch delete: keys={}, failed={}", keys.size(), failures.size());
+        return failures;
+    }
+
+    @Override
+    public ObjectPage list(String prefix, String continuationToken, int maxKeys) {
+        ListObjectsV2Result result = amazonS3Client.listObjectsV2(new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withContinuationToken(continuationToken)
+                .withMaxKeys(maxKeys));
+        List<StoredObject> objects = result.getObjectSummaries().stream()
+                .map(summary -> new StoredObject(summary.getKey(), summary.getSize(), null,
+                        summary.getLastModified().toInstant()))
+                .toList();
+        return new ObjectPage(objects, result.isTruncated() ? result.getNextContinuationToken() : null);
+    }
+
+    /**
+     * 진행 중인 멀티파트 업로드를 마칠 때까지 대기 후 종료 (S3 클라이언트는 다른 빈과 공유하므로 종료하지 않음)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        uploadExecutor.shutdown();
+        if (!uploadExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("S3 멀티파트 업로드를 마치지 못하고 종료합니다.");
+            uploadExecutor.shutdownNow();
+        }
+        transferManager.shutdownNow(false);
+    }
+}
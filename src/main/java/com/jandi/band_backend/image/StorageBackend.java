@@ -0,0 +1,57 @@
+package com.jandi.band_backend.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 저장소 (S3 / 로컬 디스크) - 키 단위로 동작하며 URL 변환은 StorageService 가 담당
+ * storage.backend 로 선택 (s3 기본, local)
+ */
+public interface StorageBackend {
+
+    /**
+     * 저장된 객체 정보 (목록 조회에서는 contentType 이 null 일 수 있음)
+     */
+    record StoredObject(String key, long size, String contentType, Instant lastModified) {
+    }
+
+    /**
+     * 목록 한 페이지 - nextToken 이 null 이면 마지막 페이지
+     */
+    record ObjectPage(List<StoredObject> objects, String nextToken) {
+    }
+
+    /**
+     * 저장된 파일의 공개 URL 접두어 (끝에 / 없음)
+     */
+    String baseUrl();
+
+    void put(String key, InputStream content, long size, String contentType);
+
+    /**
+     * 객체 정보 (없으면 null)
+     */
+    StoredObject head(String key);
+
+    byte[] read(String key) throws IOException;
+
+    void delete(String key);
+
+    /**
+     * 여러 객체 삭제 - 실패한 키와 오류 코드 반환 (없는 키는 성공으로 처리)
+     */
+    Map<String, String> deleteAll(List<String> keys);
+
+    /**
+     * 접두어 아래 객체 목록 (키 순서, continuationToken 이 null 이면 첫 페이지)
+     */
+    ObjectPage list(String prefix, String continuationToken, int maxKeys);
+
+    /**
+     * 클라이언트가 직접 올릴 PUT 주소 - Content-Type 과 Content-Length 가 다르면 거부됨
+     */
+    String presignPut(String key, String contentType, long contentLength, Instant expiresAt);
+}
@@ -0,0 +1,54 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.entity.StorageDeletion;
+import com.jandi.band_backend.image.repository.StorageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 저장소 파일 삭제 예약
+ * - 호출한 트랜잭션 안에서 storage_deletion 에 기록하므로 롤백되면 삭제도 취소되고, 커밋되면 워커가 반드시 삭제
+ * - S3 호출은 커밋 후 StorageDeletionWorker 가 일괄 처리 (DB 커넥션을 잡은 채 S3 를 기다리지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageDeletionOutbox {
+
+    private final StorageService storageService;
+    private final StorageDeletionRepository storageDeletionRepository;
+
+    /**
+     * 파일 URL 삭제 예약 (null 이거나 이 버킷의 URL 이 아니면 건너뜀) - 예약한 개수 반환
+     */
+    @Transactional
+    public int enqueue(String... fileUrls) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String fileUrl : fileUrls) {
+            String key = storageService.extractKey(fileUrl);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return enqueueKeys(keys);
+    }
+
+    /**
+     * S3 키 삭제 예약 - 예약한 개수 반환
+     */
+    @Transactional
+    public int enqueueKeys(Collection<String> keys) {
+        List<StorageDeletion> deletions = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            deletions.add(new StorageDeletion(key));
+        }
+        storageDeletionRepository.saveAll(deletions);
+        return deletions.size();
+    }
+}
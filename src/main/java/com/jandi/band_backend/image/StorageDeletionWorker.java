@@ -0,0 +1,147 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.entity.StorageDeletion;
+import com.jandi.band_backend.image.repository.StorageDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소 삭제 대기열 처리
+ * - 재시도 시각이 지난 행을 최대 1000개씩 읽어 DeleteObjects 한 번으로 삭제하고, 성공한 행은 대기열에서 제거
+ * - 실패한 키는 시도 횟수에 따라 지수 백오프(storage.outbox.retry-backoff 부터 두 배씩, storage.outbox.max-backoff 까지)로 다시 예약
+ * - 여러 서버가 같은 행을 동시에 처리해도 삭제는 멱등이므로 결과는 같음
+ */
+@Slf4j
+@Component
+public class StorageDeletionWorker {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final StorageService storageService;
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final int maxBatchesPerRun;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pending = new AtomicLong();
+
+    public StorageDeletionWorker(StorageService storageService,
+                                 StorageDeletionRepository storageDeletionRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${storage.outbox.retry-backoff:30s}") Duration retryBackoff,
+                                 @Value("${storage.outbox.max-backoff:1h}") Duration maxBackoff,
+                                 @Value("${storage.outbox.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.storageService = storageService;
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.deletedCounter = Counter.builder("jandi.storage.deletion.total")
+                .description("Storage objects processed by the deletion outbox")
+                .tag("result", "deleted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("jandi.storage.deletion.total")
+                .description("Storage objects processed by the deletion outbox")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("jandi.storage.deletion.pending", pending, AtomicLong::get)
+                .description("Storage deletions waiting in the outbox (as of the last drain)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기열 처리 - 삭제한 행 수 반환
+     */
+    @Scheduled(fixedDelayString = "${storage.outbox.drain-interval-ms:5000}")
+    public int drain() {
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<StorageDeletion> due = storageDeletionRepository.findDue(now, PageRequest.of(0, BATCH_SIZE));
+            if (due.isEmpty()) {
+                break;
+            }
+            int succeeded = process(due, now);
+            deleted += succeeded;
+            // 한 배치가 전부 실패하면 저장소 장애일 가능성이 높으므로 다음 주기로 넘김
+            if (due.size() < BATCH_SIZE || succeeded == 0) {
+                break;
+            }
+        }
+        pending.set(storageDeletionRepository.count());
+        return deleted;
+    }
+
+    private int process(List<StorageDeletion> due, LocalDateTime now) {
+        List<String> keys = due.stream().map(StorageDeletion::getObjectKey).distinct().toList();
+        Map<String, String> failures;
+        try {
+            failures = storageService.deleteObjects(keys);
+        } catch (Exception e) {
+            log.warn("저장소 일괄 삭제 요청 실패, 재시도 예약: keys={}, error={}", keys.size(), e.getMessage());
+            failures = new HashMap<>();
+            for (String key : keys) {
+                failures.put(key, e.getClass().getSimpleName());
+            }
+        }
+
+        List<Long> succeededIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (StorageDeletion deletion : due) {
+            (failures.containsKey(deletion.getObjectKey()) ? failedIds : succeededIds).add(deletion.getId());
+        }
+
+        Map<String, String> errors = failures;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!succeededIds.isEmpty()) {
+                storageDeletionRepository.deleteAllByIds(succeededIds);
+            }
+            for (StorageDeletion deletion : storageDeletionRepository.findAllById(failedIds)) {
+                int attempts = deletion.getAttempts() + 1;
+                deletion.setAttempts(attempts);
+                deletion.setNextAttemptAt(now.plus(backoff(attempts)));
+                deletion.setLastError(truncate(errors.get(deletion.getObjectKey())));
+            }
+        });
+
+        deletedCounter.increment(succeededIds.size());
+        failedCounter.increment(failedIds.size());
+        if (!failures.isEmpty()) {
+            log.warn("저장소 삭제 실패 {}건 재시도 예약: 예) key={}, error={}",
+                    failedIds.size(), failures.keySet().iterator().next(), failures.values().iterator().next());
+        }
+        log.debug("저장소 삭제 대기열 처리: deleted={}, failed={}", succeededIds.size(), failedIds.size());
+        return succeededIds.size();
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 255) {
+            return error;
+        }
+        return error.substring(0, 255);
+    }
+}
@@ -0,0 +1,141 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.StorageBackend.ObjectPage;
+import com.jandi.band_backend.image.StorageBackend.StoredObject;
+import com.jandi.band_backend.image.repository.StorageDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 고아 객체 정리 스케줄러
+ * 서비스가 관리하는 접두어의 객체를 1000개씩 나열해, 살아 있는(deleted_at IS NULL) 행이 URL 로 참조하지 않는 객체를 삭제 대기열에 넣습니다.
+ * - storage.orphan.grace(기본 24시간)보다 최근에 만든 객체는 건너뜀 (확인 전인 직접 업로드, 생성 중인 이미지 변형)
+ * - storage.orphan.protected-keys 에 지정한 키(기본 이미지 등)는 참조 여부와 관계없이 유지
+ * - storage.orphan.dry-run=true 이면 개수만 기록하고 삭제하지 않음
+ */
+@Slf4j
+@Component
+public class StorageOrphanReconciler {
+
+    private static final int PAGE_SIZE = 1000;
+
+    /**
+     * 접두어별로 객체 URL 을 저장하는 테이블/컬럼
+     */
+    record StorageReference(String prefix, String table, List<String> columns) {
+
+        String referencedUrlsSql() {
+            return columns.stream()
+                    .map(column -> "SELECT " + column + " FROM " + table
+                            + " WHERE deleted_at IS NULL AND " + column + " IN (:urls)")
+                    .collect(Collectors.joining(" UNION "));
+        }
+    }
+
+    static final List<StorageReference> REFERENCES = List.of(
+            new StorageReference("promo-photo/", "promo_photo", List.of("image_url", "thumbnail_url", "display_url")),
+            new StorageReference("club-gal-photo/", "club_gal_photo", List.of("image_url", "thumbnail_url", "display_url")),
+            new StorageReference("club-photo/", "club_photo", List.of("image_url", "thumbnail_url", "display_url")),
+            new StorageReference("user-photo/", "user_photo", List.of("image_url", "thumbnail_url", "display_url")),
+            new StorageReference("notice-photo/", "notice", List.of("image_url")));
+
+    private final StorageService storageService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+    private final Duration grace;
+    private final Set<String> protectedKeys;
+    private final boolean dryRun;
+
+    public StorageOrphanReconciler(StorageService storageService,
+                                   NamedParameterJdbcTemplate jdbcTemplate,
+                                   StorageDeletionRepository storageDeletionRepository,
+                                   StorageDeletionOutbox storageDeletionOutbox,
+                                   @Value("${storage.orphan.grace:24h}") Duration grace,
+                                   @Value("${storage.orphan.protected-keys:club-photo/rhythmeet.webp}") List<String> protectedKeys,
+                                   @Value("${storage.orphan.dry-run:false}") boolean dryRun) {
+        this.storageService = storageService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.storageDeletionOutbox = storageDeletionOutbox;
+        this.grace = grace;
+        this.protectedKeys = new HashSet<>(protectedKeys);
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * 전체 접두어 정리 - 삭제 대기열에 넣은(dry-run 이면 찾은) 고아 객체 수 반환
+     */
+    @Scheduled(cron = "${storage.orphan.reconcile-cron:0 0 5 * * ?}")
+    public int reconcile() {
+        Instant cutoff = Instant.now().minus(grace);
+        int orphans = 0;
+        for (StorageReference reference : REFERENCES) {
+            try {
+                orphans += reconcile(reference, cutoff);
+            } catch (Exception e) {
+                log.error("[StorageOrphanReconciler] 정리 실패: prefix={}, error={}", reference.prefix(), e.getMessage(), e);
+            }
+        }
+
+        if (orphans > 0) {
+            log.warn("[StorageOrphanReconciler] 참조되지 않는 객체 {}건 {}", orphans, dryRun ? "발견 (dry-run)" : "삭제 예약");
+        } else {
+            log.info("[StorageOrphanReconciler] 참조되지 않는 객체 없음");
+        }
+        return orphans;
+    }
+
+    private int reconcile(StorageReference reference, Instant cutoff) {
+        int orphans = 0;
+        String continuationToken = null;
+        do {
+            ObjectPage page = storageService.listObjects(reference.prefix(), continuationToken, PAGE_SIZE);
+            orphans += reconcilePage(reference, page.objects(), cutoff);
+            continuationToken = page.nextToken();
+        } while (continuationToken != null);
+        return orphans;
+    }
+
+    private int reconcilePage(StorageReference reference, List<StoredObject> objects, Instant cutoff) {
+        // URL -> 키 (유예 기간이 지난 객체만)
+        Map<String, String> candidates = new LinkedHashMap<>();
+        for (StoredObject object : objects) {
+            if (object.lastModified().isBefore(cutoff) && !protectedKeys.contains(object.key())) {
+                candidates.put(storageService.toUrl(object.key()), object.key());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        List<String> referenced = jdbcTemplate.queryForList(reference.referencedUrlsSql(),
+                Map.of("urls", candidates.keySet()), String.class);
+        referenced.forEach(candidates::remove);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // 이미 삭제 대기 중인 키는 다시 넣지 않음
+        List<String> orphanKeys = new ArrayList<>(candidates.values());
+        orphanKeys.removeAll(storageDeletionRepository.findPendingKeys(orphanKeys));
+        if (!dryRun && !orphanKeys.isEmpty()) {
+            storageDeletionOutbox.enqueueKeys(orphanKeys);
+        }
+        log.debug("[StorageOrphanReconciler] prefix={}, listed={}, orphans={}", reference.prefix(), objects.size(), orphanKeys.size());
+        return orphanKeys.size();
+    }
+}
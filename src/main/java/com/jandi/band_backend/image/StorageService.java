@@ -0,0 +1,108 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.StorageBackend.ObjectPage;
+import com.jandi.band_backend.image.StorageBackend.StoredObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 파일 업로드 / 삭제 / 목록 조회 - 공개 URL 과 저장소 키를 변환하고 실제 저장은 StorageBackend(S3 / 로컬 디스크)에 위임
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageService {
+
+    private final StorageBackend storageBackend;
+
+    public String uploadImage(MultipartFile file, String dirName) throws IOException {
+        String fileName = createFileName(file.getOriginalFilename(), dirName);
+        try (InputStream inputStream = file.getInputStream()) {
+            storageBackend.put(fileName, inputStream, file.getSize(), file.getContentType());
+            return toUrl(fileName);
+        }
+    }
+
+    /**
+     * 서버에서 만든 파일(썸네일 등) 업로드 - 지정한 키에 그대로 저장
+     */
+    public String uploadBytes(String key, byte[] bytes, String contentType) {
+        storageBackend.put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+        return toUrl(key);
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 PUT 주소 발급 - Content-Type 과 Content-Length 를 서명에 포함해 다른 값으로는 올릴 수 없음
+     */
+    public String presignPut(String key, String contentType, long contentLength, Instant expiresAt) {
+        return storageBackend.presignPut(key, contentType, contentLength, expiresAt);
+    }
+
+    /**
+     * 저장된 객체 정보 (객체가 없으면 null)
+     */
+    public StoredObject findObject(String key) {
+        return storageBackend.head(key);
+    }
+
+    public byte[] downloadBytes(String key) throws IOException {
+        return storageBackend.read(key);
+    }
+
+    public String toUrl(String key) {
+        return storageBackend.baseUrl() + "/" + key;
+    }
+
+    /**
+     * 업로드한 파일 URL 의 저장소 키 (이 저장소의 URL 이 아니면 null)
+     */
+    public String extractKey(String fileUrl) {
+        String prefix = storageBackend.baseUrl() + "/";
+        if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+            return null;
+        }
+        return fileUrl.substring(prefix.length());
+    }
+
+    public void deleteImage(String fileUrl) {
+        storageBackend.delete(fileUrl.replace(storageBackend.baseUrl() + "/", ""));
+    }
+
+    /**
+     * 여러 객체를 한 번에 삭제 (최대 1000개) - 실패한 키와 오류 코드 반환
+     * 요청 자체가 실패하면 예외를 그대로 던짐 (없는 키 삭제는 성공으로 처리됨)
+     */
+    public Map<String, String> deleteObjects(List<String> keys) {
+        return storageBackend.deleteAll(keys);
+    }
+
+    /**
+     * 접두어 아래 객체 목록 한 페이지 (continuationToken 이 null 이면 첫 페이지)
+     */
+    public ObjectPage listObjects(String prefix, String continuationToken, int maxKeys) {
+        return storageBackend.list(prefix, continuationToken, maxKeys);
+    }
+
+    private String createFileName(String originalFileName, String dirName) {
+        return dirName + "/" + UUID.randomUUID().toString() + getFileExtension(originalFileName);
+    }
+
+    private String getFileExtension(String fileName) {
+        try {
+            return fileName.substring(fileName.lastIndexOf("."));
+        } catch (StringIndexOutOfBoundsException e) {
+            log.error("Invalid file name format: {}", fileName);
+            throw new IllegalArgumentException("잘못된 형식의 파일입니다.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.jandi.band_backend.image.dto;
+
+import com.jandi.band_backend.image.ImageUploadPurpose;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "직접 업로드 주소 발급 요청 DTO")
+public class PresignedUploadReqDTO {
+
+    @Schema(description = "업로드 용도", example = "PROMO", required = true)
+    @NotNull(message = "업로드 용도는 필수입니다")
+    private ImageUploadPurpose purpose;
+
+    @Schema(description = "파일 Content-Type (image/jpeg, image/png, image/gif, image/webp)", example = "image/jpeg", required = true)
+    @NotBlank(message = "Content-Type은 필수입니다")
+    private String contentType;
+
+    @Schema(description = "파일 크기 (바이트)", example = "524288", required = true)
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long contentLength;
+}
@@ -0,0 +1,29 @@
+package com.jandi.band_backend.image.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "직접 업로드 주소 발급 응답 DTO")
+public class PresignedUploadRespDTO {
+
+    @Schema(description = "업로드 확인(confirm) 시 보낼 업로드 ID", example = "2f1c1f9e-8a0b-4c1e-9f0e-3b7f1b2d4c5a")
+    private String uploadId;
+
+    @Schema(description = "파일을 올릴 주소", example = "https://bucket.s3.ap-northeast-2.amazonaws.com/promo-photo/uuid.jpg?X-Amz-Signature=...")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 HTTP 메서드", example = "PUT")
+    private String method;
+
+    @Schema(description = "업로드 요청에 그대로 넣어야 하는 헤더", example = "{\"Content-Type\": \"image/jpeg\"}")
+    private Map<String, String> headers;
+
+    @Schema(description = "업로드 주소 만료 일시", example = "2024-03-01T15:05:00")
+    private LocalDateTime expiresAt;
+}
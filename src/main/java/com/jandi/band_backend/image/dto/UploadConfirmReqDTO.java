@@ -0,0 +1,16 @@
+package com.jandi.band_backend.image.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "직접 업로드 확인 요청 DTO")
+public class UploadConfirmReqDTO {
+
+    @Schema(description = "주소 발급 시 받은 업로드 ID", example = "2f1c1f9e-8a0b-4c1e-9f0e-3b7f1b2d4c5a", required = true)
+    @NotBlank(message = "업로드 ID는 필수입니다")
+    private String uploadId;
+}
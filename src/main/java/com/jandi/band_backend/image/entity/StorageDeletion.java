@@ -0,0 +1,53 @@
+package com.jandi.band_backend.image.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 삭제 대기열(outbox) - 행 변경과 같은 트랜잭션에 기록하고 커밋 후 워커가 삭제
+ */
+@Entity
+@Table(name = "storage_deletion", indexes = {
+    @Index(name = "idx_storage_deletion_next_attempt", columnList = "next_attempt_at, storage_deletion_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class StorageDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "storage_deletion_id")
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public StorageDeletion(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
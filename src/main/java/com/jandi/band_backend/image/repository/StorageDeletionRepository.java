@@ -0,0 +1,28 @@
+package com.jandi.band_backend.image.repository;
+
+import com.jandi.band_backend.image.entity.StorageDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    // 재시도 시각이 지난 삭제 대상 (오래된 순)
+    @Query("SELECT sd FROM StorageDeletion sd WHERE sd.nextAttemptAt <= :now ORDER BY sd.nextAttemptAt, sd.id")
+    List<StorageDeletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT sd.objectKey FROM StorageDeletion sd WHERE sd.objectKey IN :keys")
+    List<String> findPendingKeys(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query("DELETE FROM StorageDeletion sd WHERE sd.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
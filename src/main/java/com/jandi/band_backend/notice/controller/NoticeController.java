@@ -2,6 +2,8 @@ package com.jandi.band_backend.notice.controller;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
 import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
+import com.jandi.band_backend.image.dto.UploadConfirmReqDTO;
 import com.jandi.band_backend.notice.dto.NoticeReqDTO;
 import com.jandi.band_backend.notice.dto.NoticeUpdateReqDTO;
 import com.jandi.band_backend.notice.dto.NoticeDetailRespDTO;
@@ -16,10 +18,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,13 +33,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NoticeController {
 
+    // 노출 기간에 따라 바뀌므로 매번 재검증 (변경 없으면 304)
+    private static final CacheControl ACTIVE_NOTICE_CACHE_CONTROL = CacheControl.noCache();
+
     private final NoticeService noticeService;
 
     @Operation(summary = "현재 활성 공지사항 조회 (팝업용)")
     @GetMapping("/active")
-    public ResponseEntity<CommonRespDTO<List<NoticeRespDTO>>> getActiveNotices() {
-        List<NoticeRespDTO> response = noticeService.getActiveNotices();
-        return ResponseEntity.ok(CommonRespDTO.success("활성 공지사항 조회 성공", response));
+    public ResponseEntity<CommonRespDTO<List<NoticeRespDTO>>> getActiveNotices(WebRequest webRequest) {
+        return ConditionalResponseUtil.respond(webRequest, noticeService.getActiveNoticesEtag(), ACTIVE_NOTICE_CACHE_CONTROL,
+                () -> CommonRespDTO.success("활성 공지사항 조회 성공", noticeService.getActiveNotices()));
     }
 
     @Operation(summary = "공지사항 목록 조회 (관리자 전용)")
@@ -80,6 +87,18 @@ public class NoticeController {
         return ResponseEntity.ok(CommonRespDTO.success("공지사항이 성공적으로 수정되었습니다", response));
     }
 
+    @Operation(summary = "공지사항 이미지 등록 (관리자 전용, 직접 업로드 확인)",
+            description = "POST /api/images/presigned (purpose=NOTICE) 로 받은 주소에 파일을 올린 뒤 uploadId 로 등록합니다. 기존 이미지는 교체됩니다.")
+    @PostMapping("/{noticeId}/image")
+    public ResponseEntity<CommonRespDTO<NoticeDetailRespDTO>> attachUploadedImage(
+            @PathVariable Integer noticeId,
+            @Valid @RequestBody UploadConfirmReqDTO request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Integer userId = userDetails.getUserId();
+        NoticeDetailRespDTO response = noticeService.attachUploadedImage(noticeId, request.getUploadId(), userId);
+        return ResponseEntity.ok(CommonRespDTO.success("공지사항 이미지가 성공적으로 등록되었습니다", response));
+    }
+
     @Operation(summary = "공지사항 삭제 (관리자 전용)")
     @DeleteMapping("/{noticeId}")
     public ResponseEntity<CommonRespDTO<Void>> deleteNotice(
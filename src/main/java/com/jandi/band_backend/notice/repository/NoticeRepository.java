@@ -30,4 +30,13 @@ public interface NoticeRepository extends JpaRepository<Notice, Integer> {
            "AND n.endDatetime >= :now " +
            "ORDER BY n.createdAt DESC")
     List<Notice> findActiveNotices(@Param("now") LocalDateTime now);
+
+    // 현재 활성화된 공지사항들의 검증 값만 조회 (엔티티 로드 없이 ETag 생성)
+    @Query("SELECT new com.jandi.band_backend.notice.repository.NoticeVersion(n.id, n.updatedAt) FROM Notice n " +
+           "WHERE n.deletedAt IS NULL " +
+           "AND n.isPaused = false " +
+           "AND n.startDatetime <= :now " +
+           "AND n.endDatetime >= :now " +
+           "ORDER BY n.createdAt DESC")
+    List<NoticeVersion> findActiveNoticeVersions(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,9 @@
+package com.jandi.band_backend.notice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 응답의 검증 값 (조건부 조회용 ETag 생성)
+ */
+public record NoticeVersion(Integer id, LocalDateTime updatedAt) {
+}
@@ -3,13 +3,18 @@ package com.jandi.band_backend.notice.service;
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
 import com.jandi.band_backend.global.exception.InvalidAccessException;
 import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
 import com.jandi.band_backend.notice.dto.NoticeReqDTO;
 import com.jandi.band_backend.notice.dto.NoticeUpdateReqDTO;
 import com.jandi.band_backend.notice.dto.NoticeDetailRespDTO;
 import com.jandi.band_backend.notice.dto.NoticeRespDTO;
 import com.jandi.band_backend.notice.entity.Notice;
 import com.jandi.band_backend.notice.repository.NoticeRepository;
-import com.jandi.band_backend.image.S3Service;
+import com.jandi.band_backend.notice.repository.NoticeVersion;
+import com.jandi.band_backend.image.ImageUploadPurpose;
+import com.jandi.band_backend.image.PresignedUploadService;
+import com.jandi.band_backend.image.StorageService;
+import com.jandi.band_backend.image.StorageDeletionOutbox;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +38,9 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final StorageService storageService;
+    private final PresignedUploadService presignedUploadService;
+    private final StorageDeletionOutbox storageDeletionOutbox;
 
     private static final String S3_DIRNAME = "notice-photo";
 
@@ -102,6 +109,17 @@ public class NoticeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 활성 공지사항 응답의 약한 ETag (활성 공지 ID, 수정 시각만 조회)
+     * - 노출 기간이 시작/종료되면 활성 목록이 바뀌어 ETag 도 바뀜
+     */
+    public String getActiveNoticesEtag() {
+        List<NoticeVersion> versions = noticeRepository.findActiveNoticeVersions(LocalDateTime.now());
+        return ConditionalResponseUtil.weakEtag("notices", versions.stream()
+                .map(version -> version.id() + "@" + version.updatedAt())
+                .collect(Collectors.joining(",")));
+    }
+
     public Page<NoticeRespDTO> getAllNotices(Integer userId, Pageable pageable) {
         validateAdminPermissionAndGetUser(userId);
 
@@ -209,7 +227,7 @@ public class NoticeService {
         try {
             Notice updatedNotice = noticeRepository.save(notice);
             if (shouldDeleteOldImage) {
-                tryDeleteImage(oldImageUrl, "기존 이미지 삭제 완료: {}", "기존 이미지 삭제 실패. 수동 정리 필요");
+                storageDeletionOutbox.enqueue(oldImageUrl);
             }
             log.info("공지사항 수정 완료 - ID: {}, 제목: {}", updatedNotice.getId(), sanitizeTitle(updatedNotice.getTitle()));
             return new NoticeDetailRespDTO(updatedNotice);
@@ -219,6 +237,31 @@ public class NoticeService {
         }
     }
 
+    /**
+     * 저장소에 직접 올린 이미지를 공지사항 이미지로 등록 (기존 이미지는 저장 후 삭제)
+     */
+    @Transactional
+    public NoticeDetailRespDTO attachUploadedImage(Integer noticeId, String uploadId, Integer userId) {
+        validateAdminPermissionAndGetUser(userId);
+
+        Notice notice = noticeRepository.findByIdAndDeletedAtIsNull(noticeId)
+                .orElseThrow(() -> new ResourceNotFoundException("공지사항을 찾을 수 없습니다."));
+
+        String oldImageUrl = notice.getImageUrl();
+        String newImageUrl = presignedUploadService.confirm(userId, ImageUploadPurpose.NOTICE, uploadId);
+        notice.setImageUrl(newImageUrl);
+
+        try {
+            Notice updatedNotice = noticeRepository.save(notice);
+            storageDeletionOutbox.enqueue(oldImageUrl);
+            log.info("공지사항 이미지 등록 완료 - ID: {}", updatedNotice.getId());
+            return new NoticeDetailRespDTO(updatedNotice);
+        } catch (Exception e) {
+            tryDeleteImage(newImageUrl, "DB 저장 실패로 인한 새 이미지 롤백 완료: {}", "새 이미지 롤백 실패. 수동 정리 필요");
+            throw e;
+        }
+    }
+
     @Transactional
     public void deleteNotice(Integer noticeId, Integer userId) {
         validateAdminPermissionAndGetUser(userId);
@@ -232,10 +275,8 @@ public class NoticeService {
         notice.setDeletedAt(LocalDateTime.now());
         noticeRepository.save(notice);
 
-        // DB 반영 후 S3 이미지 삭제
-        if (imageUrl != null) {
-            deleteImage(imageUrl);
-        }
+        // 커밋되면 S3 이미지 삭제
+        storageDeletionOutbox.enqueue(imageUrl);
 
         log.info("공지사항 삭제 완료 - ID: {}, 제목: {}", notice.getId(), sanitizeTitle(notice.getTitle()));
     }
@@ -258,26 +299,17 @@ public class NoticeService {
     /// S3 이미지 처리 관련
     private String uploadImage(MultipartFile file){
         try {
-            return s3Service.uploadImage(file, S3_DIRNAME);
+            return storageService.uploadImage(file, S3_DIRNAME);
         } catch (IOException e) {
             throw new RuntimeException("이미지 업로드 실패: " + e.getMessage(), e);
         }
     }
 
-    private void deleteImage(String imageUrl){
-        try {
-            if (imageUrl != null) {
-                s3Service.deleteImage(imageUrl);
-            }
-        } catch (Exception e) {
-            log.warn("이미지 삭제 실패: {}", imageUrl, e);
-        }
-    }
-
+    // 방금 올린 이미지 즉시 삭제 (트랜잭션이 롤백되므로 삭제 대기열에 기록할 수 없음)
     private void tryDeleteImage(String imageUrl, String successMessage, String errorMessage) {
         if (imageUrl != null) {
             try {
-                s3Service.deleteImage(imageUrl);
+                storageService.deleteImage(imageUrl);
                 log.info(successMessage, imageUrl);
             } catch (Exception e) {
                 log.error(errorMessage + " - URL: {}", imageUrl, e);
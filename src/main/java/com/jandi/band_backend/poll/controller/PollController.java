@@ -8,20 +8,25 @@ import com.jandi.band_backend.invite.redis.InviteCodeService;
 import com.jandi.band_backend.invite.service.InviteUtilService;
 import com.jandi.band_backend.invite.service.JoinService;
 import com.jandi.band_backend.poll.dto.*;
+import com.jandi.band_backend.poll.service.PollLiveResultService;
 import com.jandi.band_backend.poll.service.PollService;
 import com.jandi.band_backend.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Poll API")
@@ -31,6 +36,7 @@ import java.util.List;
 public class PollController {
 
     private final PollService pollService;
+    private final PollLiveResultService pollLiveResultService;
     private final JoinService joinService;
     private final InviteUtilService inviteUtilService;
     private final InviteCodeService inviteCodeService;
@@ -64,6 +70,15 @@ public class PollController {
         return ResponseEntity.ok(CommonRespDTO.success("투표 상세 정보를 조회했습니다.", responseDto));
     }
 
+    @Operation(summary = "투표 결과 실시간 구독 (SSE)")
+    @GetMapping(value = "/{pollId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamPollResults(
+            @PathVariable Integer pollId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        pollLiveResultService.subscribe(pollId, request, response);
+    }
+
     @Operation(summary = "투표에 곡 추가")
     @PostMapping("/{pollId}/songs")
     public ResponseEntity<CommonRespDTO<PollSongRespDTO>> addSongToPoll(
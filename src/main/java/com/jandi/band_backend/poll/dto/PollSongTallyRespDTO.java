@@ -0,0 +1,18 @@
+package com.jandi.band_backend.poll.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PollSongTallyRespDTO {
+    private Integer songId;
+    private Integer likeCount;
+    private Integer dislikeCount;
+    private Integer cantCount;
+    private Integer hajjCount;
+}
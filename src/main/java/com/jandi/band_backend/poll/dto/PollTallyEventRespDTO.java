@@ -0,0 +1,23 @@
+package com.jandi.band_backend.poll.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실시간 투표 결과 이벤트
+ * - snapshot=true: 구독 직후 전체 집계 (목록에 없는 곡은 0표)
+ * - snapshot=false: 직전 이벤트 이후 투표가 바뀐 곡만의 현재 집계
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PollTallyEventRespDTO {
+    private Integer pollId;
+    private boolean snapshot;
+    private List<PollSongTallyRespDTO> songs;
+}
@@ -0,0 +1,118 @@
+package com.jandi.band_backend.poll.redis;
+
+import com.jandi.band_backend.poll.service.PollLiveResultService;
+import com.jandi.band_backend.poll.service.PollVoteNotifier;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 서버 간 투표 변경 전파 (Redis pub/sub)
+ * - 이 서버 구독자에게는 바로 전달하고, 다른 서버에는 "{nodeId}:{pollId}:{songId}" 메시지로 발행
+ * - 자기가 발행한 메시지는 무시 (Redis 장애 중에도 이 서버 구독자는 갱신됨)
+ * - 메시지에는 곡 ID 만 담고 집계는 받는 서버가 DB 에서 조회하므로 메시지 유실/순서 뒤바뀜에도 값이 틀어지지 않음
+ * - 발행은 커밋 후 요청 스레드가 아닌 전용 스레드에서 처리 (Redis 가 느리거나 끊겨도 이미 커밋된 투표 응답은 지연되지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "poll.live.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisPollVoteNotifier implements PollVoteNotifier, MessageListener {
+
+    static final String CHANNEL = "poll:vote-changed";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PollLiveResultService pollLiveResultService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ThreadPoolExecutor publishExecutor;
+
+    public RedisPollVoteNotifier(StringRedisTemplate stringRedisTemplate,
+                                 RedisConnectionFactory redisConnectionFactory,
+                                 PollLiveResultService pollLiveResultService,
+                                 @Value("${poll.live.redis.publish-queue-capacity:1000}") int publishQueueCapacity) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.pollLiveResultService = pollLiveResultService;
+        // 발행 순서를 유지하도록 스레드 하나, Redis 장애 중 쌓이는 메시지는 대기열 크기로 제한
+        this.publishExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(publishQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "poll-vote-publish");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        // 수신 처리는 표시만 하고 끝나므로 메시지마다 스레드를 만들지 않고 구독 스레드에서 바로 처리
+        listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        try {
+            listenerContainer.start();
+        } catch (RuntimeException e) {
+            // 구독 실패 시에도 컨테이너가 재연결을 시도하므로 기동은 계속
+            log.warn("투표 변경 채널 구독 실패: error={}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+        publishExecutor.shutdown();
+        if (!publishExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            publishExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void voteChanged(Integer pollId, Integer songId) {
+        pollLiveResultService.onVoteChanged(pollId, songId);
+        try {
+            publishExecutor.execute(() -> publish(pollId, songId));
+        } catch (RejectedExecutionException e) {
+            // 다른 서버 구독자는 다음 투표 변경 때 최신 집계를 받음
+            log.warn("투표 변경 발행 대기열 초과로 생략: pollId={}, songId={}", pollId, songId);
+        }
+    }
+
+    private void publish(Integer pollId, Integer songId) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + ":" + pollId + ":" + songId);
+        } catch (RuntimeException e) {
+            log.warn("투표 변경 발행 실패: pollId={}, songId={}, error={}", pollId, songId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            pollLiveResultService.onVoteChanged(Integer.valueOf(parts[1]), Integer.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 투표 변경 메시지 무시: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+}
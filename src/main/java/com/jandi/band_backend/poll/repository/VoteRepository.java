@@ -17,6 +17,22 @@ public interface VoteRepository extends JpaRepository<Vote, Integer> {
     List<Vote> findByPollSongIdAndUserIdAndDeletedAtIsNull(Integer pollSongId, Integer userId);
     List<Vote> findAllByPollSongIdAndDeletedAtIsNull(Integer pollSongId);
 
+    // 투표 결과 - 투표의 모든 곡을 곡별/표시별로 한 번에 집계 (Vote 엔티티를 읽지 않음)
+    @Query("SELECT new com.jandi.band_backend.poll.repository.VoteTally(v.pollSong.id, v.votedMark, COUNT(v)) " +
+           "FROM Vote v WHERE v.pollSong.poll.id = :pollId AND v.deletedAt IS NULL " +
+           "GROUP BY v.pollSong.id, v.votedMark")
+    List<VoteTally> countTalliesByPollId(@Param("pollId") Integer pollId);
+
+    // 곡 하나의 표시별 투표 수 (투표 / 투표 취소 응답용)
+    @Query("SELECT new com.jandi.band_backend.poll.repository.VoteTally(v.pollSong.id, v.votedMark, COUNT(v)) " +
+           "FROM Vote v WHERE v.pollSong.id = :pollSongId AND v.deletedAt IS NULL " +
+           "GROUP BY v.pollSong.id, v.votedMark")
+    List<VoteTally> countTalliesByPollSongId(@Param("pollSongId") Integer pollSongId);
+
+    // 투표 안에서 사용자가 한 투표 (곡당 최대 1개)
+    @Query("SELECT v FROM Vote v WHERE v.pollSong.poll.id = :pollId AND v.user.id = :userId AND v.deletedAt IS NULL")
+    List<Vote> findAllByPollIdAndUserId(@Param("pollId") Integer pollId, @Param("userId") Integer userId);
+
     @Modifying
     @Query("DELETE FROM Vote v WHERE v.user.id = :userId")
     int deleteByUserId(@Param("userId") Integer userId);
@@ -0,0 +1,9 @@
+package com.jandi.band_backend.poll.repository;
+
+import com.jandi.band_backend.poll.entity.Vote.VotedMark;
+
+/**
+ * 곡별 / 투표 표시별 투표 수 집계 프로젝션
+ */
+public record VoteTally(Integer pollSongId, VotedMark votedMark, long voteCount) {
+}
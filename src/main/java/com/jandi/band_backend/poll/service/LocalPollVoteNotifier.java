@@ -0,0 +1,21 @@
+package com.jandi.band_backend.poll.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버용 (poll.live.redis.enabled=false) - 이 서버 구독자에게만 전달
+ */
+@Component
+@ConditionalOnProperty(name = "poll.live.redis.enabled", havingValue = "false")
+@RequiredArgsConstructor
+public class LocalPollVoteNotifier implements PollVoteNotifier {
+
+    private final PollLiveResultService pollLiveResultService;
+
+    @Override
+    public void voteChanged(Integer pollId, Integer songId) {
+        pollLiveResultService.onVoteChanged(pollId, songId);
+    }
+}
@@ -0,0 +1,423 @@
+package com.jandi.band_backend.poll.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jandi.band_backend.global.util.EntityValidationUtil;
+import com.jandi.band_backend.poll.dto.PollSongTallyRespDTO;
+import com.jandi.band_backend.poll.dto.PollTallyEventRespDTO;
+import com.jandi.band_backend.poll.entity.Vote.VotedMark;
+import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.poll.repository.VoteTally;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투표 결과 실시간 전송 (SSE)
+ * - 투표 변경은 곡 ID 만 표시해 두고 coalesce-ms 주기마다 투표별로 집계 쿼리 1회 후 바뀐 곡의 현재 집계만 전송
+ *   (같은 주기 안의 여러 변경은 한 번의 전송으로 합쳐지고, 항상 커밋된 최신 값을 보내므로 순서가 뒤바뀌어도 결과가 맞음)
+ * - 응답은 서블릿 논블로킹 쓰기(WriteListener)로 보내므로 느린 구독자가 스레드를 붙잡지 않음
+ *   쓸 수 없는 동안 들어온 변경은 곡 단위로 합쳐 두었다가 쓸 수 있게 되면 한 번에 보냄 (구독자별 메모리 = 곡 수)
+ * - max-lag-ms 넘게 쓸 수 없는 구독자는 연결을 끊음 (EventSource 재연결 시 스냅샷부터 다시 받음)
+ * - 다른 서버의 투표 변경은 PollVoteNotifier 구현(Redis pub/sub)이 onVoteChanged 로 전달
+ */
+@Slf4j
+@Service
+public class PollLiveResultService {
+
+    static final String EVENT_NAME = "tally";
+
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final VoteRepository voteRepository;
+    private final EntityValidationUtil entityValidationUtil;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final long maxLagMs;
+    private final Map<Integer, Set<PollSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> changedSongs = new ConcurrentHashMap<>();
+    private final Counter pushedCounter;
+    private final Counter evictedCounter;
+
+    public PollLiveResultService(VoteRepository voteRepository,
+                                 EntityValidationUtil entityValidationUtil,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${poll.live.timeout-ms:1800000}") long timeoutMs,
+                                 @Value("${poll.live.max-lag-ms:10000}") long maxLagMs) {
+        this.voteRepository = voteRepository;
+        this.entityValidationUtil = entityValidationUtil;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxLagMs = maxLagMs;
+        this.pushedCounter = Counter.builder("jandi.poll.live.pushes")
+                .description("SSE events written to live poll result subscribers")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("jandi.poll.live.evicted")
+                .description("Live poll result subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("jandi.poll.live.subscribers", this, PollLiveResultService::subscriberCount)
+                .description("Open live poll result streams on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 투표 결과 구독 - 응답을 비동기로 열어 두고 첫 이벤트로 현재 전체 집계를 보냄
+     */
+    public void subscribe(Integer pollId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        entityValidationUtil.validatePollExists(pollId);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // nginx 가 이벤트를 버퍼링하지 않고 바로 전달하도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeoutMs);
+        register(pollId, asyncContext);
+    }
+
+    PollSubscriber register(Integer pollId, AsyncContext asyncContext) throws IOException {
+        PollSubscriber subscriber = new PollSubscriber(pollId, asyncContext, asyncContext.getResponse().getOutputStream());
+        subscribers.compute(pollId, (id, set) -> {
+            Set<PollSubscriber> result = set != null ? set : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        asyncContext.addListener(subscriber);
+        // 구독 등록 후 조회하므로 그 사이 변경은 다음 주기 전송으로 반영됨
+        try {
+            List<PollSongTallyRespDTO> songs = toSongTallies(voteRepository.countTalliesByPollId(pollId), null);
+            subscriber.offer(songs, encode(pollId, true, songs), true);
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+        // 컨테이너가 호출하는 첫 onWritePossible 에서 스냅샷 전송 시작
+        subscriber.output.setWriteListener(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * 투표 변경 표시 - 이 서버에 구독자가 없는 투표는 무시
+     */
+    public void onVoteChanged(Integer pollId, Integer songId) {
+        if (!subscribers.containsKey(pollId)) {
+            return;
+        }
+        changedSongs.compute(pollId, (id, songs) -> {
+            Set<Integer> result = songs != null ? songs : new HashSet<>();
+            result.add(songId);
+            return result;
+        });
+    }
+
+    /**
+     * 주기 동안 표시된 변경을 투표별로 모아 전송
+     */
+    @Scheduled(fixedDelayString = "${poll.live.coalesce-ms:500}")
+    public void flush() {
+        for (Integer pollId : List.copyOf(changedSongs.keySet())) {
+            Set<Integer> songIds = changedSongs.remove(pollId);
+            Set<PollSubscriber> pollSubscribers = subscribers.get(pollId);
+            if (songIds == null || pollSubscribers == null || pollSubscribers.isEmpty()) {
+                continue;
+            }
+            List<PollSongTallyRespDTO> songs;
+            try {
+                songs = toSongTallies(voteRepository.countTalliesByPollId(pollId), songIds);
+            } catch (Exception e) {
+                log.warn("실시간 투표 집계 조회 실패, 다음 주기에 재시도: pollId={}, error={}", pollId, e.getMessage());
+                songIds.forEach(songId -> onVoteChanged(pollId, songId));
+                continue;
+            }
+            // 구독자마다 직렬화하지 않도록 한 번만 인코딩해 공유
+            byte[] encoded = encode(pollId, false, songs);
+            for (PollSubscriber subscriber : pollSubscribers) {
+                subscriber.offer(songs, encoded, false);
+            }
+        }
+    }
+
+    /**
+     * 유휴 연결 유지용 주석 이벤트 (프록시 타임아웃 방지, 끊긴 연결/느린 구독자 정리)
+     */
+    @Scheduled(fixedDelayString = "${poll.live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<PollSubscriber> pollSubscribers : subscribers.values()) {
+            for (PollSubscriber subscriber : pollSubscribers) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Set<PollSubscriber> pollSubscribers : subscribers.values()) {
+            for (PollSubscriber subscriber : pollSubscribers) {
+                subscriber.close();
+            }
+        }
+    }
+
+    private void remove(PollSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.pollId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private byte[] encode(Integer pollId, boolean snapshot, List<PollSongTallyRespDTO> songs) {
+        PollTallyEventRespDTO event = PollTallyEventRespDTO.builder()
+                .pollId(pollId)
+                .snapshot(snapshot)
+                .songs(songs)
+                .build();
+        try {
+            return ("event: " + EVENT_NAME + "\ndata: " + objectMapper.writeValueAsString(event) + "\n\n")
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode poll tally event", e);
+        }
+    }
+
+    // songIds 가 null 이면 표가 있는 곡 전체, 아니면 지정한 곡만 (표가 모두 취소된 곡은 0으로)
+    private static List<PollSongTallyRespDTO> toSongTallies(List<VoteTally> tallies, Set<Integer> songIds) {
+        Map<Integer, Map<VotedMark, Integer>> counts = new HashMap<>();
+        if (songIds != null) {
+            songIds.forEach(songId -> counts.put(songId, new EnumMap<>(VotedMark.class)));
+        }
+        for (VoteTally tally : tallies) {
+            if (songIds == null || songIds.contains(tally.pollSongId())) {
+                counts.computeIfAbsent(tally.pollSongId(), id -> new EnumMap<>(VotedMark.class))
+                        .put(tally.votedMark(), (int) tally.voteCount());
+            }
+        }
+        List<PollSongTallyRespDTO> songs = new ArrayList<>(counts.size());
+        counts.forEach((songId, marks) -> songs.add(PollSongTallyRespDTO.builder()
+                .songId(songId)
+                .likeCount(marks.getOrDefault(VotedMark.LIKE, 0))
+                .dislikeCount(marks.getOrDefault(VotedMark.DISLIKE, 0))
+                .cantCount(marks.getOrDefault(VotedMark.CANT, 0))
+                .hajjCount(marks.getOrDefault(VotedMark.HAJJ, 0))
+                .build()));
+        return songs;
+    }
+
+    /**
+     * 구독자 하나의 전송 상태
+     * - 쓰기는 writing 을 잡은 스레드 하나만 수행 (flush/heartbeat 스레드, 컨테이너의 onWritePossible)
+     * - 컨테이너 호출과 잠금이 엇갈리지 않도록 모니터 안에서는 상태만 바꾸고 출력 스트림 호출은 모니터 밖에서 수행
+     */
+    final class PollSubscriber implements WriteListener, AsyncListener {
+
+        private final Integer pollId;
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream output;
+        private final Map<Integer, PollSongTallyRespDTO> pending = new LinkedHashMap<>();
+        private boolean pendingSnapshot;
+        private boolean pendingHeartbeat;
+        // pending 이 이벤트 하나로만 이루어졌으면 그 인코딩을 그대로 사용
+        private byte[] pendingEncoded;
+        private boolean listening;
+        private boolean writing;
+        private boolean rerun;
+        private long blockedSince;
+        private boolean closed;
+
+        private PollSubscriber(Integer pollId, AsyncContext asyncContext, ServletOutputStream output) {
+            this.pollId = pollId;
+            this.asyncContext = asyncContext;
+            this.output = output;
+        }
+
+        void offer(List<PollSongTallyRespDTO> songs, byte[] encoded, boolean snapshot) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                boolean empty = pending.isEmpty() && !pendingSnapshot;
+                if (snapshot) {
+                    pending.clear();
+                    pendingSnapshot = true;
+                }
+                for (PollSongTallyRespDTO song : songs) {
+                    pending.put(song.getSongId(), song);
+                }
+                pendingEncoded = empty || snapshot ? encoded : null;
+            }
+            write();
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                pendingHeartbeat = true;
+            }
+            write();
+        }
+
+        @Override
+        public void onWritePossible() {
+            synchronized (this) {
+                listening = true;
+            }
+            write();
+        }
+
+        private void write() {
+            synchronized (this) {
+                // setWriteListener 이후 첫 onWritePossible 전에는 쓰지 않음
+                if (closed || !listening) {
+                    return;
+                }
+                if (writing) {
+                    rerun = true;
+                    return;
+                }
+                writing = true;
+            }
+            try {
+                while (true) {
+                    synchronized (this) {
+                        rerun = false;
+                        if (closed || !hasPending()) {
+                            writing = false;
+                            return;
+                        }
+                    }
+                    // false 면 쓸 수 있게 됐을 때 컨테이너가 onWritePossible 호출
+                    if (!output.isReady()) {
+                        boolean evict;
+                        synchronized (this) {
+                            if (rerun) {
+                                continue;
+                            }
+                            long now = System.currentTimeMillis();
+                            if (blockedSince == 0) {
+                                blockedSince = now;
+                            }
+                            evict = now - blockedSince > maxLagMs;
+                            writing = false;
+                        }
+                        if (evict) {
+                            evictedCounter.increment();
+                            log.info("실시간 투표 결과 구독자 전송 지연으로 연결 종료: pollId={}", pollId);
+                            close();
+                        }
+                        return;
+                    }
+                    byte[] bytes;
+                    synchronized (this) {
+                        blockedSince = 0;
+                        bytes = takePending();
+                    }
+                    output.write(bytes);
+                    if (output.isReady()) {
+                        output.flush();
+                    }
+                    pushedCounter.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊은 연결
+                log.debug("실시간 투표 결과 전송 실패: pollId={}, error={}", pollId, e.getMessage());
+                synchronized (this) {
+                    writing = false;
+                }
+                close();
+            }
+        }
+
+        private boolean hasPending() {
+            return pendingSnapshot || !pending.isEmpty() || pendingHeartbeat;
+        }
+
+        private byte[] takePending() {
+            byte[] bytes;
+            if (pendingSnapshot || !pending.isEmpty()) {
+                bytes = pendingEncoded != null
+                        ? pendingEncoded
+                        : encode(pollId, pendingSnapshot, new ArrayList<>(pending.values()));
+            } else {
+                bytes = HEARTBEAT;
+            }
+            pending.clear();
+            pendingSnapshot = false;
+            pendingHeartbeat = false;
+            pendingEncoded = null;
+            return bytes;
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            remove(this);
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 요청
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.jandi.band_backend.club.entity.Club;
 import com.jandi.band_backend.global.exception.*;
 import com.jandi.band_backend.global.util.EntityValidationUtil;
 import com.jandi.band_backend.global.util.PermissionValidationUtil;
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
 import com.jandi.band_backend.global.util.UserValidationUtil;
 import com.jandi.band_backend.poll.dto.*;
 import com.jandi.band_backend.poll.entity.Poll;
@@ -13,6 +14,7 @@ import com.jandi.band_backend.poll.entity.Vote.VotedMark;
 import com.jandi.band_backend.poll.repository.PollRepository;
 import com.jandi.band_backend.poll.repository.PollSongRepository;
 import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.poll.repository.VoteTally;
 import com.jandi.band_backend.user.entity.Users;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,7 +23,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.Comparator;
@@ -36,6 +41,7 @@ public class PollService {
     private final EntityValidationUtil entityValidationUtil;
     private final UserValidationUtil userValidationUtil;
     private final PermissionValidationUtil permissionValidationUtil;
+    private final PollVoteNotifier pollVoteNotifier;
 
     @Transactional
     public PollRespDTO createPoll(PollReqDTO requestDto, Integer currentUserId) {
@@ -67,9 +73,13 @@ public class PollService {
     public PollDetailRespDTO getPollDetail(Integer pollId, Integer currentUserId) {
         Poll poll = entityValidationUtil.validatePollExists(pollId);
         List<PollSong> pollSongs = pollSongRepository.findAllByPollAndDeletedAtIsNullOrderByCreatedAtDesc(poll);
+        Map<Integer, Map<VotedMark, Integer>> voteCounts = groupTallies(voteRepository.countTalliesByPollId(pollId));
+        Map<Integer, VotedMark> userVotes = findUserVotes(pollId, currentUserId);
 
         List<PollSongRespDTO> songResponseDtos = pollSongs.stream()
-                .map(pollSong -> convertToPollSongRespDTO(pollSong, currentUserId))
+                .map(pollSong -> convertToPollSongRespDTO(pollSong,
+                        voteCounts.getOrDefault(pollSong.getId(), Map.of()),
+                        userVotes.get(pollSong.getId())))
                 .collect(Collectors.toList());
 
         return convertToPollDetailRespDTO(poll, songResponseDtos);
@@ -79,9 +89,11 @@ public class PollService {
     public List<PollSongResultRespDTO> getPollSongs(Integer pollId, String sortBy, String order) {
         Poll poll = entityValidationUtil.validatePollExists(pollId);
         List<PollSong> pollSongs = pollSongRepository.findAllByPollAndDeletedAtIsNullOrderByCreatedAtDesc(poll);
+        Map<Integer, Map<VotedMark, Integer>> voteCounts = groupTallies(voteRepository.countTalliesByPollId(pollId));
 
         List<PollSongResultRespDTO> songResultDtos = pollSongs.stream()
-                .map(this::convertToPollSongResultRespDTO)
+                .map(pollSong -> convertToPollSongResultRespDTO(pollSong,
+                        voteCounts.getOrDefault(pollSong.getId(), Map.of())))
                 .collect(Collectors.toList());
 
         return applySortingForResult(songResultDtos, sortBy, order);
@@ -103,7 +115,7 @@ public class PollService {
 
         PollSong savedPollSong = pollSongRepository.save(pollSong);
 
-        return convertToPollSongRespDTO(savedPollSong);
+        return convertToPollSongRespDTO(savedPollSong, Map.of(), null);
     }
 
     @Transactional
@@ -135,8 +147,9 @@ public class PollService {
             vote.setVotedMark(votedMark);
             voteRepository.save(vote);
         }
+        notifyVoteChanged(pollId, songId);
 
-        return convertToPollSongRespDTO(pollSong, currentUserId);
+        return convertToPollSongRespDTO(pollSong, countVotes(songId), votedMark);
     }
 
     @Transactional
@@ -154,35 +167,9 @@ public class PollService {
         ));
 
         voteRepository.delete(vote);
+        notifyVoteChanged(pollId, songId);
 
-        int likeCount = calculateVoteCount(pollSong, "LIKE");
-        int dislikeCount = calculateVoteCount(pollSong, "DISLIKE");
-        int cantCount = calculateVoteCount(pollSong, "CANT");
-        int hajjCount = calculateVoteCount(pollSong, "HAJJ");
-
-        String suggesterProfilePhoto = pollSong.getSuggester().getPhotos().stream()
-                .filter(photo -> photo.getIsCurrent() && photo.getDeletedAt() == null)
-                .map(photo -> photo.getImageUrl())
-                .findFirst()
-                .orElse(null);
-
-        return PollSongRespDTO.builder()
-                .id(pollSong.getId())
-                .pollId(pollSong.getPoll().getId())
-                .songName(pollSong.getSongName())
-                .artistName(pollSong.getArtistName())
-                .youtubeUrl(pollSong.getYoutubeUrl())
-                .description(pollSong.getDescription())
-                .suggesterId(pollSong.getSuggester().getId())
-                .suggesterName(pollSong.getSuggester().getNickname())
-                .suggesterProfilePhoto(suggesterProfilePhoto)
-                .createdAt(pollSong.getCreatedAt())
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
-                .cantCount(cantCount)
-                .hajjCount(hajjCount)
-                .userVoteType(null)
-                .build();
+        return convertToPollSongRespDTO(pollSong, countVotes(songId), null);
     }
 
     @Transactional
@@ -298,23 +285,8 @@ public class PollService {
                 .build();
     }
 
-    private PollSongRespDTO convertToPollSongRespDTO(PollSong pollSong) {
-        return convertToPollSongRespDTO(pollSong, null);
-    }
-
-    private PollSongRespDTO convertToPollSongRespDTO(PollSong pollSong, Integer currentUserId) {
-        String userVoteType = null;
-        if (currentUserId != null) {
-            Optional<Vote> userVote = pollSong.getVotes().stream()
-                    .filter(vote -> vote.getDeletedAt() == null)
-                    .filter(vote -> vote.getUser().getId().equals(currentUserId))
-                    .findFirst();
-
-            if (userVote.isPresent()) {
-                userVoteType = userVote.get().getVotedMark().name();
-            }
-        }
-
+    private PollSongRespDTO convertToPollSongRespDTO(PollSong pollSong, Map<VotedMark, Integer> voteCounts,
+                                                     VotedMark userVote) {
         String suggesterProfilePhoto = pollSong.getSuggester().getPhotos().stream()
                 .filter(photo -> photo.getIsCurrent() && photo.getDeletedAt() == null)
                 .map(photo -> photo.getImageUrl())
@@ -336,33 +308,58 @@ public class PollService {
                 .suggesterName(pollSong.getSuggester().getNickname())
                 .suggesterProfilePhoto(suggesterProfilePhoto)
                 .createdAt(pollSong.getCreatedAt())
-                .likeCount(calculateVoteCount(pollSong, "LIKE"))
-                .dislikeCount(calculateVoteCount(pollSong, "DISLIKE"))
-                .cantCount(calculateVoteCount(pollSong, "CANT"))
-                .hajjCount(calculateVoteCount(pollSong, "HAJJ"))
-                .userVoteType(userVoteType)
+                .likeCount(voteCounts.getOrDefault(VotedMark.LIKE, 0))
+                .dislikeCount(voteCounts.getOrDefault(VotedMark.DISLIKE, 0))
+                .cantCount(voteCounts.getOrDefault(VotedMark.CANT, 0))
+                .hajjCount(voteCounts.getOrDefault(VotedMark.HAJJ, 0))
+                .userVoteType(userVote != null ? userVote.name() : null)
                 .build();
     }
 
-    private PollSongResultRespDTO convertToPollSongResultRespDTO(PollSong pollSong) {
+    private PollSongResultRespDTO convertToPollSongResultRespDTO(PollSong pollSong, Map<VotedMark, Integer> voteCounts) {
         return PollSongResultRespDTO.builder()
                 .id(pollSong.getId())
                 .pollId(pollSong.getPoll() != null ? pollSong.getPoll().getId() : null)
                 .songName(pollSong.getSongName())
                 .artistName(pollSong.getArtistName())
                 .createdAt(pollSong.getCreatedAt())
-                .likeCount(calculateVoteCount(pollSong, "LIKE"))
-                .dislikeCount(calculateVoteCount(pollSong, "DISLIKE"))
-                .cantCount(calculateVoteCount(pollSong, "CANT"))
-                .hajjCount(calculateVoteCount(pollSong, "HAJJ"))
+                .likeCount(voteCounts.getOrDefault(VotedMark.LIKE, 0))
+                .dislikeCount(voteCounts.getOrDefault(VotedMark.DISLIKE, 0))
+                .cantCount(voteCounts.getOrDefault(VotedMark.CANT, 0))
+                .hajjCount(voteCounts.getOrDefault(VotedMark.HAJJ, 0))
                 .build();
     }
 
-    private int calculateVoteCount(PollSong pollSong, String voteMark) {
-        return (int) pollSong.getVotes().stream()
-                .filter(vote -> vote.getDeletedAt() == null)
-                .filter(vote -> vote.getVotedMark().name().equals(voteMark))
-                .count();
+    // 곡 하나의 표시별 투표 수 (투표 변경 직후 호출 - 조회 전에 변경 내용이 flush 됨)
+    private Map<VotedMark, Integer> countVotes(Integer songId) {
+        return groupTallies(voteRepository.countTalliesByPollSongId(songId)).getOrDefault(songId, Map.of());
+    }
+
+    // 실시간 결과 구독자에게 알림 (롤백된 변경은 보내지 않도록 커밋 후)
+    private void notifyVoteChanged(Integer pollId, Integer songId) {
+        TransactionSyncUtil.runAfterCommit(() -> pollVoteNotifier.voteChanged(pollId, songId));
+    }
+
+    // 곡 ID -> 표시별 투표 수
+    private Map<Integer, Map<VotedMark, Integer>> groupTallies(List<VoteTally> tallies) {
+        Map<Integer, Map<VotedMark, Integer>> voteCounts = new HashMap<>();
+        for (VoteTally tally : tallies) {
+            voteCounts.computeIfAbsent(tally.pollSongId(), songId -> new EnumMap<>(VotedMark.class))
+                    .put(tally.votedMark(), (int) tally.voteCount());
+        }
+        return voteCounts;
+    }
+
+    // 곡 ID -> 사용자가 한 투표 (비로그인이면 조회하지 않음)
+    private Map<Integer, VotedMark> findUserVotes(Integer pollId, Integer currentUserId) {
+        if (currentUserId == null) {
+            return Map.of();
+        }
+        Map<Integer, VotedMark> userVotes = new HashMap<>();
+        for (Vote vote : voteRepository.findAllByPollIdAndUserId(pollId, currentUserId)) {
+            userVotes.putIfAbsent(vote.getPollSong().getId(), vote.getVotedMark());
+        }
+        return userVotes;
     }
 
     private VotedMark convertToVotedMark(String voteType) {
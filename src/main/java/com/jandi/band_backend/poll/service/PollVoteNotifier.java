@@ -0,0 +1,9 @@
+package com.jandi.band_backend.poll.service;
+
+/**
+ * 투표 변경 전파 - 커밋된 변경을 모든 서버의 PollLiveResultService 에 알림
+ */
+public interface PollVoteNotifier {
+
+    void voteChanged(Integer pollId, Integer songId);
+}
@@ -0,0 +1,30 @@
+package com.jandi.band_backend.promo.cache;
+
+/**
+ * 공연 홍보 변경 이벤트 - 커밋 후 조회 캐시 무효화, 인기 순위 갱신에 사용
+ * - delta: 좋아요/댓글 증감(+1/-1), 반영된 조회수 (그 외 변경은 0)
+ */
+public record PromoChangedEvent(Integer promoId, Type type, long delta) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        // 공연 일시 변경 - 목록 정렬 위치가 바뀜
+        RESCHEDULED,
+        DELETED,
+        LIKED,
+        COMMENTED,
+        VIEWS_FLUSHED
+    }
+
+    public PromoChangedEvent(Integer promoId, Type type) {
+        this(promoId, type, 0);
+    }
+
+    /**
+     * 목록의 항목 구성이나 순서가 바뀌는 변경인지 (모든 목록 페이지 무효화 필요)
+     */
+    public boolean reordersPages() {
+        return type == Type.CREATED || type == Type.RESCHEDULED || type == Type.DELETED;
+    }
+}
@@ -0,0 +1,179 @@
+package com.jandi.band_backend.promo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비로그인 공연 홍보 목록 페이지 / 상세 조회 캐시 (Caffeine, 서버별 로컬)
+ * - 목록 페이지 키에 날짜를 포함해 자정이 지나면 오늘/예정/지난 공연 구간이 바뀐 페이지를 새로 조회
+ * - 공연 홍보 변경 이벤트를 커밋 후 받아 무효화: 생성/삭제/일시 변경은 전체 목록, 그 외는 해당 공연이 포함된 페이지와 상세만
+ * - 조회 중에 무효화가 일어나면 조회 결과를 저장하지 않음 (커밋 전 데이터로 캐시가 채워지는 것 방지)
+ * - 다른 서버의 변경은 TTL 이 지나야 반영됨
+ */
+@Slf4j
+@Component
+public class PromoReadCache {
+
+    private final MeterRegistry meterRegistry;
+    private final int cachedPageCount;
+    private final Cache<PageKey, Page<PromoRespDTO>> pages;
+    private final Cache<Integer, PromoRespDTO> details;
+
+    // 공연 홍보 ID → 해당 공연이 포함된 캐시 페이지 (부분 무효화용)
+    private final Map<Integer, Set<PageKey>> pagesByPromo = new ConcurrentHashMap<>();
+    private final AtomicLong pageGeneration = new AtomicLong();
+    private final AtomicLong detailGeneration = new AtomicLong();
+
+    record PageKey(LocalDate date, int page, int size, String sort) {
+    }
+
+    public PromoReadCache(MeterRegistry meterRegistry,
+                          @Value("${promo.cache.page-max-entries:500}") long pageMaxEntries,
+                          @Value("${promo.cache.detail-max-entries:2000}") long detailMaxEntries,
+                          @Value("${promo.cache.cached-page-count:5}") int cachedPageCount,
+                          @Value("${promo.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.cachedPageCount = cachedPageCount;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pageMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                // 제거 직후 같은 스레드에서 역색인 정리 (재저장된 페이지의 색인을 늦게 지우지 않도록)
+                .executor(Runnable::run)
+                .removalListener((PageKey key, Page<PromoRespDTO> page, RemovalCause cause) -> unindex(key, page))
+                .build();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(detailMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "promo.feed.pages");
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "promo.details");
+        Gauge.builder("jandi.promo.cache.hit.ratio", pages, cache -> cache.stats().hitRate())
+                .description("Hit ratio of the anonymous promotion list page cache")
+                .tag("cache", "promo.feed.pages")
+                .register(meterRegistry);
+        Gauge.builder("jandi.promo.cache.hit.ratio", details, cache -> cache.stats().hitRate())
+                .description("Hit ratio of the promotion detail cache")
+                .tag("cache", "promo.details")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비로그인 목록 페이지 조회 - 앞쪽 페이지만 캐시 (응답은 공유되므로 수정하지 않아야 함)
+     */
+    public Page<PromoRespDTO> getPage(Pageable pageable, Supplier<Page<PromoRespDTO>> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= cachedPageCount) {
+            return loader.get();
+        }
+        PageKey key = new PageKey(LocalDate.now(), pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString());
+        Page<PromoRespDTO> cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = pageGeneration.get();
+        Page<PromoRespDTO> loaded = loader.get();
+        if (pageGeneration.get() == generation) {
+            for (PromoRespDTO promo : loaded.getContent()) {
+                pagesByPromo.computeIfAbsent(promo.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+            pages.put(key, loaded);
+            // 색인 등록과 저장 사이에 무효화되었으면 방금 저장한 페이지도 제거
+            if (pageGeneration.get() != generation) {
+                pages.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 상세 조회 - 캐시된 응답의 복사본 반환 (호출 측에서 좋아요 상태, 조회수를 채움)
+     */
+    public PromoRespDTO getDetail(Integer promoId, Supplier<PromoRespDTO> loader) {
+        PromoRespDTO cached = details.getIfPresent(promoId);
+        if (cached == null) {
+            long generation = detailGeneration.get();
+            cached = loader.get();
+            if (detailGeneration.get() == generation) {
+                details.put(promoId, cached);
+                if (detailGeneration.get() != generation) {
+                    details.invalidate(promoId);
+                }
+            }
+        }
+        PromoRespDTO copy = new PromoRespDTO();
+        BeanUtils.copyProperties(cached, copy);
+        return copy;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromoChanged(PromoChangedEvent event) {
+        detailGeneration.incrementAndGet();
+        details.invalidate(event.promoId());
+        // 조회수는 목록 캐시에서 TTL 만큼의 지연을 허용
+        if (event.type() == PromoChangedEvent.Type.VIEWS_FLUSHED) {
+            return;
+        }
+
+        pageGeneration.incrementAndGet();
+        if (event.reordersPages()) {
+            pages.invalidateAll();
+            return;
+        }
+        Set<PageKey> keys = pagesByPromo.remove(event.promoId());
+        if (keys != null) {
+            pages.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * 자정에 오늘/예정/지난 공연 구간이 바뀌므로 목록 페이지 전체 갱신
+     */
+    @Scheduled(cron = "${promo.cache.refresh-cron:0 0 0 * * *}")
+    public void refreshPages() {
+        pageGeneration.incrementAndGet();
+        pages.invalidateAll();
+        log.info("공연 홍보 목록 캐시 자정 갱신");
+    }
+
+    private void unindex(PageKey key, Page<PromoRespDTO> page) {
+        // 같은 키로 다시 저장된 페이지가 있으면 그 색인은 유지
+        if (key == null || page == null || pages.asMap().containsKey(key)) {
+            return;
+        }
+        for (PromoRespDTO promo : page.getContent()) {
+            pagesByPromo.computeIfPresent(promo.getId(), (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+}
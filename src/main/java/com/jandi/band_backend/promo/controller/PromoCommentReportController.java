@@ -4,7 +4,9 @@ import com.jandi.band_backend.global.dto.CommonRespDTO;
 import com.jandi.band_backend.global.dto.PagedRespDTO;
 import com.jandi.band_backend.promo.dto.PromoCommentReportReqDTO;
 import com.jandi.band_backend.promo.dto.PromoCommentReportRespDTO;
+import com.jandi.band_backend.promo.dto.PromoModerationRespDTO;
 import com.jandi.band_backend.promo.service.PromoCommentReportService;
+import com.jandi.band_backend.promo.service.PromoModerationService;
 import com.jandi.band_backend.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class PromoCommentReportController {
 
     private final PromoCommentReportService promoCommentReportService;
+    private final PromoModerationService promoModerationService;
 
     @Operation(summary = "공연 홍보 댓글 신고 생성")
     @PostMapping
@@ -44,4 +47,19 @@ public class PromoCommentReportController {
 
         return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 댓글 신고 목록 조회 성공", promoCommentReports));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "공연 홍보 댓글 신고 검토 대기열 조회 (관리자만 가능)",
+               description = "신고된 댓글을 신고자 수 많은 순, 최근 신고 순으로 반환합니다. sort 는 reportCount, lastReportedAt 만 가능합니다.")
+    @GetMapping("/queue")
+    public ResponseEntity<CommonRespDTO<PagedRespDTO<PromoModerationRespDTO>>> getPromoCommentModerationQueue(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "reportCount,desc") String sort) {
+
+        Integer adminUserId = userDetails.getUserId();
+        PagedRespDTO<PromoModerationRespDTO> queue = promoModerationService.getCommentQueue(adminUserId, page, size, sort);
+
+        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 댓글 신고 검토 대기열 조회 성공", queue));
+    }
+}
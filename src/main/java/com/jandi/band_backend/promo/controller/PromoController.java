@@ -1,29 +1,39 @@
 package com.jandi.band_backend.promo.controller;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.global.dto.CursorRespDTO;
 import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
+import com.jandi.band_backend.image.dto.UploadConfirmReqDTO;
+import com.jandi.band_backend.promo.dto.PromoClusterRespDTO;
 import com.jandi.band_backend.promo.dto.PromoReqDTO;
 import com.jandi.band_backend.promo.dto.PromoRespDTO;
 import com.jandi.band_backend.promo.dto.PromoSimpleRespDTO;
+import com.jandi.band_backend.promo.service.PromoFeedService;
 import com.jandi.band_backend.promo.service.PromoService;
 import com.jandi.band_backend.promo.service.PromoLikeService;
+import com.jandi.band_backend.promo.service.PromoTrendingService;
 import com.jandi.band_backend.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Tag(name = "Promo API")
 @RestController
@@ -31,8 +41,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class PromoController {
 
+    // 사용자별 좋아요 상태가 포함되므로 공유 캐시에 저장하지 않고 매번 재검증 (변경 없으면 304)
+    private static final CacheControl PROMO_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final PromoService promoService;
     private final PromoLikeService promoLikeService;
+    private final PromoFeedService promoFeedService;
+    private final PromoTrendingService promoTrendingService;
 
     @Operation(summary = "공연 홍보 목록 조회")
     @GetMapping
@@ -40,23 +55,59 @@ public class PromoController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt,desc") String sort,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
         
         Pageable pageable = createPageable(page, size, sort);
         Integer userId = userDetails != null ? userDetails.getUserId() : null;
         Page<PromoRespDTO> promoPage = promoService.getPromos(userId, pageable);
-        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 목록 조회 성공",
-                PagedRespDTO.from(promoPage)));
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("공연 홍보 목록 조회 성공", PagedRespDTO.from(promoPage)));
+    }
+
+    @Operation(summary = "공연 홍보 피드 조회 (커서 기반)",
+               description = "목록 조회와 같은 순서(오늘 → 예정 → 지난 공연)로 반환합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/feed")
+    public ResponseEntity<CommonRespDTO<CursorRespDTO<PromoRespDTO>>> getPromoFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+
+        Integer userId = userDetails != null ? userDetails.getUserId() : null;
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("공연 홍보 피드 조회 성공", promoFeedService.getFeed(cursor, size, userId)));
+    }
+
+    @Operation(summary = "인기 공연 홍보 조회",
+               description = "최근 조회수, 좋아요, 댓글에 시간 감쇠를 적용한 점수가 높은 순으로 반환합니다.")
+    @GetMapping("/trending")
+    public ResponseEntity<CommonRespDTO<PagedRespDTO<PromoRespDTO>>> getTrendingPromos(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+
+        Integer userId = userDetails != null ? userDetails.getUserId() : null;
+        Page<PromoRespDTO> promoPage = promoTrendingService.getTrendingPromos(userId, PageRequest.of(page, size));
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("인기 공연 홍보 조회 성공", PagedRespDTO.from(promoPage)));
     }
 
     @Operation(summary = "공연 홍보 상세 조회")
     @GetMapping("/{promoId}")
     public ResponseEntity<CommonRespDTO<PromoRespDTO>> getPromo(
             @PathVariable Integer promoId,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
         Integer userId = userDetails != null ? userDetails.getUserId() : null;
-        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 상세 조회 성공",
-                promoService.getPromo(promoId, userId)));
+        PromoRespDTO promo = promoService.getPromo(promoId, userId);
+        // 조회마다 바뀌는 조회수는 제외 (약한 ETag)
+        String etag = ConditionalResponseUtil.weakEtag("promo", promo.getId(), promo.getUpdatedAt(),
+                promo.getLikeCount(), promo.getCommentCount(), promo.getIsLikedByUser(), promo.getPhotoUrls(),
+                promo.getThumbnailUrl());
+        return ConditionalResponseUtil.respond(webRequest, etag, PROMO_CACHE_CONTROL,
+                () -> CommonRespDTO.success("공연 홍보 상세 조회 성공", promo));
     }
 
     @Operation(summary = "공연 홍보 생성")
@@ -126,6 +177,18 @@ public class PromoController {
         return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 수정 성공!", null));
     }
 
+    @Operation(summary = "공연 홍보 이미지 등록 (직접 업로드 확인)",
+            description = "POST /api/images/presigned (purpose=PROMO) 로 받은 주소에 파일을 올린 뒤 uploadId 로 등록합니다. 기존 이미지는 교체됩니다.")
+    @PostMapping("/{promoId}/image")
+    public ResponseEntity<CommonRespDTO<Void>> attachUploadedImage(
+            @PathVariable Integer promoId,
+            @Valid @RequestBody UploadConfirmReqDTO request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Integer userId = userDetails.getUserId();
+        promoService.attachUploadedImage(promoId, request.getUploadId(), userId);
+        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 이미지 등록 성공!", null));
+    }
+
     @Operation(summary = "공연 홍보 삭제")
     @DeleteMapping("/{promoId}")
     public ResponseEntity<CommonRespDTO<Void>> deletePromo(
@@ -143,13 +206,14 @@ public class PromoController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt,desc") String sort,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
         
         Pageable pageable = createPageable(page, size, sort);
         Integer userId = userDetails != null ? userDetails.getUserId() : null;
         Page<PromoRespDTO> promoPage = promoService.searchPromos(keyword, userId, pageable);
-        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 검색 성공",
-                PagedRespDTO.from(promoPage)));
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("공연 홍보 검색 성공", PagedRespDTO.from(promoPage)));
     }
 
     @Operation(summary = "공연 홍보 필터링")
@@ -161,13 +225,14 @@ public class PromoController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt,desc") String sort,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
         
         Pageable pageable = createPageable(page, size, sort);
         Integer userId = userDetails != null ? userDetails.getUserId() : null;
         Page<PromoRespDTO> promoPage = promoService.filterPromos(startDate, endDate, teamName, userId, pageable);
-        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 필터링 성공",
-                PagedRespDTO.from(promoPage)));
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("공연 홍보 필터링 성공", PagedRespDTO.from(promoPage)));
     }
 
     @Operation(summary = "공연 홍보 지도상 검색")
@@ -180,31 +245,72 @@ public class PromoController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt,desc") String sort,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
 
         Pageable pageable = createPageable(page, size, sort);
         Integer userId = userDetails != null ? userDetails.getUserId() : null;
         Page<PromoRespDTO> promoPage = promoService.filterMapPromos(startLatitude, startLongitude, endLatitude, endLongitude, userId, pageable);
-        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 필터링 성공",
-                PagedRespDTO.from(promoPage)));
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("공연 홍보 필터링 성공", PagedRespDTO.from(promoPage)));
+    }
+
+    @Operation(summary = "근처 공연 홍보 조회",
+               description = "기준 좌표에서 반경 내 오늘 이후 공연을 가까운 순으로 반환합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<CommonRespDTO<CursorRespDTO<PromoRespDTO>>> getNearbyPromos(
+            @RequestParam BigDecimal latitude,
+            @RequestParam BigDecimal longitude,
+            @RequestParam(defaultValue = "5000") double radius,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+
+        Integer userId = userDetails != null ? userDetails.getUserId() : null;
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("근처 공연 홍보 조회 성공",
+                        promoService.getNearbyPromos(latitude, longitude, radius, cursor, size, userId)));
+    }
+
+    @Operation(summary = "공연 홍보 지도 클러스터 조회",
+               description = "화면 영역과 줌 레벨에 맞춰 묶은 클러스터(개수, 중심 좌표, 대표 공연 ID)를 반환합니다. 줌 레벨은 5~15 범위로 보정됩니다.")
+    @GetMapping("/map/clusters")
+    public ResponseEntity<CommonRespDTO<List<PromoClusterRespDTO>>> getMapClusters(
+            @RequestParam BigDecimal startLatitude,
+            @RequestParam BigDecimal startLongitude,
+            @RequestParam BigDecimal endLatitude,
+            @RequestParam BigDecimal endLongitude,
+            @RequestParam int zoom,
+            WebRequest webRequest) {
+
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success("공연 홍보 지도 클러스터 조회 성공",
+                        promoService.getMapClusters(startLatitude, startLongitude, endLatitude, endLongitude, zoom)));
     }
 
     @Operation(summary = "공연 상태별 필터링", 
-               description = "공연 상태에 따라 필터링: ongoing(진행 중), upcoming(예정), ended(종료)")
+               description = "공연 상태에 따라 필터링: ongoing(진행 중), upcoming(예정), ended(종료). "
+                       + "sort 를 생략하면 종료된 공연은 최근 순, 나머지는 가까운 순으로 정렬합니다.")
     @GetMapping("/status")
     public ResponseEntity<CommonRespDTO<PagedRespDTO<PromoRespDTO>>> filterPromosByStatus(
             @RequestParam String status,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String teamName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "eventDatetime,asc") String sort,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            // 생략 시 상태별 기본 정렬은 서비스에서 결정
+            @RequestParam(required = false) String sort,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
         
         Pageable pageable = createPageable(page, size, sort);
         Integer userId = userDetails != null ? userDetails.getUserId() : null;
         
-        Page<PromoRespDTO> promoPage = promoService.filterPromosByStatus(status, keyword, teamName, userId, pageable);
+        Page<PromoRespDTO> promoPage = promoService.filterPromosByStatus(
+                status, keyword, teamName, startDate, endDate, userId, pageable);
         
         String statusMessage = switch (status.toLowerCase()) {
             case "ongoing" -> "진행 중인 공연";
@@ -213,8 +319,8 @@ public class PromoController {
             default -> "공연";
         };
         
-        return ResponseEntity.ok(CommonRespDTO.success(statusMessage + " 필터링 성공",
-                PagedRespDTO.from(promoPage)));
+        return ConditionalResponseUtil.respond(webRequest, PROMO_CACHE_CONTROL,
+                CommonRespDTO.success(statusMessage + " 필터링 성공", PagedRespDTO.from(promoPage)));
     }
 
     @Operation(summary = "공연 홍보 좋아요 추가/취소")
@@ -2,8 +2,10 @@ package com.jandi.band_backend.promo.controller;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
 import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.promo.dto.PromoModerationRespDTO;
 import com.jandi.band_backend.promo.dto.PromoReportReqDTO;
 import com.jandi.band_backend.promo.dto.PromoReportRespDTO;
+import com.jandi.band_backend.promo.service.PromoModerationService;
 import com.jandi.band_backend.promo.service.PromoReportService;
 import com.jandi.band_backend.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +24,7 @@ import java.util.List;
 public class PromoReportController {
 
     private final PromoReportService promoReportService;
+    private final PromoModerationService promoModerationService;
 
     @Operation(summary = "공연 홍보 신고 생성")
     @PostMapping
@@ -46,4 +49,19 @@ public class PromoReportController {
 
         return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 신고 목록 조회 성공", promoReports));
     }
+
+    @Operation(summary = "공연 홍보 신고 검토 대기열 조회 (관리자만 가능)",
+               description = "신고된 공연 홍보를 신고자 수 많은 순, 최근 신고 순으로 반환합니다. sort 는 reportCount, lastReportedAt 만 가능합니다.")
+    @GetMapping("/queue")
+    public ResponseEntity<CommonRespDTO<PagedRespDTO<PromoModerationRespDTO>>> getPromoModerationQueue(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "reportCount,desc") String sort) {
+
+        Integer adminUserId = userDetails.getUserId();
+        PagedRespDTO<PromoModerationRespDTO> queue = promoModerationService.getPromoQueue(adminUserId, page, size, sort);
+
+        return ResponseEntity.ok(CommonRespDTO.success("공연 홍보 신고 검토 대기열 조회 성공", queue));
+    }
 }
@@ -0,0 +1,39 @@
+package com.jandi.band_backend.promo.dto;
+
+import com.jandi.band_backend.promo.geo.PromoClusterGrid;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "공연 홍보 지도 클러스터 응답 DTO")
+public class PromoClusterRespDTO {
+
+    @Schema(description = "클러스터에 속한 공연 홍보 수", example = "42")
+    private Integer count;
+
+    @Schema(description = "클러스터 중심 위도 (소속 공연 좌표 평균)", example = "37.5563")
+    private Double latitude;
+
+    @Schema(description = "클러스터 중심 경도 (소속 공연 좌표 평균)", example = "126.9220")
+    private Double longitude;
+
+    @Schema(description = "대표 공연 홍보 ID (최신 등록순, 최대 3개)", example = "[12, 9, 4]")
+    private List<Integer> promoIds;
+
+    public static PromoClusterRespDTO from(PromoClusterGrid.Cluster cluster) {
+        return PromoClusterRespDTO.builder()
+                .count(cluster.count())
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .promoIds(cluster.promoIds())
+                .build();
+    }
+}
@@ -54,6 +54,13 @@ public class PromoCommentRespDTO {
                 .findFirst()
                 .orElse(null);
         
+        return from(comment, creatorProfilePhoto, null);
+    }
+
+    /**
+     * 목록용 - 프로필 사진과 좋아요 상태를 페이지 단위로 미리 조회해 전달 (댓글마다 추가 쿼리 없음)
+     */
+    public static PromoCommentRespDTO from(PromoComment comment, String creatorProfilePhoto, Boolean isLikedByUser) {
         return PromoCommentRespDTO.builder()
                 .id(comment.getId())
                 .promoId(comment.getPromo().getId())
@@ -61,17 +68,10 @@ public class PromoCommentRespDTO {
                 .creatorId(comment.getCreator().getId())
                 .creatorName(comment.getCreator().getNickname())
                 .creatorProfilePhoto(creatorProfilePhoto)
-                .likeCount(comment.getLikes().size())
-                .isLikedByUser(null) // 기본값은 null (인증되지 않은 사용자)
+                .likeCount(comment.getLikeCount())
+                .isLikedByUser(isLikedByUser) // null: 인증되지 않은 사용자
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
-
-    public static PromoCommentRespDTO from(PromoComment comment, Boolean isLikedByUser) {
-        PromoCommentRespDTO response = from(comment);
-        return response.toBuilder()
-                .isLikedByUser(isLikedByUser)
-                .build();
-    }
 } 
\ No newline at end of file
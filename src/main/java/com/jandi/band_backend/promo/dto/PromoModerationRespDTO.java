@@ -0,0 +1,51 @@
+package com.jandi.band_backend.promo.dto;
+
+import com.jandi.band_backend.promo.repository.PromoModerationRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Schema(description = "신고 검토 대기열 항목 응답 DTO")
+public class PromoModerationRespDTO {
+
+    @Schema(description = "신고 대상 ID (공연 홍보 ID 또는 댓글 ID)", example = "15")
+    private Integer targetId;
+
+    @Schema(description = "공연 홍보 ID", example = "5")
+    private Integer promoId;
+
+    @Schema(description = "공연 홍보 제목 또는 댓글 내용", example = "밴드 공연 홍보")
+    private String content;
+
+    @Schema(description = "작성자 ID", example = "3")
+    private Integer creatorId;
+
+    @Schema(description = "작성자 이름", example = "이영희")
+    private String creatorName;
+
+    @Schema(description = "신고한 사용자 수", example = "4")
+    private Integer reportCount;
+
+    @Schema(description = "마지막 신고 일시", example = "2024-03-01T15:00:00")
+    private LocalDateTime lastReportedAt;
+
+    @Schema(description = "신고 누적으로 자동 숨김된 일시 (숨김 전이면 null)", example = "2024-03-01T15:00:00")
+    private LocalDateTime hiddenAt;
+
+    public static PromoModerationRespDTO from(PromoModerationRow row) {
+        PromoModerationRespDTO response = new PromoModerationRespDTO();
+        response.setTargetId(row.targetId());
+        response.setPromoId(row.promoId());
+        response.setContent(row.content());
+        response.setCreatorId(row.creatorId());
+        response.setCreatorName(row.creatorName());
+        response.setReportCount(row.reportCount());
+        response.setLastReportedAt(row.lastReportedAt());
+        response.setHiddenAt(row.hiddenAt());
+        return response;
+    }
+}
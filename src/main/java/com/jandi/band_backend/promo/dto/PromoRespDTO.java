@@ -1,6 +1,8 @@
 package com.jandi.band_backend.promo.dto;
 
 import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoPhoto;
+import com.jandi.band_backend.promo.repository.PromoListRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
@@ -69,9 +71,15 @@ public class PromoRespDTO {
     @Schema(description = "수정일시", example = "2024-03-01T10:00:00")
     private LocalDateTime updatedAt;
     
+    @Schema(description = "검색 위치로부터의 거리 (m, 근처 공연 조회에서만 포함)", example = "1532.4")
+    private Double distance;
+
     @Schema(description = "공연 이미지 URL 목록", example = "[\"https://example.com/photo1.jpg\", \"https://example.com/photo2.jpg\"]")
     private List<String> photoUrls;
 
+    @Schema(description = "목록용 썸네일 URL (첫 번째 사진, 썸네일 생성 전이면 원본 URL, 사진이 없으면 null)", example = "https://example.com/photo1_thumb.webp")
+    private String thumbnailUrl;
+
     public static PromoRespDTO from(Promo promo) {
         PromoRespDTO response = new PromoRespDTO();
         response.setId(promo.getId());
@@ -94,6 +102,11 @@ public class PromoRespDTO {
                 .filter(photo -> photo.getDeletedAt() == null)  // 삭제되지 않은 사진만 포함
                 .map(photo -> photo.getImageUrl())
                 .collect(Collectors.toList()));
+        response.setThumbnailUrl(promo.getPhotos().stream()
+                .filter(photo -> photo.getDeletedAt() == null)
+                .findFirst()
+                .map(PromoPhoto::thumbnailOrImageUrl)
+                .orElse(null));
         response.setLatitude(promo.getLatitude());
         response.setLongitude(promo.getLongitude());
         return response;
@@ -104,4 +117,30 @@ public class PromoRespDTO {
         response.setIsLikedByUser(isLikedByUser);
         return response;
     }
+
+    // 목록 프로젝션 기반 변환 (엔티티 로드 없이 목록 응답 구성)
+    public static PromoRespDTO from(PromoListRow row, Boolean isLikedByUser) {
+        PromoRespDTO response = new PromoRespDTO();
+        response.setId(row.id());
+        response.setTeamName(row.teamName());
+        response.setCreatorId(row.creatorId());
+        response.setCreatorName(row.creatorName());
+        response.setTitle(row.title());
+        response.setAdmissionFee(row.admissionFee());
+        response.setEventDatetime(row.eventDatetime());
+        response.setLocation(row.location());
+        response.setAddress(row.address());
+        response.setDescription(row.description());
+        response.setViewCount(row.viewCount());
+        response.setCommentCount(row.commentCount());
+        response.setLikeCount(row.likeCount());
+        response.setIsLikedByUser(isLikedByUser);
+        response.setCreatedAt(row.createdAt());
+        response.setUpdatedAt(row.updatedAt());
+        response.setPhotoUrls(row.photoUrl() != null ? List.of(row.photoUrl()) : List.of());
+        response.setThumbnailUrl(row.thumbnailUrl() != null ? row.thumbnailUrl() : row.photoUrl());
+        response.setLatitude(row.latitude());
+        response.setLongitude(row.longitude());
+        return response;
+    }
 } 
\ No newline at end of file
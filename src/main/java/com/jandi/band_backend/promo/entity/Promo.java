@@ -2,6 +2,7 @@ package com.jandi.band_backend.promo.entity;
 
 import com.jandi.band_backend.club.entity.Club;
 import com.jandi.band_backend.user.entity.Users;
+import com.jandi.band_backend.search.listener.SearchEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,7 +14,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "promo")
+@EntityListeners(SearchEntityListener.class)
+@Table(name = "promo", indexes = {
+    @Index(name = "idx_promo_event_datetime", columnList = "event_datetime, promo_id"),
+    @Index(name = "idx_promo_report_count", columnList = "report_count, last_reported_at"),
+    @Index(name = "idx_promo_last_reported_at", columnList = "last_reported_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -68,6 +74,17 @@ public class Promo {
     @Column(name = "like_count", nullable = false)
     private Integer likeCount = 0;
     
+    // 신고한 서로 다른 사용자 수 (신고 시 원자적으로 증가)
+    @Column(name = "report_count", nullable = false)
+    private Integer reportCount = 0;
+    
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+    
+    // 신고 누적으로 자동 숨김된 시각 (숨김 시 deleted_at 도 함께 설정)
+    @Column(name = "hidden_at")
+    private LocalDateTime hiddenAt;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
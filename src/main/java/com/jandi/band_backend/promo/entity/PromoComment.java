@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "promo_comment")
+@Table(name = "promo_comment", indexes = {
+    @Index(name = "idx_promo_comment_report_count", columnList = "report_count, last_reported_at"),
+    @Index(name = "idx_promo_comment_last_reported_at", columnList = "last_reported_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +45,20 @@ public class PromoComment {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
     
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount = 0;
+    
+    // 신고한 서로 다른 사용자 수 (신고 시 원자적으로 증가)
+    @Column(name = "report_count", nullable = false)
+    private Integer reportCount = 0;
+    
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+    
+    // 신고 누적으로 자동 숨김된 시각 (숨김 시 deleted_at 도 함께 설정)
+    @Column(name = "hidden_at")
+    private LocalDateTime hiddenAt;
+    
     @OneToMany(mappedBy = "promoComment")
     private List<PromoCommentLike> likes = new ArrayList<>();
     
@@ -10,7 +10,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "promo_comment_report")
+@Table(name = "promo_comment_report", indexes = {
+    @Index(name = "idx_promo_comment_report_comment_reporter", columnList = "promo_comment_id, reporter_user_id"),
+    @Index(name = "idx_promo_comment_report_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
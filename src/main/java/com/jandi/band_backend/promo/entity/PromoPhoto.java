@@ -31,6 +31,13 @@ public class PromoPhoto {
 
     @Column(name = "image_url", nullable = false, length = 512)
     private String imageUrl;
+
+    // 이미지 변형 (커밋 후 비동기로 생성 - 생성 전이거나 실패하면 null)
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    @Column(name = "display_url", length = 512)
+    private String displayUrl;
     
     @Column(name = "is_current", nullable = false)
     private Boolean isCurrent = true;
@@ -41,6 +48,11 @@ public class PromoPhoto {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 목록용 이미지 URL - 썸네일이 아직 없으면 원본
+    public String thumbnailOrImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
     @PrePersist
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
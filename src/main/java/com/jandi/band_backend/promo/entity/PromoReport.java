@@ -10,7 +10,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "promo_report")
+@Table(name = "promo_report", indexes = {
+    @Index(name = "idx_promo_report_promo_reporter", columnList = "promo_id, reporter_user_id"),
+    @Index(name = "idx_promo_report_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
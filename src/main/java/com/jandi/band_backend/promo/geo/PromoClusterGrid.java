@@ -0,0 +1,198 @@
+package com.jandi.band_backend.promo.geo;
+
+import com.jandi.band_backend.promo.geo.PromoGeoIndex.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 레벨별 지도 클러스터 사전 집계
+ * - 가장 세밀한 줌의 셀 인덱스를 비트 시프트해 상위 줌 셀을 구하므로 상위 셀은 하위 셀 4개와 정확히 포개짐
+ * - 공연 추가/삭제 시 모든 줌 레벨 셀의 개수, 좌표 합, 대표 공연만 갱신 (전체 재집계 없음)
+ * - 대표 공연이 빠지면 가장 세밀한 셀은 소속 공연에서, 상위 셀은 하위 셀 대표 공연에서 다시 선정
+ * 동기화는 PromoGeoIndex 의 락을 따름
+ */
+public class PromoClusterGrid {
+
+    public static final int MIN_ZOOM = 5;
+    public static final int MAX_ZOOM = 15;
+    static final int REPRESENTATIVE_COUNT = 3;
+
+    // 줌 0 에서 셀 한 변의 크기 (256px 타일 한 변 360° 의 1/4, 즉 64px 셀)
+    private static final double ZOOM0_CELL_DEGREES = 90.0;
+    private static final double FINEST_CELL_DEGREES = ZOOM0_CELL_DEGREES / (1 << MAX_ZOOM);
+
+    // 대표 공연은 최신 등록순
+    private static final Comparator<GeoPoint> REPRESENTATIVE_ORDER = Comparator.comparingLong(GeoPoint::createdAt)
+            .thenComparingInt(GeoPoint::id)
+            .reversed();
+
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+
+    public record Cluster(int count, double latitude, double longitude, List<Integer> promoIds) {
+    }
+
+    private static final class Cell {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private final List<GeoPoint> representatives = new ArrayList<>(REPRESENTATIVE_COUNT + 1);
+        // 가장 세밀한 줌 셀에만 소속 공연 보관
+        private final List<GeoPoint> points;
+
+        private Cell(boolean finest) {
+            this.points = finest ? new ArrayList<>() : null;
+        }
+
+        private Cluster toCluster() {
+            return new Cluster(count, latitudeSum / count, longitudeSum / count,
+                    representatives.stream().map(GeoPoint::id).toList());
+        }
+    }
+
+    PromoClusterGrid() {
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    void add(GeoPoint point) {
+        int latCell = finestCell(point.latitude());
+        int lngCell = finestCell(point.longitude());
+        for (int zoom = MAX_ZOOM; zoom >= MIN_ZOOM; zoom--) {
+            int shift = MAX_ZOOM - zoom;
+            boolean finest = zoom == MAX_ZOOM;
+            Cell cell = level(zoom).computeIfAbsent(
+                    PromoGeoIndex.cellKey(latCell >> shift, lngCell >> shift), key -> new Cell(finest));
+            cell.count++;
+            cell.latitudeSum += point.latitude();
+            cell.longitudeSum += point.longitude();
+            if (finest) {
+                cell.points.add(point);
+            }
+            offerRepresentative(cell.representatives, point);
+        }
+    }
+
+    void remove(GeoPoint point) {
+        int latCell = finestCell(point.latitude());
+        int lngCell = finestCell(point.longitude());
+        // 하위 셀부터 갱신해야 상위 셀이 갱신된 하위 대표 공연으로 다시 선정 가능
+        for (int zoom = MAX_ZOOM; zoom >= MIN_ZOOM; zoom--) {
+            int shift = MAX_ZOOM - zoom;
+            int latIndex = latCell >> shift;
+            int lngIndex = lngCell >> shift;
+            long key = PromoGeoIndex.cellKey(latIndex, lngIndex);
+            Cell cell = level(zoom).get(key);
+            if (cell == null) {
+                continue;
+            }
+            if (--cell.count == 0) {
+                level(zoom).remove(key);
+                continue;
+            }
+            cell.latitudeSum -= point.latitude();
+            cell.longitudeSum -= point.longitude();
+            if (cell.points != null) {
+                cell.points.removeIf(p -> p.id() == point.id());
+            }
+            if (cell.representatives.removeIf(p -> p.id() == point.id())) {
+                refillRepresentatives(zoom, latIndex, lngIndex, cell);
+            }
+        }
+    }
+
+    /**
+     * 영역과 겹치는 셀의 클러스터 반환 (셀 단위 집계이므로 경계 셀은 영역 밖 공연도 포함)
+     */
+    List<Cluster> clusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        int clampedZoom = clampZoom(zoom);
+        int shift = MAX_ZOOM - clampedZoom;
+        int latLo = finestCell(minLat) >> shift;
+        int latHi = finestCell(maxLat) >> shift;
+        int lngLo = finestCell(minLng) >> shift;
+        int lngHi = finestCell(maxLng) >> shift;
+        Map<Long, Cell> cells = level(clampedZoom);
+
+        List<Cluster> clusters = new ArrayList<>();
+        long viewportCells = (long) (latHi - latLo + 1) * (lngHi - lngLo + 1);
+        if (viewportCells <= cells.size()) {
+            for (int latIndex = latLo; latIndex <= latHi; latIndex++) {
+                for (int lngIndex = lngLo; lngIndex <= lngHi; lngIndex++) {
+                    Cell cell = cells.get(PromoGeoIndex.cellKey(latIndex, lngIndex));
+                    if (cell != null) {
+                        clusters.add(cell.toCluster());
+                    }
+                }
+            }
+        } else {
+            // 영역이 넓으면 비어 있지 않은 셀만 순회
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int latIndex = (int) (entry.getKey() >> 32);
+                int lngIndex = (int) (long) entry.getKey();
+                if (latIndex >= latLo && latIndex <= latHi && lngIndex >= lngLo && lngIndex <= lngHi) {
+                    clusters.add(entry.getValue().toCluster());
+                }
+            }
+        }
+        clusters.sort(Comparator.comparingInt(Cluster::count).reversed());
+        return clusters;
+    }
+
+    int cellCount(int zoom) {
+        return level(clampZoom(zoom)).size();
+    }
+
+    static int clampZoom(int zoom) {
+        return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+    }
+
+    private Map<Long, Cell> level(int zoom) {
+        return levels.get(zoom - MIN_ZOOM);
+    }
+
+    // 상위 셀의 최신 N개는 하위 셀 4개 각각의 최신 N개 안에 반드시 포함됨
+    private void refillRepresentatives(int zoom, int latIndex, int lngIndex, Cell cell) {
+        Collection<GeoPoint> candidates;
+        if (cell.points != null) {
+            candidates = cell.points;
+        } else {
+            candidates = new ArrayList<>();
+            Map<Long, Cell> children = level(zoom + 1);
+            for (int latChild = latIndex << 1; latChild <= (latIndex << 1) + 1; latChild++) {
+                for (int lngChild = lngIndex << 1; lngChild <= (lngIndex << 1) + 1; lngChild++) {
+                    Cell child = children.get(PromoGeoIndex.cellKey(latChild, lngChild));
+                    if (child != null) {
+                        candidates.addAll(child.representatives);
+                    }
+                }
+            }
+        }
+        cell.representatives.clear();
+        for (GeoPoint candidate : candidates) {
+            offerRepresentative(cell.representatives, candidate);
+        }
+    }
+
+    private static void offerRepresentative(List<GeoPoint> representatives, GeoPoint point) {
+        int position = 0;
+        while (position < representatives.size()
+                && REPRESENTATIVE_ORDER.compare(representatives.get(position), point) < 0) {
+            position++;
+        }
+        if (position < REPRESENTATIVE_COUNT) {
+            representatives.add(position, point);
+            if (representatives.size() > REPRESENTATIVE_COUNT) {
+                representatives.remove(REPRESENTATIVE_COUNT);
+            }
+        }
+    }
+
+    private static int finestCell(double degrees) {
+        return (int) Math.floor(degrees / FINEST_CELL_DEGREES);
+    }
+}
@@ -0,0 +1,467 @@
+package com.jandi.band_backend.promo.geo;
+
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoGeoRow;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공연 홍보 지도 검색용 인메모리 격자(grid) 공간 색인
+ * - 위경도를 고정 크기 격자 셀로 나눠 셀 단위로 후보를 찾고, 경계 셀만 좌표를 다시 확인
+ * - 화면 영역이 넓어 셀 수가 많으면 비어 있지 않은 셀만 순회하므로 넓은 영역도 전체 스캔보다 빠름
+ * - 정렬 키(id, createdAt, eventDatetime)를 함께 보관해 요청 페이지까지만 힙으로 선별
+ * - 같은 락 안에서 줌 레벨별 클러스터 집계(PromoClusterGrid)도 함께 갱신
+ * - 근처 공연 검색은 중심 셀부터 링 단위로 넓혀 가며, 남은 링의 최소 거리가 현재 k 번째 거리보다 멀면 중단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromoGeoIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 약 5.5km (위도 기준)
+    static final double CELL_SIZE_DEGREES = 0.05;
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt", "eventDatetime");
+
+    private final PromoRepository promoRepository;
+
+    private final Map<Long, List<GeoPoint>> cells = new HashMap<>();
+    private final Map<Integer, GeoPoint> points = new HashMap<>();
+    private PromoClusterGrid clusterGrid = new PromoClusterGrid();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    /**
+     * 근처 공연 검색 결과 (거리 오름차순, 같은 거리면 ID 오름차순) - 다음 페이지 커서로도 사용
+     */
+    public record Nearby(int id, double distanceMeters) implements Comparable<Nearby> {
+
+        @Override
+        public int compareTo(Nearby other) {
+            int compared = Double.compare(distanceMeters, other.distanceMeters);
+            return compared != 0 ? compared : Integer.compare(id, other.id);
+        }
+    }
+
+    record GeoPoint(int id, double latitude, double longitude, long createdAt, long eventDatetime) {
+
+        static GeoPoint of(Promo promo) {
+            if (promo.getLatitude() == null || promo.getLongitude() == null || promo.getDeletedAt() != null) {
+                return null;
+            }
+            return new GeoPoint(
+                    promo.getId(),
+                    promo.getLatitude().doubleValue(),
+                    promo.getLongitude().doubleValue(),
+                    epochMillis(promo.getCreatedAt()),
+                    epochMillis(promo.getEventDatetime()));
+        }
+
+        long cellKey() {
+            return PromoGeoIndex.cellKey(cellOf(latitude), cellOf(longitude));
+        }
+
+        static long epochMillis(LocalDateTime dateTime) {
+            return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB 에서 색인 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, List<GeoPoint>> newCells = new HashMap<>();
+        Map<Integer, GeoPoint> newPoints = new HashMap<>();
+        PromoClusterGrid newClusterGrid = new PromoClusterGrid();
+
+        int lastId = 0;
+        List<Promo> batch;
+        do {
+            batch = promoRepository.findNotDeletedAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Promo promo : batch) {
+                GeoPoint point = GeoPoint.of(promo);
+                if (point != null) {
+                    newPoints.put(point.id(), point);
+                    newCells.computeIfAbsent(point.cellKey(), key -> new ArrayList<>()).add(point);
+                    newClusterGrid.add(point);
+                }
+                lastId = promo.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cells.putAll(newCells);
+            points.clear();
+            points.putAll(newPoints);
+            clusterGrid = newClusterGrid;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("공연 홍보 지도 색인 재구성 완료: points={}, cells={}, elapsed={}ms",
+                newPoints.size(), newCells.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인에서 처리할 수 있는 정렬 조건인지 확인 (그 외 정렬은 DB 조회)
+     */
+    public boolean supports(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * 공연 홍보 색인 추가/갱신 (트랜잭션 커밋 후 반영)
+     */
+    public void index(Promo promo) {
+        Integer promoId = promo.getId();
+        GeoPoint point = GeoPoint.of(promo);
+        TransactionSyncUtil.runAfterCommit(() -> {
+            if (point != null) {
+                put(point);
+            } else {
+                delete(promoId);
+            }
+        });
+    }
+
+    /**
+     * 공연 홍보 색인 제거 (트랜잭션 커밋 후 반영)
+     */
+    public void remove(Integer promoId) {
+        TransactionSyncUtil.runAfterCommit(() -> delete(promoId));
+    }
+
+    /**
+     * 영역 내 공연 홍보 ID 페이지 반환 (경계 포함)
+     */
+    public Page<Integer> search(double minLat, double maxLat, double minLng, double maxLng, Pageable pageable) {
+        Comparator<GeoPoint> order = comparator(pageable.getSort());
+        // 정렬상 가장 뒤에 오는 항목이 head 인 힙 (상위 limit 개만 유지)
+        Comparator<GeoPoint> reversed = order.reversed();
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        PriorityQueue<GeoPoint> topMatches = new PriorityQueue<>(reversed);
+        long[] total = new long[1];
+
+        int latLo = cellOf(minLat);
+        int latHi = cellOf(maxLat);
+        int lngLo = cellOf(minLng);
+        int lngHi = cellOf(maxLng);
+
+        lock.readLock().lock();
+        try {
+            CellVisitor visitor = (latCell, lngCell, cellPoints) -> {
+                boolean inner = latCell > latLo && latCell < latHi && lngCell > lngLo && lngCell < lngHi;
+                for (GeoPoint point : cellPoints) {
+                    if (!inner && (point.latitude() < minLat || point.latitude() > maxLat
+                            || point.longitude() < minLng || point.longitude() > maxLng)) {
+                        continue;
+                    }
+                    total[0]++;
+                    if (topMatches.size() < limit) {
+                        topMatches.add(point);
+                    } else if (limit > 0 && order.compare(point, topMatches.peek()) < 0) {
+                        topMatches.poll();
+                        topMatches.add(point);
+                    }
+                }
+            };
+
+            long viewportCells = (long) (latHi - latLo + 1) * (lngHi - lngLo + 1);
+            if (viewportCells <= cells.size()) {
+                for (int latCell = latLo; latCell <= latHi; latCell++) {
+                    for (int lngCell = lngLo; lngCell <= lngHi; lngCell++) {
+                        List<GeoPoint> cellPoints = cells.get(cellKey(latCell, lngCell));
+                        if (cellPoints != null) {
+                            visitor.visit(latCell, lngCell, cellPoints);
+                        }
+                    }
+                }
+            } else {
+                // 영역이 넓으면 비어 있지 않은 셀만 순회
+                for (Map.Entry<Long, List<GeoPoint>> entry : cells.entrySet()) {
+                    int latCell = (int) (entry.getKey() >> 32);
+                    int lngCell = (int) (long) entry.getKey();
+                    if (latCell >= latLo && latCell <= latHi && lngCell >= lngLo && lngCell <= lngHi) {
+                        visitor.visit(latCell, lngCell, entry.getValue());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<GeoPoint> ranked = new ArrayList<>(topMatches);
+        ranked.sort(order);
+        int start = (int) Math.min(pageable.getOffset(), ranked.size());
+        List<Integer> pageIds = ranked.subList(start, ranked.size()).stream()
+                .map(GeoPoint::id)
+                .toList();
+        return new PageImpl<>(pageIds, pageable, total[0]);
+    }
+
+    /**
+     * 영역과 겹치는 지도 클러스터 반환 (개수 내림차순)
+     * 줌 레벨은 PromoClusterGrid.MIN_ZOOM ~ MAX_ZOOM 범위로 보정
+     */
+    public List<PromoClusterGrid.Cluster> clusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        lock.readLock().lock();
+        try {
+            return clusterGrid.clusters(minLat, maxLat, minLng, maxLng, zoom);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순으로 반경 내 공연 반환
+     * - eventFrom 이후 공연만, after 가 있으면 그 다음 순서부터 limit 개
+     * - 방문한 셀의 공연만 거리 계산 (반경 경계 상자 밖 공연은 거리 계산 없이 제외)
+     */
+    public List<Nearby> nearest(double latitude, double longitude, double radiusMeters,
+                                LocalDateTime eventFrom, Nearby after, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long eventFromMillis = GeoPoint.epochMillis(eventFrom);
+        RadiusBounds bounds = RadiusBounds.of(latitude, longitude, radiusMeters);
+
+        int centerLat = cellOf(latitude);
+        int centerLng = cellOf(longitude);
+        int latLo = cellOf(bounds.minLat());
+        int latHi = cellOf(bounds.maxLat());
+        int lngLo = cellOf(bounds.minLng());
+        int lngHi = cellOf(bounds.maxLng());
+        int maxRing = Math.max(Math.max(centerLat - latLo, latHi - centerLat), Math.max(centerLng - lngLo, lngHi - centerLng));
+
+        // 가장 먼 항목이 head 인 힙 (가까운 limit 개만 유지)
+        PriorityQueue<Nearby> nearest = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= maxRing; ring++) {
+                if (nearest.size() == limit && ringLowerBoundMeters(ring, bounds.cosMaxLat()) > nearest.peek().distanceMeters()) {
+                    break;
+                }
+                for (int latCell = centerLat - ring; latCell <= centerLat + ring; latCell++) {
+                    // 링의 위/아래 변은 전체, 나머지 행은 좌우 끝 셀만 방문
+                    int step = (latCell == centerLat - ring || latCell == centerLat + ring) ? 1 : Math.max(1, 2 * ring);
+                    for (int lngCell = centerLng - ring; lngCell <= centerLng + ring; lngCell += step) {
+                        if (latCell < latLo || latCell > latHi || lngCell < lngLo || lngCell > lngHi) {
+                            continue;
+                        }
+                        List<GeoPoint> cellPoints = cells.get(cellKey(latCell, lngCell));
+                        if (cellPoints == null) {
+                            continue;
+                        }
+                        for (GeoPoint point : cellPoints) {
+                            if (point.eventDatetime() < eventFromMillis || !bounds.contains(point.latitude(), point.longitude())) {
+                                continue;
+                            }
+                            offer(nearest, point.id(), latitude, longitude, point.latitude(), point.longitude(),
+                                    radiusMeters, after, limit);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sorted(nearest);
+    }
+
+    /**
+     * 색인 재구성 전 근처 공연 검색 - nearest 와 같은 결과를 DB 에서 계산
+     * - 반경 경계 상자 안의 공연 좌표만 읽어 거리 계산
+     */
+    public List<Nearby> nearestFromDatabase(double latitude, double longitude, double radiusMeters,
+                                            LocalDateTime eventFrom, Nearby after, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        RadiusBounds bounds = RadiusBounds.of(latitude, longitude, radiusMeters);
+        List<PromoGeoRow> rows = promoRepository.findGeoRowsInArea(
+                BigDecimal.valueOf(bounds.minLat()), BigDecimal.valueOf(bounds.maxLat()),
+                BigDecimal.valueOf(bounds.minLng()), BigDecimal.valueOf(bounds.maxLng()), eventFrom);
+
+        PriorityQueue<Nearby> nearest = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+        for (PromoGeoRow row : rows) {
+            offer(nearest, row.id(), latitude, longitude, row.latitude().doubleValue(), row.longitude().doubleValue(),
+                    radiusMeters, after, limit);
+        }
+        return sorted(nearest);
+    }
+
+    // 반경 안이고 커서 뒤인 후보만 힙에 넣고, 가까운 limit 개만 유지
+    private static void offer(PriorityQueue<Nearby> nearest, int id, double latitude, double longitude,
+                              double pointLatitude, double pointLongitude, double radiusMeters, Nearby after, int limit) {
+        double distance = haversineMeters(latitude, longitude, pointLatitude, pointLongitude);
+        if (distance > radiusMeters) {
+            return;
+        }
+        Nearby candidate = new Nearby(id, distance);
+        if (after != null && candidate.compareTo(after) <= 0) {
+            return;
+        }
+        if (nearest.size() < limit) {
+            nearest.add(candidate);
+        } else if (candidate.compareTo(nearest.peek()) < 0) {
+            nearest.poll();
+            nearest.add(candidate);
+        }
+    }
+
+    private static List<Nearby> sorted(PriorityQueue<Nearby> nearest) {
+        List<Nearby> result = new ArrayList<>(nearest);
+        result.sort(Comparator.naturalOrder());
+        return result;
+    }
+
+    // 반경 경계 상자 - 경도 폭은 상자 안에서 가장 높은 위도 기준 (그 위도에서 경도 1도가 가장 짧음)
+    private record RadiusBounds(double minLat, double maxLat, double minLng, double maxLng, double cosMaxLat) {
+
+        static RadiusBounds of(double latitude, double longitude, double radiusMeters) {
+            double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+            double maxAbsLat = Math.min(90.0, Math.abs(latitude) + latDelta);
+            double cosMaxLat = Math.cos(Math.toRadians(maxAbsLat));
+            double lngDelta = cosMaxLat > 1e-9
+                    ? Math.min(180.0, Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * cosMaxLat)))
+                    : 180.0;
+            return new RadiusBounds(latitude - latDelta, latitude + latDelta,
+                    longitude - lngDelta, longitude + lngDelta, cosMaxLat);
+        }
+
+        boolean contains(double latitude, double longitude) {
+            return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(GeoPoint point) {
+        lock.writeLock().lock();
+        try {
+            removePoint(point.id());
+            points.put(point.id(), point);
+            cells.computeIfAbsent(point.cellKey(), key -> new ArrayList<>()).add(point);
+            clusterGrid.add(point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete(Integer promoId) {
+        lock.writeLock().lock();
+        try {
+            removePoint(promoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePoint(Integer promoId) {
+        GeoPoint previous = points.remove(promoId);
+        if (previous == null) {
+            return;
+        }
+        clusterGrid.remove(previous);
+        long key = previous.cellKey();
+        List<GeoPoint> cellPoints = cells.get(key);
+        if (cellPoints != null) {
+            cellPoints.removeIf(point -> point.id() == promoId);
+            if (cellPoints.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    // 정렬 조건이 없으면 최신 등록순
+    private Comparator<GeoPoint> comparator(Sort sort) {
+        Comparator<GeoPoint> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<GeoPoint> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparingLong(GeoPoint::createdAt);
+                case "eventDatetime" -> Comparator.comparingLong(GeoPoint::eventDatetime);
+                default -> Comparator.comparingInt(GeoPoint::id);
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator == null) {
+            comparator = Comparator.comparingLong(GeoPoint::createdAt).reversed();
+        }
+        // 동점이면 ID 내림차순으로 순서 고정
+        return comparator.thenComparing(Comparator.comparingInt(GeoPoint::id).reversed());
+    }
+
+    static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 링 r 의 셀은 중심 셀과 위도 또는 경도로 (r - 1) 셀 이상 떨어져 있음
+    // hav(d) >= cos²(최대 위도) * hav(경도 차) 이고 위도 차 쪽 하한은 이보다 크므로 경도 쪽 하한만 사용
+    private static double ringLowerBoundMeters(int ring, double cosMaxLat) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double gap = Math.toRadians((ring - 1) * CELL_SIZE_DEGREES);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, cosMaxLat * Math.sin(gap / 2)));
+    }
+
+    static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor {
+        void visit(int latCell, int lngCell, List<GeoPoint> cellPoints);
+    }
+}
@@ -1,26 +1,40 @@
 package com.jandi.band_backend.promo.repository;
 
-import com.jandi.band_backend.promo.entity.PromoComment;
 import com.jandi.band_backend.promo.entity.PromoCommentLike;
-import com.jandi.band_backend.user.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PromoCommentLikeRepository extends JpaRepository<PromoCommentLike, Integer> {
     
-    @Query("SELECT pcl FROM PromoCommentLike pcl WHERE pcl.promoComment = :promoComment AND pcl.user = :user")
-    Optional<PromoCommentLike> findByPromoCommentAndUser(@Param("promoComment") PromoComment promoComment, @Param("user") Users user);
-    
-    @Query("SELECT COUNT(pcl) FROM PromoCommentLike pcl WHERE pcl.promoComment = :promoComment")
-    Integer countByPromoComment(@Param("promoComment") PromoComment promoComment);
-    
-    boolean existsByPromoCommentAndUser(PromoComment promoComment, Users user);
+    // 삭제되지 않은 댓글에 대한 좋아요 여부 (쿼리 1회)
+    @Query("SELECT COUNT(pcl) > 0 FROM PromoCommentLike pcl " +
+           "WHERE pcl.promoComment.id = :commentId AND pcl.user.id = :userId AND pcl.promoComment.deletedAt IS NULL")
+    boolean existsByCommentIdAndUserId(@Param("commentId") Integer commentId, @Param("userId") Integer userId);
+
+    // 댓글 페이지의 좋아요 상태 일괄 조회
+    @Query("SELECT pcl.promoComment.id FROM PromoCommentLike pcl WHERE pcl.user.id = :userId AND pcl.promoComment.id IN :commentIds")
+    List<Integer> findLikedCommentIds(@Param("userId") Integer userId, @Param("commentIds") Collection<Integer> commentIds);
+
+    // 좋아요 취소 - 실제로 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM PromoCommentLike pcl WHERE pcl.promoComment.id = :commentId AND pcl.user.id = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Integer commentId, @Param("userId") Integer userId);
+
+    // 좋아요 추가 - 이미 있으면 추가하지 않음, 실제로 추가된 행 수 반환
+    // 같은 사용자의 동시 요청은 (promo_comment_id, user_id) 유니크 제약이 최종적으로 막음
+    @Modifying
+    @Query(value = "INSERT INTO promo_comment_like (promo_comment_id, user_id, created_at) " +
+                   "SELECT :commentId, :userId, CURRENT_TIMESTAMP FROM DUAL " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM promo_comment_like WHERE promo_comment_id = :commentId AND user_id = :userId)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Integer commentId, @Param("userId") Integer userId);
 
     @Modifying
     @Query("DELETE FROM PromoCommentLike pcl WHERE pcl.user.id = :userId")
@@ -1,16 +1,39 @@
 package com.jandi.band_backend.promo.repository;
 
 import com.jandi.band_backend.promo.entity.PromoCommentReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface PromoCommentReportRepository extends JpaRepository<PromoCommentReport, Integer> {
 
     @Modifying
     @Query(value = "UPDATE promo_comment_report SET reporter_user_id = -1 WHERE reporter_user_id = :userId", nativeQuery = true)
     int anonymizeByReporterId(@Param("userId") Integer userId);
+
+    // 같은 사용자가 같은 댓글을 이미 신고했으면 추가하지 않음 (추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT INTO promo_comment_report (promo_comment_id, reporter_user_id, report_reason_id, description, created_at) " +
+                   "SELECT :commentId, :reporterId, :reportReasonId, :description, :createdAt FROM DUAL " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM promo_comment_report " +
+                   "WHERE promo_comment_id = :commentId AND reporter_user_id = :reporterId)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Integer commentId,
+                       @Param("reporterId") Integer reporterId,
+                       @Param("reportReasonId") Integer reportReasonId,
+                       @Param("description") String description,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    // 신고 목록 - 댓글/공연 홍보/댓글 작성자/신고자/신고 이유를 한 번에 조회 (모두 다대일이므로 DB 에서 페이징)
+    @Query(value = "SELECT pcr FROM PromoCommentReport pcr JOIN FETCH pcr.promoComment pc JOIN FETCH pc.promo " +
+                   "JOIN FETCH pc.creator JOIN FETCH pcr.reporter JOIN FETCH pcr.reportReason",
+           countQuery = "SELECT COUNT(pcr) FROM PromoCommentReport pcr")
+    Page<PromoCommentReport> findPageWithDetails(Pageable pageable);
 }
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -18,11 +19,52 @@ public interface PromoCommentRepository extends JpaRepository<PromoComment, Inte
     @Query("SELECT pc FROM PromoComment pc WHERE pc.deletedAt IS NULL AND pc.id = :id")
     Optional<PromoComment> findByIdAndNotDeleted(@Param("id") Integer id);
     
-    @Query("SELECT pc FROM PromoComment pc WHERE pc.deletedAt IS NULL AND pc.promo = :promo ORDER BY pc.createdAt ASC")
+    // 작성자를 함께 조회 (댓글마다 작성자 지연 로딩 방지)
+    @Query(value = "SELECT pc FROM PromoComment pc JOIN FETCH pc.creator WHERE pc.deletedAt IS NULL AND pc.promo = :promo ORDER BY pc.createdAt ASC",
+           countQuery = "SELECT COUNT(pc) FROM PromoComment pc WHERE pc.deletedAt IS NULL AND pc.promo = :promo")
     Page<PromoComment> findByPromoAndNotDeleted(@Param("promo") Promo promo, Pageable pageable);
     
-    @Query("SELECT COUNT(pc) FROM PromoComment pc WHERE pc.deletedAt IS NULL AND pc.promo = :promo")
-    Integer countByPromoAndNotDeleted(@Param("promo") Promo promo);
+    // 소프트 삭제 - 이미 삭제된 댓글이면 0 반환 (동시 삭제 시 댓글 수를 한 번만 줄이기 위함)
+    @Modifying
+    @Query("UPDATE PromoComment pc SET pc.deletedAt = :deletedAt WHERE pc.id = :id AND pc.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Integer id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("UPDATE PromoComment pc SET pc.likeCount = pc.likeCount + 1 WHERE pc.id = :commentId")
+    void incrementLikeCount(@Param("commentId") Integer commentId);
+
+    @Modifying
+    @Query("UPDATE PromoComment pc SET pc.likeCount = pc.likeCount - 1 WHERE pc.id = :commentId AND pc.likeCount > 0")
+    void decrementLikeCount(@Param("commentId") Integer commentId);
+
+    // 회원 탈퇴 - 사용자가 좋아요를 누른 댓글들의 좋아요 수를 한 번에 감소 (좋아요 행 삭제 전에 호출)
+    @Modifying
+    @Query("UPDATE PromoComment pc SET pc.likeCount = pc.likeCount - 1 WHERE pc.likeCount > 0 " +
+           "AND pc.id IN (SELECT pcl.promoComment.id FROM PromoCommentLike pcl WHERE pcl.user.id = :userId)")
+    int decrementLikeCountsLikedByUser(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query("UPDATE PromoComment pc SET pc.reportCount = pc.reportCount + 1, pc.lastReportedAt = :reportedAt " +
+           "WHERE pc.id = :commentId")
+    void incrementReportCount(@Param("commentId") Integer commentId, @Param("reportedAt") LocalDateTime reportedAt);
+
+    // 신고 수가 기준 이상이고 아직 삭제되지 않은 경우에만 숨김 (동시 신고 중 한 요청만 1 반환)
+    @Modifying
+    @Query("UPDATE PromoComment pc SET pc.hiddenAt = :hiddenAt, pc.deletedAt = :hiddenAt " +
+           "WHERE pc.id = :commentId AND pc.deletedAt IS NULL AND pc.reportCount >= :threshold")
+    int hideIfReportedAtLeast(@Param("commentId") Integer commentId,
+                              @Param("threshold") int threshold,
+                              @Param("hiddenAt") LocalDateTime hiddenAt);
+
+    // 신고 검토 대기열 - 정렬은 (report_count, last_reported_at) / last_reported_at 인덱스 순서로 읽음
+    // 작성자가 직접 삭제한 댓글은 제외하고, 신고로 숨겨진 댓글은 포함
+    @Query(value = "SELECT new com.jandi.band_backend.promo.repository.PromoModerationRow(" +
+                   "pc.id, p.id, pc.description, c.id, c.nickname, pc.reportCount, pc.lastReportedAt, pc.hiddenAt) " +
+                   "FROM PromoComment pc JOIN pc.promo p JOIN pc.creator c " +
+                   "WHERE pc.reportCount > 0 AND (pc.deletedAt IS NULL OR pc.hiddenAt IS NOT NULL)",
+           countQuery = "SELECT COUNT(pc) FROM PromoComment pc " +
+                        "WHERE pc.reportCount > 0 AND (pc.deletedAt IS NULL OR pc.hiddenAt IS NOT NULL)")
+    Page<PromoModerationRow> findModerationQueue(Pageable pageable);
 
     @Modifying
     @Query(value = "UPDATE promo_comment SET creator_user_id = -1 WHERE creator_user_id = :userId", nativeQuery = true)
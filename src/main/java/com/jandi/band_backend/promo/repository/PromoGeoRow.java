@@ -0,0 +1,12 @@
+package com.jandi.band_backend.promo.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 근처 공연 DB 조회용 프로젝션 (지도 색인 재구성 전 거리 계산에 필요한 좌표만)
+ */
+public record PromoGeoRow(
+        Integer id,
+        BigDecimal latitude,
+        BigDecimal longitude) {
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,24 @@ public interface PromoLikeRepository extends JpaRepository<PromoLike, Integer> {
     @Query("SELECT pl.promo.id FROM PromoLike pl WHERE pl.user.id = :userId")
     List<Integer> findPromoIdsByUserId(@Param("userId") Integer userId);
 
+    // 목록 페이지의 좋아요 상태 일괄 조회
+    @Query("SELECT pl.promo.id FROM PromoLike pl WHERE pl.user.id = :userId AND pl.promo.id IN :promoIds")
+    List<Integer> findLikedPromoIds(@Param("userId") Integer userId, @Param("promoIds") Collection<Integer> promoIds);
+
+    // 좋아요 취소 - 실제로 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM PromoLike pl WHERE pl.promo.id = :promoId AND pl.user.id = :userId")
+    int deleteByPromoIdAndUserId(@Param("promoId") Integer promoId, @Param("userId") Integer userId);
+
+    // 좋아요 추가 - 이미 있으면 추가하지 않음, 실제로 추가된 행 수 반환
+    // 같은 사용자의 동시 요청은 (promo_id, user_id) 유니크 제약이 최종적으로 막음
+    @Modifying
+    @Query(value = "INSERT INTO promo_like (promo_id, user_id, created_at) " +
+                   "SELECT :promoId, :userId, CURRENT_TIMESTAMP FROM DUAL " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM promo_like WHERE promo_id = :promoId AND user_id = :userId)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("promoId") Integer promoId, @Param("userId") Integer userId);
+
     @Modifying
     @Query("DELETE FROM PromoLike pl WHERE pl.user.id = :userId")
     int deleteByUserId(@Param("userId") Integer userId);
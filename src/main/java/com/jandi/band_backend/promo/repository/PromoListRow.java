@@ -0,0 +1,31 @@
+package com.jandi.band_backend.promo.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 공연 홍보 목록 조회용 프로젝션
+ * - 목록 응답에 필요한 컬럼만 promo, users(닉네임), promo_photo(첫 번째 사진과 썸네일) 에서 한 행으로 읽음
+ * - 엔티티를 로드하지 않으므로 작성자/사진 지연 로딩이 발생하지 않음
+ */
+public record PromoListRow(
+        Integer id,
+        String teamName,
+        Integer creatorId,
+        String creatorName,
+        String title,
+        BigDecimal admissionFee,
+        LocalDateTime eventDatetime,
+        String location,
+        String address,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        String description,
+        Integer viewCount,
+        Integer commentCount,
+        Integer likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String photoUrl,
+        String thumbnailUrl) {
+}
@@ -0,0 +1,18 @@
+package com.jandi.band_backend.promo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 검토 대기열 프로젝션 (공연 홍보 / 댓글 공통)
+ * - targetId: 신고 대상 ID (공연 홍보면 promoId 와 같음), content: 공연 홍보 제목 또는 댓글 내용
+ */
+public record PromoModerationRow(
+        Integer targetId,
+        Integer promoId,
+        String content,
+        Integer creatorId,
+        String creatorName,
+        Integer reportCount,
+        LocalDateTime lastReportedAt,
+        LocalDateTime hiddenAt) {
+}
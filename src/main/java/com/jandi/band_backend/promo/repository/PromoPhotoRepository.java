@@ -24,4 +24,13 @@ public interface PromoPhotoRepository extends JpaRepository<PromoPhoto, Integer>
     @Modifying
     @Query(value = "UPDATE promo_photo SET uploader_user_id = -1 WHERE uploader_user_id = :userId", nativeQuery = true)
     int anonymizeByUserId(@Param("userId") Integer userId);
+
+    // 이미지 변형 기록 - 생성 중 사진이 교체/삭제됐으면 갱신하지 않음
+    @Modifying
+    @Query("UPDATE PromoPhoto pp SET pp.thumbnailUrl = :thumbnailUrl, pp.displayUrl = :displayUrl " +
+           "WHERE pp.id = :id AND pp.imageUrl = :imageUrl AND pp.deletedAt IS NULL")
+    int updateDerivatives(@Param("id") Integer id,
+                          @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("displayUrl") String displayUrl);
 }
@@ -1,16 +1,38 @@
 package com.jandi.band_backend.promo.repository;
 
 import com.jandi.band_backend.promo.entity.PromoReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface PromoReportRepository extends JpaRepository<PromoReport, Integer> {
 
     @Modifying
     @Query(value = "UPDATE promo_report SET reporter_user_id = -1 WHERE reporter_user_id = :userId", nativeQuery = true)
     int anonymizeByReporterId(@Param("userId") Integer userId);
+
+    // 같은 사용자가 같은 공연 홍보를 이미 신고했으면 추가하지 않음 (추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT INTO promo_report (promo_id, reporter_user_id, report_reason_id, description, created_at) " +
+                   "SELECT :promoId, :reporterId, :reportReasonId, :description, :createdAt FROM DUAL " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM promo_report WHERE promo_id = :promoId AND reporter_user_id = :reporterId)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("promoId") Integer promoId,
+                       @Param("reporterId") Integer reporterId,
+                       @Param("reportReasonId") Integer reportReasonId,
+                       @Param("description") String description,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    // 신고 목록 - 공연 홍보/작성자/신고자/신고 이유를 한 번에 조회 (모두 다대일이므로 DB 에서 페이징)
+    @Query(value = "SELECT pr FROM PromoReport pr JOIN FETCH pr.promo p JOIN FETCH p.creator " +
+                   "JOIN FETCH pr.reporter JOIN FETCH pr.reportReason",
+           countQuery = "SELECT COUNT(pr) FROM PromoReport pr")
+    Page<PromoReport> findPageWithDetails(Pageable pageable);
 }
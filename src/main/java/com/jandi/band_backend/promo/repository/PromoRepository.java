@@ -3,49 +3,79 @@ package com.jandi.band_backend.promo.repository;
 import com.jandi.band_backend.promo.entity.Promo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface PromoRepository extends JpaRepository<Promo, Integer> {
+public interface PromoRepository extends JpaRepository<Promo, Integer>, JpaSpecificationExecutor<Promo> {
     
-    @Query("SELECT p FROM Promo p LEFT JOIN FETCH p.photos WHERE p.deletedAt IS NULL")
+    // 컬렉션 fetch join 과 Pageable 을 함께 쓰면 LIMIT 없이 전체를 읽어 메모리에서 페이징하므로 사진은 별도 조회
+    @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL")
     Page<Promo> findAllNotDeleted(Pageable pageable);
     
     @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL AND p.club.id = :clubId")
     Page<Promo> findAllByClubId(@Param("clubId") Integer clubId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"photos"})
-    @Query("""
-    SELECT p FROM Promo p
+    // 목록 1단계 - 오늘 공연 → 예정 공연 → 지난 공연 순으로 ID 만 LIMIT 조회
+    // 오늘 여부는 DATE() 대신 [todayStart, tomorrowStart) 범위로 비교 (DB 함수 의존 제거)
+    // 공연 일시가 같은 홍보가 페이지 경계에서 중복/누락되지 않도록 ID 로 순서를 고정
+    @Query(value = """
+    SELECT p.id FROM Promo p
     WHERE p.deletedAt IS NULL
     ORDER BY
         CASE
-            WHEN FUNCTION('DATE', p.eventDatetime) = CURRENT_DATE THEN 0
-            WHEN FUNCTION('DATE', p.eventDatetime) > CURRENT_DATE THEN 1
+            WHEN p.eventDatetime >= :todayStart AND p.eventDatetime < :tomorrowStart THEN 0
+            WHEN p.eventDatetime >= :tomorrowStart THEN 1
             ELSE 2
         END,
-        p.eventDatetime ASC
-    """)
-    Page<Promo> findAllSortedByEventDatetime(Pageable pageable);
+        p.eventDatetime ASC,
+        p.id ASC
+    """, countQuery = "SELECT COUNT(p) FROM Promo p WHERE p.deletedAt IS NULL")
+    Page<Integer> findIdsSortedByEventDatetime(
+        @Param("todayStart") LocalDateTime todayStart,
+        @Param("tomorrowStart") LocalDateTime tomorrowStart,
+        Pageable pageable);
 
-    @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL AND function('DATE', p.eventDatetime ) > :today ORDER BY p.eventDatetime ASC")
-    Page<Promo> findUpcomingPromos(@Param("today") LocalDate today, Pageable pageable);
-    
-    @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL AND function('DATE', p.eventDatetime ) = :today ORDER BY p.eventDatetime ASC")
-    Page<Promo> findOngoingPromos(@Param("today") LocalDate today, Pageable pageable);
+    // 목록 2단계 - 페이지에 포함된 ID 만 목록 프로젝션으로 한 번에 조회 (엔티티 로드 없음, 페이징 없음)
+    // 사진은 삭제되지 않은 첫 번째 사진 (공연 홍보당 현재 사진은 하나) - 원본과 썸네일을 같은 조인으로 읽음
+    @Query("SELECT new com.jandi.band_backend.promo.repository.PromoListRow(" +
+           "p.id, p.teamName, c.id, c.nickname, p.title, p.admissionFee, p.eventDatetime, " +
+           "p.location, p.address, p.latitude, p.longitude, p.description, " +
+           "p.viewCount, p.commentCount, p.likeCount, p.createdAt, p.updatedAt, ph.imageUrl, ph.thumbnailUrl) " +
+           "FROM Promo p LEFT JOIN p.creator c " +
+           "LEFT JOIN PromoPhoto ph ON ph.id = " +
+           "(SELECT MIN(ph2.id) FROM PromoPhoto ph2 WHERE ph2.promo.id = p.id AND ph2.deletedAt IS NULL) " +
+           "WHERE p.deletedAt IS NULL AND p.id IN :ids")
+    List<PromoListRow> findListRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 피드 키셋 조회 - 공연 일시 구간 [from, until) 안에서 (eventDatetime, id) 가 커서보다 뒤인 행의 ID
+    // event_datetime 인덱스는 PK 를 포함하므로 (event_datetime, promo_id) 순으로 범위 탐색 후 LIMIT 에서 멈춤
+    // OR 조건만으로는 범위 탐색을 못 하는 옵티마이저를 위해 eventDatetime >= :afterDatetime 을 중복으로 명시
+    @Query("SELECT p.id FROM Promo p WHERE p.deletedAt IS NULL " +
+           "AND p.eventDatetime >= :from AND p.eventDatetime < :until AND p.eventDatetime >= :afterDatetime " +
+           "AND (p.eventDatetime > :afterDatetime OR (p.eventDatetime = :afterDatetime AND p.id > :afterId)) " +
+           "ORDER BY p.eventDatetime ASC, p.id ASC")
+    List<Integer> findFeedIdsAfter(
+        @Param("from") LocalDateTime from,
+        @Param("until") LocalDateTime until,
+        @Param("afterDatetime") LocalDateTime afterDatetime,
+        @Param("afterId") Integer afterId,
+        Pageable pageable);
+
+    // 피드 키셋 조회 - 공연 일시가 없는 공연의 ID
+    @Query("SELECT p.id FROM Promo p WHERE p.deletedAt IS NULL AND p.eventDatetime IS NULL AND p.id > :afterId " +
+           "ORDER BY p.id ASC")
+    List<Integer> findUnscheduledFeedIdsAfter(@Param("afterId") Integer afterId, Pageable pageable);
 
-    @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL AND function('DATE', p.eventDatetime ) < :today ORDER BY p.eventDatetime DESC")
-    Page<Promo> findEndedPromos(@Param("today") LocalDate today, Pageable pageable);
-    
     @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL AND p.creator.id = :userId")
     Page<Promo> findAllByCreatorId(@Param("userId") Integer userId, Pageable pageable);
     
@@ -60,6 +90,18 @@ public interface PromoRepository extends JpaRepository<Promo, Integer> {
            "LOWER(p.teamName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Promo> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    // 인기 순위 초기화용 ID 순차 조회 - 최근 작성된 공연의 누적 반응 수만 읽음
+    @Query("SELECT new com.jandi.band_backend.promo.repository.PromoTrendingSeed(" +
+           "p.id, p.viewCount, p.likeCount, p.commentCount, p.createdAt) " +
+           "FROM Promo p WHERE p.deletedAt IS NULL AND p.createdAt >= :since AND p.id > :lastId ORDER BY p.id ASC")
+    List<PromoTrendingSeed> findTrendingSeedsAfterId(@Param("since") LocalDateTime since,
+                                                     @Param("lastId") Integer lastId,
+                                                     Pageable pageable);
+
+    // 검색 색인 재구성용 ID 순차 조회
+    @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL AND p.id > :lastId ORDER BY p.id ASC")
+    List<Promo> findNotDeletedAfterId(@Param("lastId") Integer lastId, Pageable pageable);
+
     // 필터링 (팀명과 클럽ID 모두 지원)
     @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL " +
            "AND (:startDate IS NULL OR p.eventDatetime >= :startDate) " +
@@ -97,29 +139,82 @@ public interface PromoRepository extends JpaRepository<Promo, Integer> {
             Pageable pageable
     );
 
+    // 근처 공연 - 지도 색인 재구성 전에는 반경 경계 상자 안의 좌표만 읽어 거리 계산
+    @Query("SELECT new com.jandi.band_backend.promo.repository.PromoGeoRow(p.id, p.latitude, p.longitude) " +
+            "FROM Promo p " +
+            "WHERE p.latitude BETWEEN :minLat AND :maxLat " +
+            "AND p.longitude BETWEEN :minLng AND :maxLng " +
+            "AND p.eventDatetime >= :eventFrom " +
+            "AND p.deletedAt IS NULL")
+    List<PromoGeoRow> findGeoRowsInArea(
+            @Param("minLat") BigDecimal minLat,
+            @Param("maxLat") BigDecimal maxLat,
+            @Param("minLng") BigDecimal minLng,
+            @Param("maxLng") BigDecimal maxLng,
+            @Param("eventFrom") LocalDateTime eventFrom
+    );
+
     @Modifying
     @Query(value = "UPDATE promo SET creator_user_id = -1 WHERE creator_user_id = :userId", nativeQuery = true)
     int anonymizeByCreatorId(@Param("userId") Integer userId);
 
+    @Modifying
+    @Query("UPDATE Promo p SET p.likeCount = p.likeCount + 1 WHERE p.id = :promoId")
+    void incrementLikeCount(@Param("promoId") Integer promoId);
+
     @Modifying
     @Query("UPDATE Promo p SET p.likeCount = p.likeCount - 1 WHERE p.id = :promoId AND p.likeCount > 0")
     void decrementLikeCount(@Param("promoId") Integer promoId);
 
-    // 상태별 필터링 + 키워드/팀명 조건
-    @Query("SELECT p FROM Promo p WHERE p.deletedAt IS NULL " +
-           "AND (:status = 'ongoing' AND p.eventDatetime = :now) " +
-           "OR (:status = 'upcoming' AND p.eventDatetime > :now) " +
-           "OR (:status = 'ended' AND p.eventDatetime < :now) " +
-           "AND (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(p.location) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(p.teamName) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND (:teamName IS NULL OR LOWER(p.teamName) LIKE LOWER(CONCAT('%', :teamName, '%'))) " +
-           "ORDER BY p.eventDatetime ASC")
-    Page<Promo> filterPromosByStatusAndConditions(
-        @Param("status") String status,
-        @Param("keyword") String keyword,
-        @Param("teamName") String teamName,
-        @Param("now") LocalDateTime now,
-        Pageable pageable);
+    // 좋아요 수 보정 - promo_like 기준으로 다시 계산해 어긋난 행만 수정
+    @Modifying
+    @Query(value = "UPDATE promo p SET p.like_count = " +
+                   "(SELECT COUNT(*) FROM promo_like pl WHERE pl.promo_id = p.promo_id) " +
+                   "WHERE p.promo_id BETWEEN :fromId AND :toId " +
+                   "AND p.like_count <> (SELECT COUNT(*) FROM promo_like pl WHERE pl.promo_id = p.promo_id)",
+           nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    @Modifying
+    @Query("UPDATE Promo p SET p.commentCount = p.commentCount + 1 WHERE p.id = :promoId")
+    void incrementCommentCount(@Param("promoId") Integer promoId);
+
+    @Modifying
+    @Query("UPDATE Promo p SET p.commentCount = p.commentCount - 1 WHERE p.id = :promoId AND p.commentCount > 0")
+    void decrementCommentCount(@Param("promoId") Integer promoId);
+
+    @Modifying
+    @Query("UPDATE Promo p SET p.reportCount = p.reportCount + 1, p.lastReportedAt = :reportedAt WHERE p.id = :promoId")
+    void incrementReportCount(@Param("promoId") Integer promoId, @Param("reportedAt") LocalDateTime reportedAt);
+
+    // 신고 수가 기준 이상이고 아직 삭제되지 않은 경우에만 숨김 (동시 신고 중 한 요청만 1 반환)
+    @Modifying
+    @Query("UPDATE Promo p SET p.hiddenAt = :hiddenAt, p.deletedAt = :hiddenAt " +
+           "WHERE p.id = :promoId AND p.deletedAt IS NULL AND p.reportCount >= :threshold")
+    int hideIfReportedAtLeast(@Param("promoId") Integer promoId,
+                              @Param("threshold") int threshold,
+                              @Param("hiddenAt") LocalDateTime hiddenAt);
+
+    // 신고 검토 대기열 - 정렬은 (report_count, last_reported_at) / last_reported_at 인덱스 순서로 읽음
+    // 작성자가 직접 삭제한 공연은 제외하고, 신고로 숨겨진 공연은 포함
+    @Query(value = "SELECT new com.jandi.band_backend.promo.repository.PromoModerationRow(" +
+                   "p.id, p.id, p.title, c.id, c.nickname, p.reportCount, p.lastReportedAt, p.hiddenAt) " +
+                   "FROM Promo p JOIN p.creator c " +
+                   "WHERE p.reportCount > 0 AND (p.deletedAt IS NULL OR p.hiddenAt IS NOT NULL)",
+           countQuery = "SELECT COUNT(p) FROM Promo p " +
+                        "WHERE p.reportCount > 0 AND (p.deletedAt IS NULL OR p.hiddenAt IS NOT NULL)")
+    Page<PromoModerationRow> findModerationQueue(Pageable pageable);
+
+    // 댓글 수 보정 - 삭제되지 않은 promo_comment 기준으로 다시 계산해 어긋난 행만 수정
+    @Modifying
+    @Query(value = "UPDATE promo p SET p.comment_count = " +
+                   "(SELECT COUNT(*) FROM promo_comment pc WHERE pc.promo_id = p.promo_id AND pc.deleted_at IS NULL) " +
+                   "WHERE p.promo_id BETWEEN :fromId AND :toId " +
+                   "AND p.comment_count <> " +
+                   "(SELECT COUNT(*) FROM promo_comment pc WHERE pc.promo_id = p.promo_id AND pc.deleted_at IS NULL)",
+           nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Promo p")
+    Integer findMaxId();
 }
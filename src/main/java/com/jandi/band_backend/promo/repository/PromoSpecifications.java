@@ -0,0 +1,107 @@
+package com.jandi.band_backend.promo.repository;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 공연 홍보 동적 검색 조건
+ * - 조건이 없으면 null 을 반환하므로 Specification.where(...).and(...) 로 자유롭게 조합 가능
+ * - 날짜 조건은 컬럼에 함수를 씌우지 않는 범위 비교로 작성해 event_datetime 인덱스를 사용
+ */
+public final class PromoSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private PromoSpecifications() {
+    }
+
+    /**
+     * 공연 상태 (오늘 날짜 기준)
+     */
+    public enum EventStatus {
+        ONGOING, UPCOMING, ENDED;
+
+        public static Optional<EventStatus> from(String status) {
+            if (status == null) {
+                return Optional.empty();
+            }
+            return Arrays.stream(values())
+                    .filter(value -> value.name().equalsIgnoreCase(status.trim()))
+                    .findFirst();
+        }
+    }
+
+    public static Specification<Promo> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * 진행 중: 오늘 0시 ~ 내일 0시, 예정: 내일 0시 이후, 종료: 오늘 0시 이전
+     */
+    public static Specification<Promo> hasStatus(EventStatus status, LocalDate today) {
+        LocalDateTime todayStart = today.atStartOfDay();
+        LocalDateTime tomorrowStart = today.plusDays(1).atStartOfDay();
+        return (root, query, cb) -> {
+            Expression<LocalDateTime> eventDatetime = root.get("eventDatetime");
+            return switch (status) {
+                case ONGOING -> cb.and(
+                        cb.greaterThanOrEqualTo(eventDatetime, todayStart),
+                        cb.lessThan(eventDatetime, tomorrowStart));
+                case UPCOMING -> cb.greaterThanOrEqualTo(eventDatetime, tomorrowStart);
+                case ENDED -> cb.lessThan(eventDatetime, todayStart);
+            };
+        };
+    }
+
+    /**
+     * 제목/설명/장소/팀명 중 하나라도 키워드를 포함 (대소문자 무시)
+     */
+    public static Specification<Promo> containsKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = likePattern(keyword.trim());
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("location")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("teamName")), pattern, LIKE_ESCAPE));
+    }
+
+    public static Specification<Promo> teamNameContains(String teamName) {
+        if (teamName == null || teamName.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = likePattern(teamName.trim());
+        return (root, query, cb) -> cb.like(cb.lower(root.get("teamName")), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<Promo> eventFrom(LocalDateTime startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("eventDatetime"), startDate);
+    }
+
+    public static Specification<Promo> eventUntil(LocalDateTime endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("eventDatetime"), endDate);
+    }
+
+    // LIKE 와일드카드(%, _)는 문자 그대로 검색되도록 이스케이프
+    private static String likePattern(String value) {
+        String escaped = value.toLowerCase()
+                .replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
+    }
+}
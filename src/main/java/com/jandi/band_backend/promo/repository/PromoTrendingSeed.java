@@ -0,0 +1,14 @@
+package com.jandi.band_backend.promo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 순위 초기 점수 계산용 프로젝션 (누적 조회수/좋아요 수/댓글 수와 작성 시각)
+ */
+public record PromoTrendingSeed(
+        Integer id,
+        Integer viewCount,
+        Integer likeCount,
+        Integer commentCount,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,67 @@
+package com.jandi.band_backend.promo.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 검색용 문자 n-gram 토크나이저
+ * 형태소 분석 없이 부분 문자열 검색이 가능하도록 단어마다 1-gram, 2-gram 을 생성합니다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 비교용 정규화 (NFKC + 소문자)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 토큰: 단어별 모든 1-gram, 2-gram
+     */
+    public static Set<String> indexTokens(String normalizedText) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(normalizedText)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색용 토큰: 한 글자 단어는 1-gram, 그 외에는 2-gram 만 사용
+     */
+    public static Set<String> queryTokens(String normalizedQuery) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(normalizedQuery)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 문자/숫자가 아닌 문자를 기준으로 단어 분리
+    private static String[] words(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        return text.split("[^\\p{L}\\p{N}]+");
+    }
+}
@@ -0,0 +1,299 @@
+package com.jandi.band_backend.promo.search;
+
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공연 홍보 키워드 검색용 인메모리 역색인
+ * - 제목/설명/장소/팀명을 문자 n-gram 으로 색인
+ * - 후보는 n-gram 교집합으로 찾고, 실제 부분 문자열 포함 여부를 확인해 LIKE 검색과 같은 결과를 보장
+ * - 필드 가중치 기반 점수로 정렬 (동점이면 최신 글 우선), 요청 페이지까지만 힙으로 선별
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromoSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final double TITLE_WEIGHT = 4.0;
+    private static final double TEAM_NAME_WEIGHT = 3.0;
+    private static final double LOCATION_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double PREFIX_BONUS = 0.5;
+
+    private static final Comparator<Scored> RANKING = Comparator.comparingDouble(Scored::score)
+            .thenComparingInt(Scored::id);
+
+    private final PromoRepository promoRepository;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, IndexedPromo> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 재구성 중 반영된 변경 (ID -> 최신 문서, 삭제는 null) - 교체 직전에 새 색인에 다시 적용
+    private final Map<Integer, IndexedPromo> changesDuringRebuild = new LinkedHashMap<>();
+    private boolean rebuilding = false;
+
+    record IndexedPromo(Integer id, String title, String teamName, String location, String description) {
+
+        static IndexedPromo of(Promo promo) {
+            return new IndexedPromo(
+                    promo.getId(),
+                    NGramTokenizer.normalize(promo.getTitle()),
+                    NGramTokenizer.normalize(promo.getTeamName()),
+                    NGramTokenizer.normalize(promo.getLocation()),
+                    NGramTokenizer.normalize(promo.getDescription()));
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new HashSet<>();
+            tokens.addAll(NGramTokenizer.indexTokens(title));
+            tokens.addAll(NGramTokenizer.indexTokens(teamName));
+            tokens.addAll(NGramTokenizer.indexTokens(location));
+            tokens.addAll(NGramTokenizer.indexTokens(description));
+            return tokens;
+        }
+
+        double score(String keyword) {
+            return fieldScore(title, keyword, TITLE_WEIGHT)
+                    + fieldScore(teamName, keyword, TEAM_NAME_WEIGHT)
+                    + fieldScore(location, keyword, LOCATION_WEIGHT)
+                    + fieldScore(description, keyword, DESCRIPTION_WEIGHT);
+        }
+
+        private static double fieldScore(String field, String keyword, double weight) {
+            if (!field.contains(keyword)) {
+                return 0;
+            }
+            return field.startsWith(keyword) ? weight + PREFIX_BONUS : weight;
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB 에서 색인 재구성
+     * - DB 는 락 없이 배치로 읽고, 그동안 커밋 후 반영된 변경은 기록해 두었다가 교체 직전에 새 색인에 다시 적용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<String, PostingList> newPostings = new HashMap<>();
+        Map<Integer, IndexedPromo> newDocuments = new HashMap<>();
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.clear();
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int lastId = 0;
+        List<Promo> batch;
+        do {
+            batch = promoRepository.findNotDeletedAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Promo promo : batch) {
+                addDocument(newPostings, newDocuments, IndexedPromo.of(promo));
+                lastId = promo.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            // 배치로 읽은 시점보다 늦게 커밋된 변경이 교체로 사라지지 않도록 다시 적용
+            changesDuringRebuild.forEach((promoId, document) -> {
+                removeDocument(newPostings, newDocuments, promoId);
+                if (document != null) {
+                    addDocument(newPostings, newDocuments, document);
+                }
+            });
+            changesDuringRebuild.clear();
+            rebuilding = false;
+
+            postings.clear();
+            postings.putAll(newPostings);
+            documents.clear();
+            documents.putAll(newDocuments);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("공연 홍보 검색 색인 재구성 완료: documents={}, tokens={}, elapsed={}ms",
+                newDocuments.size(), newPostings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 공연 홍보 색인 추가/갱신 (트랜잭션 커밋 후 반영)
+     */
+    public void index(Promo promo) {
+        IndexedPromo document = IndexedPromo.of(promo);
+        TransactionSyncUtil.runAfterCommit(() -> put(document));
+    }
+
+    /**
+     * 공연 홍보 색인 제거 (트랜잭션 커밋 후 반영)
+     */
+    public void remove(Integer promoId) {
+        TransactionSyncUtil.runAfterCommit(() -> delete(promoId));
+    }
+
+    /**
+     * 키워드 검색 - 관련도 순으로 정렬된 공연 홍보 ID 페이지 반환
+     */
+    public Page<Integer> search(String keyword, Pageable pageable) {
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        Set<String> queryTokens = NGramTokenizer.queryTokens(normalizedKeyword);
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+
+        // 점수가 가장 낮은 항목이 head 인 최소 힙 (상위 limit 개만 유지)
+        PriorityQueue<Scored> topMatches = new PriorityQueue<>(RANKING);
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            for (int id : candidates(queryTokens)) {
+                double score = documents.get(id).score(normalizedKeyword);
+                if (score <= 0) {
+                    continue;
+                }
+                total++;
+                Scored scored = new Scored(id, score);
+                if (topMatches.size() < limit) {
+                    topMatches.add(scored);
+                } else if (limit > 0 && RANKING.compare(scored, topMatches.peek()) > 0) {
+                    topMatches.poll();
+                    topMatches.add(scored);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Scored> ranked = new ArrayList<>(topMatches);
+        ranked.sort(RANKING.reversed());
+        int start = (int) Math.min(pageable.getOffset(), ranked.size());
+        List<Integer> pageIds = ranked.subList(start, ranked.size()).stream()
+                .map(Scored::id)
+                .toList();
+        return new PageImpl<>(pageIds, pageable, total);
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(IndexedPromo document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, document.id());
+            addDocument(postings, documents, document);
+            if (rebuilding) {
+                changesDuringRebuild.put(document.id(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete(Integer promoId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, promoId);
+            if (rebuilding) {
+                changesDuringRebuild.put(promoId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void addDocument(Map<String, PostingList> postings, Map<Integer, IndexedPromo> documents,
+                                    IndexedPromo document) {
+        documents.put(document.id(), document);
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, key -> new PostingList()).add(document.id());
+        }
+    }
+
+    private static void removeDocument(Map<String, PostingList> postings, Map<Integer, IndexedPromo> documents,
+                                       Integer promoId) {
+        IndexedPromo previous = documents.remove(promoId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            PostingList ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(promoId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    // 가장 짧은 포스팅 리스트를 기준으로 나머지 리스트와 교집합 계산
+    // 문자/숫자가 없는 키워드(공백, 문장부호만)는 토큰이 없으므로 전체를 점수 계산하지 않고 빈 결과
+    private List<Integer> candidates(Set<String> queryTokens) {
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (String token : queryTokens) {
+            PostingList ids = postings.get(token);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList shortest = lists.get(0);
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < shortest.size(); i++) {
+            int id = shortest.get(i);
+            boolean matchesAll = true;
+            for (int j = 1; j < lists.size() && matchesAll; j++) {
+                matchesAll = lists.get(j).contains(id);
+            }
+            if (matchesAll) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private record Scored(int id, double score) {
+    }
+}
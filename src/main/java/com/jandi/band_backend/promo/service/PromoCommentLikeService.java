@@ -2,16 +2,16 @@ package com.jandi.band_backend.promo.service;
 
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
 import com.jandi.band_backend.promo.entity.PromoComment;
-import com.jandi.band_backend.promo.entity.PromoCommentLike;
 import com.jandi.band_backend.promo.repository.PromoCommentLikeRepository;
 import com.jandi.band_backend.promo.repository.PromoCommentRepository;
-import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,44 +24,45 @@ public class PromoCommentLikeService {
     
     /**
      * 공연 홍보 댓글 좋아요 추가/취소 토글
+     * promo_comment_like 행 삭제/추가 결과(영향받은 행 수)에 따라 like_count 를 원자적으로 증감
      */
     public boolean togglePromoCommentLike(Integer commentId, Integer userId) {
-        PromoComment comment = promoCommentRepository.findByIdAndNotDeleted(commentId)
+        promoCommentRepository.findByIdAndNotDeleted(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다."));
         
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        Optional<PromoCommentLike> existingLike = promoCommentLikeRepository.findByPromoCommentAndUser(comment, user);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다.");
+        }
         
-        if (existingLike.isPresent()) {
-            promoCommentLikeRepository.delete(existingLike.get());
+        if (promoCommentLikeRepository.deleteByCommentIdAndUserId(commentId, userId) > 0) {
+            promoCommentRepository.decrementLikeCount(commentId);
             return false;
-        } else {
-            PromoCommentLike commentLike = new PromoCommentLike();
-            commentLike.setPromoComment(comment);
-            commentLike.setUser(user);
-            promoCommentLikeRepository.save(commentLike);
-            return true;
         }
+        
+        if (promoCommentLikeRepository.insertIfAbsent(commentId, userId) > 0) {
+            promoCommentRepository.incrementLikeCount(commentId);
+        }
+        // 추가되지 않은 경우: 같은 사용자의 동시 요청이 먼저 좋아요를 추가함
+        return true;
     }
     
     /**
-     * 사용자가 특정 댓글에 좋아요를 눌렀는지 확인
+     * 사용자가 특정 댓글에 좋아요를 눌렀는지 확인 (삭제된 댓글이면 false)
      */
     @Transactional(readOnly = true)
     public boolean isLikedByUser(Integer commentId, Integer userId) {
-        PromoComment comment = promoCommentRepository.findByIdAndNotDeleted(commentId).orElse(null);
-        if (comment == null) {
-            return false;
-        }
-        
-        Users user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return false;
+        return promoCommentLikeRepository.existsByCommentIdAndUserId(commentId, userId);
+    }
+
+    /**
+     * 여러 댓글 중 사용자가 좋아요를 누른 댓글 ID 일괄 조회 (쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> getLikedCommentIds(Collection<Integer> commentIds, Integer userId) {
+        if (userId == null || commentIds.isEmpty()) {
+            return Set.of();
         }
-        
-        return promoCommentLikeRepository.existsByPromoCommentAndUser(comment, user);
+        return new HashSet<>(promoCommentLikeRepository.findLikedCommentIds(userId, commentIds));
     }
     
     /**
@@ -72,6 +73,6 @@ public class PromoCommentLikeService {
         PromoComment comment = promoCommentRepository.findByIdAndNotDeleted(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다."));
         
-        return promoCommentLikeRepository.countByPromoComment(comment);
+        return comment.getLikeCount();
     }
-} 
\ No newline at end of file
+}
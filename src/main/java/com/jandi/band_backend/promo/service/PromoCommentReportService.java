@@ -1,9 +1,10 @@
 package com.jandi.band_backend.promo.service;
 
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.util.SortWhitelistUtil;
 import com.jandi.band_backend.promo.dto.PromoCommentReportReqDTO;
 import com.jandi.band_backend.promo.dto.PromoCommentReportRespDTO;
 import com.jandi.band_backend.promo.entity.PromoComment;
-import com.jandi.band_backend.promo.entity.PromoCommentReport;
 import com.jandi.band_backend.promo.repository.PromoCommentReportRepository;
 import com.jandi.band_backend.promo.repository.PromoCommentRepository;
 import com.jandi.band_backend.user.entity.Users;
@@ -12,13 +13,13 @@ import com.jandi.band_backend.manage.entity.ReportReason;
 import com.jandi.band_backend.manage.repository.ReportReasonRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jandi.band_backend.global.dto.PagedRespDTO;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class PromoCommentReportService {
@@ -27,7 +28,9 @@ public class PromoCommentReportService {
     private final PromoCommentRepository promoCommentRepository;
     private final UserRepository userRepository;
     private final ReportReasonRepository reportReasonRepository;
+    private final PromoModerationService promoModerationService;
 
+    @Transactional
     public void createPromoCommentReport(PromoCommentReportReqDTO request, Integer reporterUserId) {
         Users reporter = userRepository.findById(reporterUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -46,16 +49,16 @@ public class PromoCommentReportService {
         ReportReason reportReason = reportReasonRepository.findById(request.getReportReasonId())
                 .orElseThrow(() -> new RuntimeException("해당 신고 이유를 찾을 수 없습니다."));
 
-        PromoCommentReport promoCommentReport = new PromoCommentReport();
-        promoCommentReport.setPromoComment(promoComment);
-        promoCommentReport.setReporter(reporter);
-        promoCommentReport.setReportReason(reportReason);
-        promoCommentReport.setDescription(request.getDescription());
-
-        promoCommentReportRepository.save(promoCommentReport);
+        // 같은 사용자의 중복 신고는 저장하지 않음 (신고 수는 서로 다른 신고자 수)
+        if (promoCommentReportRepository.insertIfAbsent(promoComment.getId(), reporter.getId(), reportReason.getId(),
+                request.getDescription(), LocalDateTime.now()) == 0) {
+            throw new BadRequestException("이미 신고한 댓글입니다.");
+        }
+        promoModerationService.recordCommentReport(promoComment.getId(), promoComment.getPromo().getId());
     }
 
 
+    @Transactional(readOnly = true)
     public PagedRespDTO<PromoCommentReportRespDTO> getPromoCommentReports(Integer adminUserId, int page, int size, String sort) {
         Users adminUser = userRepository.findById(adminUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -64,25 +67,11 @@ public class PromoCommentReportService {
             throw new RuntimeException("관리자만 신고 목록을 조회할 수 있습니다.");
         }
 
-        Pageable pageable = createPageable(page, size, sort);
-        Page<PromoCommentReportRespDTO> promoCommentReportPage = promoCommentReportRepository.findAll(pageable)
+        Page<PromoCommentReportRespDTO> promoCommentReportPage = promoCommentReportRepository.findPageWithDetails(
+                        SortWhitelistUtil.createPageable(page, size, sort, PromoReportService.REPORT_SORTS))
                 .map(PromoCommentReportRespDTO::fromEntity);
 
         return PagedRespDTO.from(promoCommentReportPage);
     }
 
-    private Pageable createPageable(int page, int size, String sort) {
-        if (sort == null || sort.trim().isEmpty()) {
-            return PageRequest.of(page, size);
-        }
-
-        String[] sortParts = sort.split(",");
-        String property = sortParts[0];
-        Sort.Direction direction = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1])
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        return PageRequest.of(page, size, Sort.by(direction, property));
-    }
-
 }
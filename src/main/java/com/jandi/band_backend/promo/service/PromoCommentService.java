@@ -2,21 +2,28 @@ package com.jandi.band_backend.promo.service;
 
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
 import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
 import com.jandi.band_backend.promo.dto.PromoCommentReqDTO;
 import com.jandi.band_backend.promo.dto.PromoCommentRespDTO;
 import com.jandi.band_backend.promo.entity.Promo;
 import com.jandi.band_backend.promo.entity.PromoComment;
 import com.jandi.band_backend.promo.repository.PromoCommentRepository;
 import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.user.entity.UserPhoto;
 import com.jandi.band_backend.user.entity.Users;
+import com.jandi.band_backend.user.repository.UserPhotoRepository;
 import com.jandi.band_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,8 +33,10 @@ public class PromoCommentService {
     private final PromoCommentRepository promoCommentRepository;
     private final PromoRepository promoRepository;
     private final UserRepository userRepository;
+    private final UserPhotoRepository userPhotoRepository;
     private final PromoCommentLikeService promoCommentLikeService;
     private final UserValidationUtil userValidationUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ADMIN 권한 확인
@@ -39,28 +48,35 @@ public class PromoCommentService {
 
     // 공연 홍보 댓글 목록 조회
     public Page<PromoCommentRespDTO> getCommentsByPromo(Integer promoId, Pageable pageable) {
-        Promo promo = promoRepository.findByIdAndNotDeleted(promoId);
-        if (promo == null) {
-            throw new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다.");
-        }
-        
-        return promoCommentRepository.findByPromoAndNotDeleted(promo, pageable)
-                .map(PromoCommentRespDTO::from);
+        return getCommentsByPromo(promoId, null, pageable);
     }
 
     // 공연 홍보 댓글 목록 조회 (사용자별 좋아요 상태 포함)
+    // 작성자, 프로필 사진, 좋아요 상태를 페이지 단위로 일괄 조회해 댓글 수와 관계없이 쿼리 수가 일정
     public Page<PromoCommentRespDTO> getCommentsByPromo(Integer promoId, Integer userId, Pageable pageable) {
         Promo promo = promoRepository.findByIdAndNotDeleted(promoId);
         if (promo == null) {
             throw new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다.");
         }
         
-        return promoCommentRepository.findByPromoAndNotDeleted(promo, pageable)
-                .map(comment -> {
-                    Boolean isLikedByUser = userId != null ? 
-                            promoCommentLikeService.isLikedByUser(comment.getId(), userId) : null;
-                    return PromoCommentRespDTO.from(comment, isLikedByUser);
-                });
+        Page<PromoComment> comments = promoCommentRepository.findByPromoAndNotDeleted(promo, pageable);
+        if (comments.isEmpty()) {
+            return comments.map(PromoCommentRespDTO::from);
+        }
+
+        // 댓글 옆 작은 프로필 이미지이므로 썸네일이 있으면 썸네일 사용
+        Map<Integer, String> profilePhotos = userPhotoRepository.findCurrentByUserIds(comments.stream()
+                        .map(comment -> comment.getCreator().getId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(photo -> photo.getUser().getId(), UserPhoto::thumbnailOrImageUrl,
+                        (first, second) -> first));
+        Set<Integer> likedCommentIds = promoCommentLikeService.getLikedCommentIds(
+                comments.map(PromoComment::getId).getContent(), userId);
+
+        return comments.map(comment -> PromoCommentRespDTO.from(comment,
+                profilePhotos.get(comment.getCreator().getId()),
+                userId != null ? likedCommentIds.contains(comment.getId()) : null));
     }
 
     // 공연 홍보 댓글 생성
@@ -81,8 +97,9 @@ public class PromoCommentService {
 
         PromoComment savedComment = promoCommentRepository.save(comment);
         
-        // 공연 홍보의 댓글 수 업데이트
-        updatePromoCommentCount(promo);
+        // 공연 홍보의 댓글 수 증가 (원자적 업데이트)
+        promoRepository.incrementCommentCount(promo.getId());
+        publishCommented(promo.getId(), 1);
         
         return PromoCommentRespDTO.from(savedComment);
     }
@@ -114,16 +131,15 @@ public class PromoCommentService {
             throw new IllegalStateException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        comment.setDeletedAt(LocalDateTime.now());
-        
-        // 공연 홍보의 댓글 수 업데이트
-        updatePromoCommentCount(comment.getPromo());
+        // 동시에 삭제된 경우 먼저 삭제한 요청만 댓글 수 감소 (원자적 업데이트)
+        Integer promoId = comment.getPromo().getId();
+        if (promoCommentRepository.softDeleteById(commentId, LocalDateTime.now()) > 0) {
+            promoRepository.decrementCommentCount(promoId);
+            publishCommented(promoId, -1);
+        }
     }
     
-    // 공연 홍보의 댓글 수 업데이트
-    private void updatePromoCommentCount(Promo promo) {
-        Integer commentCount = promoCommentRepository.countByPromoAndNotDeleted(promo);
-        promo.setCommentCount(commentCount);
-        promoRepository.save(promo);
+    private void publishCommented(Integer promoId, long delta) {
+        eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.COMMENTED, delta));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공연 홍보 피드 커서 - 마지막으로 내려준 항목의 (구간, 공연 일시, ID)
+ * 클라이언트에는 내용을 알 수 없는 Base64 URL 문자열로 전달
+ */
+record PromoFeedCursor(int bucket, LocalDateTime eventDatetime, int id) {
+
+    private static final String DELIMITER = "|";
+
+    String encode() {
+        String raw = bucket + DELIMITER + (eventDatetime != null ? eventDatetime : "") + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PromoFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            LocalDateTime eventDatetime = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new PromoFeedCursor(Integer.parseInt(parts[0]), eventDatetime, Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서 형식입니다.");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.dto.CursorRespDTO;
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import com.jandi.band_backend.promo.repository.PromoListRow;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공연 홍보 커서 기반 피드
+ * - 정렬은 기존 목록과 같음: 오늘 공연 → 예정 공연 → 지난 공연 (각 구간 안에서 공연 일시 오름차순), 일시 없는 공연은 마지막
+ * - 구간마다 공연 일시 범위 + (eventDatetime, id) 키셋 조건으로 조회하므로 페이지 깊이와 무관하게 인덱스 범위 탐색
+ * - COUNT 쿼리 없이 size + 1 개를 조회해 다음 페이지 여부 판단
+ * - 키셋 조회는 ID 만 읽고, 페이지에 포함된 공연만 목록 프로젝션으로 한 번에 로드 (엔티티 로드 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PromoFeedService {
+
+    static final int TODAY = 0;
+    static final int UPCOMING = 1;
+    static final int PAST = 2;
+    static final int UNSCHEDULED = 3;
+
+    // MySQL DATETIME 표현 범위
+    private static final LocalDateTime MIN_DATETIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATETIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final int MAX_FEED_SIZE = 100;
+
+    private final PromoRepository promoRepository;
+    private final PromoLikeService promoLikeService;
+
+    private record FeedEntry(int bucket, Integer id) {
+    }
+
+    // 공연 홍보 피드 조회 (사용자별 좋아요 상태 포함)
+    public CursorRespDTO<PromoRespDTO> getFeed(String cursor, int size, Integer userId) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다.");
+        }
+        PromoFeedCursor after = PromoFeedCursor.decode(cursor);
+        if (after != null && (after.bucket() < TODAY || after.bucket() > UNSCHEDULED)) {
+            throw new BadRequestException("잘못된 커서 형식입니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        int limit = size + 1;
+        LocalDate today = LocalDate.now();
+        List<FeedEntry> entries = new ArrayList<>(limit);
+        for (int bucket = after != null ? after.bucket() : TODAY; bucket <= UNSCHEDULED && entries.size() < limit; bucket++) {
+            PromoFeedCursor resumeFrom = after != null && after.bucket() == bucket ? after : null;
+            for (Integer id : fetchBucket(bucket, today, resumeFrom, limit - entries.size())) {
+                entries.add(new FeedEntry(bucket, id));
+            }
+        }
+
+        boolean hasNext = entries.size() > size;
+        List<FeedEntry> pageEntries = hasNext ? entries.subList(0, size) : entries;
+        List<PromoListRow> rows = loadInFeedOrder(pageEntries.stream().map(FeedEntry::id).toList());
+        List<PromoRespDTO> content = toRespList(rows, userId);
+
+        String nextCursor = null;
+        if (hasNext) {
+            // ID 조회와 본문 조회는 같은 읽기 트랜잭션이므로 마지막 항목은 항상 함께 로드됨
+            FeedEntry last = pageEntries.get(pageEntries.size() - 1);
+            PromoListRow lastRow = rows.get(rows.size() - 1);
+            nextCursor = new PromoFeedCursor(last.bucket(), lastRow.eventDatetime(), lastRow.id()).encode();
+        }
+        return CursorRespDTO.of(content, nextCursor, size);
+    }
+
+    private List<Integer> fetchBucket(int bucket, LocalDate today, PromoFeedCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (bucket == UNSCHEDULED) {
+            return promoRepository.findUnscheduledFeedIdsAfter(after != null ? after.id() : 0, page);
+        }
+
+        LocalDateTime todayStart = today.atStartOfDay();
+        LocalDateTime tomorrowStart = today.plusDays(1).atStartOfDay();
+        LocalDateTime from = switch (bucket) {
+            case TODAY -> todayStart;
+            case UPCOMING -> tomorrowStart;
+            default -> MIN_DATETIME;
+        };
+        LocalDateTime until = switch (bucket) {
+            case TODAY -> tomorrowStart;
+            case UPCOMING -> MAX_DATETIME;
+            default -> todayStart;
+        };
+        // 구간 첫 페이지는 (from, 0) 이후 = 구간 전체
+        LocalDateTime afterDatetime = after != null && after.eventDatetime() != null ? after.eventDatetime() : from;
+        int afterId = after != null && after.eventDatetime() != null ? after.id() : 0;
+        return promoRepository.findFeedIdsAfter(from, until, afterDatetime, afterId, page);
+    }
+
+    // 피드 순서대로 목록 프로젝션을 한 번에 조회
+    private List<PromoListRow> loadInFeedOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, PromoListRow> rowMap = promoRepository.findListRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PromoListRow::id, Function.identity()));
+        return ids.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<PromoRespDTO> toRespList(List<PromoListRow> rows, Integer userId) {
+        if (userId == null) {
+            return rows.stream().map(row -> PromoRespDTO.from(row, null)).toList();
+        }
+        Set<Integer> likedPromoIds = promoLikeService.getLikedPromoIds(
+                rows.stream().map(PromoListRow::id).toList(), userId);
+        return rows.stream()
+                .map(row -> PromoRespDTO.from(row, likedPromoIds.contains(row.id())))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공연 홍보 좋아요 수 보정 스케줄러
+ * promo_like 실제 행 수로 like_count 를 다시 계산해 어긋난 값을 수정합니다.
+ * 잠금 시간을 줄이기 위해 ID 구간별로 나눠 각각 별도 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromoLikeCountReconciler {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final PromoRepository promoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${promo.like-count.reconcile-cron:0 30 4 * * ?}")
+    public int reconcile() {
+        int maxId = promoRepository.findMaxId();
+        int fixed = 0;
+        for (int fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            int chunkFrom = fromId;
+            int chunkTo = fromId + CHUNK_SIZE - 1;
+            Integer updated = transactionTemplate.execute(status ->
+                    promoRepository.reconcileLikeCounts(chunkFrom, chunkTo));
+            fixed += updated != null ? updated : 0;
+        }
+
+        if (fixed > 0) {
+            log.warn("[PromoLikeCountReconciler] 좋아요 수 불일치 보정: {}건", fixed);
+        } else {
+            log.info("[PromoLikeCountReconciler] 좋아요 수 불일치 없음");
+        }
+        return fixed;
+    }
+}
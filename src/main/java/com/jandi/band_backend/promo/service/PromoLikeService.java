@@ -1,17 +1,20 @@
 package com.jandi.band_backend.promo.service;
 
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
 import com.jandi.band_backend.promo.entity.Promo;
-import com.jandi.band_backend.promo.entity.PromoLike;
 import com.jandi.band_backend.promo.repository.PromoLikeRepository;
 import com.jandi.band_backend.promo.repository.PromoRepository;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -21,35 +24,33 @@ public class PromoLikeService {
     private final PromoLikeRepository promoLikeRepository;
     private final PromoRepository promoRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 공연 홍보 좋아요 추가/취소 토글
+     * promo_like 행 삭제/추가 결과(영향받은 행 수)에 따라 like_count 를 원자적으로 증감
      */
     public boolean togglePromoLike(Integer promoId, Integer userId) {
-        Promo promo = promoRepository.findById(promoId)
+        promoRepository.findById(promoId)
                 .filter(p -> p.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다."));
         
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        Optional<PromoLike> existingLike = promoLikeRepository.findByPromoAndUser(promo, user);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다.");
+        }
         
-        if (existingLike.isPresent()) {
-            promoLikeRepository.delete(existingLike.get());
-            promo.setLikeCount(promo.getLikeCount() - 1);
-            promoRepository.save(promo);
+        if (promoLikeRepository.deleteByPromoIdAndUserId(promoId, userId) > 0) {
+            promoRepository.decrementLikeCount(promoId);
+            eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.LIKED, -1));
             return false;
-        } else {
-            PromoLike promoLike = new PromoLike();
-            promoLike.setPromo(promo);
-            promoLike.setUser(user);
-            promoLikeRepository.save(promoLike);
-            
-            promo.setLikeCount(promo.getLikeCount() + 1);
-            promoRepository.save(promo);
-            return true;
         }
+        
+        if (promoLikeRepository.insertIfAbsent(promoId, userId) > 0) {
+            promoRepository.incrementLikeCount(promoId);
+            eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.LIKED, 1));
+        }
+        // 추가되지 않은 경우: 같은 사용자의 동시 요청이 먼저 좋아요를 추가함
+        return true;
     }
     
     /**
@@ -73,6 +74,17 @@ public class PromoLikeService {
         return promoLikeRepository.existsByPromoAndUser(promo, user);
     }
 
+    /**
+     * 여러 공연 홍보 중 사용자가 좋아요를 누른 공연 홍보 ID 일괄 조회 (쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> getLikedPromoIds(Collection<Integer> promoIds, Integer userId) {
+        if (userId == null || promoIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(promoLikeRepository.findLikedPromoIds(userId, promoIds));
+    }
+
     /**
      * 특정 공연 홍보의 좋아요 수 조회
      */
@@ -0,0 +1,128 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.global.exception.InvalidAccessException;
+import com.jandi.band_backend.global.exception.ResourceNotFoundException;
+import com.jandi.band_backend.global.util.SortWhitelistUtil;
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import com.jandi.band_backend.promo.dto.PromoModerationRespDTO;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex;
+import com.jandi.band_backend.promo.repository.PromoCommentRepository;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.search.PromoSearchIndex;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import com.jandi.band_backend.search.service.SearchIndexer;
+import com.jandi.band_backend.user.entity.Users;
+import com.jandi.band_backend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연 홍보 / 댓글 신고 집계와 검토 대기열
+ * - 신고가 추가될 때 대상 행의 report_count(서로 다른 신고자 수), last_reported_at 을 원자적으로 갱신
+ * - 신고자 수가 기준 이상이 되면 대상을 자동 숨김 (hidden_at 과 deleted_at 을 함께 설정해 기존 조회 조건으로 제외)
+ * - 검토 대기열은 집계 컬럼 인덱스 순서로 한 번에 조회 (신고 행을 매번 집계하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PromoModerationService {
+
+    // 요청 정렬 속성 → 인덱스 순서와 같은 정렬 속성
+    static final Map<String, List<String>> QUEUE_SORTS = Map.of(
+            "reportCount", List.of("reportCount", "lastReportedAt"),
+            "lastReportedAt", List.of("lastReportedAt"));
+
+    private final PromoRepository promoRepository;
+    private final PromoCommentRepository promoCommentRepository;
+    private final UserRepository userRepository;
+    private final PromoSearchIndex promoSearchIndex;
+    private final PromoGeoIndex promoGeoIndex;
+    private final ObjectProvider<SearchIndexer> searchIndexerProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 0 이하면 자동 숨김 사용 안 함
+    @Value("${promo.moderation.promo-hide-threshold:5}")
+    private int promoHideThreshold;
+
+    @Value("${promo.moderation.comment-hide-threshold:5}")
+    private int commentHideThreshold;
+
+    /**
+     * 공연 홍보 신고 반영 (새 신고자의 신고가 추가된 경우에만 호출) - 자동 숨김 여부 반환
+     */
+    @Transactional
+    public boolean recordPromoReport(Integer promoId) {
+        LocalDateTime now = LocalDateTime.now();
+        promoRepository.incrementReportCount(promoId, now);
+        if (promoHideThreshold <= 0 || promoRepository.hideIfReportedAtLeast(promoId, promoHideThreshold, now) == 0) {
+            return false;
+        }
+
+        // 작성자 삭제와 같은 색인/캐시 정리 (벌크 UPDATE 라 엔티티 리스너가 동작하지 않으므로 검색 색인은 직접 등록)
+        promoSearchIndex.remove(promoId);
+        promoGeoIndex.remove(promoId);
+        SearchIndexer searchIndexer = searchIndexerProvider.getIfAvailable();
+        if (searchIndexer != null) {
+            TransactionSyncUtil.runAfterCommit(() -> searchIndexer.enqueue(SearchDocumentType.PROMO, promoId));
+        }
+        eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.DELETED));
+        log.info("신고 누적으로 공연 홍보 자동 숨김: promoId={}, threshold={}", promoId, promoHideThreshold);
+        return true;
+    }
+
+    /**
+     * 댓글 신고 반영 (새 신고자의 신고가 추가된 경우에만 호출) - 자동 숨김 여부 반환
+     */
+    @Transactional
+    public boolean recordCommentReport(Integer commentId, Integer promoId) {
+        LocalDateTime now = LocalDateTime.now();
+        promoCommentRepository.incrementReportCount(commentId, now);
+        if (commentHideThreshold <= 0
+                || promoCommentRepository.hideIfReportedAtLeast(commentId, commentHideThreshold, now) == 0) {
+            return false;
+        }
+
+        // 숨긴 댓글은 삭제된 댓글과 같이 댓글 수에서 제외
+        promoRepository.decrementCommentCount(promoId);
+        eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.COMMENTED, -1));
+        log.info("신고 누적으로 댓글 자동 숨김: commentId={}, threshold={}", commentId, commentHideThreshold);
+        return true;
+    }
+
+    // 공연 홍보 신고 검토 대기열 (기본: 신고자 수 많은 순 → 최근 신고 순)
+    public PagedRespDTO<PromoModerationRespDTO> getPromoQueue(Integer adminUserId, int page, int size, String sort) {
+        validateAdmin(adminUserId);
+        return PagedRespDTO.from(promoRepository.findModerationQueue(
+                        SortWhitelistUtil.createPageable(page, size, sort, QUEUE_SORTS))
+                .map(PromoModerationRespDTO::from));
+    }
+
+    // 댓글 신고 검토 대기열
+    public PagedRespDTO<PromoModerationRespDTO> getCommentQueue(Integer adminUserId, int page, int size, String sort) {
+        validateAdmin(adminUserId);
+        return PagedRespDTO.from(promoCommentRepository.findModerationQueue(
+                        SortWhitelistUtil.createPageable(page, size, sort, QUEUE_SORTS))
+                .map(PromoModerationRespDTO::from));
+    }
+
+    private void validateAdmin(Integer adminUserId) {
+        Users adminUser = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+
+        if (!adminUser.getAdminRole().equals(Users.AdminRole.ADMIN)) {
+            throw new InvalidAccessException("관리자만 신고 목록을 조회할 수 있습니다.");
+        }
+    }
+}
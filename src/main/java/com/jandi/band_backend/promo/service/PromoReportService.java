@@ -1,36 +1,43 @@
 package com.jandi.band_backend.promo.service;
 
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.util.SortWhitelistUtil;
 import com.jandi.band_backend.manage.entity.ReportReason;
 import com.jandi.band_backend.manage.repository.ReportReasonRepository;
 import com.jandi.band_backend.promo.dto.PromoReportReqDTO;
 import com.jandi.band_backend.promo.dto.PromoReportRespDTO;
 import com.jandi.band_backend.promo.entity.Promo;
-import com.jandi.band_backend.promo.entity.PromoReport;
 import com.jandi.band_backend.promo.repository.PromoReportRepository;
 import com.jandi.band_backend.promo.repository.PromoRepository;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jandi.band_backend.global.dto.PagedRespDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class PromoReportService {
 
+    // created_at 인덱스가 있는 정렬 기준만 허용
+    static final Map<String, List<String>> REPORT_SORTS = Map.of(
+            "createdAt", List.of("createdAt"),
+            "id", List.of("id"));
+
     private final PromoReportRepository promoReportRepository;
     private final PromoRepository promoRepository;
     private final UserRepository userRepository;
     private final ReportReasonRepository reportReasonRepository;
+    private final PromoModerationService promoModerationService;
 
+    @Transactional
     public void createPromoReport(PromoReportReqDTO request, Integer reporterUserId) {
         Users reporter = userRepository.findById(reporterUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -49,15 +56,15 @@ public class PromoReportService {
         ReportReason reportReason = reportReasonRepository.findById(request.getReportReasonId())
                 .orElseThrow(() -> new RuntimeException("해당 신고 이유를 찾을 수 없습니다."));
 
-        PromoReport promoReport = new PromoReport();
-        promoReport.setPromo(promo);
-        promoReport.setReporter(reporter);
-        promoReport.setReportReason(reportReason);
-        promoReport.setDescription(request.getDescription());
-
-        promoReportRepository.save(promoReport);
+        // 같은 사용자의 중복 신고는 저장하지 않음 (신고 수는 서로 다른 신고자 수)
+        if (promoReportRepository.insertIfAbsent(promo.getId(), reporter.getId(), reportReason.getId(),
+                request.getDescription(), LocalDateTime.now()) == 0) {
+            throw new BadRequestException("이미 신고한 게시물입니다.");
+        }
+        promoModerationService.recordPromoReport(promo.getId());
     }
 
+    @Transactional(readOnly = true)
     public PagedRespDTO<PromoReportRespDTO> getPromoReports(Integer adminUserId, int page, int size, String sort) {
         Users adminUser = userRepository.findById(adminUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -66,25 +73,11 @@ public class PromoReportService {
             throw new RuntimeException("관리자만 신고 목록을 조회할 수 있습니다.");
         }
 
-        Pageable pageable = createPageable(page, size, sort);
-        Page<PromoReportRespDTO> promoReportPage = promoReportRepository.findAll(pageable)
+        Page<PromoReportRespDTO> promoReportPage = promoReportRepository.findPageWithDetails(
+                        SortWhitelistUtil.createPageable(page, size, sort, REPORT_SORTS))
                 .map(PromoReportRespDTO::fromEntity);
 
         return PagedRespDTO.from(promoReportPage);
     }
 
-    private Pageable createPageable(int page, int size, String sort) {
-        if (sort == null || sort.trim().isEmpty()) {
-            return PageRequest.of(page, size);
-        }
-
-        String[] sortParts = sort.split(",");
-        String property = sortParts[0];
-        Sort.Direction direction = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1])
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        return PageRequest.of(page, size, Sort.by(direction, property));
-    }
-
 }
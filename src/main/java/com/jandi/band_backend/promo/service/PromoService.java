@@ -2,23 +2,40 @@ package com.jandi.band_backend.promo.service;
 
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
 import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.dto.CursorRespDTO;
 
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import com.jandi.band_backend.promo.cache.PromoReadCache;
+import com.jandi.band_backend.promo.dto.PromoClusterRespDTO;
 import com.jandi.band_backend.promo.dto.PromoReqDTO;
 import com.jandi.band_backend.promo.dto.PromoRespDTO;
 import com.jandi.band_backend.promo.dto.PromoSimpleRespDTO;
 import com.jandi.band_backend.promo.entity.Promo;
 import com.jandi.band_backend.promo.entity.PromoPhoto;
+import com.jandi.band_backend.promo.repository.PromoListRow;
 import com.jandi.band_backend.promo.repository.PromoRepository;
 import com.jandi.band_backend.promo.repository.PromoPhotoRepository;
+import com.jandi.band_backend.promo.repository.PromoSpecifications;
+import com.jandi.band_backend.promo.repository.PromoSpecifications.EventStatus;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex;
+import com.jandi.band_backend.promo.search.NGramTokenizer;
+import com.jandi.band_backend.promo.search.PromoSearchIndex;
+import com.jandi.band_backend.promo.view.PromoViewCountBuffer;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.global.util.PermissionValidationUtil;
 import com.jandi.band_backend.global.util.UserValidationUtil;
 import com.jandi.band_backend.global.util.S3FileManagementUtil;
+import com.jandi.band_backend.image.ImageDerivativeRecorder;
+import com.jandi.band_backend.image.ImageUploadPurpose;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +45,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,52 +64,60 @@ public class PromoService {
     private final PermissionValidationUtil permissionValidationUtil;
     private final UserValidationUtil userValidationUtil;
     private final S3FileManagementUtil s3FileManagementUtil;
+    private final PromoSearchIndex promoSearchIndex;
+    private final PromoGeoIndex promoGeoIndex;
+    private final PromoViewCountBuffer promoViewCountBuffer;
+    private final PromoReadCache promoReadCache;
+    private final ApplicationEventPublisher eventPublisher;
     private static final String PROMO_PHOTO_DIR = "promo-photo";
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int MAX_NEARBY_SIZE = 100;
 
     // 공연 홍보 목록 조회
     public Page<PromoRespDTO> getPromos(Pageable pageable) {
-        return promoRepository.findAllSortedByEventDatetime(pageable)
-                .map(PromoRespDTO::from);
+        return getPromos(null, pageable);
     }
 
-    // 공연 홍보 목록 조회 (사용자별 좋아요 상태 포함)
+    // 공연 홍보 목록 조회 (사용자별 좋아요 상태 포함, 비로그인 요청은 캐시 사용)
     public Page<PromoRespDTO> getPromos(Integer userId, Pageable pageable) {
-        return promoRepository.findAllSortedByEventDatetime(pageable)
-                .map(promo -> {
-                    Boolean isLikedByUser = userId != null ? 
-                            promoLikeService.isLikedByUser(promo.getId(), userId) : null;
-                    return PromoRespDTO.from(promo, isLikedByUser);
-                });
+        if (userId == null) {
+            return promoReadCache.getPage(pageable, () -> loadPromos(null, pageable));
+        }
+        return loadPromos(userId, pageable);
+    }
+
+    // ID 페이지를 LIMIT 으로 먼저 조회한 뒤 해당 ID 만 목록 프로젝션으로 로드 (메모리 페이징, 엔티티 로드 방지)
+    private Page<PromoRespDTO> loadPromos(Integer userId, Pageable pageable) {
+        LocalDate today = LocalDate.now();
+        Page<Integer> idPage = promoRepository.findIdsSortedByEventDatetime(
+                today.atStartOfDay(), today.plusDays(1).atStartOfDay(), pageable);
+        return toListRespPage(loadListRows(idPage, pageable), userId);
     }
 
     // 공연 홍보 상세 조회
-    @Transactional
     public PromoRespDTO getPromo(Integer promoId) {
-        Promo promo = promoRepository.findByIdAndNotDeleted(promoId);
-        if (promo == null) {
-            throw new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다.");
-        }
-        
-        // 조회수 증가
-        promo.setViewCount(promo.getViewCount() + 1);
-        return PromoRespDTO.from(promo);
+        return getPromo(promoId, null);
     }
 
-    // 공연 홍보 상세 조회 (사용자별 좋아요 상태 포함)
-    @Transactional
+    // 공연 홍보 상세 조회 (사용자별 좋아요 상태 포함, 공통 내용은 캐시 사용)
     public PromoRespDTO getPromo(Integer promoId, Integer userId) {
-        Promo promo = promoRepository.findByIdAndNotDeleted(promoId);
-        if (promo == null) {
-            throw new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다.");
-        }
+        PromoRespDTO response = promoReadCache.getDetail(promoId, () -> {
+            Promo promo = promoRepository.findByIdAndNotDeleted(promoId);
+            if (promo == null) {
+                throw new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다.");
+            }
+            return PromoRespDTO.from(promo);
+        });
         
-        // 조회수 증가
-        promo.setViewCount(promo.getViewCount() + 1);
+        // 조회수 증가 (버퍼에 누적 후 주기적으로 DB 반영)
+        long pendingViews = promoViewCountBuffer.increment(promoId);
         
         // 사용자의 좋아요 상태 확인
         Boolean isLikedByUser = userId != null ? promoLikeService.isLikedByUser(promoId, userId) : null;
         
-        return PromoRespDTO.from(promo, isLikedByUser);
+        response.setIsLikedByUser(isLikedByUser);
+        response.setViewCount((int) (response.getViewCount() + pendingViews));
+        return response;
     }
 
     // 공연 홍보 생성 (이미지 포함)
@@ -119,6 +149,9 @@ public class PromoService {
             processImage(savedPromo, request.getImage(), creator);
         }
 
+        promoSearchIndex.index(savedPromo);
+        promoGeoIndex.index(savedPromo);
+        eventPublisher.publishEvent(new PromoChangedEvent(savedPromo.getId(), PromoChangedEvent.Type.CREATED));
         return PromoSimpleRespDTO.of(savedPromo.getId());
     }
 
@@ -139,6 +172,7 @@ public class PromoService {
         }
 
         // 전송된 필드만 수정 (PATCH 방식)
+        LocalDateTime previousEventDatetime = promo.getEventDatetime();
         if (request.getTeamName() != null) {
             promo.setTeamName(request.getTeamName());
         }
@@ -176,6 +210,14 @@ public class PromoService {
         if (request.getImage() != null && !request.getImage().isEmpty()) {
             processImage(promo, request.getImage(), promo.getCreator());
         }
+
+        promoSearchIndex.index(promo);
+        promoGeoIndex.index(promo);
+        // 공연 일시가 바뀌면 목록 정렬 위치가 달라짐
+        PromoChangedEvent.Type changeType = Objects.equals(previousEventDatetime, promo.getEventDatetime())
+                ? PromoChangedEvent.Type.UPDATED
+                : PromoChangedEvent.Type.RESCHEDULED;
+        eventPublisher.publishEvent(new PromoChangedEvent(promoId, changeType));
     }
 
     // 공연 홍보 삭제 (소프트 삭제)
@@ -195,35 +237,77 @@ public class PromoService {
             photo.setDeletedAt(LocalDateTime.now());
             // S3에서도 실제 파일 삭제
             s3FileManagementUtil.deleteFileSafely(photo.getImageUrl());
+            s3FileManagementUtil.deleteDerivativesSafely(photo.getThumbnailUrl(), photo.getDisplayUrl());
         }
 
         promo.setDeletedAt(LocalDateTime.now());
+        promoSearchIndex.remove(promoId);
+        promoGeoIndex.remove(promoId);
+        eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.DELETED));
+    }
+
+    // 저장소에 직접 올린 이미지 등록 (기존 이미지 교체)
+    @Transactional
+    public void attachUploadedImage(Integer promoId, String uploadId, Integer userId) {
+        Promo promo = promoRepository.findByIdAndNotDeleted(promoId);
+        if (promo == null) {
+            throw new ResourceNotFoundException("공연 홍보를 찾을 수 없습니다.");
+        }
+
+        permissionValidationUtil.validateContentOwnership(promo.getCreator().getId(), userId, "공연 홍보를 수정할 권한이 없습니다.");
+
+        String imageUrl = s3FileManagementUtil.confirmDirectUpload(userId, ImageUploadPurpose.PROMO, uploadId);
+        PromoPhoto photo = saveImage(promo, imageUrl, promo.getCreator());
+        s3FileManagementUtil.requestDerivatives(imageUrl, derivativeRecorder(photo, imageUrl));
+        eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.UPDATED));
     }
 
     // 단일 이미지 처리 헬퍼 메소드 - 기존 레코드 업데이트 또는 새 레코드 생성
     private void processImage(Promo promo, MultipartFile image, Users uploader) {
-        List<PromoPhoto> existingPhotos = promoPhotoRepository.findByPromoIdAndNotDeleted(promo.getId());
-
         String newImageUrl = s3FileManagementUtil.uploadFile(image, PROMO_PHOTO_DIR, "공연 홍보 이미지 업로드 실패");
+        PromoPhoto photo = saveImage(promo, newImageUrl, uploader);
+        s3FileManagementUtil.requestDerivatives(image, newImageUrl, derivativeRecorder(photo, newImageUrl));
+    }
+
+    private PromoPhoto saveImage(Promo promo, String newImageUrl, Users uploader) {
+        List<PromoPhoto> existingPhotos = promoPhotoRepository.findByPromoIdAndNotDeleted(promo.getId());
 
+        PromoPhoto photo;
         if (!existingPhotos.isEmpty()) {
-            PromoPhoto existingPhoto = existingPhotos.get(0);
-            String oldImageUrl = existingPhoto.getImageUrl();
+            photo = existingPhotos.get(0);
+            String oldImageUrl = photo.getImageUrl();
 
             s3FileManagementUtil.deleteFileSafely(oldImageUrl);
+            s3FileManagementUtil.deleteDerivativesSafely(photo.getThumbnailUrl(), photo.getDisplayUrl());
 
-            existingPhoto.setImageUrl(newImageUrl);
-            existingPhoto.setUploader(uploader);
-            existingPhoto.setUploadedAt(LocalDateTime.now());
-            promoPhotoRepository.save(existingPhoto);
+            photo.setImageUrl(newImageUrl);
+            photo.setThumbnailUrl(null);
+            photo.setDisplayUrl(null);
+            photo.setUploader(uploader);
+            photo.setUploadedAt(LocalDateTime.now());
+            promoPhotoRepository.save(photo);
         } else {
-            PromoPhoto photo = new PromoPhoto();
+            photo = new PromoPhoto();
             photo.setPromo(promo);
             photo.setUploader(uploader);
             photo.setImageUrl(newImageUrl);
             photo.setIsCurrent(true);
             promoPhotoRepository.save(photo);
         }
+        return photo;
+    }
+
+    // 썸네일이 기록되면 조회 캐시도 무효화 (그 전까지 목록은 원본 URL 사용)
+    private ImageDerivativeRecorder derivativeRecorder(PromoPhoto photo, String imageUrl) {
+        Integer photoId = photo.getId();
+        Integer promoId = photo.getPromo().getId();
+        return (thumbnailUrl, displayUrl) -> {
+            int updated = promoPhotoRepository.updateDerivatives(photoId, imageUrl, thumbnailUrl, displayUrl);
+            if (updated > 0) {
+                eventPublisher.publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.UPDATED));
+            }
+            return updated;
+        };
     }
 
     // 단일 이미지 삭제 헬퍼 메소드
@@ -233,24 +317,43 @@ public class PromoService {
             photo.setDeletedAt(LocalDateTime.now());
             // S3에서도 실제 파일 삭제
             s3FileManagementUtil.deleteFileSafely(imageUrl);
+            s3FileManagementUtil.deleteDerivativesSafely(photo.getThumbnailUrl(), photo.getDisplayUrl());
             promoPhotoRepository.save(photo);
         }
     }
 
     // 공연 홍보 검색
     public Page<PromoRespDTO> searchPromos(String keyword, Pageable pageable) {
-        return promoRepository.searchByKeyword(keyword, pageable)
-                .map(PromoRespDTO::from);
+        return searchPromos(keyword, null, pageable);
     }
 
     // 공연 홍보 검색 (사용자별 좋아요 상태 포함)
     public Page<PromoRespDTO> searchPromos(String keyword, Integer userId, Pageable pageable) {
-        return promoRepository.searchByKeyword(keyword, pageable)
-                .map(promo -> {
-                    Boolean isLikedByUser = userId != null ? 
-                            promoLikeService.isLikedByUser(promo.getId(), userId) : null;
-                    return PromoRespDTO.from(promo, isLikedByUser);
-                });
+        // 문자/숫자가 없는 키워드는 모든 공연 홍보와 비교하게 되므로 거부
+        if (keyword == null || NGramTokenizer.queryTokens(NGramTokenizer.normalize(keyword)).isEmpty()) {
+            throw new BadRequestException("검색어에는 문자나 숫자가 하나 이상 포함되어야 합니다.");
+        }
+
+        // 검색 색인이 준비되어 있으면 색인 사용 (관련도순), 아니면 DB LIKE 검색
+        if (!promoSearchIndex.isReady()) {
+            return toRespPage(promoRepository.searchByKeyword(keyword, pageable), userId);
+        }
+
+        return toListRespPage(loadListRows(promoSearchIndex.search(keyword, pageable), pageable), userId);
+    }
+
+    // ID 페이지 순서대로 목록 프로젝션 조회 (색인 반영 전 삭제된 항목은 쿼리에서 제외)
+    private Page<PromoListRow> loadListRows(Page<Integer> idPage, Pageable pageable) {
+        if (idPage.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
+        }
+        Map<Integer, PromoListRow> rowMap = promoRepository.findListRowsByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(PromoListRow::id, Function.identity()));
+        List<PromoListRow> rows = idPage.getContent().stream()
+                .map(rowMap::get)
+                .filter(row -> row != null)
+                .toList();
+        return new PageImpl<>(rows, pageable, idPage.getTotalElements());
     }
 
     // 공연 홍보 필터링
@@ -270,12 +373,7 @@ public class PromoService {
             String teamName,
             Integer userId,
             Pageable pageable) {
-        return promoRepository.filterPromosByTeamName(startDate, endDate, teamName, pageable)
-                .map(promo -> {
-                    Boolean isLikedByUser = userId != null ? 
-                            promoLikeService.isLikedByUser(promo.getId(), userId) : null;
-                    return PromoRespDTO.from(promo, isLikedByUser);
-                });
+        return toRespPage(promoRepository.filterPromosByTeamName(startDate, endDate, teamName, pageable), userId);
     }
 
     // 공연 홍보 필터링 (지도 기반 검색)
@@ -286,70 +384,128 @@ public class PromoService {
         BigDecimal minLng = startLongitude.compareTo(endLongitude) < 0 ? startLongitude : endLongitude;
         BigDecimal maxLng = startLongitude.compareTo(endLongitude) > 0 ? startLongitude : endLongitude;
 
+        // 지도 색인이 준비되어 있고 색인이 처리할 수 있는 정렬이면 색인 사용, 아니면 DB 범위 검색
+        if (promoGeoIndex.isReady() && promoGeoIndex.supports(pageable.getSort())) {
+            Page<Integer> idPage = promoGeoIndex.search(minLat.doubleValue(), maxLat.doubleValue(),
+                    minLng.doubleValue(), maxLng.doubleValue(), pageable);
+            return toListRespPage(loadListRows(idPage, pageable), userId);
+        }
+
         Page<Promo> promos = promoRepository.filterPromosInSpecArea(
                 minLat, maxLat, minLng, maxLng, pageable
         );
 
-        return promos.map(promo -> {
-            Boolean isLikedByUser = userId != null ?
-                    promoLikeService.isLikedByUser(promo.getId(), userId) : null;
-            return PromoRespDTO.from(promo, isLikedByUser);
-        });
+        return toRespPage(promos, userId);
     }
 
-    // 공연 상태별 필터링
-    public Page<PromoRespDTO> filterPromosByStatus(String status, String keyword, String teamName, Integer userId, Pageable pageable) {
-        LocalDate today = LocalDateTime.now().toLocalDate();
-
-        Page<Promo> promos;
-
-        // 상태별 필터링
-        switch (status.toLowerCase()) {
-            case "ongoing":
-                // 진행 중인 공연: 오늘 날짜(오늘 0시~24시 사이)와 일치하는 공연
-                promos = promoRepository.findOngoingPromos(today, pageable);
-                break;
-            case "upcoming":
-                // 예정된 공연: 오늘 이후(오늘 24시 이후)의 공연
-                promos = promoRepository.findUpcomingPromos(today, pageable);
-                break;
-            case "ended":
-                // 종료된 공연: 오늘 이전(오늘 0시 이전)의 공연
-                promos = promoRepository.findEndedPromos(today, pageable);
-                break;
-            default:
-                return Page.empty(pageable);
+    // 지도 클러스터 조회 (줌 레벨별 사전 집계 사용, 색인 재구성 전에는 빈 목록)
+    public List<PromoClusterRespDTO> getMapClusters(BigDecimal startLatitude, BigDecimal startLongitude,
+                                                    BigDecimal endLatitude, BigDecimal endLongitude, int zoom) {
+        double minLat = Math.min(startLatitude.doubleValue(), endLatitude.doubleValue());
+        double maxLat = Math.max(startLatitude.doubleValue(), endLatitude.doubleValue());
+        double minLng = Math.min(startLongitude.doubleValue(), endLongitude.doubleValue());
+        double maxLng = Math.max(startLongitude.doubleValue(), endLongitude.doubleValue());
+
+        return promoGeoIndex.clusters(minLat, maxLat, minLng, maxLng, zoom).stream()
+                .map(PromoClusterRespDTO::from)
+                .toList();
+    }
+
+    // 근처 공연 조회 (오늘 이후 공연, 가까운 순, 커서 기반 페이지네이션)
+    public CursorRespDTO<PromoRespDTO> getNearbyPromos(BigDecimal latitude, BigDecimal longitude, double radiusMeters,
+                                                       String cursor, int size, Integer userId) {
+        if (radiusMeters <= 0 || radiusMeters > MAX_NEARBY_RADIUS_METERS) {
+            throw new BadRequestException("검색 반경은 0보다 크고 " + (int) MAX_NEARBY_RADIUS_METERS + "m 이하여야 합니다.");
         }
-        
-        // 키워드나 팀명 필터링이 있는 경우 메모리에서 추가 필터링
-        if ((keyword != null && !keyword.trim().isEmpty()) || (teamName != null && !teamName.trim().isEmpty())) {
-            List<Promo> filteredContent = promos.getContent().stream()
-                    .filter(promo -> {
-                        boolean matchesKeyword = keyword == null || keyword.trim().isEmpty() ||
-                                promo.getTitle().toLowerCase().contains(keyword.toLowerCase()) ||
-                                (promo.getDescription() != null && promo.getDescription().toLowerCase().contains(keyword.toLowerCase())) ||
-                                (promo.getLocation() != null && promo.getLocation().toLowerCase().contains(keyword.toLowerCase())) ||
-                                promo.getTeamName().toLowerCase().contains(keyword.toLowerCase());
-                        
-                        boolean matchesTeamName = teamName == null || teamName.trim().isEmpty() ||
-                                promo.getTeamName().toLowerCase().contains(teamName.toLowerCase());
-                        
-                        return matchesKeyword && matchesTeamName;
-                    })
-                    .collect(Collectors.toList());
-            
-            // 페이징 처리
-            int start = (int) pageable.getOffset();
-            int end = Math.min(start + pageable.getPageSize(), filteredContent.size());
-            List<Promo> pagedContent = filteredContent.subList(start, end);
-            
-            promos = new PageImpl<>(pagedContent, pageable, filteredContent.size());
+        if (size < 1 || size > MAX_NEARBY_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 이상 " + MAX_NEARBY_SIZE + " 이하여야 합니다.");
         }
-        
-        return promos.map(promo -> {
-            Boolean isLikedByUser = userId != null ?
-                    promoLikeService.isLikedByUser(promo.getId(), userId) : null;
-            return PromoRespDTO.from(promo, isLikedByUser);
-        });
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        // 지도 색인 재구성 전에는 빈 색인 대신 DB 에서 반경 경계 상자 안의 공연으로 계산
+        PromoGeoIndex.Nearby after = parseNearbyCursor(cursor);
+        LocalDateTime eventFrom = LocalDate.now().atStartOfDay();
+        List<PromoGeoIndex.Nearby> nearby = promoGeoIndex.isReady()
+                ? promoGeoIndex.nearest(latitude.doubleValue(), longitude.doubleValue(),
+                        radiusMeters, eventFrom, after, size + 1)
+                : promoGeoIndex.nearestFromDatabase(latitude.doubleValue(), longitude.doubleValue(),
+                        radiusMeters, eventFrom, after, size + 1);
+        boolean hasNext = nearby.size() > size;
+        List<PromoGeoIndex.Nearby> pageItems = hasNext ? nearby.subList(0, size) : nearby;
+
+        Map<Integer, Double> distances = pageItems.stream()
+                .collect(Collectors.toMap(PromoGeoIndex.Nearby::id, PromoGeoIndex.Nearby::distanceMeters));
+        Page<Integer> idPage = new PageImpl<>(pageItems.stream().map(PromoGeoIndex.Nearby::id).toList());
+        List<PromoRespDTO> content = toListRespPage(loadListRows(idPage, idPage.getPageable()), userId).getContent();
+        content.forEach(response -> response.setDistance(distances.get(response.getId())));
+
+        String nextCursor = null;
+        if (hasNext) {
+            PromoGeoIndex.Nearby last = pageItems.get(pageItems.size() - 1);
+            nextCursor = last.distanceMeters() + ":" + last.id();
+        }
+        return CursorRespDTO.of(content, nextCursor, size);
+    }
+
+    // 커서 형식: "{거리(m)}:{공연 홍보 ID}"
+    private PromoGeoIndex.Nearby parseNearbyCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(":");
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException(cursor);
+            }
+            return new PromoGeoIndex.Nearby(Integer.parseInt(parts[1]), Double.parseDouble(parts[0]));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서 형식입니다.");
+        }
+    }
+
+    // 공연 상태별 필터링 (상태/키워드/팀명/기간 조건을 하나의 쿼리로 처리)
+    public Page<PromoRespDTO> filterPromosByStatus(String status, String keyword, String teamName,
+                                                   LocalDateTime startDate, LocalDateTime endDate,
+                                                   Integer userId, Pageable pageable) {
+        Optional<EventStatus> eventStatus = EventStatus.from(status);
+        if (eventStatus.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Specification<Promo> spec = Specification.where(PromoSpecifications.notDeleted())
+                .and(PromoSpecifications.hasStatus(eventStatus.get(), LocalDate.now()))
+                .and(PromoSpecifications.containsKeyword(keyword))
+                .and(PromoSpecifications.teamNameContains(teamName))
+                .and(PromoSpecifications.eventFrom(startDate))
+                .and(PromoSpecifications.eventUntil(endDate));
+
+        // 정렬 조건이 없으면 종료된 공연은 최근 순, 나머지는 가까운 순
+        if (pageable.getSort().isUnsorted()) {
+            Sort.Direction direction = eventStatus.get() == EventStatus.ENDED ? Sort.Direction.DESC : Sort.Direction.ASC;
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(direction, "eventDatetime"));
+        }
+
+        return toRespPage(promoRepository.findAll(spec, pageable), userId);
+    }
+
+    // 페이지 단위 응답 변환 - 좋아요 상태는 페이지 전체를 한 번에 조회
+    private Page<PromoRespDTO> toRespPage(Page<Promo> promos, Integer userId) {
+        if (userId == null) {
+            return promos.map(promo -> PromoRespDTO.from(promo, null));
+        }
+        Set<Integer> likedPromoIds = promoLikeService.getLikedPromoIds(
+                promos.getContent().stream().map(Promo::getId).toList(), userId);
+        return promos.map(promo -> PromoRespDTO.from(promo, likedPromoIds.contains(promo.getId())));
+    }
+
+    // 목록 프로젝션 페이지 응답 변환 - 좋아요 상태는 페이지 전체를 한 번에 조회
+    private Page<PromoRespDTO> toListRespPage(Page<PromoListRow> rows, Integer userId) {
+        if (userId == null) {
+            return rows.map(row -> PromoRespDTO.from(row, null));
+        }
+        Set<Integer> likedPromoIds = promoLikeService.getLikedPromoIds(
+                rows.getContent().stream().map(PromoListRow::id).toList(), userId);
+        return rows.map(row -> PromoRespDTO.from(row, likedPromoIds.contains(row.id())));
     }
 }
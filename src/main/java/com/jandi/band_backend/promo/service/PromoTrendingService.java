@@ -0,0 +1,70 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import com.jandi.band_backend.promo.repository.PromoListRow;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.trending.PromoTrendingIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 공연 홍보 목록
+ * - 순위는 PromoTrendingIndex 에서 ID 페이지로 가져오고, 해당 ID 만 목록 프로젝션으로 한 번에 로드
+ * - 순위 반영 전에 삭제된 공연은 프로젝션 조회에서 제외됨
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PromoTrendingService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PromoTrendingIndex promoTrendingIndex;
+    private final PromoRepository promoRepository;
+    private final PromoLikeService promoLikeService;
+
+    // 인기 공연 홍보 목록 조회 (사용자별 좋아요 상태 포함)
+    public Page<PromoRespDTO> getTrendingPromos(Integer userId, Pageable pageable) {
+        if (pageable.getPageSize() < 1 || pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        Page<Integer> idPage = promoTrendingIndex.page(pageable);
+        List<PromoListRow> rows = loadInRankOrder(idPage.getContent());
+        return new PageImpl<>(toRespList(rows, userId), pageable, idPage.getTotalElements());
+    }
+
+    private List<PromoListRow> loadInRankOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, PromoListRow> rowMap = promoRepository.findListRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PromoListRow::id, Function.identity()));
+        return ids.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<PromoRespDTO> toRespList(List<PromoListRow> rows, Integer userId) {
+        if (userId == null) {
+            return rows.stream().map(row -> PromoRespDTO.from(row, null)).toList();
+        }
+        Set<Integer> likedPromoIds = promoLikeService.getLikedPromoIds(
+                rows.stream().map(PromoListRow::id).toList(), userId);
+        return rows.stream()
+                .map(row -> PromoRespDTO.from(row, likedPromoIds.contains(row.id())))
+                .toList();
+    }
+}
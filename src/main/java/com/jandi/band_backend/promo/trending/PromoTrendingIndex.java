@@ -0,0 +1,272 @@
+package com.jandi.band_backend.promo.trending;
+
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.repository.PromoTrendingSeed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공연 홍보 인기 순위 인메모리 색인 (서버별 로컬)
+ * - 점수 = Σ 가중치 × 반응 수 × 2^(-(현재 - 반응 시각) / 반감기) (시간 감쇠 점수)
+ * - 모든 공연에 같은 감쇠 비율이 곱해지므로 순위 비교에는 기준 시각(baseMillis) 기준 값 w × e^(λ(t - base)) 만 누적
+ *   → 반응마다 해당 공연 점수만 갱신하면 되고 전체 재계산이 없음
+ * - 기준 시각에서 멀어져 지수가 커지면(또는 주기적 정리 시) 전체 점수를 현재 시각 기준으로 다시 맞추고 감쇠가 끝난 공연 제거
+ * - 조회수/좋아요/댓글 변경 이벤트를 커밋 후 받아 반영 (좋아요 취소, 댓글 삭제는 현재 시각 기준 가중치만큼 차감)
+ * - 시작 시 최근 작성된 공연의 누적 반응 수를 작성 시각에 일어난 반응으로 보고 초기 점수 계산
+ * - 다른 서버에서 일어난 반응은 반영되지 않음 (서버마다 받은 트래픽 기준 순위)
+ */
+@Slf4j
+@Component
+public class PromoTrendingIndex {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    // e^50 ≈ 5e21 - 이보다 커지기 전에 기준 시각을 옮겨 double 정밀도/범위 유지
+    private static final double MAX_EXPONENT = 50;
+    // 현재 시각 기준 점수가 이보다 작아진 공연은 정리 시 제거
+    static final double MIN_SCORE = 0.01;
+
+    public enum Signal {
+        VIEW,
+        LIKE,
+        COMMENT
+    }
+
+    /**
+     * 순위 항목 (점수 내림차순, 같은 점수면 ID 오름차순)
+     */
+    record Entry(int id, double score) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int compared = Double.compare(other.score, score);
+            return compared != 0 ? compared : Integer.compare(id, other.id);
+        }
+    }
+
+    private final PromoRepository promoRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<Signal, Double> weights = new EnumMap<>(Signal.class);
+    // 감쇠율 λ (1/ms)
+    private final double decayPerMilli;
+    private final int seedDays;
+
+    private final Map<Integer, Double> scores = new HashMap<>();
+    private final NavigableSet<Entry> ranking = new TreeSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long baseMillis = System.currentTimeMillis();
+
+    public PromoTrendingIndex(PromoRepository promoRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${promo.trending.view-weight:1}") double viewWeight,
+                              @Value("${promo.trending.like-weight:5}") double likeWeight,
+                              @Value("${promo.trending.comment-weight:10}") double commentWeight,
+                              @Value("${promo.trending.half-life-hours:24}") double halfLifeHours,
+                              @Value("${promo.trending.seed-days:7}") int seedDays) {
+        this.promoRepository = promoRepository;
+        this.meterRegistry = meterRegistry;
+        this.weights.put(Signal.VIEW, viewWeight);
+        this.weights.put(Signal.LIKE, likeWeight);
+        this.weights.put(Signal.COMMENT, commentWeight);
+        this.decayPerMilli = Math.log(2) / (halfLifeHours * 3_600_000);
+        this.seedDays = seedDays;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("jandi.promo.trending.size", this, PromoTrendingIndex::size)
+                .description("Number of promotions held in the trending ranking")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 공연의 누적 반응 수로 초기 점수 계산 (시작 이후 들어온 반응과 합산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minusDays(seedDays);
+        int seeded = 0;
+        int lastId = 0;
+        List<PromoTrendingSeed> batch;
+        do {
+            batch = promoRepository.findTrendingSeedsAfterId(since, lastId, PageRequest.of(0, SEED_BATCH_SIZE));
+            for (PromoTrendingSeed seed : batch) {
+                long createdAt = seed.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                record(seed.id(), Signal.VIEW, seed.viewCount(), createdAt);
+                record(seed.id(), Signal.LIKE, seed.likeCount(), createdAt);
+                record(seed.id(), Signal.COMMENT, seed.commentCount(), createdAt);
+                lastId = seed.id();
+                seeded++;
+            }
+        } while (batch.size() == SEED_BATCH_SIZE);
+        log.info("공연 홍보 인기 순위 초기화 완료: promos={}, ranked={}, elapsed={}ms",
+                seeded, size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromoChanged(PromoChangedEvent event) {
+        switch (event.type()) {
+            case VIEWS_FLUSHED -> record(event.promoId(), Signal.VIEW, event.delta());
+            case LIKED -> record(event.promoId(), Signal.LIKE, event.delta());
+            case COMMENTED -> record(event.promoId(), Signal.COMMENT, event.delta());
+            case DELETED -> remove(event.promoId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 반응 반영 (count 가 음수면 차감, 점수가 0 이하가 되면 순위에서 제거)
+     */
+    public void record(Integer promoId, Signal signal, long count) {
+        record(promoId, signal, count, System.currentTimeMillis());
+    }
+
+    void record(Integer promoId, Signal signal, long count, long atMillis) {
+        if (promoId == null || count == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            double exponent = decayPerMilli * (atMillis - baseMillis);
+            if (exponent > MAX_EXPONENT) {
+                rebase(atMillis);
+                exponent = 0;
+            }
+            double increment = weights.get(signal) * count * Math.exp(exponent);
+            Double previous = scores.get(promoId);
+            double updated = (previous != null ? previous : 0) + increment;
+            if (previous != null) {
+                ranking.remove(new Entry(promoId, previous));
+            }
+            if (updated > 0) {
+                scores.put(promoId, updated);
+                ranking.add(new Entry(promoId, updated));
+            } else {
+                scores.remove(promoId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer promoId) {
+        lock.writeLock().lock();
+        try {
+            Double previous = scores.remove(promoId);
+            if (previous != null) {
+                ranking.remove(new Entry(promoId, previous));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기순 공연 홍보 ID 페이지 (전체 개수는 순위에 있는 공연 수)
+     */
+    public Page<Integer> page(Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            List<Integer> ids = new ArrayList<>(pageable.getPageSize());
+            Iterator<Entry> iterator = ranking.iterator();
+            for (long skipped = 0; skipped < pageable.getOffset() && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (ids.size() < pageable.getPageSize() && iterator.hasNext()) {
+                ids.add(iterator.next().id());
+            }
+            return new PageImpl<>(ids, pageable, ranking.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 지정 시각 기준 감쇠가 반영된 점수 (순위에 없으면 0)
+     */
+    double score(Integer promoId, long atMillis) {
+        lock.readLock().lock();
+        try {
+            Double score = scores.get(promoId);
+            return score != null ? score * Math.exp(-decayPerMilli * (atMillis - baseMillis)) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수를 현재 시각 기준으로 다시 맞추고 감쇠가 끝난 공연 제거 (순위 크기 제한)
+     */
+    @Scheduled(cron = "${promo.trending.prune-cron:0 */10 * * * *}")
+    public void prune() {
+        prune(System.currentTimeMillis());
+    }
+
+    void prune(long atMillis) {
+        int removed;
+        lock.writeLock().lock();
+        try {
+            int before = scores.size();
+            rebase(atMillis);
+            removed = before - scores.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (removed > 0) {
+            log.info("공연 홍보 인기 순위 정리: removed={}, remaining={}", removed, size());
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void rebase(long atMillis) {
+        double factor = Math.exp(-decayPerMilli * (atMillis - baseMillis));
+        Map<Integer, Double> rebased = new HashMap<>(scores.size());
+        scores.forEach((id, score) -> {
+            double current = score * factor;
+            if (current >= MIN_SCORE) {
+                rebased.put(id, current);
+            }
+        });
+        scores.clear();
+        scores.putAll(rebased);
+        ranking.clear();
+        rebased.forEach((id, score) -> ranking.add(new Entry(id, score)));
+        baseMillis = atMillis;
+    }
+}
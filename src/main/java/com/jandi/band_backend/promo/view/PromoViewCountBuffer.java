@@ -0,0 +1,145 @@
+package com.jandi.band_backend.promo.view;
+
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공연 홍보 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회 시 메모리 카운터(LongAdder)만 증가시키고, 주기적으로 누적분을 일괄 UPDATE
+ * - UPDATE 는 view_count = view_count + 누적분 형태이므로 여러 서버가 각자 반영해도 합산 결과가 맞음
+ * - 반영 실패 시 누적분을 되돌려 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromoViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE promo SET view_count = view_count + ? WHERE promo_id = ?";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 직전 주기 이후 조회가 없어 비어 있는 카운터는 flush 에서 제거 (삭제된 공연 홍보 포함)
+    private final Map<Integer, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("jandi.promo.views.pending", this, PromoViewCountBuffer::pendingTotal)
+                .description("Number of promotion views not yet flushed to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 - 해당 공연 홍보의 미반영 조회수 반환
+     */
+    public long increment(Integer promoId) {
+        LongAdder adder = pendingViews.computeIfAbsent(promoId, key -> new LongAdder());
+        adder.increment();
+        if (pendingViews.get(promoId) != adder) {
+            // 증가 직후 flush 가 빈 카운터로 보고 제거했으면 새 카운터로 옮김
+            return moveToCurrent(promoId, adder);
+        }
+        return adder.sum();
+    }
+
+    /**
+     * 해당 공연 홍보의 미반영 조회수
+     */
+    public long pendingViews(Integer promoId) {
+        LongAdder adder = pendingViews.get(promoId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 전체 미반영 조회수
+     */
+    public long pendingTotal() {
+        long total = 0;
+        for (LongAdder adder : pendingViews.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 누적 조회수를 DB 에 일괄 반영 - 반영한 공연 홍보 수 반환
+     */
+    @Scheduled(fixedDelayString = "${promo.view-count.flush-interval-ms:5000}")
+    public int flush() {
+        List<Object[]> deltas = new ArrayList<>();
+        pendingViews.forEach((promoId, adder) -> {
+            // sumThenReset 은 셀 단위로 원자적으로 값을 가져오므로 동시 증가분은 이번 또는 다음 주기에 반영됨
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.add(new Object[]{delta, promoId});
+            } else if (pendingViews.remove(promoId, adder)) {
+                // 값 확인과 제거 사이에 들어온 증가분은 새 카운터로 옮김
+                moveToCurrent(promoId, adder);
+            }
+        });
+
+        for (int from = 0; from < deltas.size(); from += FLUSH_BATCH_SIZE) {
+            List<Object[]> batch = deltas.subList(from, Math.min(from + FLUSH_BATCH_SIZE, deltas.size()));
+            try {
+                // 배치 단위로 커밋해 실패 시 일부만 반영된 뒤 재시도로 중복 집계되는 일이 없도록 함
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+                // 캐시된 상세 응답은 반영 전 조회수 기준이므로 반영한 공연 홍보만 무효화 (인기 순위에는 반영분만큼 가산)
+                for (Object[] delta : batch) {
+                    eventPublisher.publishEvent(new PromoChangedEvent(
+                            (Integer) delta[1], PromoChangedEvent.Type.VIEWS_FLUSHED, (Long) delta[0]));
+                }
+            } catch (Exception e) {
+                log.warn("공연 홍보 조회수 반영 실패, 다음 주기에 재시도: count={}, error={}", batch.size(), e.getMessage());
+                restore(batch);
+            }
+        }
+        return deltas.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 맵에서 빠진 카운터의 남은 값을 현재 카운터로 옮김 - 현재 카운터의 미반영 조회수 반환
+     * 증가한 스레드와 제거한 flush 가 동시에 옮겨도 sumThenReset 으로 비우므로 한쪽만 옮김
+     */
+    private long moveToCurrent(Integer promoId, LongAdder removed) {
+        long leftover = removed.sumThenReset();
+        if (leftover > 0) {
+            pendingViews.computeIfAbsent(promoId, key -> new LongAdder()).add(leftover);
+        }
+        return pendingViews(promoId);
+    }
+
+    // 카운터를 보관 중인 공연 홍보 수
+    int size() {
+        return pendingViews.size();
+    }
+
+    private void restore(List<Object[]> batch) {
+        for (Object[] delta : batch) {
+            pendingViews.computeIfAbsent((Integer) delta[1], key -> new LongAdder()).add((Long) delta[0]);
+        }
+    }
+}
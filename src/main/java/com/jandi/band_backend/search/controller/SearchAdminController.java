@@ -0,0 +1,33 @@
+package com.jandi.band_backend.search.controller;
+
+import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.search.dto.SearchReindexRespDTO;
+import com.jandi.band_backend.search.service.SearchReindexService;
+import com.jandi.band_backend.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Search Admin API")
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+public class SearchAdminController {
+
+    private final SearchReindexService searchReindexService;
+
+    @Operation(summary = "검색 전체 재색인 (관리자 전용)")
+    @PostMapping("/reindex")
+    public ResponseEntity<CommonRespDTO<SearchReindexRespDTO>> reindexAll(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SearchReindexRespDTO result = searchReindexService.reindexAll(userDetails.getUserId());
+        return ResponseEntity.ok(CommonRespDTO.success("검색 전체 재색인 완료", result));
+    }
+}
@@ -0,0 +1,39 @@
+package com.jandi.band_backend.search.controller;
+
+import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.search.dto.SearchResultRespDTO;
+import com.jandi.band_backend.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Search API")
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "통합 검색 (공연 홍보/동아리/팀)")
+    @GetMapping
+    public ResponseEntity<CommonRespDTO<PagedRespDTO<SearchResultRespDTO>>> search(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Page<SearchResultRespDTO> results = searchService.search(keyword, type, PageRequest.of(page, size));
+        return ResponseEntity.ok(CommonRespDTO.success("통합 검색 성공", PagedRespDTO.from(results)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.jandi.band_backend.search.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Elasticsearch 통합 검색 문서 (공연 홍보/동아리/팀 공통)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchDocument {
+
+    private String type;
+
+    private Integer targetId;
+
+    // 공연 제목, 동아리명, 팀명
+    private String title;
+
+    // 공연 팀명, 동아리 소속 대학명, 팀 소속 동아리명
+    private String subtitle;
+
+    private String content;
+
+    private String location;
+
+    // ISO-8601 문자열 (매퍼에 JavaTimeModule 없이 직렬화)
+    private String createdAt;
+
+    public String documentId() {
+        return SearchDocumentType.valueOf(type).documentId(targetId);
+    }
+}
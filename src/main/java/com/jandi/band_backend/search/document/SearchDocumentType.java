@@ -0,0 +1,39 @@
+package com.jandi.band_backend.search.document;
+
+import com.jandi.band_backend.club.entity.Club;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.team.entity.Team;
+
+import java.util.Optional;
+
+public enum SearchDocumentType {
+    PROMO, CLUB, TEAM;
+
+    /**
+     * 엔티티에 해당하는 검색 문서 타입 (검색 대상이 아니면 empty)
+     */
+    public static Optional<SearchDocumentType> of(Object entity) {
+        if (entity instanceof Promo) {
+            return Optional.of(PROMO);
+        }
+        if (entity instanceof Club) {
+            return Optional.of(CLUB);
+        }
+        if (entity instanceof Team) {
+            return Optional.of(TEAM);
+        }
+        return Optional.empty();
+    }
+
+    public Integer idOf(Object entity) {
+        return switch (this) {
+            case PROMO -> ((Promo) entity).getId();
+            case CLUB -> ((Club) entity).getId();
+            case TEAM -> ((Team) entity).getId();
+        };
+    }
+
+    public String documentId(Integer targetId) {
+        return name().toLowerCase() + "-" + targetId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.jandi.band_backend.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "전체 재색인 결과 DTO")
+public class SearchReindexRespDTO {
+
+    @Schema(description = "새로 생성된 인덱스 이름", example = "jandi-search-20240301100000")
+    private String indexName;
+
+    @Schema(description = "타입별 색인 문서 수", example = "{\"PROMO\": 120, \"CLUB\": 30, \"TEAM\": 85}")
+    private Map<String, Integer> documentCounts;
+
+    @Schema(description = "소요 시간 (ms)", example = "1520")
+    private long elapsedMillis;
+}
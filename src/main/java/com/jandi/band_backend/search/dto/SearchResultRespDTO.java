@@ -0,0 +1,37 @@
+package com.jandi.band_backend.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "통합 검색 결과 DTO")
+public class SearchResultRespDTO {
+
+    @Schema(description = "검색 대상 타입 (PROMO, CLUB, TEAM)", example = "PROMO")
+    private String type;
+
+    @Schema(description = "검색 대상 ID", example = "1")
+    private Integer targetId;
+
+    @Schema(description = "제목 (공연 제목, 동아리명, 팀명)", example = "락밴드 정기공연")
+    private String title;
+
+    @Schema(description = "부제목 (공연 팀명, 동아리 소속 대학명, 팀 소속 동아리명)", example = "잔디밴드")
+    private String subtitle;
+
+    @Schema(description = "검색 점수", example = "3.2")
+    private Double score;
+
+    @Schema(description = "필드별 하이라이트 조각 (원문은 HTML 이스케이프, <em> 태그로 강조)",
+            example = "{\"title\": [\"<em>락밴드</em> 정기공연\"]}")
+    private Map<String, List<String>> highlights;
+}
@@ -0,0 +1,36 @@
+package com.jandi.band_backend.search.listener;
+
+import com.jandi.band_backend.global.util.TransactionSyncUtil;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import com.jandi.band_backend.search.service.SearchIndexer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 대상 엔티티(Promo, Club, Team) 변경 감지 → 커밋 후 색인 큐에 등록
+ * 검색 기능이 꺼져 있으면 아무 작업도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchEntityListener {
+
+    private final ObjectProvider<SearchIndexer> searchIndexerProvider;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        SearchIndexer searchIndexer = searchIndexerProvider.getIfAvailable();
+        if (searchIndexer == null) {
+            return;
+        }
+        SearchDocumentType.of(entity).ifPresent(type -> {
+            Integer targetId = type.idOf(entity);
+            TransactionSyncUtil.runAfterCommit(() -> searchIndexer.enqueue(type, targetId));
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package com.jandi.band_backend.search.service;
+
+import com.jandi.band_backend.club.entity.Club;
+import com.jandi.band_backend.club.repository.ClubRepository;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import com.jandi.band_backend.team.entity.Team;
+import com.jandi.band_backend.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티 → 검색 문서 변환 (삭제되지 않은 엔티티만 문서로 만듦)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+@Transactional(readOnly = true)
+public class SearchDocumentLoader {
+
+    private final PromoRepository promoRepository;
+    private final ClubRepository clubRepository;
+    private final TeamRepository teamRepository;
+
+    /**
+     * ID 목록으로 검색 문서 조회 (삭제/미존재 대상은 결과에서 빠짐)
+     */
+    public Map<Integer, SearchDocument> loadByIds(SearchDocumentType type, Collection<Integer> ids) {
+        List<SearchDocument> documents = switch (type) {
+            case PROMO -> promoRepository.findAllById(ids).stream()
+                    .filter(promo -> promo.getDeletedAt() == null)
+                    .map(this::fromPromo)
+                    .toList();
+            case CLUB -> clubRepository.findAllById(ids).stream()
+                    .filter(club -> club.getDeletedAt() == null)
+                    .map(this::fromClub)
+                    .toList();
+            case TEAM -> teamRepository.findAllById(ids).stream()
+                    .filter(team -> team.getDeletedAt() == null)
+                    .map(this::fromTeam)
+                    .toList();
+        };
+        return documents.stream()
+                .collect(Collectors.toMap(SearchDocument::getTargetId, Function.identity()));
+    }
+
+    /**
+     * 전체 재색인용 ID 순차 조회
+     */
+    public List<SearchDocument> loadBatchAfter(SearchDocumentType type, Integer lastId, int batchSize) {
+        PageRequest limit = PageRequest.of(0, batchSize);
+        return switch (type) {
+            case PROMO -> promoRepository.findNotDeletedAfterId(lastId, limit).stream()
+                    .map(this::fromPromo)
+                    .toList();
+            case CLUB -> clubRepository.findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(lastId, limit).stream()
+                    .map(this::fromClub)
+                    .toList();
+            case TEAM -> teamRepository.findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(lastId, limit).stream()
+                    .map(this::fromTeam)
+                    .toList();
+        };
+    }
+
+    private SearchDocument fromPromo(Promo promo) {
+        String location = promo.getAddress() == null ? promo.getLocation()
+                : String.join(" ", nullToEmpty(promo.getLocation()), promo.getAddress()).trim();
+        return SearchDocument.builder()
+                .type(SearchDocumentType.PROMO.name())
+                .targetId(promo.getId())
+                .title(promo.getTitle())
+                .subtitle(promo.getTeamName())
+                .content(promo.getDescription())
+                .location(location)
+                .createdAt(format(promo.getCreatedAt()))
+                .build();
+    }
+
+    private SearchDocument fromClub(Club club) {
+        return SearchDocument.builder()
+                .type(SearchDocumentType.CLUB.name())
+                .targetId(club.getId())
+                .title(club.getName())
+                .subtitle(club.getUniversity() != null ? club.getUniversity().getName() : null)
+                .content(club.getDescription())
+                .createdAt(format(club.getCreatedAt()))
+                .build();
+    }
+
+    private SearchDocument fromTeam(Team team) {
+        return SearchDocument.builder()
+                .type(SearchDocumentType.TEAM.name())
+                .targetId(team.getId())
+                .title(team.getName())
+                .subtitle(team.getClub() != null ? team.getClub().getName() : null)
+                .content(team.getDescription())
+                .createdAt(format(team.getCreatedAt()))
+                .build();
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,162 @@
+package com.jandi.band_backend.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.HighlighterEncoder;
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Elasticsearch 저수준 호출 래퍼
+ * 애플리케이션은 항상 별칭(alias)으로 읽고 쓰며, 전체 재색인 시 새 인덱스를 만든 뒤 별칭을 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+public class SearchIndexClient {
+
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+    private static final String TEXT_ANALYZER = "cjk";
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Value("${search.elasticsearch.alias:jandi-search}")
+    private String alias;
+
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * 별칭이 없으면 인덱스를 만들고 별칭 연결
+     */
+    public void ensureAlias() throws IOException {
+        if (elasticsearchClient.indices().existsAlias(e -> e.name(alias)).value()) {
+            return;
+        }
+        String indexName = createIndex();
+        elasticsearchClient.indices().putAlias(p -> p.index(indexName).name(alias));
+        log.info("검색 인덱스 생성: index={}, alias={}", indexName, alias);
+    }
+
+    /**
+     * 매핑을 포함한 새 인덱스 생성
+     */
+    public String createIndex() throws IOException {
+        String indexName = alias + "-" + LocalDateTime.now().format(INDEX_SUFFIX);
+        elasticsearchClient.indices().create(c -> c
+                .index(indexName)
+                .settings(s -> s.numberOfShards("1").numberOfReplicas("0"))
+                .mappings(m -> m
+                        .properties("type", p -> p.keyword(k -> k))
+                        .properties("targetId", p -> p.integer(i -> i))
+                        .properties("title", p -> p.text(t -> t.analyzer(TEXT_ANALYZER)))
+                        .properties("subtitle", p -> p.text(t -> t.analyzer(TEXT_ANALYZER)))
+                        .properties("content", p -> p.text(t -> t.analyzer(TEXT_ANALYZER)))
+                        .properties("location", p -> p.text(t -> t.analyzer(TEXT_ANALYZER)))
+                        .properties("createdAt", p -> p.date(d -> d))));
+        return indexName;
+    }
+
+    /**
+     * 별칭을 새 인덱스로 원자적으로 교체하고 이전 인덱스 삭제
+     */
+    public void swapAlias(String newIndex) throws IOException {
+        Set<String> previousIndices = elasticsearchClient.indices().existsAlias(e -> e.name(alias)).value()
+                ? elasticsearchClient.indices().getAlias(g -> g.name(alias)).result().keySet()
+                : Set.of();
+
+        elasticsearchClient.indices().updateAliases(u -> {
+            u.actions(a -> a.add(add -> add.index(newIndex).alias(alias)));
+            for (String previous : previousIndices) {
+                u.actions(a -> a.remove(remove -> remove.index(previous).alias(alias)));
+            }
+            return u;
+        });
+
+        for (String previous : previousIndices) {
+            if (!previous.equals(newIndex)) {
+                elasticsearchClient.indices().delete(d -> d.index(previous));
+            }
+        }
+    }
+
+    /**
+     * 문서 일괄 색인/삭제 - 실패한 문서 ID 목록 반환
+     */
+    public List<String> bulk(String target, Collection<SearchDocument> upserts, Collection<String> deleteIds)
+            throws IOException {
+        if (upserts.isEmpty() && deleteIds.isEmpty()) {
+            return List.of();
+        }
+
+        BulkRequest.Builder request = new BulkRequest.Builder().index(target);
+        for (SearchDocument document : upserts) {
+            request.operations(op -> op.index(idx -> idx.id(document.documentId()).document(document)));
+        }
+        for (String deleteId : deleteIds) {
+            request.operations(op -> op.delete(del -> del.id(deleteId)));
+        }
+
+        BulkResponse response = elasticsearchClient.bulk(request.build());
+        if (!response.errors()) {
+            return List.of();
+        }
+
+        List<String> failedIds = new ArrayList<>();
+        for (BulkResponseItem item : response.items()) {
+            if (item.error() != null) {
+                log.warn("검색 문서 색인 실패: id={}, reason={}", item.id(), item.error().reason());
+                failedIds.add(item.id());
+            }
+        }
+        return failedIds;
+    }
+
+    /**
+     * 키워드 검색 (제목 > 부제목 > 장소/본문 가중치, 제목/본문 하이라이트)
+     * 하이라이트 조각은 사용자 입력을 그대로 담으므로 HTML 이스케이프한 뒤 강조 태그만 덧붙임
+     */
+    public SearchResponse<SearchDocument> search(String keyword, SearchDocumentType type, int from, int size)
+            throws IOException {
+        return elasticsearchClient.search(s -> s
+                        .index(alias)
+                        .from(from)
+                        .size(size)
+                        .trackTotalHits(t -> t.enabled(true))
+                        .query(q -> q.bool(b -> {
+                            b.must(m -> m.multiMatch(mm -> mm
+                                    .query(keyword)
+                                    .fields("title^3", "subtitle^2", "location", "content")));
+                            if (type != null) {
+                                b.filter(f -> f.term(t -> t.field("type").value(type.name())));
+                            }
+                            return b;
+                        }))
+                        .highlight(h -> h
+                                .encoder(HighlighterEncoder.Html)
+                                .preTags("<em>")
+                                .postTags("</em>")
+                                .fields("title", f -> f.numberOfFragments(0))
+                                .fields("subtitle", f -> f.numberOfFragments(0))
+                                .fields("content", f -> f.fragmentSize(100).numberOfFragments(2))),
+                SearchDocument.class);
+    }
+}
@@ -0,0 +1,192 @@
+package com.jandi.band_backend.search.service;
+
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 검색 색인 파이프라인
+ * - 엔티티 커밋 이벤트를 큐에 쌓고 전용 워커 스레드가 배치 단위로 처리
+ * - 같은 배치 내 동일 대상은 한 번만 처리 (처리 시점의 DB 상태를 색인하므로 마지막 변경이 반영됨)
+ * - 실패한 문서만 지수 백오프로 재시도, 재시도 초과 시 로그만 남기고 전체 재색인으로 복구
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+public class SearchIndexer {
+
+    record SearchIndexTask(SearchDocumentType type, Integer targetId) {
+    }
+
+    private final SearchIndexClient searchIndexClient;
+    private final SearchDocumentLoader searchDocumentLoader;
+    private final BlockingQueue<SearchIndexTask> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    // 전체 재색인 중에는 새 인덱스에도 함께 기록
+    private volatile String shadowIndex;
+    private volatile boolean running;
+    private Thread worker;
+
+    public SearchIndexer(SearchIndexClient searchIndexClient,
+                         SearchDocumentLoader searchDocumentLoader,
+                         @Value("${search.indexer.queue-capacity:10000}") int queueCapacity,
+                         @Value("${search.indexer.batch-size:200}") int batchSize,
+                         @Value("${search.indexer.flush-interval-ms:500}") long flushIntervalMillis,
+                         @Value("${search.indexer.max-attempts:5}") int maxAttempts,
+                         @Value("${search.indexer.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.searchIndexClient = searchIndexClient;
+        this.searchDocumentLoader = searchDocumentLoader;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "search-indexer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // 종료 전 남은 작업 처리
+        List<SearchIndexTask> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            processBatch(remaining);
+        }
+    }
+
+    /**
+     * 색인 작업 등록 (큐가 가득 차면 버리고 경고 - 전체 재색인으로 복구)
+     */
+    public void enqueue(SearchDocumentType type, Integer targetId) {
+        if (!queue.offer(new SearchIndexTask(type, targetId))) {
+            log.warn("검색 색인 큐가 가득 차 작업을 버립니다: type={}, id={}", type, targetId);
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    void setShadowIndex(String shadowIndex) {
+        this.shadowIndex = shadowIndex;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                SearchIndexTask first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<SearchIndexTask> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("검색 색인 배치 처리 중 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    void processBatch(List<SearchIndexTask> batch) {
+        Map<SearchDocumentType, Set<Integer>> idsByType = new LinkedHashMap<>();
+        for (SearchIndexTask task : batch) {
+            idsByType.computeIfAbsent(task.type(), key -> new LinkedHashSet<>()).add(task.targetId());
+        }
+
+        Map<String, SearchDocument> upserts = new LinkedHashMap<>();
+        Set<String> deletes = new LinkedHashSet<>();
+        idsByType.forEach((type, ids) -> {
+            Map<Integer, SearchDocument> documents = searchDocumentLoader.loadByIds(type, ids);
+            for (Integer id : ids) {
+                SearchDocument document = documents.get(id);
+                if (document != null) {
+                    upserts.put(document.documentId(), document);
+                } else {
+                    deletes.add(type.documentId(id));
+                }
+            }
+        });
+
+        sendWithRetry(searchIndexClient.getAlias(), upserts, deletes);
+        String shadow = shadowIndex;
+        if (shadow != null) {
+            sendWithRetry(shadow, upserts, deletes);
+        }
+    }
+
+    private void sendWithRetry(String target, Map<String, SearchDocument> upserts, Set<String> deletes) {
+        Map<String, SearchDocument> pendingUpserts = new LinkedHashMap<>(upserts);
+        Set<String> pendingDeletes = new LinkedHashSet<>(deletes);
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Collection<String> failedIds;
+            try {
+                failedIds = searchIndexClient.bulk(target,
+                        List.copyOf(pendingUpserts.values()), List.copyOf(pendingDeletes));
+            } catch (Exception e) {
+                log.warn("검색 색인 요청 실패 (시도 {}/{}): {}", attempt, maxAttempts, e.getMessage());
+                failedIds = null;
+            }
+
+            if (failedIds != null) {
+                Set<String> failed = Set.copyOf(failedIds);
+                pendingUpserts.keySet().retainAll(failed);
+                pendingDeletes.retainAll(failed);
+            }
+            if (pendingUpserts.isEmpty() && pendingDeletes.isEmpty()) {
+                return;
+            }
+            if (attempt < maxAttempts && !sleep(retryBackoffMillis << (attempt - 1))) {
+                break;
+            }
+        }
+        log.error("검색 색인 재시도 초과: target={}, upserts={}, deletes={}",
+                target, pendingUpserts.keySet(), pendingDeletes);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
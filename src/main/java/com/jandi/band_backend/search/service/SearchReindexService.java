@@ -0,0 +1,111 @@
+package com.jandi.band_backend.search.service;
+
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.exception.InvalidAccessException;
+import com.jandi.band_backend.global.exception.ServiceUnavailableException;
+import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import com.jandi.band_backend.search.dto.SearchReindexRespDTO;
+import com.jandi.band_backend.user.entity.Users;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+public class SearchReindexService {
+
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final SearchIndexClient searchIndexClient;
+    private final SearchDocumentLoader searchDocumentLoader;
+    private final SearchIndexer searchIndexer;
+    private final UserValidationUtil userValidationUtil;
+
+    private final AtomicBoolean reindexing = new AtomicBoolean(false);
+
+    /**
+     * 애플리케이션 시작 시 검색 인덱스/별칭 준비
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        try {
+            searchIndexClient.ensureAlias();
+        } catch (Exception e) {
+            log.error("검색 인덱스 초기화 실패 (전체 재색인 필요): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재색인 (관리자 전용)
+     */
+    public SearchReindexRespDTO reindexAll(Integer userId) {
+        Users user = userValidationUtil.getUserById(userId);
+        if (user.getAdminRole() != Users.AdminRole.ADMIN) {
+            throw new InvalidAccessException("관리자만 접근할 수 있습니다.");
+        }
+        return reindexAll();
+    }
+
+    /**
+     * 새 인덱스에 전체 문서를 색인한 뒤 별칭 교체
+     * 재색인 중 발생한 변경은 색인 파이프라인이 새 인덱스에도 함께 기록
+     */
+    public SearchReindexRespDTO reindexAll() {
+        if (!reindexing.compareAndSet(false, true)) {
+            throw new BadRequestException("이미 전체 재색인이 진행 중입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            String newIndex = searchIndexClient.createIndex();
+            searchIndexer.setShadowIndex(newIndex);
+
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (SearchDocumentType type : SearchDocumentType.values()) {
+                counts.put(type.name(), indexAll(newIndex, type));
+            }
+
+            searchIndexClient.swapAlias(newIndex);
+            long elapsed = System.currentTimeMillis() - startedAt;
+            log.info("검색 전체 재색인 완료: index={}, counts={}, elapsed={}ms", newIndex, counts, elapsed);
+            return new SearchReindexRespDTO(newIndex, counts, elapsed);
+        } catch (IOException e) {
+            log.error("검색 전체 재색인 실패: {}", e.getMessage(), e);
+            throw new ServiceUnavailableException("검색 전체 재색인에 실패했습니다: " + e.getMessage(), e);
+        } finally {
+            searchIndexer.setShadowIndex(null);
+            reindexing.set(false);
+        }
+    }
+
+    private int indexAll(String index, SearchDocumentType type) throws IOException {
+        int count = 0;
+        int lastId = 0;
+        List<SearchDocument> batch;
+        do {
+            batch = searchDocumentLoader.loadBatchAfter(type, lastId, REINDEX_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<String> failedIds = searchIndexClient.bulk(index, batch, List.of());
+            if (!failedIds.isEmpty()) {
+                throw new IOException("문서 색인 실패: " + failedIds);
+            }
+            count += batch.size();
+            lastId = batch.get(batch.size() - 1).getTargetId();
+        } while (batch.size() == REINDEX_BATCH_SIZE);
+        return count;
+    }
+}
@@ -0,0 +1,74 @@
+package com.jandi.band_backend.search.service;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.exception.ServiceUnavailableException;
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import com.jandi.band_backend.search.dto.SearchResultRespDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.elasticsearch.enabled", havingValue = "true")
+public class SearchService {
+
+    private final SearchIndexClient searchIndexClient;
+
+    // 통합 검색 (공연 홍보/동아리/팀)
+    public Page<SearchResultRespDTO> search(String keyword, String type, Pageable pageable) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+        SearchDocumentType documentType = parseType(type);
+
+        SearchResponse<SearchDocument> response;
+        try {
+            response = searchIndexClient.search(keyword.trim(), documentType,
+                    (int) pageable.getOffset(), pageable.getPageSize());
+        } catch (IOException e) {
+            log.error("검색 요청 실패: keyword={}, error={}", keyword, e.getMessage());
+            throw new ServiceUnavailableException("검색 서버에 연결할 수 없습니다.", e);
+        }
+
+        List<SearchResultRespDTO> results = response.hits().hits().stream()
+                .map(this::toResult)
+                .toList();
+        long total = response.hits().total() != null ? response.hits().total().value() : results.size();
+        return new PageImpl<>(results, pageable, total);
+    }
+
+    private SearchResultRespDTO toResult(Hit<SearchDocument> hit) {
+        SearchDocument document = hit.source();
+        return SearchResultRespDTO.builder()
+                .type(document.getType())
+                .targetId(document.getTargetId())
+                .title(document.getTitle())
+                .subtitle(document.getSubtitle())
+                .score(hit.score())
+                .highlights(hit.highlight())
+                .build();
+    }
+
+    private SearchDocumentType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return SearchDocumentType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 검색 타입입니다: " + type);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.jandi.band_backend.team.entity;
 import com.jandi.band_backend.club.entity.Club;
 import com.jandi.band_backend.poll.entity.Poll;
 import com.jandi.band_backend.user.entity.Users;
+import com.jandi.band_backend.search.listener.SearchEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(SearchEntityListener.class)
 @Table(name = "team")
 @Getter
 @Setter
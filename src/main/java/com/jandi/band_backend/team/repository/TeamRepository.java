@@ -18,6 +18,8 @@ public interface TeamRepository extends JpaRepository<Team, Integer> {
     Optional<Team> findByIdAndDeletedAtIsNull(Integer id);
     Page<Team> findAllByClubAndDeletedAtIsNullOrderByCreatedAtDesc(Club club, Pageable pageable);
     List<Team> findAllByClubIdAndDeletedAtIsNull(Integer clubId);
+    // ID 순차 조회 (검색 색인 재구성용)
+    List<Team> findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(Integer lastId, Pageable pageable);
 
     @Modifying
     @Query(value = "UPDATE team SET creator_user_id = -1 WHERE creator_user_id = :userId", nativeQuery = true)
@@ -1,28 +1,37 @@
 package com.jandi.band_backend.univ.controller;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
 import com.jandi.band_backend.univ.dto.RegionRespDTO;
 import com.jandi.band_backend.univ.service.RegionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Tag(name = "Region API")
 @RestController
 @RequestMapping("/api/region")
 @RequiredArgsConstructor
 public class RegionController {
+    // 거의 바뀌지 않는 기준 정보 - 하루 동안 캐시 후 재검증
+    private static final CacheControl REGION_CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
     private final RegionService regionService;
 
     @Operation(summary = "전체 지역 목록 조회")
     @GetMapping("/all")
-    public CommonRespDTO<List<RegionRespDTO>> getAllRegion() {
+    public ResponseEntity<CommonRespDTO<List<RegionRespDTO>>> getAllRegion(WebRequest webRequest) {
         List<RegionRespDTO> regionList = regionService.getAllRegions();
-        return CommonRespDTO.success("지역 리스트 조회 성공", regionList);
+        return ConditionalResponseUtil.respond(webRequest, REGION_CACHE_CONTROL,
+                CommonRespDTO.success("지역 리스트 조회 성공", regionList));
     }
 }
@@ -1,38 +1,51 @@
 package com.jandi.band_backend.univ.controller;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
 import com.jandi.band_backend.univ.dto.UniversityDetailRespDTO;
 import com.jandi.band_backend.univ.dto.UniversityRespDTO;
 import com.jandi.band_backend.univ.service.UniversityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Tag(name = "University API")
 @RestController
 @RequestMapping("/api/univ")
 @RequiredArgsConstructor
 public class UniversityController {
+    // 거의 바뀌지 않는 기준 정보 - 하루 동안 캐시 후 재검증
+    private static final CacheControl UNIV_CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
     private final UniversityService universityService;
 
     @Operation(summary = "대학교 목록 조회")
     @GetMapping("/all")
-    public CommonRespDTO<List<UniversityRespDTO>> getAllUniversity(
+    public ResponseEntity<CommonRespDTO<List<UniversityRespDTO>>> getAllUniversity(
             @RequestParam(defaultValue = "ALL") String filter,
             @RequestParam(required = false) String type,
-            @RequestParam(required = false) String region
+            @RequestParam(required = false) String region,
+            WebRequest webRequest
     ) {
         List<UniversityRespDTO> univList = universityService.getAllUniversity(filter, type, region);
-        return CommonRespDTO.success("대학 정보 조회 성공", univList);
+        return ConditionalResponseUtil.respond(webRequest, UNIV_CACHE_CONTROL,
+                CommonRespDTO.success("대학 정보 조회 성공", univList));
     }
 
     @Operation(summary = "대학교 상세 정보 조회")
     @GetMapping("/{univId}")
-    public CommonRespDTO<UniversityDetailRespDTO> getUniversityById(@PathVariable Integer univId) {
+    public ResponseEntity<CommonRespDTO<UniversityDetailRespDTO>> getUniversityById(
+            @PathVariable Integer univId,
+            WebRequest webRequest) {
         UniversityDetailRespDTO universityById = universityService.getUniversityById(univId);
-        return CommonRespDTO.success("대학 상세 정보 조회 성공", universityById);
+        return ConditionalResponseUtil.respond(webRequest, UNIV_CACHE_CONTROL,
+                CommonRespDTO.success("대학 상세 정보 조회 성공", universityById));
     }
 }
@@ -1,6 +1,7 @@
 package com.jandi.band_backend.user.controller;
 
 import com.jandi.band_backend.global.dto.CommonRespDTO;
+import com.jandi.band_backend.image.dto.UploadConfirmReqDTO;
 import com.jandi.band_backend.security.CustomUserDetails;
 import com.jandi.band_backend.user.dto.UpdateUserInfoReqDTO;
 import com.jandi.band_backend.user.dto.UserInfoDTO;
@@ -8,6 +9,7 @@ import com.jandi.band_backend.user.service.UserPhotoService;
 import com.jandi.band_backend.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -62,4 +64,22 @@ public class UserController {
         );
         return CommonRespDTO.success("내 정보 수정 성공", userInfo);
     }
+
+    @Operation(summary = "프로필 사진 등록 (직접 업로드 확인)",
+            description = "POST /api/images/presigned (purpose=PROFILE) 로 받은 주소에 파일을 올린 뒤 uploadId 로 프로필 사진을 교체합니다.")
+    @PostMapping("/me/profile-photo")
+    public CommonRespDTO<UserInfoDTO> attachUploadedProfilePhoto(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody UploadConfirmReqDTO request
+    ) {
+        Integer userId = userDetails.getUserId();
+
+        userPhotoService.attachUploadedPhoto(userId, request.getUploadId());
+
+        UserInfoDTO userInfo = new UserInfoDTO(
+                userService.getMyInfo(userId),
+                userPhotoService.getMyPhoto(userId)
+        );
+        return CommonRespDTO.success("프로필 사진 등록 성공", userInfo);
+    }
 }
@@ -1,6 +1,7 @@
 package com.jandi.band_backend.user.dto;
 
 import com.jandi.band_backend.club.entity.ClubMember;
+import com.jandi.band_backend.club.entity.ClubPhoto;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,18 +14,21 @@ public class MyClubRespDTO {
     private String name;
     private String description;
     private String photoUrl;
+    // 목록용 썸네일 (생성 전이면 원본)
+    private String thumbnailUrl;
     private String universityName;
     private boolean isUnionClub;
     private ClubMember.MemberRole myRole;
     private LocalDateTime joinedAt;
     private Integer memberCount;
 
-    public static MyClubRespDTO from(ClubMember clubMember, String photoUrl, Integer memberCount) {
+    public static MyClubRespDTO from(ClubMember clubMember, ClubPhoto photo, Integer memberCount) {
         MyClubRespDTO response = new MyClubRespDTO();
         response.setId(clubMember.getClub().getId());
         response.setName(clubMember.getClub().getName());
         response.setDescription(clubMember.getClub().getDescription());
-        response.setPhotoUrl(photoUrl);
+        response.setPhotoUrl(photo != null ? photo.getImageUrl() : null);
+        response.setThumbnailUrl(photo != null ? photo.thumbnailOrImageUrl() : null);
         response.setUniversityName(
             clubMember.getClub().getUniversity() != null ? 
             clubMember.getClub().getUniversity().getName() : null
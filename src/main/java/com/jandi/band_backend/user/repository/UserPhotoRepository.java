@@ -8,12 +8,27 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserPhotoRepository extends JpaRepository<UserPhoto, Long> {
     UserPhoto findByUser(Users user);
 
+    // 여러 사용자의 현재 프로필 사진 일괄 조회 (댓글 목록용)
+    @Query("SELECT up FROM UserPhoto up WHERE up.user.id IN :userIds AND up.isCurrent = true AND up.deletedAt IS NULL")
+    List<UserPhoto> findCurrentByUserIds(@Param("userIds") Collection<Integer> userIds);
+
     @Modifying
     @Query("UPDATE UserPhoto up SET up.deletedAt = :deletedAt WHERE up.user.id = :userId AND up.deletedAt IS NULL")
     int softDeleteByUserId(@Param("userId") Integer userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 이미지 변형 기록 - 생성 중 사진이 교체/삭제됐으면 갱신하지 않음
+    @Modifying
+    @Query("UPDATE UserPhoto up SET up.thumbnailUrl = :thumbnailUrl, up.displayUrl = :displayUrl " +
+           "WHERE up.id = :id AND up.imageUrl = :imageUrl AND up.deletedAt IS NULL")
+    int updateDerivatives(@Param("id") Integer id,
+                          @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("displayUrl") String displayUrl);
 }
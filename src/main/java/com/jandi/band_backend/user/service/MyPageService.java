@@ -32,9 +32,11 @@ public class MyPageService {
 
         return clubMembers.stream()
                 .map(clubMember -> {
-                    String photoUrl = getClubMainPhotoUrl(clubMember.getClub().getId());
+                    ClubPhoto photo = clubPhotoRepository
+                            .findByClubIdAndIsCurrentTrueAndDeletedAtIsNull(clubMember.getClub().getId())
+                            .orElse(null);
                     Integer memberCount = clubMemberRepository.countByClubIdAndDeletedAtIsNull(clubMember.getClub().getId());
-                    return MyClubRespDTO.from(clubMember, photoUrl, memberCount);
+                    return MyClubRespDTO.from(clubMember, photo, memberCount);
                 })
                 .collect(Collectors.toList());
     }
@@ -52,10 +54,4 @@ public class MyPageService {
                 })
                 .collect(Collectors.toList());
     }
-
-    private String getClubMainPhotoUrl(Integer clubId) {
-        return clubPhotoRepository.findByClubIdAndIsCurrentTrueAndDeletedAtIsNull(clubId)
-                .map(ClubPhoto::getImageUrl)
-                .orElse(null);
-    }
 }
@@ -4,6 +4,7 @@ import com.jandi.band_backend.user.entity.UserPhoto;
 import com.jandi.band_backend.user.entity.Users;
 import com.jandi.band_backend.user.repository.UserPhotoRepository;
 import com.jandi.band_backend.global.util.S3FileManagementUtil;
+import com.jandi.band_backend.image.ImageUploadPurpose;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -42,12 +43,36 @@ public class UserPhotoService {
 
         // 프로필 조회
         UserPhoto profile = getMyPhoto(userId);
-        String originalUrl = profile.getImageUrl();
 
         // 새 이미지 업로드 및 이전 이미지 삭제
         String newUrl = s3FileManagementUtil.uploadFile(newProfileFile, USER_PHOTO_DIR, "프로필 사진 업로드 실패");
-        s3FileManagementUtil.deleteFileWithKakaoCheck(originalUrl);
+        replacePhoto(profile, newUrl);
+
+        // 댓글 목록 등 작은 프로필 이미지는 썸네일 사용
+        Integer profileId = profile.getId();
+        s3FileManagementUtil.requestDerivatives(newProfileFile, newUrl, (thumbnailUrl, displayUrl) ->
+                userPhotoRepository.updateDerivatives(profileId, newUrl, thumbnailUrl, displayUrl));
+    }
+
+    /// 저장소에 직접 올린 사진으로 프로필 사진 교체
+    @Transactional
+    public void attachUploadedPhoto(Integer userId, String uploadId) {
+        UserPhoto profile = getMyPhoto(userId);
+        String newUrl = s3FileManagementUtil.confirmDirectUpload(userId, ImageUploadPurpose.PROFILE, uploadId);
+        replacePhoto(profile, newUrl);
+
+        Integer profileId = profile.getId();
+        s3FileManagementUtil.requestDerivatives(newUrl, (thumbnailUrl, displayUrl) ->
+                userPhotoRepository.updateDerivatives(profileId, newUrl, thumbnailUrl, displayUrl));
+    }
+
+    // 이전 이미지(카카오 기본 프로필 제외)와 변형 삭제 후 새 URL 저장
+    private void replacePhoto(UserPhoto profile, String newUrl) {
+        s3FileManagementUtil.deleteFileWithKakaoCheck(profile.getImageUrl());
+        s3FileManagementUtil.deleteDerivativesSafely(profile.getThumbnailUrl(), profile.getDisplayUrl());
         profile.setImageUrl(newUrl);
+        profile.setThumbnailUrl(null);
+        profile.setDisplayUrl(null);
         userPhotoRepository.save(profile);
     }
 }
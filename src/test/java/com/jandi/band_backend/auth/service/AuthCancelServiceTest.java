@@ -9,6 +9,7 @@ import com.jandi.band_backend.global.exception.UserNotFoundException;
 import com.jandi.band_backend.poll.repository.PollRepository;
 import com.jandi.band_backend.poll.repository.PollSongRepository;
 import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
 import com.jandi.band_backend.promo.repository.*;
 import com.jandi.band_backend.security.jwt.JwtTokenProvider;
 import com.jandi.band_backend.team.repository.TeamEventRepository;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 
 import java.time.LocalDateTime;
@@ -71,6 +73,7 @@ class AuthCancelServiceTest {
     @Mock private VoteRepository voteRepository;
     @Mock private PromoLikeRepository promoLikeRepository;
     @Mock private PromoCommentLikeRepository promoCommentLikeRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Users testUser;
     private final Integer TEST_USER_ID = 1;
@@ -151,8 +154,14 @@ class AuthCancelServiceTest {
         verify(promoLikeRepository).findPromoIdsByUserId(TEST_USER_ID);
         verify(promoRepository, times(3)).decrementLikeCount(anyInt());
         verify(promoLikeRepository).deleteByUserId(TEST_USER_ID);
+        verify(promoCommentRepository).decrementLikeCountsLikedByUser(TEST_USER_ID);
         verify(promoCommentLikeRepository).deleteByUserId(TEST_USER_ID);
 
+        // 좋아요가 줄어든 공연 홍보마다 캐시 무효화/인기 순위 차감 이벤트 발행
+        for (Integer promoId : List.of(1, 2, 3)) {
+            verify(eventPublisher).publishEvent(new PromoChangedEvent(promoId, PromoChangedEvent.Type.LIKED, -1));
+        }
+
         // 사용자 상태 변경 검증
         assertFalse(testUser.getIsRegistered());
         assertNotNull(testUser.getDeletedAt());
@@ -0,0 +1,63 @@
+package com.jandi.band_backend.club.controller;
+
+import com.jandi.band_backend.club.dto.ClubDetailRespDTO;
+import com.jandi.band_backend.club.service.ClubService;
+import com.jandi.band_backend.global.util.ConditionalResponseUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClubController 조건부 조회 테스트")
+class ClubControllerConditionalGetTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClubService clubService;
+
+    @InjectMocks
+    private ClubController clubController;
+
+    private final String etag = ConditionalResponseUtil.weakEtag("club", 1, "v1");
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(clubController).build();
+        when(clubService.getClubDetailEtag(1)).thenReturn(etag);
+    }
+
+    @Test
+    @DisplayName("첫 조회는 ETag, Cache-Control 과 함께 200")
+    void getClubDetail_ReturnsEtag() throws Exception {
+        when(clubService.getClubDetail(1)).thenReturn(ClubDetailRespDTO.builder().id(1).name("테스트 밴드").build());
+
+        mockMvc.perform(get("/api/clubs/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.data.name").value("테스트 밴드"));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 상세를 조회하지 않고 304")
+    void getClubDetail_NotModified() throws Exception {
+        mockMvc.perform(get("/api/clubs/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(clubService, never()).getClubDetail(anyInt());
+    }
+}
@@ -10,7 +10,7 @@ import com.jandi.band_backend.club.repository.ClubMemberRepository;
 import com.jandi.band_backend.club.repository.ClubPhotoRepository;
 import com.jandi.band_backend.club.repository.ClubRepository;
 import com.jandi.band_backend.config.IntegrationTest;
-import com.jandi.band_backend.image.S3Service;
+import com.jandi.band_backend.image.StorageService;
 import com.jandi.band_backend.security.jwt.JwtTokenProvider;
 import com.jandi.band_backend.univ.entity.Region;
 import com.jandi.band_backend.univ.entity.University;
@@ -41,7 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <ul>
  *   <li>MockMvc를 사용한 전체 Spring Boot 통합 테스트</li>
  *   <li>실제 JWT 인증 플로우 포함 (JwtTokenProvider 사용)</li>
- *   <li>S3Service는 @MockBean으로 격리 (외부 의존성)</li>
+ *   <li>StorageService는 @MockBean으로 격리 (외부 의존성)</li>
  *   <li>ClubService는 실제 빈 사용 (통합 테스트 목적)</li>
  *   <li>권한 검증(대표자/일반 회원) 포함</li>
  * </ul>
@@ -65,7 +65,7 @@ public class ClubControllerIntegrationTest {
     private ObjectMapper objectMapper;
 
     @MockBean
-    private S3Service s3Service;
+    private StorageService storageService;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
@@ -398,7 +398,7 @@ public class ClubControllerIntegrationTest {
                 "test image content".getBytes()
         );
 
-        given(s3Service.uploadImage(any(), anyString())).willReturn("https://s3.example.com/test.jpg");
+        given(storageService.uploadImage(any(), anyString())).willReturn("https://s3.example.com/test.jpg");
 
         // When & Then
         mockMvc.perform(multipart("/api/clubs/{clubId}/main-image", club.getId())
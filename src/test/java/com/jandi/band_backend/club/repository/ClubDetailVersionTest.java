@@ -0,0 +1,151 @@
+package com.jandi.band_backend.club.repository;
+
+import com.jandi.band_backend.club.entity.Club;
+import com.jandi.band_backend.club.entity.ClubMember;
+import com.jandi.band_backend.club.entity.ClubPhoto;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("동아리 상세 검증 값 조회 테스트")
+class ClubDetailVersionTest {
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private University university;
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        club = new Club();
+        club.setName("테스트 밴드");
+        club.setUniversity(university);
+        entityManager.persist(club);
+        addMember("member_1");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("엔티티를 로드하지 않고 쿼리 한 번으로 검증 값 조회")
+    void findDetailVersion_SingleStatementWithoutEntities() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        ClubDetailVersion version = clubRepository.findDetailVersion(club.getId()).orElseThrow();
+
+        assertThat(version.memberCount()).isEqualTo(1L);
+        assertThat(version.photoUrl()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("부원 가입, 대표 사진 변경 시 검증 값이 바뀜")
+    void findDetailVersion_ChangesWithMembersAndPhoto() {
+        ClubDetailVersion before = clubRepository.findDetailVersion(club.getId()).orElseThrow();
+
+        addMember("member_2");
+        ClubPhoto photo = new ClubPhoto();
+        photo.setClub(entityManager.getReference(Club.class, club.getId()));
+        photo.setImageUrl("https://example.com/club.jpg");
+        photo.setUploadedAt(LocalDateTime.now());
+        entityManager.persist(photo);
+        entityManager.flush();
+        entityManager.clear();
+
+        ClubDetailVersion after = clubRepository.findDetailVersion(club.getId()).orElseThrow();
+
+        assertThat(after).isNotEqualTo(before);
+        assertThat(after.memberCount()).isEqualTo(2L);
+        assertThat(after.photoUrl()).isEqualTo("https://example.com/club.jpg");
+        assertThat(after.etag(club.getId())).isNotEqualTo(before.etag(club.getId()));
+    }
+
+    @Test
+    @DisplayName("같은 행의 대표 사진을 교체/삭제해도 ETag 가 바뀜")
+    void findDetailVersion_ChangesWhenPhotoReplacedInPlace() {
+        ClubPhoto photo = new ClubPhoto();
+        photo.setClub(entityManager.getReference(Club.class, club.getId()));
+        photo.setImageUrl("https://example.com/old.jpg");
+        entityManager.persist(photo);
+        entityManager.flush();
+        entityManager.clear();
+        String before = clubRepository.findDetailVersion(club.getId()).orElseThrow().etag(club.getId());
+
+        // ClubService.uploadClubPhoto 처럼 기존 행의 URL 만 교체
+        ClubPhoto current = entityManager.find(ClubPhoto.class, photo.getId());
+        current.setImageUrl("https://example.com/new.jpg");
+        current.setUploadedAt(LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+        String replaced = clubRepository.findDetailVersion(club.getId()).orElseThrow().etag(club.getId());
+
+        // ClubService.deleteClubPhoto 처럼 기본 이미지로 되돌림
+        current = entityManager.find(ClubPhoto.class, photo.getId());
+        current.setImageUrl("https://example.com/default.png");
+        entityManager.flush();
+        entityManager.clear();
+        String deleted = clubRepository.findDetailVersion(club.getId()).orElseThrow().etag(club.getId());
+
+        assertThat(replaced).isNotEqualTo(before);
+        assertThat(deleted).isNotEqualTo(replaced).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("삭제된 동아리는 검증 값이 없음")
+    void findDetailVersion_DeletedClub() {
+        Club deleted = entityManager.find(Club.class, club.getId());
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.flush();
+
+        assertThat(clubRepository.findDetailVersion(club.getId())).isEmpty();
+    }
+
+    private void addMember(String kakaoId) {
+        Users user = new Users();
+        user.setKakaoOauthId(kakaoId);
+        user.setNickname(kakaoId);
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+
+        ClubMember member = new ClubMember();
+        member.setClub(entityManager.getReference(Club.class, club.getId()));
+        member.setUser(user);
+        entityManager.persist(member);
+    }
+}
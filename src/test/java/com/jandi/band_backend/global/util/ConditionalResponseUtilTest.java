@@ -0,0 +1,104 @@
+package com.jandi.band_backend.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalResponseUtil 조건부 응답 테스트")
+class ConditionalResponseUtilTest {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    @Test
+    @DisplayName("같은 검증 값은 같은 약한 ETag, 값이 바뀌면 다른 ETag")
+    void weakEtag_DependsOnParts() {
+        String etag = ConditionalResponseUtil.weakEtag("club", 1, 3L);
+
+        assertThat(etag).startsWith("W/\"").endsWith("\"");
+        assertThat(ConditionalResponseUtil.weakEtag("club", 1, 3L)).isEqualTo(etag);
+        assertThat(ConditionalResponseUtil.weakEtag("club", 1, 4L)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 없으면 본문과 ETag, Cache-Control 을 담아 200")
+    void respond_WithoutIfNoneMatch_ReturnsBody() {
+        String etag = ConditionalResponseUtil.weakEtag("notices", "1@2024-01-01T00:00");
+
+        ResponseEntity<String> response = ConditionalResponseUtil.respond(request(null), etag, CACHE_CONTROL, () -> "본문");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("본문");
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 본문을 만들지 않고 304")
+    void respond_MatchingEtag_SkipsBody() {
+        String etag = ConditionalResponseUtil.weakEtag("club", 1);
+        AtomicInteger bodyCalls = new AtomicInteger();
+
+        ResponseEntity<String> response = ConditionalResponseUtil.respond(
+                request("\"other\", " + etag), etag, CACHE_CONTROL, () -> {
+                    bodyCalls.incrementAndGet();
+                    return "본문";
+                });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(bodyCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("약한 비교: W/ 접두사가 없는 같은 태그와 * 도 일치")
+    void respond_WeakComparison() {
+        String etag = ConditionalResponseUtil.weakEtag("club", 1);
+        String strong = etag.substring(2);
+
+        assertThat(ConditionalResponseUtil.respond(request(strong), etag, CACHE_CONTROL, () -> "본문")
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(ConditionalResponseUtil.respond(request("*"), etag, CACHE_CONTROL, () -> "본문")
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("ETag 가 null 이면 조건 검사 없이 본문 생성")
+    void respond_NullEtag_ReturnsBody() {
+        ResponseEntity<String> response = ConditionalResponseUtil.respond(request("*"), null, CACHE_CONTROL, () -> "본문");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    @DisplayName("본문 해시 ETag: 같은 본문이면 304, 본문이 바뀌면 200")
+    void respond_ContentEtag() {
+        List<String> body = List.of("서울", "부산");
+        String etag = ConditionalResponseUtil.respond(request(null), CACHE_CONTROL, body).getHeaders().getETag();
+
+        assertThat(ConditionalResponseUtil.respond(request(etag), CACHE_CONTROL, List.of("서울", "부산"))
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        ResponseEntity<List<String>> changed = ConditionalResponseUtil.respond(request(etag), CACHE_CONTROL, List.of("서울"));
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    private WebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jandi.band_backend.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 이미지 변형 생성 처리량 측정 (원본 해상도별, 워커 수별)
+ * - 비교 기준: 원본 전체 디코딩 후 변형마다 원본에서 한 번에 축소 (서브샘플링/단계 축소 없음)
+ * 실행: BENCHMARK=true ./gradlew test --tests '*ImageDerivativeBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("ImageDerivativeGenerator 벤치마크")
+class ImageDerivativeBenchmarkTest {
+
+    private static final int IMAGES = 40;
+    private static final int THREADS = 4;
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @CsvSource({"1600, 1200", "4032, 3024"})
+    void measureThroughput(int width, int height) throws Exception {
+        byte[] source = ImageDerivativeGeneratorTest.encode(photoLike(width, height), "jpeg");
+        ImageDerivativeGenerator generator = new ImageDerivativeGenerator("webp", 0.8f, 40_000_000);
+
+        // 워밍업
+        run(IMAGES / 4, 1, () -> generator.generate(source));
+        run(IMAGES / 4, 1, () -> naive(source));
+
+        long naiveNanos = run(IMAGES, 1, () -> naive(source));
+        long singleNanos = run(IMAGES, 1, () -> generator.generate(source));
+        long concurrentNanos = run(IMAGES, THREADS, () -> generator.generate(source));
+
+        System.out.printf("source=%dx%d (%dKB) naive=%.1f img/s pipeline(1 thread)=%.1f img/s (%.1fms/img) pipeline(%d threads)=%.1f img/s%n",
+                width, height, source.length / 1024,
+                IMAGES * 1e9 / naiveNanos,
+                IMAGES * 1e9 / singleNanos, singleNanos / 1e6 / IMAGES,
+                THREADS, IMAGES * 1e9 / concurrentNanos);
+    }
+
+    private interface Job {
+        Object run() throws Exception;
+    }
+
+    private long run(int images, int threads, Job job) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < images; i++) {
+                futures.add(executor.submit(job::run));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Object naive(byte[] source) throws Exception {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(source));
+        List<byte[]> encoded = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            double scale = (double) variant.maxEdge() / Math.max(decoded.getWidth(), decoded.getHeight());
+            BufferedImage scaled = new BufferedImage((int) (decoded.getWidth() * scale), (int) (decoded.getHeight() * scale),
+                    BufferedImage.TYPE_INT_RGB);
+            scaled.createGraphics().drawImage(decoded, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+            encoded.add(ImageDerivativeGeneratorTest.encode(scaled, "jpeg"));
+        }
+        return encoded;
+    }
+
+    // 그라데이션 + 잡음 (실제 사진과 비슷한 JPEG 크기가 나오도록)
+    private static BufferedImage photoLike(int width, int height) {
+        BufferedImage image = ImageDerivativeGeneratorTest.gradient(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, image.getRGB(x, y) ^ random.nextInt(0x202020));
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,166 @@
+package com.jandi.band_backend.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이미지 변형 생성기 테스트")
+class ImageDerivativeGeneratorTest {
+
+    // 테스트 환경에는 WebP writer 가 없으므로 JPEG/PNG 대체 경로를 검증
+    private final ImageDerivativeGenerator generator = new ImageDerivativeGenerator("webp", 0.8f, 40_000_000);
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율을 유지해 화면용 축소본과 썸네일 생성")
+    void generate_ResizesKeepingAspectRatio() throws IOException {
+        byte[] source = encode(gradient(4000, 3000, BufferedImage.TYPE_INT_RGB), "jpeg");
+
+        Map<ImageVariant, ImageDerivativeGenerator.EncodedImage> images = generator.generate(source);
+
+        BufferedImage display = decode(images.get(ImageVariant.DISPLAY));
+        BufferedImage thumbnail = decode(images.get(ImageVariant.THUMBNAIL));
+        assertThat(display.getWidth()).isEqualTo(1280);
+        assertThat(display.getHeight()).isEqualTo(960);
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+        assertThat(images.get(ImageVariant.THUMBNAIL).contentType()).isEqualTo("image/jpeg");
+        assertThat(images.get(ImageVariant.THUMBNAIL).extension()).isEqualTo("jpg");
+        assertThat(images.get(ImageVariant.THUMBNAIL).bytes().length).isLessThan(source.length);
+    }
+
+    @Test
+    @DisplayName("원본이 변형 크기보다 작으면 크기를 유지하고 다시 인코딩만 함")
+    void generate_DoesNotUpscale() throws IOException {
+        byte[] source = encode(gradient(200, 100, BufferedImage.TYPE_INT_RGB), "png");
+
+        Map<ImageVariant, ImageDerivativeGenerator.EncodedImage> images = generator.generate(source);
+
+        BufferedImage thumbnail = decode(images.get(ImageVariant.THUMBNAIL));
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 PNG 로 저장해 투명도 유지")
+    void generate_KeepsAlphaAsPng() throws IOException {
+        BufferedImage image = new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0x00FFFFFF);
+        byte[] source = encode(image, "png");
+
+        ImageDerivativeGenerator.EncodedImage thumbnail = generator.generate(source).get(ImageVariant.THUMBNAIL);
+
+        assertThat(thumbnail.contentType()).isEqualTo("image/png");
+        BufferedImage decoded = decode(thumbnail);
+        assertThat(decoded.getColorModel().hasAlpha()).isTrue();
+        assertThat(decoded.getRGB(0, 0) >>> 24).isZero();
+    }
+
+    @Test
+    @DisplayName("EXIF 방향이 6(시계 방향 90°)이면 세로 이미지로 회전")
+    void generate_AppliesExifOrientation() throws IOException {
+        // 왼쪽 절반 빨강, 오른쪽 절반 파랑인 가로 이미지 → 회전 후 위쪽 빨강, 아래쪽 파랑
+        BufferedImage image = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 200, 200);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(200, 0, 200, 200);
+        graphics.dispose();
+        byte[] source = withExifOrientation(encode(image, "jpeg"), 6);
+
+        assertThat(ExifOrientation.read(source)).isEqualTo(6);
+        BufferedImage thumbnail = decode(generator.generate(source).get(ImageVariant.THUMBNAIL));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(320);
+        assertThat(new Color(thumbnail.getRGB(80, 20)).getRed()).isGreaterThan(200);
+        assertThat(new Color(thumbnail.getRGB(80, 300)).getBlue()).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("EXIF 가 없거나 JPEG 가 아니면 방향 1")
+    void exifOrientation_DefaultsToNormal() throws IOException {
+        assertThat(ExifOrientation.read(encode(gradient(10, 10, BufferedImage.TYPE_INT_RGB), "jpeg"))).isEqualTo(1);
+        assertThat(ExifOrientation.read(encode(gradient(10, 10, BufferedImage.TYPE_INT_RGB), "png"))).isEqualTo(1);
+        assertThat(ExifOrientation.read(new byte[]{1, 2, 3})).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 파일과 해상도 제한을 넘는 이미지는 거부")
+    void generate_RejectsUnsupportedOrHugeImages() throws IOException {
+        assertThatThrownBy(() -> generator.generate("not an image".getBytes()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("지원하지 않는 이미지 형식입니다.");
+
+        ImageDerivativeGenerator limited = new ImageDerivativeGenerator("webp", 0.8f, 10_000);
+        byte[] source = encode(gradient(200, 100, BufferedImage.TYPE_INT_RGB), "png");
+        assertThatThrownBy(() -> limited.generate(source))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("이미지 해상도가 너무 큽니다");
+    }
+
+    @Test
+    @DisplayName("WebP writer 가 없으면 JPEG(투명도는 PNG) 로 대체하고, JPEG 설정에서는 투명 이미지만 PNG")
+    void outputFormat_FallsBack() {
+        assertThat(generator.outputFormat(false)).isEqualTo("jpeg");
+        assertThat(generator.outputFormat(true)).isEqualTo("png");
+
+        ImageDerivativeGenerator jpeg = new ImageDerivativeGenerator("jpg", 0.8f, 40_000_000);
+        assertThat(jpeg.outputFormat(false)).isEqualTo("jpeg");
+        assertThat(jpeg.outputFormat(true)).isEqualTo("png");
+    }
+
+    static BufferedImage gradient(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, ((x * 255 / width) << 16) | ((y * 255 / height) << 8) | 0x80);
+            }
+        }
+        return image;
+    }
+
+    static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(ImageDerivativeGenerator.EncodedImage image) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(image.bytes()));
+    }
+
+    // JFIF(APP0) 세그먼트 뒤에 방향 태그 하나만 있는 APP1(Exif, 빅 엔디언) 세그먼트 삽입
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer tiff = ByteBuffer.allocate(26);
+        tiff.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+
+        int insertAt = 2;
+        if ((jpeg[2] & 0xFF) == 0xFF && (jpeg[3] & 0xFF) == 0xE0) {
+            insertAt += 2 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        }
+        byte[] exifHeader = {'E', 'x', 'i', 'f', 0, 0};
+        int length = 2 + exifHeader.length + tiff.capacity();
+        ByteBuffer result = ByteBuffer.allocate(jpeg.length + 2 + length);
+        result.put(jpeg, 0, insertAt);
+        result.put((byte) 0xFF).put((byte) 0xE1).putShort((short) length);
+        result.put(exifHeader).put(tiff.array());
+        result.put(jpeg, insertAt, jpeg.length - insertAt);
+        return result.array();
+    }
+}
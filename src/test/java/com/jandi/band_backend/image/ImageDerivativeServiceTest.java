@@ -0,0 +1,177 @@
+package com.jandi.band_backend.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("이미지 변형 파이프라인 테스트")
+class ImageDerivativeServiceTest {
+
+    private static final String ORIGINAL_URL = "https://cdn.example.com/promo-photo/abc.jpg";
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageDerivativeService imageDerivativeService;
+    private byte[] source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        imageDerivativeService = new ImageDerivativeService(
+                new ImageDerivativeGenerator("jpeg", 0.8f, 40_000_000), storageService, transactionTemplate, meterRegistry, 1, 1);
+        source = ImageDerivativeGeneratorTest.encode(
+                ImageDerivativeGeneratorTest.gradient(1600, 1200, BufferedImage.TYPE_INT_RGB), "jpeg");
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(storageService.extractKey(anyString())).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            return url.startsWith("https://cdn.example.com/") ? url.substring("https://cdn.example.com/".length()) : null;
+        });
+        when(storageService.uploadBytes(anyString(), any(), anyString()))
+                .thenAnswer(invocation -> "https://cdn.example.com/" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageDerivativeService.stop();
+    }
+
+    @Test
+    @DisplayName("원본 키 옆에 변형을 올리고 URL 을 기록")
+    void requestDerivatives_UploadsAndRecords() throws InterruptedException {
+        AtomicReference<String> thumbnail = new AtomicReference<>();
+        AtomicReference<String> display = new AtomicReference<>();
+
+        // 트랜잭션 밖이면 즉시 작업 등록
+        imageDerivativeService.requestDerivatives(file(), ORIGINAL_URL, (thumbnailUrl, displayUrl) -> {
+            thumbnail.set(thumbnailUrl);
+            display.set(displayUrl);
+            return 1;
+        });
+        imageDerivativeService.stop();
+
+        assertThat(thumbnail.get()).isEqualTo("https://cdn.example.com/promo-photo/abc_thumb.jpg");
+        assertThat(display.get()).isEqualTo("https://cdn.example.com/promo-photo/abc_display.jpg");
+        verify(storageService).uploadBytes(eq("promo-photo/abc_thumb.jpg"), any(), eq("image/jpeg"));
+        verify(storageService).uploadBytes(eq("promo-photo/abc_display.jpg"), any(), eq("image/jpeg"));
+        assertThat(count("generated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장소에 직접 올라온 원본은 워커에서 내려받아 변형 생성")
+    void requestDerivatives_DownloadsDirectUpload() throws Exception {
+        when(storageService.downloadBytes("promo-photo/abc.jpg")).thenReturn(source);
+        AtomicReference<String> thumbnail = new AtomicReference<>();
+
+        imageDerivativeService.requestDerivatives(ORIGINAL_URL, (thumbnailUrl, displayUrl) -> {
+            thumbnail.set(thumbnailUrl);
+            return 1;
+        });
+        imageDerivativeService.stop();
+
+        assertThat(thumbnail.get()).isEqualTo("https://cdn.example.com/promo-photo/abc_thumb.jpg");
+        assertThat(count("generated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록 시점에 원본이 교체됐으면 만든 변형을 삭제")
+    void process_DeletesDerivativesWhenOriginalReplaced() {
+        imageDerivativeService.process(source, ORIGINAL_URL, (thumbnailUrl, displayUrl) -> 0);
+
+        verify(storageService).deleteImage("https://cdn.example.com/promo-photo/abc_thumb.jpg");
+        verify(storageService).deleteImage("https://cdn.example.com/promo-photo/abc_display.jpg");
+        assertThat(count("discarded")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 파일은 실패로 집계하고 아무것도 올리지 않음")
+    void process_CountsUndecodableAsFailed() {
+        imageDerivativeService.process("not an image".getBytes(), ORIGINAL_URL, (thumbnailUrl, displayUrl) -> 1);
+
+        verify(storageService, never()).uploadBytes(anyString(), any(), anyString());
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이 버킷의 URL 이 아니면(카카오 프로필 등) 건너뜀")
+    void process_SkipsForeignUrls() {
+        imageDerivativeService.process(source, "https://k.kakaocdn.net/profile.jpg", (thumbnailUrl, displayUrl) -> 1);
+
+        verify(storageService, never()).uploadBytes(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("워커와 대기열이 모두 차면 거부하고 원본만 사용")
+    void submit_RejectsWhenQueueFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ImageDerivativeRecorder blocking = (thumbnailUrl, displayUrl) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        };
+
+        imageDerivativeService.submit(source, ORIGINAL_URL, blocking);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        imageDerivativeService.submit(source, ORIGINAL_URL, (thumbnailUrl, displayUrl) -> 1);
+        imageDerivativeService.submit(source, ORIGINAL_URL, (thumbnailUrl, displayUrl) -> 1);
+        release.countDown();
+        imageDerivativeService.stop();
+
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(count("generated")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변형 키는 원본 키의 확장자를 바꾸고 접미사를 붙임")
+    void derivativeKey_ReplacesExtension() {
+        assertThat(ImageDerivativeService.derivativeKey("club-photo/a.b/uuid.png", ImageVariant.THUMBNAIL, "webp"))
+                .isEqualTo("club-photo/a.b/uuid_thumb.webp");
+        assertThat(ImageDerivativeService.derivativeKey("club.photo/uuid", ImageVariant.DISPLAY, "jpg"))
+                .isEqualTo("club.photo/uuid_display.jpg");
+    }
+
+    private MockMultipartFile file() {
+        return new MockMultipartFile("image", "abc.jpg", "image/jpeg", source);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("jandi.image.derivative.total").tag("result", result).counter().count();
+    }
+}
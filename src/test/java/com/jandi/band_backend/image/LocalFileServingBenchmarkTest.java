@@ -0,0 +1,154 @@
+package com.jandi.band_backend.image;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 저장소 파일 제공 처리량 비교 (임베디드 Tomcat NIO 커넥터, 루프백)
+ * - heap: Files.readAllBytes 후 응답 스트림에 쓰기 (이전 방식처럼 파일 전체를 힙에 올림)
+ * - transferTo: FileChannel.transferTo 로 응답 스트림에 전송 (sendfile 미지원 시 경로)
+ * - sendfile: LocalFileResponder 가 요청 속성만 설정하고 Tomcat 이 sendfile(2) 로 전송
+ * 서블릿 스레드가 요청마다 할당한 힙 바이트도 함께 출력
+ * 실행: BENCHMARK=true ./gradlew test --tests '*LocalFileServingBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("로컬 파일 제공 벤치마크")
+class LocalFileServingBenchmarkTest {
+
+    private static final int CLIENTS = 4;
+    private static final int WARMUP = 20;
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest(name = "size={0}KB, requests={1}")
+    @CsvSource({"64, 2000", "5120, 200", "20480, 60"})
+    void compareThroughput(int sizeKb, int requests) throws Exception {
+        Path file = tempDir.resolve("file.bin");
+        Files.write(file, S3StorageBackendLocalS3Test.randomBytes(sizeKb * 1024));
+        long length = Files.size(file);
+
+        AtomicLong heapAllocated = new AtomicLong();
+        AtomicLong transferAllocated = new AtomicLong();
+        AtomicLong sendfileAllocated = new AtomicLong();
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(tempDir.resolve("tomcat").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector();
+        Context context = tomcat.addContext("", null);
+        addServlet(context, "/heap", heapAllocated, (request, response) -> {
+            byte[] bytes = Files.readAllBytes(file);
+            response.setContentType("application/octet-stream");
+            response.setContentLengthLong(bytes.length);
+            response.getOutputStream().write(bytes);
+        });
+        addServlet(context, "/transferTo", transferAllocated, (request, response) -> {
+            response.setContentType("application/octet-stream");
+            response.setContentLengthLong(length);
+            LocalFileResponder.transfer(file, 0, length, response);
+        });
+        addServlet(context, "/sendfile", sendfileAllocated, (request, response) ->
+                LocalFileResponder.respond(file, "application/octet-stream", request, response));
+        tomcat.start();
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            String baseUrl = "http://localhost:" + tomcat.getConnector().getLocalPort();
+            for (String path : List.of("/heap", "/transferTo", "/sendfile")) {
+                run(httpClient, clients, baseUrl + path, WARMUP, length);
+            }
+            heapAllocated.set(0);
+            transferAllocated.set(0);
+            sendfileAllocated.set(0);
+
+            double heap = run(httpClient, clients, baseUrl + "/heap", requests, length);
+            double transfer = run(httpClient, clients, baseUrl + "/transferTo", requests, length);
+            double sendfile = run(httpClient, clients, baseUrl + "/sendfile", requests, length);
+
+            System.out.printf("size=%dKB requests=%d heap=%.0fMB/s (%.0fKB alloc/req) transferTo=%.0fMB/s (%.0fKB alloc/req) "
+                            + "sendfile=%.0fMB/s (%.0fKB alloc/req)%n",
+                    sizeKb, requests,
+                    heap, heapAllocated.get() / 1024.0 / requests,
+                    transfer, transferAllocated.get() / 1024.0 / requests,
+                    sendfile, sendfileAllocated.get() / 1024.0 / requests);
+        } finally {
+            clients.shutdownNow();
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    // MB/s
+    private static double run(HttpClient httpClient, ExecutorService clients, String url, int requests, long length)
+            throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int client = 0; client < CLIENTS; client++) {
+            int share = requests / CLIENTS + (client < requests % CLIENTS ? 1 : 0);
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < share; i++) {
+                    HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                    try (InputStream body = response.body()) {
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        assertThat(body.transferTo(OutputStream.nullOutputStream())).isEqualTo(length);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return requests * length / 1024.0 / 1024.0 / seconds;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpServletRequest request, HttpServletResponse response) throws IOException;
+    }
+
+    private static void addServlet(Context context, String path, AtomicLong allocated, Handler handler) {
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                long before = threads.getCurrentThreadAllocatedBytes();
+                handler.handle(request, response);
+                allocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - before);
+            }
+        };
+        Tomcat.addServlet(context, path, servlet);
+        context.addServletMappingDecoded(path, path);
+    }
+}
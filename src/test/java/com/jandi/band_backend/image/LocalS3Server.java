@@ -0,0 +1,343 @@
+package com.jandi.band_backend.image;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 인프로세스 S3 대역 (경로 방식 주소, 단일 버킷)
+ * - PutObject(서명 주소 PUT 포함), 멀티파트 업로드(시작/파트/완료), Get/HeadObject, DeleteObject(s), ListObjectsV2, GetBucketAcl 만 지원
+ * - 서명은 검증하지 않음
+ * - 요청마다 지연 시간을 넣거나 다음 N개 요청을 500 으로 실패시켜 재시도 / 지연 시간 측정에 사용
+ * - 받은 요청을 "METHOD 경로?쿼리" 형태로 기록
+ */
+class LocalS3Server implements AutoCloseable {
+
+    private static final String XMLNS = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final Pattern KEY_PATTERN = Pattern.compile("<Key>(.*?)</Key>");
+
+    private final HttpServer server;
+    private final String bucket;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+    private final Set<String> undeletableKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+    private volatile long latencyMillis;
+
+    LocalS3Server(String bucket) throws IOException {
+        this.bucket = bucket;
+        // 응답 헤더/본문을 나눠 쓸 때 Nagle + 지연 ACK 로 요청마다 수십 ms 가 더해지지 않도록 (JVM 에서 처음 만든 서버 기준으로 적용)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-s3");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    void failNext(int count) {
+        failuresToInject.set(count);
+    }
+
+    byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    void putObject(String key, byte[] content, String contentType) {
+        objects.put(key, content);
+        if (contentType != null) {
+            contentTypes.put(key, contentType);
+        }
+        lastModified.put(key, Instant.now());
+    }
+
+    void setLastModified(String key, Instant instant) {
+        lastModified.put(key, instant);
+    }
+
+    Set<String> keys() {
+        return Set.copyOf(objects.keySet());
+    }
+
+    // DeleteObjects 에서 지정한 키를 AccessDenied 로 실패시킴
+    void failDeletes(String... keys) {
+        undeletableKeys.addAll(List.of(keys));
+    }
+
+    List<String> requests() {
+        return new ArrayList<>(requests);
+    }
+
+    void clearRequests() {
+        requests.clear();
+    }
+
+    // 저장된 객체와 요청 기록, 주입한 실패 설정 초기화
+    void clear() {
+        objects.clear();
+        contentTypes.clear();
+        lastModified.clear();
+        undeletableKeys.clear();
+        failuresToInject.set(0);
+        requests.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getRawPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            requests.add(method + " " + path + (query != null ? "?" + query : ""));
+            byte[] body = readBody(exchange);
+
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (failuresToInject.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                respond(exchange, 500, "<Error><Code>InternalError</Code><Message>injected</Message>"
+                        + "<RequestId>local</RequestId></Error>");
+                return;
+            }
+
+            String prefix = "/" + bucket;
+            if (!path.startsWith(prefix)) {
+                respond(exchange, 404, "<Error><Code>NoSuchBucket</Code><Message>" + path + "</Message></Error>");
+                return;
+            }
+            String key = path.length() > prefix.length() ? path.substring(prefix.length() + 1) : "";
+            Map<String, String> params = parseQuery(query);
+
+            if (key.isEmpty() && "POST".equals(method) && params.containsKey("delete")) {
+                respond(exchange, 200, deleteObjects(new String(body, StandardCharsets.UTF_8)));
+            } else if (key.isEmpty() && "GET".equals(method) && "2".equals(params.get("list-type"))) {
+                respond(exchange, 200, listObjects(params));
+            } else if (key.isEmpty() && params.containsKey("acl")) {
+                respond(exchange, 200, "<AccessControlPolicy xmlns=\"" + XMLNS + "\"><Owner><ID>local</ID></Owner>"
+                        + "<AccessControlList><Grant><Grantee xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                        + " xsi:type=\"CanonicalUser\"><ID>local</ID></Grantee><Permission>FULL_CONTROL</Permission>"
+                        + "</Grant></AccessControlList></AccessControlPolicy>");
+            } else if ("POST".equals(method) && params.containsKey("uploads")) {
+                String uploadId = UUID.randomUUID().toString();
+                uploads.put(uploadId, new TreeMap<>());
+                respond(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"" + XMLNS + "\"><Bucket>" + bucket
+                        + "</Bucket><Key>" + key + "</Key><UploadId>" + uploadId + "</UploadId>"
+                        + "</InitiateMultipartUploadResult>");
+            } else if ("PUT".equals(method) && params.containsKey("uploadId")) {
+                uploads.get(params.get("uploadId")).put(Integer.parseInt(params.get("partNumber")), body);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+                respond(exchange, 200, null);
+            } else if ("POST".equals(method) && params.containsKey("uploadId")) {
+                ByteArrayOutputStream combined = new ByteArrayOutputStream();
+                for (byte[] part : uploads.remove(params.get("uploadId")).values()) {
+                    combined.write(part);
+                }
+                putObject(key, combined.toByteArray(), null);
+                respond(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"" + XMLNS + "\"><Bucket>" + bucket
+                        + "</Bucket><Key>" + key + "</Key><ETag>\"" + md5(combined.toByteArray()) + "-1\"</ETag>"
+                        + "</CompleteMultipartUploadResult>");
+            } else if ("PUT".equals(method)) {
+                putObject(key, body, exchange.getRequestHeaders().getFirst("Content-Type"));
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+                respond(exchange, 200, null);
+            } else if ("HEAD".equals(method) || "GET".equals(method)) {
+                byte[] object = objects.get(key);
+                if (object == null) {
+                    respond(exchange, 404, "HEAD".equals(method) ? null
+                            : "<Error><Code>NoSuchKey</Code><Message>" + key + "</Message></Error>");
+                    return;
+                }
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(object) + "\"");
+                exchange.getResponseHeaders().add("Content-Type", contentTypes.getOrDefault(key, "application/octet-stream"));
+                if ("HEAD".equals(method)) {
+                    exchange.getResponseHeaders().add("Content-Length", String.valueOf(object.length));
+                    exchange.sendResponseHeaders(200, -1);
+                    return;
+                }
+                exchange.sendResponseHeaders(200, object.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(object);
+                }
+            } else if ("DELETE".equals(method)) {
+                removeObject(key);
+                respond(exchange, 204, null);
+            } else {
+                respond(exchange, 400, "<Error><Code>NotImplemented</Code><Message>" + method + "</Message></Error>");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void removeObject(String key) {
+        objects.remove(key);
+        contentTypes.remove(key);
+        lastModified.remove(key);
+    }
+
+    // 조용한(quiet) 모드 응답 - 실패한 키만 돌려줌
+    private String deleteObjects(String requestXml) {
+        StringBuilder result = new StringBuilder("<DeleteResult xmlns=\"" + XMLNS + "\">");
+        Matcher matcher = KEY_PATTERN.matcher(requestXml);
+        while (matcher.find()) {
+            String key = unescape(matcher.group(1));
+            if (undeletableKeys.contains(key)) {
+                result.append("<Error><Key>").append(escape(key)).append("</Key><Code>AccessDenied</Code>")
+                        .append("<Message>injected</Message></Error>");
+            } else {
+                removeObject(key);
+            }
+        }
+        return result.append("</DeleteResult>").toString();
+    }
+
+    // 키 순서로 정렬, 이어받기 토큰은 마지막 키
+    private String listObjects(Map<String, String> params) {
+        String prefix = decode(params.getOrDefault("prefix", ""));
+        String after = params.containsKey("continuation-token") ? decode(params.get("continuation-token")) : "";
+        int maxKeys = Integer.parseInt(params.getOrDefault("max-keys", "1000"));
+        List<String> matched = objects.keySet().stream()
+                .filter(key -> key.startsWith(prefix) && key.compareTo(after) > 0)
+                .sorted()
+                .toList();
+        List<String> page = matched.subList(0, Math.min(maxKeys, matched.size()));
+        boolean truncated = matched.size() > page.size();
+
+        StringBuilder result = new StringBuilder("<ListBucketResult xmlns=\"" + XMLNS + "\"><Name>" + bucket + "</Name>")
+                .append("<Prefix>").append(escape(prefix)).append("</Prefix><KeyCount>").append(page.size())
+                .append("</KeyCount><MaxKeys>").append(maxKeys).append("</MaxKeys><IsTruncated>").append(truncated)
+                .append("</IsTruncated>");
+        if (truncated) {
+            result.append("<NextContinuationToken>").append(escape(page.get(page.size() - 1))).append("</NextContinuationToken>");
+        }
+        for (String key : page) {
+            byte[] object = objects.get(key);
+            result.append("<Contents><Key>").append(escape(key)).append("</Key><LastModified>")
+                    .append(lastModified.getOrDefault(key, Instant.now()).truncatedTo(ChronoUnit.MILLIS)).append("</LastModified><ETag>&quot;")
+                    .append(md5(object)).append("&quot;</ETag><Size>").append(object.length)
+                    .append("</Size><StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        return result.append("</ListBucketResult>").toString();
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+    }
+
+    // HTTP 로 보내는 SDK 요청 본문은 aws-chunked 인코딩 ("크기;chunk-signature=...\r\n데이터\r\n" 반복)
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            raw = inputStream.readAllBytes();
+        }
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha == null || !contentSha.startsWith("STREAMING-")) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0], 16);
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalStateException("잘못된 aws-chunked 본문");
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new TreeMap<>();
+        if (query == null) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            params.put(separator < 0 ? pair : pair.substring(0, separator), separator < 0 ? "" : pair.substring(separator + 1));
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String xml) throws IOException {
+        if (xml == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static String md5(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
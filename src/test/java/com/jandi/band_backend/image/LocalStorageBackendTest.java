@@ -0,0 +1,167 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.StorageBackend.ObjectPage;
+import com.jandi.band_backend.image.StorageBackend.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalStorageBackend 단위 테스트")
+class LocalStorageBackendTest {
+
+    private static final String BASE_URL = "http://localhost:8080/files";
+
+    @TempDir
+    Path root;
+
+    private LocalStorageBackend backend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backend = new LocalStorageBackend(root.toString(), BASE_URL + "/", "test-secret");
+    }
+
+    @Test
+    @DisplayName("저장한 파일을 키로 조회하고 확장자로 형식을 판단한다")
+    void put_ThenHeadAndRead() throws IOException {
+        byte[] content = S3StorageBackendLocalS3Test.randomBytes(1000);
+
+        backend.put("promo-photo/a.webp", new ByteArrayInputStream(content), content.length, "image/webp");
+
+        StoredObject object = backend.head("promo-photo/a.webp");
+        assertThat(object.size()).isEqualTo(1000);
+        assertThat(object.contentType()).isEqualTo("image/webp");
+        assertThat(backend.read("promo-photo/a.webp")).isEqualTo(content);
+        assertThat(backend.head("promo-photo/missing.jpg")).isNull();
+        assertThat(backend.baseUrl()).isEqualTo(BASE_URL);
+        try (var files = Files.list(root.resolve("promo-photo"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("선언한 크기와 다르게 들어오면 저장하지 않고 임시 파일도 남기지 않는다")
+    void put_SizeMismatch_Fails() throws IOException {
+        assertThatThrownBy(() -> backend.put("promo-photo/short.jpg", new ByteArrayInputStream(new byte[5]), 10, "image/jpeg"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to upload file to local storage");
+
+        try (var files = Files.list(root.resolve("promo-photo"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("루트 밖을 가리키는 키는 거부한다")
+    void resolve_RejectsTraversal() {
+        assertThatThrownBy(() -> backend.resolve("../outside.jpg")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backend.resolve("promo-photo/../../outside.jpg")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backend.resolve("")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(backend.deleteAll(List.of("../outside.jpg"))).containsKey("../outside.jpg");
+    }
+
+    @Test
+    @DisplayName("업로드 중인 임시 파일은 키로 조회할 수 없다")
+    void resolve_RejectsTempFiles() throws IOException {
+        Files.createDirectories(root.resolve("promo-photo"));
+        Files.write(root.resolve("promo-photo/a.jpg.1234.uploading"), new byte[1]);
+
+        assertThatThrownBy(() -> backend.resolve("promo-photo/a.jpg.1234.uploading"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backend.resolve("promo-photo/./a.jpg.1234.uploading"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(backend.resolve("promo-photo/a.jpg")).isEqualTo(root.resolve("promo-photo/a.jpg"));
+    }
+
+    @Test
+    @DisplayName("접두어 아래 파일을 키 순서로 나눠 조회한다")
+    void list_PagesInKeyOrder() {
+        for (String key : List.of("user-photo/c.jpg", "user-photo/a.jpg", "user-photo/b.jpg", "notice-photo/x.jpg")) {
+            backend.put(key, new ByteArrayInputStream(new byte[1]), 1, "image/jpeg");
+        }
+
+        ObjectPage first = backend.list("user-photo/", null, 2);
+        assertThat(first.objects()).extracting(StoredObject::key).containsExactly("user-photo/a.jpg", "user-photo/b.jpg");
+        assertThat(first.nextToken()).isEqualTo("user-photo/b.jpg");
+
+        ObjectPage second = backend.list("user-photo/", first.nextToken(), 2);
+        assertThat(second.objects()).extracting(StoredObject::key).containsExactly("user-photo/c.jpg");
+        assertThat(second.nextToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("하위 디렉터리가 섞여도 전체 키 문자열 순서로 이어서 조회하고 접두어 밖과 임시 파일은 제외한다")
+    void list_NestedDirectoriesInKeyOrder() throws IOException {
+        List<String> keys = new ArrayList<>(List.of(
+                "club-photo/a.jpg", "club-photo/a-b.jpg", "club-photo/a/x.jpg", "club-photo/a/y/z.jpg",
+                "club-photo/b/c.jpg", "club-photo/ab.jpg", "club-photo-old/d.jpg", "promo-photo/e.jpg"));
+        for (String key : keys) {
+            backend.put(key, new ByteArrayInputStream(new byte[1]), 1, "image/jpeg");
+        }
+        Files.write(root.resolve("club-photo/b/c.jpg.1234.uploading"), new byte[1]);
+
+        List<String> listed = new ArrayList<>();
+        String token = null;
+        do {
+            ObjectPage page = backend.list("club-photo/", token, 2);
+            assertThat(page.objects()).hasSizeLessThanOrEqualTo(2);
+            page.objects().forEach(object -> listed.add(object.key()));
+            token = page.nextToken();
+        } while (token != null);
+
+        assertThat(listed).containsExactlyElementsOf(keys.stream()
+                .filter(key -> key.startsWith("club-photo/"))
+                .sorted()
+                .toList());
+        assertThat(backend.list("club-photo/a", null, 10).objects()).extracting(StoredObject::key)
+                .containsExactly("club-photo/a-b.jpg", "club-photo/a.jpg", "club-photo/a/x.jpg",
+                        "club-photo/a/y/z.jpg", "club-photo/ab.jpg");
+        assertThat(backend.list("club-photo", null, 10).objects()).hasSize(7);
+        assertThat(backend.list("missing/", null, 10).objects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 파일을 삭제하고 없는 키는 성공으로 처리한다")
+    void deleteAll_IgnoresMissingKeys() {
+        backend.put("club-gal-photo/a.jpg", new ByteArrayInputStream(new byte[1]), 1, "image/jpeg");
+
+        assertThat(backend.deleteAll(List.of("club-gal-photo/a.jpg", "club-gal-photo/missing.jpg"))).isEmpty();
+        assertThat(backend.head("club-gal-photo/a.jpg")).isNull();
+    }
+
+    @Test
+    @DisplayName("직접 업로드 주소는 서명한 형식/크기/만료 시각에서만 유효하다")
+    void presignPut_SignsContentTypeAndLength() {
+        Instant expiresAt = Instant.now().plusSeconds(300);
+        UriComponents uri = UriComponentsBuilder
+                .fromUriString(backend.presignPut("promo-photo/a.jpg", "image/jpeg", 100, expiresAt)).build();
+        long expires = Long.parseLong(uri.getQueryParams().getFirst("expires"));
+        String signature = uri.getQueryParams().getFirst("signature");
+
+        assertThat(uri.getPath()).isEqualTo("/files/promo-photo/a.jpg");
+        assertThat(backend.verifyUpload("promo-photo/a.jpg", "image/jpeg", 100, expires, signature)).isTrue();
+        assertThat(backend.verifyUpload("promo-photo/a.jpg", "image/jpeg", 101, expires, signature)).isFalse();
+        assertThat(backend.verifyUpload("promo-photo/a.jpg", "image/png", 100, expires, signature)).isFalse();
+        assertThat(backend.verifyUpload("promo-photo/b.jpg", "image/jpeg", 100, expires, signature)).isFalse();
+        assertThat(backend.verifyUpload("promo-photo/a.jpg", "image/jpeg", 100, expires + 1, signature)).isFalse();
+
+        long expired = Instant.now().minusSeconds(1).getEpochSecond();
+        String expiredUrl = backend.presignPut("promo-photo/a.jpg", "image/jpeg", 100, Instant.ofEpochSecond(expired));
+        String expiredSignature = UriComponentsBuilder.fromUriString(expiredUrl).build().getQueryParams().getFirst("signature");
+        assertThat(backend.verifyUpload("promo-photo/a.jpg", "image/jpeg", 100, expired, expiredSignature)).isFalse();
+    }
+}
@@ -0,0 +1,158 @@
+package com.jandi.band_backend.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("LocalStorageController 테스트")
+class LocalStorageControllerTest {
+
+    private static final String KEY = "promo-photo/poster.jpg";
+
+    @TempDir
+    Path root;
+
+    private LocalStorageBackend backend;
+    private MockMvc mockMvc;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backend = new LocalStorageBackend(root.toString(), "http://localhost/files", "test-secret");
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalStorageController(backend)).build();
+        content = S3StorageBackendLocalS3Test.randomBytes(1000);
+        backend.put(KEY, new ByteArrayInputStream(content), content.length, "image/jpeg");
+    }
+
+    @Test
+    @DisplayName("파일 전체를 장기 캐시 헤더와 함께 응답한다")
+    void serve_FullFileWithCacheHeaders() throws Exception {
+        mockMvc.perform(get("/files/" + KEY))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(content))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 해당 구간만 206 으로 응답한다")
+    void serve_SingleRange() throws Exception {
+        mockMvc.perform(get("/files/" + KEY).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+
+        mockMvc.perform(get("/files/" + KEY).header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 990-999/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 990, 1000)));
+
+        mockMvc.perform(get("/files/" + KEY).header(HttpHeaders.RANGE, "bytes=900-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 900-999/1000"));
+    }
+
+    @Test
+    @DisplayName("파일 길이를 넘는 Range 는 416, 여러 구간 요청은 전체 응답")
+    void serve_UnsatisfiableAndMultiRange() throws Exception {
+        mockMvc.perform(get("/files/" + KEY).header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"));
+
+        mockMvc.perform(get("/files/" + KEY).header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 304, HEAD 는 본문 없이 헤더만 응답한다")
+    void serve_ConditionalAndHead() throws Exception {
+        String etag = mockMvc.perform(head("/files/" + KEY))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+                .andExpect(content().bytes(new byte[0]))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/files/" + KEY).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Tomcat sendfile 을 지원하면 본문을 쓰지 않고 파일 경로와 범위만 넘긴다")
+    void serve_DelegatesToSendfile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/files/" + KEY)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(new byte[0]))
+                .andReturn();
+
+        MockHttpServletRequest request = result.getRequest();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(backend.resolve(KEY).toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(10L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("없는 파일이나 루트 밖 경로는 404")
+    void serve_NotFound() throws Exception {
+        mockMvc.perform(get("/files/promo-photo/missing.jpg")).andExpect(status().isNotFound());
+        mockMvc.perform(get(URI.create("/files/promo-photo/..%2F..%2Fsecret"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("업로드 중인 임시 파일은 GET/HEAD 모두 404")
+    void serve_TempFileNotFound() throws Exception {
+        String tempKey = KEY + ".1234.uploading";
+        Files.write(root.resolve(tempKey), new byte[5]);
+
+        mockMvc.perform(get("/files/" + tempKey)).andExpect(status().isNotFound());
+        mockMvc.perform(head("/files/" + tempKey)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("서명한 형식/크기로 올린 파일만 저장한다")
+    void upload_VerifiesSignature() throws Exception {
+        byte[] upload = S3StorageBackendLocalS3Test.randomBytes(64);
+        String url = backend.presignPut("user-photo/new.png", "image/png", upload.length, Instant.now().plusSeconds(60));
+        String path = url.substring("http://localhost".length());
+
+        mockMvc.perform(put(path).contentType("image/jpeg").content(upload))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(path).contentType("image/png").content(new byte[65]))
+                .andExpect(status().isForbidden());
+        assertThat(backend.head("user-photo/new.png")).isNull();
+
+        mockMvc.perform(put(path).contentType("image/png").content(upload))
+                .andExpect(status().isOk());
+        assertThat(backend.read("user-photo/new.png")).isEqualTo(upload);
+    }
+}
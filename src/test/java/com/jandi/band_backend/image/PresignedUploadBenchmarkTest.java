@@ -0,0 +1,117 @@
+package com.jandi.band_backend.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.jandi.band_backend.image.dto.PresignedUploadRespDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 업로드 한 건당 애플리케이션 스레드 점유 시간 비교 (로컬 S3 대역, 요청마다 인위적 지연 추가)
+ * - 서버 경유: StorageService.uploadImage (서버가 파일을 저장소로 전송)
+ * - 직접 업로드: 주소 발급 + 확인(HEAD) 만 서버에서 처리, 파일 전송은 클라이언트 몫 (별도 표시)
+ * - 서버 경유 방식에서 클라이언트 → Tomcat 본문 수신 시간은 포함하지 않음 (실제 절감 폭은 더 큼)
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PresignedUploadBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("직접 업로드 벤치마크")
+class PresignedUploadBenchmarkTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int UPLOADS = 30;
+
+    @ParameterizedTest(name = "latency={0}ms, size={1}KB")
+    @CsvSource({"0, 500", "20, 500", "20, 5120"})
+    void compareAppThreadTime(long latencyMillis, int sizeKb) throws Exception {
+        byte[] content = S3StorageBackendLocalS3Test.randomBytes(sizeKb * 1024);
+        HttpClient httpClient = HttpClient.newHttpClient();
+        try (LocalS3Server localS3 = new LocalS3Server(BUCKET)) {
+            AmazonS3Client client = S3StorageBackendLocalS3Test.localClient(localS3, 3);
+            S3StorageBackend s3StorageBackend = new S3StorageBackend(client, new SimpleMeterRegistry(), BUCKET, "https://cdn.example.com",
+                    4, DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+            StorageService storageService = new StorageService(s3StorageBackend);
+            PresignedUploadService presignedUploadService = new PresignedUploadService(storageService, inMemoryRedis(),
+                    Duration.ofMinutes(5), DataSize.ofMegabytes(10));
+            MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", content);
+
+            // 워밍업
+            for (int i = 0; i < 5; i++) {
+                storageService.uploadImage(file, "warmup");
+                directUpload(presignedUploadService, httpClient, content);
+            }
+            localS3.setLatencyMillis(latencyMillis);
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < UPLOADS; i++) {
+                storageService.uploadImage(file, "proxied");
+            }
+            double proxied = (System.nanoTime() - startedAt) / 1e6 / UPLOADS;
+
+            long appNanos = 0;
+            long clientNanos = 0;
+            for (int i = 0; i < UPLOADS; i++) {
+                long[] elapsed = directUpload(presignedUploadService, httpClient, content);
+                appNanos += elapsed[0];
+                clientNanos += elapsed[1];
+            }
+
+            System.out.printf("latency=%dms size=%dKB proxied=%.1fms/upload direct(app)=%.1fms/upload direct(client PUT)=%.1fms/upload%n",
+                    latencyMillis, sizeKb, proxied, appNanos / 1e6 / UPLOADS, clientNanos / 1e6 / UPLOADS);
+            s3StorageBackend.stop();
+        }
+    }
+
+    // [서버 처리 시간(발급 + 확인), 클라이언트 업로드 시간]
+    private static long[] directUpload(PresignedUploadService presignedUploadService, HttpClient httpClient, byte[] content)
+            throws Exception {
+        long startedAt = System.nanoTime();
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1,
+                PresignedUploadServiceTest.request(ImageUploadPurpose.PROMO, "image/jpeg", content.length));
+        long issuedNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        httpClient.send(HttpRequest.newBuilder(URI.create(issued.getUploadUrl()))
+                        .header("Content-Type", "image/jpeg")
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        long clientNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId());
+        return new long[]{issuedNanos + System.nanoTime() - startedAt, clientNanos};
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate inMemoryRedis() {
+        Map<String, String> redis = new ConcurrentHashMap<>();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+        return redisTemplate;
+    }
+}
@@ -0,0 +1,225 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.exception.InvalidAccessException;
+import com.jandi.band_backend.image.dto.PresignedUploadReqDTO;
+import com.jandi.band_backend.image.dto.PresignedUploadRespDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직접 업로드 발급 → 클라이언트 PUT → 확인 흐름을 로컬 S3 대역으로 검증 (Redis 는 맵으로 대체)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("직접 업로드 테스트")
+class PresignedUploadServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String S3_URL = "https://test-cdn.example.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private LocalS3Server localS3;
+    private S3StorageBackend s3StorageBackend;
+    private StorageService storageService;
+    private PresignedUploadService presignedUploadService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        localS3 = new LocalS3Server(BUCKET);
+        s3StorageBackend = new S3StorageBackend(S3StorageBackendLocalS3Test.localClient(localS3, 0), new SimpleMeterRegistry(),
+                BUCKET, S3_URL, 1, DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+        storageService = new StorageService(s3StorageBackend);
+        presignedUploadService = new PresignedUploadService(storageService, redisTemplate,
+                Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3StorageBackend.stop();
+        localS3.close();
+    }
+
+    @Test
+    @DisplayName("발급받은 주소로 직접 올린 파일을 확인하면 URL 을 반환하고 서버는 HEAD 만 보냄")
+    void issueUploadConfirm_ReturnsUrl() throws Exception {
+        byte[] content = S3StorageBackendLocalS3Test.randomBytes(200 * 1024);
+
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1, request(ImageUploadPurpose.PROMO, "image/jpeg", content.length));
+
+        assertThat(issued.getMethod()).isEqualTo("PUT");
+        assertThat(issued.getHeaders()).containsEntry("Content-Type", "image/jpeg");
+        assertThat(issued.getUploadUrl()).contains("/" + BUCKET + "/promo-photo/")
+                .contains("X-Amz-SignedHeaders=content-length%3Bcontent-type%3Bhost");
+
+        assertThat(put(issued, content, "image/jpeg")).isEqualTo(200);
+        localS3.clearRequests();
+
+        String url = presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId());
+
+        String key = storageService.extractKey(url);
+        assertThat(key).startsWith("promo-photo/").endsWith(".jpg");
+        assertThat(localS3.object(key)).isEqualTo(content);
+        assertThat(localS3.requests()).containsExactly("HEAD /" + BUCKET + "/" + key);
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이나 최대 크기를 넘는 요청은 발급하지 않음")
+    void issue_RejectsInvalidRequests() {
+        assertThatThrownBy(() -> presignedUploadService.issue(1, request(ImageUploadPurpose.PROMO, "image/svg+xml", 100)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("지원하지 않는 이미지 형식입니다");
+        assertThatThrownBy(() -> presignedUploadService.issue(1, request(ImageUploadPurpose.PROMO, "image/png", 2 * 1024 * 1024)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지 크기는 1MB 이하여야 합니다.");
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 사용자나 다른 용도로는 확인할 수 없음")
+    void confirm_RejectsOtherUserAndPurpose() throws Exception {
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1, request(ImageUploadPurpose.PROFILE, "image/png", 10));
+        put(issued, new byte[10], "image/png");
+
+        assertThatThrownBy(() -> presignedUploadService.confirm(2, ImageUploadPurpose.PROFILE, issued.getUploadId()))
+                .isInstanceOf(InvalidAccessException.class);
+        assertThatThrownBy(() -> presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("업로드 용도가 일치하지 않습니다.");
+
+        assertThat(presignedUploadService.confirm(1, ImageUploadPurpose.PROFILE, issued.getUploadId()))
+                .startsWith(S3_URL + "/user-photo/");
+    }
+
+    @Test
+    @DisplayName("업로드 전에 확인하면 실패하지만 업로드 후 다시 확인할 수 있음")
+    void confirm_BeforeUpload_KeepsTicket() throws Exception {
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1, request(ImageUploadPurpose.NOTICE, "image/webp", 10));
+
+        assertThatThrownBy(() -> presignedUploadService.confirm(1, ImageUploadPurpose.NOTICE, issued.getUploadId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("업로드된 파일을 찾을 수 없습니다.");
+
+        put(issued, new byte[10], "image/webp");
+        assertThat(presignedUploadService.confirm(1, ImageUploadPurpose.NOTICE, issued.getUploadId()))
+                .startsWith(S3_URL + "/notice-photo/");
+    }
+
+    @Test
+    @DisplayName("선언과 다른 크기/형식으로 올라온 파일은 삭제하고 거부")
+    void confirm_RejectsMismatchedObject() throws Exception {
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1, request(ImageUploadPurpose.CLUB_GALLERY, "image/jpeg", 10));
+        // 로컬 대역은 서명을 검증하지 않으므로 다른 크기로 올라간 상황을 만들 수 있음
+        put(issued, new byte[20], "image/jpeg");
+        String key = URI.create(issued.getUploadUrl()).getPath().substring(BUCKET.length() + 2);
+
+        assertThatThrownBy(() -> presignedUploadService.confirm(1, ImageUploadPurpose.CLUB_GALLERY, issued.getUploadId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("업로드된 파일이 요청한 크기/형식과 다릅니다.");
+        assertThat(localS3.object(key)).isNull();
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확인은 한 번만 가능")
+    void confirm_IsSingleUse() throws Exception {
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1, request(ImageUploadPurpose.PROMO, "image/gif", 10));
+        put(issued, new byte[10], "image/gif");
+
+        presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId());
+
+        assertThatThrownBy(() -> presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("업로드 정보를 찾을 수 없거나 만료되었습니다.");
+    }
+
+    @Test
+    @DisplayName("확인 후 등록 트랜잭션이 롤백되면 업로드 정보를 복원해 다시 확인할 수 있음")
+    void confirm_RestoresTicketOnRollback() throws Exception {
+        PresignedUploadRespDTO issued = presignedUploadService.issue(1, request(ImageUploadPurpose.PROMO, "image/png", 10));
+        put(issued, new byte[10], "image/png");
+
+        String url = confirmInTransaction(issued, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(redis).hasSize(1);
+
+        // 다시 확인하면 같은 객체 URL, 커밋되면 더 이상 확인할 수 없음
+        assertThat(confirmInTransaction(issued, TransactionSynchronization.STATUS_COMMITTED)).isEqualTo(url);
+        assertThat(redis).isEmpty();
+        assertThatThrownBy(() -> presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("업로드 정보를 찾을 수 없거나 만료되었습니다.");
+    }
+
+    // 트랜잭션 안에서 확인한 뒤 주어진 결과로 트랜잭션 종료
+    private String confirmInTransaction(PresignedUploadRespDTO issued, int completionStatus) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String url = presignedUploadService.confirm(1, ImageUploadPurpose.PROMO, issued.getUploadId());
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(completionStatus);
+            }
+            return url;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    static PresignedUploadReqDTO request(ImageUploadPurpose purpose, String contentType, long contentLength) {
+        PresignedUploadReqDTO request = new PresignedUploadReqDTO();
+        request.setPurpose(purpose);
+        request.setContentType(contentType);
+        request.setContentLength(contentLength);
+        return request;
+    }
+
+    // 클라이언트가 저장소로 직접 올리는 요청
+    int put(PresignedUploadRespDTO issued, byte[] content, String contentType) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(issued.getUploadUrl()))
+                .header("Content-Type", contentType)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
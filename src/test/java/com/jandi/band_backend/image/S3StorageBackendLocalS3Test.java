@@ -0,0 +1,135 @@
+package com.jandi.band_backend.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.jandi.band_backend.config.S3Config;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인프로세스 S3 대역에 실제 HTTP 로 업로드해 요청 구성 / 멀티파트 / 재시도 검증
+ */
+@DisplayName("S3StorageBackend 로컬 S3 대역 테스트")
+class S3StorageBackendLocalS3Test {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String S3_URL = "https://test-cdn.example.com";
+
+    private LocalS3Server localS3;
+    private SimpleMeterRegistry meterRegistry;
+    private S3StorageBackend s3StorageBackend;
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        localS3 = new LocalS3Server(BUCKET);
+        meterRegistry = new SimpleMeterRegistry();
+        s3StorageBackend = new S3StorageBackend(localClient(localS3, 2), meterRegistry, BUCKET, S3_URL,
+                2, DataSize.ofMegabytes(6), DataSize.ofMegabytes(5));
+        storageService = new StorageService(s3StorageBackend);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3StorageBackend.stop();
+        localS3.close();
+    }
+
+    static AmazonS3Client localClient(LocalS3Server localS3, int maxRetries) {
+        S3Config s3Config = new S3Config();
+        ReflectionTestUtils.setField(s3Config, "accessKey", "test-access-key");
+        ReflectionTestUtils.setField(s3Config, "secretKey", "test-secret-key");
+        ReflectionTestUtils.setField(s3Config, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(s3Config, "endpoint", localS3.endpoint());
+        ReflectionTestUtils.setField(s3Config, "maxRetries", maxRetries);
+        ReflectionTestUtils.setField(s3Config, "maxConnections", 10);
+        ReflectionTestUtils.setField(s3Config, "connectionTimeoutMillis", 1000);
+        return s3Config.amazonS3Client();
+    }
+
+    @Test
+    @DisplayName("작은 파일은 PutObject 한 번으로 업로드하고 버킷 확인 요청을 보내지 않는다")
+    void uploadImage_SmallFile_SinglePutWithoutProbes() throws Exception {
+        byte[] content = randomBytes(100 * 1024);
+
+        String url = storageService.uploadImage(new MockMultipartFile("file", "photo.jpg", "image/jpeg", content), "club");
+
+        String key = storageService.extractKey(url);
+        assertThat(localS3.requests()).containsExactly("PUT /" + BUCKET + "/" + key);
+        assertThat(localS3.object(key)).isEqualTo(content);
+        assertThat(meterRegistry.get("jandi.s3.upload.duration").tag("method", "single").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상은 멀티파트로 나눠 업로드하고 원본과 같은 내용으로 합쳐진다")
+    void uploadImage_LargeFile_MultipartUpload() throws Exception {
+        byte[] content = randomBytes(12 * 1024 * 1024);
+
+        String url = storageService.uploadImage(new MockMultipartFile("file", "video.mp4", "video/mp4", content), "promo");
+
+        String key = storageService.extractKey(url);
+        assertThat(localS3.requests())
+                .filteredOn(request -> request.contains("partNumber="))
+                .hasSize(3);
+        assertThat(localS3.requests().get(0)).isEqualTo("POST /" + BUCKET + "/" + key + "?uploads");
+        assertThat(localS3.requests()).noneMatch(request -> request.contains("?acl"));
+        assertThat(localS3.object(key)).isEqualTo(content);
+        assertThat(meterRegistry.get("jandi.s3.upload.bytes").tag("method", "multipart").summary().totalAmount())
+                .isEqualTo(content.length);
+    }
+
+    @Test
+    @DisplayName("일시적 서버 오류는 설정한 횟수만큼 재시도해 업로드를 마친다")
+    void uploadBytes_RetriesTransientErrors() {
+        byte[] content = randomBytes(300 * 1024);
+        localS3.failNext(2);
+
+        String url = storageService.uploadBytes("promo/retry.jpg", content, "image/jpeg");
+
+        assertThat(url).isEqualTo(S3_URL + "/promo/retry.jpg");
+        assertThat(localS3.requests()).hasSize(3);
+        assertThat(localS3.object("promo/retry.jpg")).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 실패로 기록하고 예외를 던진다")
+    void uploadBytes_FailsAfterMaxRetries() {
+        localS3.failNext(3);
+
+        assertThatThrownBy(() -> storageService.uploadBytes("promo/fail.jpg", randomBytes(1024), "image/jpeg"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to upload file to S3");
+        assertThat(localS3.requests()).hasSize(3);
+        assertThat(meterRegistry.get("jandi.s3.upload.duration").tag("result", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제는 DeleteObject 한 번만 보낸다")
+    void deleteImage_SingleRequest() {
+        String url = storageService.uploadBytes("club/delete.jpg", randomBytes(10), "image/jpeg");
+        localS3.clearRequests();
+
+        storageService.deleteImage(url);
+
+        assertThat(localS3.requests()).containsExactly("DELETE /" + BUCKET + "/club/delete.jpg");
+        assertThat(localS3.object("club/delete.jpg")).isNull();
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
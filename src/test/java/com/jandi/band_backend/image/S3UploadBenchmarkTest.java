@@ -0,0 +1,74 @@
+package com.jandi.band_backend.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * 업로드 한 건의 지연 시간 비교 (로컬 S3 대역, 요청마다 인위적 지연 추가)
+ * - 이전 방식: doesBucketExistV2 + getBucketAcl + putObject (업로드마다 3번 왕복)
+ * - 현재 방식: StorageService.uploadImage (putObject 1번)
+ * 실행: BENCHMARK=true ./gradlew test --tests '*S3UploadBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("S3 업로드 벤치마크")
+class S3UploadBenchmarkTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int UPLOADS = 50;
+
+    @ParameterizedTest(name = "latency={0}ms, size={1}KB")
+    @CsvSource({"0, 200", "20, 200", "20, 2048"})
+    void compareLatency(long latencyMillis, int sizeKb) throws Exception {
+        byte[] content = S3StorageBackendLocalS3Test.randomBytes(sizeKb * 1024);
+        try (LocalS3Server localS3 = new LocalS3Server(BUCKET)) {
+            AmazonS3Client client = S3StorageBackendLocalS3Test.localClient(localS3, 3);
+            S3StorageBackend s3StorageBackend = new S3StorageBackend(client, new SimpleMeterRegistry(), BUCKET, "https://cdn.example.com",
+                    4, DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+            StorageService storageService = new StorageService(s3StorageBackend);
+            MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", content);
+
+            // 워밍업 (연결 / 서명 키 캐시)
+            for (int i = 0; i < 10; i++) {
+                probingUpload(client, content, "warmup/" + i);
+                storageService.uploadImage(file, "warmup");
+            }
+            localS3.setLatencyMillis(latencyMillis);
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < UPLOADS; i++) {
+                probingUpload(client, content, "before/" + i + ".jpg");
+            }
+            double before = (System.nanoTime() - startedAt) / 1e6 / UPLOADS;
+
+            startedAt = System.nanoTime();
+            for (int i = 0; i < UPLOADS; i++) {
+                storageService.uploadImage(file, "after");
+            }
+            double after = (System.nanoTime() - startedAt) / 1e6 / UPLOADS;
+
+            System.out.printf("latency=%dms size=%dKB before=%.1fms/upload after=%.1fms/upload%n",
+                    latencyMillis, sizeKb, before, after);
+            s3StorageBackend.stop();
+        }
+    }
+
+    // 변경 전 StorageService.uploadImage 의 요청 순서
+    private static void probingUpload(AmazonS3Client client, byte[] content, String key) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType("image/jpeg");
+        objectMetadata.setContentLength(content.length);
+        client.doesBucketExistV2(BUCKET);
+        client.getBucketAcl(BUCKET);
+        client.putObject(new PutObjectRequest(BUCKET, key, new ByteArrayInputStream(content), objectMetadata));
+    }
+}
@@ -0,0 +1,175 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.entity.StorageDeletion;
+import com.jandi.band_backend.image.repository.StorageDeletionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 삭제 대기열 - 트랜잭션 경계, 일괄 삭제, 재시도 검증 (H2 + 로컬 S3 대역)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StorageDeletionOutbox.class, StorageDeletionWorker.class, StorageDeletionWorkerTest.LocalS3Config.class})
+@DisplayName("저장소 삭제 대기열 테스트")
+class StorageDeletionWorkerTest {
+
+    static final String BUCKET = "test-bucket";
+    static final String S3_URL = "https://test-cdn.example.com";
+
+    @TestConfiguration
+    static class LocalS3Config {
+
+        @Bean(destroyMethod = "close")
+        LocalS3Server localS3Server() throws IOException {
+            return new LocalS3Server(BUCKET);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean(destroyMethod = "stop")
+        S3StorageBackend s3StorageBackend(LocalS3Server localS3Server, MeterRegistry meterRegistry) throws Exception {
+            return new S3StorageBackend(S3StorageBackendLocalS3Test.localClient(localS3Server, 0), meterRegistry, BUCKET, S3_URL,
+                    1, DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+        }
+
+        @Bean
+        StorageService storageService(S3StorageBackend s3StorageBackend) {
+            return new StorageService(s3StorageBackend);
+        }
+    }
+
+    @Autowired
+    private LocalS3Server localS3;
+
+    @Autowired
+    private StorageDeletionOutbox storageDeletionOutbox;
+
+    @Autowired
+    private StorageDeletionWorker storageDeletionWorker;
+
+    @Autowired
+    private StorageDeletionRepository storageDeletionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        storageDeletionRepository.deleteAll();
+        localS3.clear();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 삭제 예약은 취소되고 커밋된 예약만 삭제")
+    void drain_DeletesOnlyCommittedEnqueues() {
+        localS3.putObject("promo-photo/rolled-back.jpg", new byte[10], "image/jpeg");
+        localS3.putObject("promo-photo/committed.jpg", new byte[10], "image/jpeg");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            storageDeletionOutbox.enqueue(S3_URL + "/promo-photo/rolled-back.jpg");
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                storageDeletionOutbox.enqueue(S3_URL + "/promo-photo/committed.jpg", null, "https://k.kakaocdn.net/profile.jpg"));
+
+        assertThat(storageDeletionRepository.count()).isEqualTo(1);
+        assertThat(storageDeletionWorker.drain()).isEqualTo(1);
+
+        assertThat(localS3.object("promo-photo/rolled-back.jpg")).isNotNull();
+        assertThat(localS3.object("promo-photo/committed.jpg")).isNull();
+        assertThat(storageDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 키를 DeleteObjects 한 번에 1000개씩 삭제")
+    void drain_DeletesInBatchesOfThousand() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            String key = "club-gal-photo/" + i + ".jpg";
+            localS3.putObject(key, new byte[1], "image/jpeg");
+            keys.add(key);
+        }
+        storageDeletionOutbox.enqueueKeys(keys);
+        localS3.clearRequests();
+
+        assertThat(storageDeletionWorker.drain()).isEqualTo(1500);
+
+        assertThat(localS3.requests()).containsExactly("POST /" + BUCKET + "/?delete", "POST /" + BUCKET + "/?delete");
+        assertThat(localS3.keys()).isEmpty();
+        assertThat(storageDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 키만 시도 횟수와 오류를 기록하고 백오프 후 재시도")
+    void drain_ReschedulesFailedKeys() {
+        localS3.putObject("notice-photo/ok.jpg", new byte[1], "image/jpeg");
+        localS3.putObject("notice-photo/denied.jpg", new byte[1], "image/jpeg");
+        localS3.failDeletes("notice-photo/denied.jpg");
+        storageDeletionOutbox.enqueue(S3_URL + "/notice-photo/ok.jpg", S3_URL + "/notice-photo/denied.jpg");
+
+        assertThat(storageDeletionWorker.drain()).isEqualTo(1);
+
+        List<StorageDeletion> remaining = storageDeletionRepository.findAll();
+        assertThat(remaining).hasSize(1);
+        StorageDeletion failed = remaining.get(0);
+        assertThat(failed.getObjectKey()).isEqualTo("notice-photo/denied.jpg");
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("AccessDenied");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+
+        // 재시도 시각 전에는 저장소에 요청하지 않음
+        localS3.clearRequests();
+        assertThat(storageDeletionWorker.drain()).isZero();
+        assertThat(localS3.requests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장소 요청 자체가 실패하면 배치 전체를 다시 예약")
+    void drain_ReschedulesWholeBatchWhenStorageFails() {
+        localS3.putObject("user-photo/a.jpg", new byte[1], "image/jpeg");
+        storageDeletionOutbox.enqueue(S3_URL + "/user-photo/a.jpg");
+        localS3.failNext(1);
+
+        assertThat(storageDeletionWorker.drain()).isZero();
+
+        StorageDeletion failed = storageDeletionRepository.findAll().get(0);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("AmazonS3Exception");
+        assertThat(localS3.object("user-photo/a.jpg")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘고 최대값에서 멈춤")
+    void backoff_DoublesUntilMax() {
+        assertThat(storageDeletionWorker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(storageDeletionWorker.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(storageDeletionWorker.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(storageDeletionWorker.backoff(30)).isEqualTo(Duration.ofHours(1));
+    }
+}
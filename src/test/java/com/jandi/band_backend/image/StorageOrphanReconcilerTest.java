@@ -0,0 +1,157 @@
+package com.jandi.band_backend.image;
+
+import com.jandi.band_backend.image.entity.StorageDeletion;
+import com.jandi.band_backend.image.repository.StorageDeletionRepository;
+import com.jandi.band_backend.notice.entity.Notice;
+import com.jandi.band_backend.notice.repository.NoticeRepository;
+import com.jandi.band_backend.user.entity.UserPhoto;
+import com.jandi.band_backend.user.entity.Users;
+import com.jandi.band_backend.user.repository.UserPhotoRepository;
+import com.jandi.band_backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.jandi.band_backend.image.StorageDeletionWorkerTest.S3_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고아 객체 정리 - 살아 있는 행이 참조하지 않고 유예 기간이 지난 객체만 삭제 대기열에 들어가는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StorageDeletionOutbox.class, StorageDeletionWorker.class, StorageOrphanReconciler.class,
+        StorageDeletionWorkerTest.LocalS3Config.class})
+@DisplayName("고아 객체 정리 테스트")
+class StorageOrphanReconcilerTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(2));
+
+    @Autowired
+    private LocalS3Server localS3;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StorageOrphanReconciler storageOrphanReconciler;
+
+    @Autowired
+    private StorageDeletionOutbox storageDeletionOutbox;
+
+    @Autowired
+    private StorageDeletionWorker storageDeletionWorker;
+
+    @Autowired
+    private StorageDeletionRepository storageDeletionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPhotoRepository userPhotoRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @BeforeEach
+    void setUp() {
+        Users user = new Users();
+        user.setKakaoOauthId("orphan_user");
+        user.setNickname("정리사용자");
+        user.setIsRegistered(true);
+        userRepository.save(user);
+
+        UserPhoto photo = new UserPhoto();
+        photo.setUser(user);
+        photo.setImageUrl(S3_URL + "/user-photo/profile.jpg");
+        photo.setThumbnailUrl(S3_URL + "/user-photo/profile.jpg_thumb.webp");
+        userPhotoRepository.save(photo);
+
+        Notice deletedNotice = new Notice();
+        deletedNotice.setCreator(user);
+        deletedNotice.setTitle("삭제된 공지");
+        deletedNotice.setStartDatetime(LocalDateTime.now());
+        deletedNotice.setEndDatetime(LocalDateTime.now().plusDays(1));
+        deletedNotice.setImageUrl(S3_URL + "/notice-photo/deleted.jpg");
+        deletedNotice.setDeletedAt(LocalDateTime.now());
+        noticeRepository.save(deletedNotice);
+
+        put("user-photo/profile.jpg", OLD);
+        put("user-photo/profile.jpg_thumb.webp", OLD);
+        put("user-photo/orphan.jpg", OLD);
+        put("user-photo/fresh.jpg", Instant.now());
+        put("notice-photo/deleted.jpg", OLD);
+        put("club-photo/rhythmeet.webp", OLD);
+        put("profiles/admin-upload.jpg", OLD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageDeletionRepository.deleteAll();
+        noticeRepository.deleteAll();
+        userPhotoRepository.deleteAll();
+        userRepository.deleteAll();
+        localS3.clear();
+    }
+
+    @Test
+    @DisplayName("참조되지 않고 유예 기간이 지난 관리 대상 객체만 삭제 예약")
+    void reconcile_EnqueuesUnreferencedObjects() {
+        assertThat(storageOrphanReconciler.reconcile()).isEqualTo(2);
+
+        assertThat(pendingKeys()).containsExactlyInAnyOrder("user-photo/orphan.jpg", "notice-photo/deleted.jpg");
+
+        storageDeletionWorker.drain();
+        assertThat(localS3.keys()).containsExactlyInAnyOrder(
+                "user-photo/profile.jpg", "user-photo/profile.jpg_thumb.webp", "user-photo/fresh.jpg",
+                "club-photo/rhythmeet.webp", "profiles/admin-upload.jpg");
+    }
+
+    @Test
+    @DisplayName("이미 삭제 대기 중인 객체는 다시 넣지 않음")
+    void reconcile_SkipsPendingKeys() {
+        storageDeletionOutbox.enqueueKeys(List.of("user-photo/orphan.jpg"));
+
+        assertThat(storageOrphanReconciler.reconcile()).isEqualTo(1);
+        assertThat(storageOrphanReconciler.reconcile()).isZero();
+
+        assertThat(pendingKeys()).containsExactlyInAnyOrder("user-photo/orphan.jpg", "notice-photo/deleted.jpg");
+    }
+
+    @Test
+    @DisplayName("dry-run 이면 개수만 세고 삭제 예약하지 않음")
+    void reconcile_DryRunDoesNotEnqueue() {
+        StorageOrphanReconciler dryRun = new StorageOrphanReconciler(storageService, jdbcTemplate, storageDeletionRepository,
+                storageDeletionOutbox, Duration.ofHours(24), List.of("club-photo/rhythmeet.webp"), true);
+
+        assertThat(dryRun.reconcile()).isEqualTo(2);
+        assertThat(storageDeletionRepository.count()).isZero();
+    }
+
+    private void put(String key, Instant lastModified) {
+        localS3.putObject(key, new byte[1], "image/jpeg");
+        localS3.setLastModified(key, lastModified);
+    }
+
+    private List<String> pendingKeys() {
+        return storageDeletionRepository.findAll().stream().map(StorageDeletion::getObjectKey).toList();
+    }
+}
@@ -3,15 +3,18 @@ package com.jandi.band_backend.image;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
 import java.io.IOException;
 
@@ -22,20 +25,30 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-@DisplayName("S3Service 단위 테스트")
-class S3ServiceTest {
+@DisplayName("StorageService (S3 저장소) 단위 테스트")
+class StorageServiceTest {
 
     @Mock
     private AmazonS3Client amazonS3Client;
 
-    @InjectMocks
-    private S3Service s3Service;
+    private SimpleMeterRegistry meterRegistry;
+
+    private S3StorageBackend s3StorageBackend;
+
+    private StorageService storageService;
 
     @BeforeEach
     void setUp() {
-        // @Value 주입 대신 리플렉션으로 값 설정
-        ReflectionTestUtils.setField(s3Service, "bucket", "test-bucket");
-        ReflectionTestUtils.setField(s3Service, "s3Url", "https://test-cdn.example.com");
+        meterRegistry = new SimpleMeterRegistry();
+        // 단위 테스트는 단일 PutObject 경로만 검증 (멀티파트는 S3StorageBackendLocalS3Test)
+        s3StorageBackend = new S3StorageBackend(amazonS3Client, meterRegistry, "test-bucket", "https://test-cdn.example.com",
+                1, DataSize.ofMegabytes(64), DataSize.ofMegabytes(5));
+        storageService = new StorageService(s3StorageBackend);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3StorageBackend.stop();
     }
 
     @Test
@@ -48,10 +61,9 @@ class S3ServiceTest {
                 "image/jpeg",
                 "test image content".getBytes()
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         // When
-        String url = s3Service.uploadImage(file, "profile");
+        String url = storageService.uploadImage(file, "profile");
 
         // Then
         assertThat(url).startsWith("https://test-cdn.example.com/profile/");
@@ -71,10 +83,9 @@ class S3ServiceTest {
                 "image/png",
                 "test content".getBytes()
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         // When
-        s3Service.uploadImage(file, "images");
+        storageService.uploadImage(file, "images");
 
         // Then
         verify(amazonS3Client).putObject(argThat(request -> {
@@ -94,10 +105,9 @@ class S3ServiceTest {
                 "image/jpeg",
                 "content".getBytes()
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         // When
-        s3Service.uploadImage(file, "club");
+        storageService.uploadImage(file, "club");
 
         // Then
         verify(amazonS3Client).putObject(argThat(request -> {
@@ -107,6 +117,60 @@ class S3ServiceTest {
         }));
     }
 
+    @Test
+    @DisplayName("업로드마다 버킷 존재 / ACL 확인 요청을 보내지 않는다")
+    void uploadImage_DoesNotProbeBucket() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test.jpg",
+                "image/jpeg",
+                "content".getBytes()
+        );
+
+        // When
+        storageService.uploadImage(file, "club");
+
+        // Then
+        verify(amazonS3Client).putObject(any(PutObjectRequest.class));
+        verifyNoMoreInteractions(amazonS3Client);
+    }
+
+    @Test
+    @DisplayName("업로드 지연 시간과 크기를 결과별로 기록한다")
+    void uploadImage_RecordsLatencyAndBytes() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test.jpg",
+                "image/jpeg",
+                new byte[1234]
+        );
+        MockMultipartFile failing = new MockMultipartFile(
+                "file",
+                "fail.jpg",
+                "image/jpeg",
+                new byte[10]
+        );
+        when(amazonS3Client.putObject(any(PutObjectRequest.class)))
+                .thenReturn(new PutObjectResult())
+                .thenThrow(new RuntimeException("S3 upload failed"));
+
+        // When
+        storageService.uploadImage(file, "club");
+        assertThatThrownBy(() -> storageService.uploadImage(failing, "club"))
+                .isInstanceOf(RuntimeException.class);
+
+        // Then
+        Timer success = meterRegistry.get("jandi.s3.upload.duration")
+                .tags("method", "single", "result", "success").timer();
+        Timer failure = meterRegistry.get("jandi.s3.upload.duration")
+                .tags("method", "single", "result", "failure").timer();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(failure.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jandi.s3.upload.bytes").summary().totalAmount()).isEqualTo(1234);
+    }
+
     @Test
     @DisplayName("확장자가 없는 파일은 예외를 발생시킨다")
     void uploadImage_NoExtension_ThrowsException() {
@@ -119,7 +183,7 @@ class S3ServiceTest {
         );
 
         // When & Then
-        assertThatThrownBy(() -> s3Service.uploadImage(file, "test"))
+        assertThatThrownBy(() -> storageService.uploadImage(file, "test"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("잘못된 형식의 파일입니다");
 
@@ -131,7 +195,6 @@ class S3ServiceTest {
     void uploadImage_SupportsVariousExtensions() throws IOException {
         // Given
         String[] extensions = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         for (String ext : extensions) {
             // When
@@ -141,7 +204,7 @@ class S3ServiceTest {
                     "image/jpeg",
                     "content".getBytes()
             );
-            String url = s3Service.uploadImage(file, "images");
+            String url = storageService.uploadImage(file, "images");
 
             // Then
             assertThat(url).endsWith(ext);
@@ -157,7 +220,7 @@ class S3ServiceTest {
         String fileUrl = "https://test-cdn.example.com/profile/12345678-1234-1234-1234-123456789abc.jpg";
 
         // When
-        s3Service.deleteImage(fileUrl);
+        storageService.deleteImage(fileUrl);
 
         // Then
         verify(amazonS3Client).deleteObject(argThat(request -> {
@@ -174,7 +237,7 @@ class S3ServiceTest {
         String fileUrl = "https://test-cdn.example.com/club/image.jpg";
 
         // When
-        s3Service.deleteImage(fileUrl);
+        storageService.deleteImage(fileUrl);
 
         // Then
         verify(amazonS3Client).deleteObject(argThat(request ->
@@ -192,10 +255,9 @@ class S3ServiceTest {
                 "image/jpeg",
                 "content".getBytes()
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         // When
-        String url = s3Service.uploadImage(file, "club/gallery/2024");
+        String url = storageService.uploadImage(file, "club/gallery/2024");
 
         // Then
         assertThat(url).contains("club/gallery/2024/");
@@ -214,12 +276,11 @@ class S3ServiceTest {
                 "image/jpeg",
                 "content".getBytes()
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
         when(amazonS3Client.putObject(any(PutObjectRequest.class)))
                 .thenThrow(new RuntimeException("S3 upload failed"));
 
         // When & Then
-        assertThatThrownBy(() -> s3Service.uploadImage(file, "test"))
+        assertThatThrownBy(() -> storageService.uploadImage(file, "test"))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Failed to upload file to S3");
     }
@@ -234,10 +295,9 @@ class S3ServiceTest {
                 "image/jpeg",
                 new byte[0]
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         // When
-        String url = s3Service.uploadImage(file, "test");
+        String url = storageService.uploadImage(file, "test");
 
         // Then
         assertThat(url).isNotEmpty();
@@ -257,10 +317,9 @@ class S3ServiceTest {
                 "image/jpeg",
                 largeContent
         );
-        when(amazonS3Client.doesBucketExistV2(anyString())).thenReturn(true);
 
         // When
-        s3Service.uploadImage(file, "large");
+        storageService.uploadImage(file, "large");
 
         // Then
         verify(amazonS3Client).putObject(argThat(request ->
@@ -5,6 +5,7 @@ import com.jandi.band_backend.invite.redis.InviteCodeService;
 import com.jandi.band_backend.invite.service.InviteUtilService;
 import com.jandi.band_backend.invite.service.JoinService;
 import com.jandi.band_backend.poll.dto.*;
+import com.jandi.band_backend.poll.service.PollLiveResultService;
 import com.jandi.band_backend.poll.service.PollService;
 import com.jandi.band_backend.security.CustomUserDetails;
 import com.jandi.band_backend.user.entity.Users;
@@ -57,6 +58,9 @@ class PollControllerUnitTest {
     @Mock
     private InviteCodeService inviteCodeService;
 
+    @Mock
+    private PollLiveResultService pollLiveResultService;
+
     @InjectMocks
     private PollController pollController;
 
@@ -167,6 +171,19 @@ class PollControllerUnitTest {
         verify(pollService).getPollDetail(eq(1), eq(1));
     }
 
+    @Test
+    @DisplayName("투표 결과 실시간 구독 - 구독 서비스에 요청/응답 위임")
+    void streamPollResults_DelegatesToLiveResultService() throws Exception {
+        authenticate();
+
+        // When & Then
+        mockMvc.perform(get("/api/polls/1/live")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk());
+
+        verify(pollLiveResultService).subscribe(eq(1), any(), any());
+    }
+
     @Test
     @DisplayName("투표에 곡 추가 - 정상 처리")
     void addSongToPoll_Success() throws Exception {
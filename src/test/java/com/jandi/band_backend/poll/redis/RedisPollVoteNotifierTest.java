@@ -0,0 +1,120 @@
+package com.jandi.band_backend.poll.redis;
+
+import com.jandi.band_backend.poll.service.PollLiveResultService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisPollVoteNotifier 테스트")
+class RedisPollVoteNotifierTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Mock
+    private PollLiveResultService pollLiveResultService;
+
+    private RedisPollVoteNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new RedisPollVoteNotifier(stringRedisTemplate, redisConnectionFactory, pollLiveResultService, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        notifier.stop();
+    }
+
+    @Test
+    @DisplayName("이 서버 구독자에게 바로 알리고 다른 서버로 발행한다")
+    void voteChanged_NotifiesLocallyAndPublishes() {
+        notifier.voteChanged(1, 10);
+
+        verify(pollLiveResultService).onVoteChanged(1, 10);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, timeout(1000)).convertAndSend(eq(RedisPollVoteNotifier.CHANNEL), message.capture());
+
+        // 자기가 발행한 메시지가 돌아와도 다시 처리하지 않음
+        notifier.onMessage(message(message.getValue()), null);
+        verifyNoMoreInteractions(pollLiveResultService);
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패해도 이 서버 구독자는 갱신된다")
+    void voteChanged_PublishFailure_StillNotifiesLocally() {
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        notifier.voteChanged(1, 10);
+
+        verify(pollLiveResultService).onVoteChanged(1, 10);
+        verify(stringRedisTemplate, timeout(1000)).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 멈춰 있어도 투표 알림은 기다리지 않고, 대기열을 넘는 발행은 생략한다")
+    void voteChanged_SlowRedis_DoesNotBlockCaller() throws Exception {
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString())).thenAnswer(invocation -> {
+            publishing.countDown();
+            release.await();
+            return 1L;
+        });
+
+        // 첫 발행이 Redis 에서 멈춘 동안 두 번째는 대기열(크기 1)에, 세 번째는 생략
+        notifier.voteChanged(1, 10);
+        assertThat(publishing.await(1, TimeUnit.SECONDS)).isTrue();
+        long startedAt = System.nanoTime();
+        notifier.voteChanged(1, 11);
+        notifier.voteChanged(1, 12);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+
+        verify(pollLiveResultService).onVoteChanged(1, 11);
+        verify(pollLiveResultService).onVoteChanged(1, 12);
+        release.countDown();
+        verify(stringRedisTemplate, timeout(1000).times(2)).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 메시지는 전달하고 형식이 잘못된 메시지는 무시한다")
+    void onMessage_FromOtherNode() {
+        notifier.onMessage(message("other-node:3:30"), null);
+        notifier.onMessage(message("other-node:x:30"), null);
+        notifier.onMessage(message("broken"), null);
+
+        verify(pollLiveResultService).onVoteChanged(3, 30);
+        verifyNoMoreInteractions(pollLiveResultService);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisPollVoteNotifier.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
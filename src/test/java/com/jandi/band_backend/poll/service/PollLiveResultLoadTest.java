@@ -0,0 +1,342 @@
+package com.jandi.band_backend.poll.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jandi.band_backend.global.util.EntityValidationUtil;
+import com.jandi.band_backend.poll.dto.PollSongTallyRespDTO;
+import com.jandi.band_backend.poll.dto.PollTallyEventRespDTO;
+import com.jandi.band_backend.poll.entity.Vote.VotedMark;
+import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.poll.repository.VoteTally;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 투표 결과 실시간 구독 부하 테스트 (임베디드 Tomcat NIO 커넥터, 루프백)
+ * - 구독자 1,000명이 한 투표를 구독한 상태에서 여러 스레드가 계속 투표를 바꿈
+ * - 곡 0 은 전송 주기 번호를 담는 표식으로, flush 시작부터 구독자가 받기까지의 지연을 측정
+ * - 읽지 않는 느린 구독자는 max-lag 후 끊기고 나머지 구독자 전송을 막지 않아야 함
+ * - 끝나면 모든 구독자의 최종 집계가 저장소 값과 같아야 하고, 구독자별 이벤트 수는 전송 주기 수를 넘지 않아야 함
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PollLiveResultLoadTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("투표 결과 실시간 구독 부하 테스트")
+class PollLiveResultLoadTest {
+
+    private static final int POLL_ID = 1;
+    private static final int MARKER_SONG_ID = 0;
+    private static final int SUBSCRIBERS = 1000;
+    private static final int SLOW_SUBSCRIBERS = 20;
+    private static final int SONGS = 50;
+    private static final int VOTERS = 4;
+    private static final int VOTES_PER_SECOND = 2000;
+    private static final long DURATION_MS = 15_000;
+    private static final long COALESCE_MS = 250;
+    private static final long MAX_LAG_MS = 2_000;
+    private static final VotedMark[] MARKS = VotedMark.values();
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // [곡 ID * 표 종류 수 + 표 종류] -> 표 수
+    private final AtomicIntegerArray counts = new AtomicIntegerArray((SONGS + 1) * MARKS.length);
+    private final AtomicInteger round = new AtomicInteger();
+    private final AtomicLongArray roundStartedAt = new AtomicLongArray(100_000);
+
+    @Test
+    @DisplayName("구독자 1,000명 - 지연, 합치기, 최종 일관성, 느린 구독자 정리")
+    void thousandSubscribers() throws Exception {
+        VoteRepository voteRepository = mock(VoteRepository.class);
+        when(voteRepository.countTalliesByPollId(anyInt())).thenAnswer(invocation -> currentTallies());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PollLiveResultService service = new PollLiveResultService(voteRepository, mock(EntityValidationUtil.class),
+                objectMapper, meterRegistry, 600_000, MAX_LAG_MS);
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(tempDir.resolve("tomcat").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector().setProperty("maxConnections", "4096");
+        // 느린 구독자가 빨리 막히도록 송신 버퍼를 작게 고정
+        tomcat.getConnector().setProperty("socket.txBufSize", "8192");
+        Context context = tomcat.addContext("", null);
+        Wrapper wrapper = Tomcat.addServlet(context, "live", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                service.subscribe(POLL_ID, request, response);
+            }
+        });
+        wrapper.setAsyncSupported(true);
+        context.addServletMappingDecoded("/live", "live");
+        tomcat.start();
+        int port = tomcat.getConnector().getLocalPort();
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        List<Thread> voters = new ArrayList<>();
+        List<Socket> slowSockets = new ArrayList<>();
+        try {
+            // 1. 구독자 연결 - 모두 스냅샷을 받을 때까지 대기
+            CountDownLatch snapshots = new CountDownLatch(SUBSCRIBERS);
+            List<Subscriber> subscribers = new ArrayList<>();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/live"))
+                    .header("Accept", "text/event-stream").GET().build();
+            long connectStartedAt = System.nanoTime();
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                Subscriber subscriber = new Subscriber(snapshots);
+                subscribers.add(subscriber);
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber));
+            }
+            assertThat(snapshots.await(60, TimeUnit.SECONDS)).isTrue();
+            long connectMs = (System.nanoTime() - connectStartedAt) / 1_000_000;
+
+            // 2. 읽지 않는 느린 구독자 연결
+            for (int i = 0; i < SLOW_SUBSCRIBERS; i++) {
+                Socket socket = new Socket();
+                socket.setReceiveBufferSize(4096);
+                socket.connect(new InetSocketAddress("localhost", port));
+                OutputStream out = socket.getOutputStream();
+                out.write(("GET /live HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                slowSockets.add(socket);
+            }
+            waitUntil(() -> service.subscriberCount() == SUBSCRIBERS + SLOW_SUBSCRIBERS, 10_000);
+
+            // 3. 투표 변경 + 주기적 flush (@Scheduled fixedDelay 와 같은 방식)
+            flusher.scheduleWithFixedDelay(() -> {
+                int current = round.incrementAndGet();
+                roundStartedAt.set(current, System.nanoTime());
+                service.onVoteChanged(POLL_ID, MARKER_SONG_ID);
+                service.flush();
+            }, COALESCE_MS, COALESCE_MS, TimeUnit.MILLISECONDS);
+
+            AtomicLong votes = new AtomicLong();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) * VOTERS / VOTES_PER_SECOND;
+            for (int v = 0; v < VOTERS; v++) {
+                Thread voter = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int songId = random.nextInt(1, SONGS + 1);
+                        int index = songId * MARKS.length + random.nextInt(MARKS.length);
+                        if (random.nextInt(5) == 0) {
+                            counts.getAndUpdate(index, count -> Math.max(0, count - 1));
+                        } else {
+                            counts.incrementAndGet(index);
+                        }
+                        service.onVoteChanged(POLL_ID, songId);
+                        votes.incrementAndGet();
+                        LockSupport.parkNanos(intervalNanos);
+                    }
+                });
+                voter.start();
+                voters.add(voter);
+            }
+            for (Thread voter : voters) {
+                voter.join();
+            }
+
+            // 4. 마지막 변경이 전송될 때까지 대기 후 모든 구독자의 집계 비교
+            Map<Integer, long[]> expected = expectedTallies();
+            boolean consistent = waitUntil(() -> subscribers.stream().allMatch(s -> s.matches(expected)),
+                    COALESCE_MS * 20);
+            flusher.shutdownNow();
+            int rounds = round.get();
+
+            long[] latencies = subscribers.stream()
+                    .flatMapToLong(s -> s.latencies.stream().mapToLong(Long::longValue))
+                    .sorted().toArray();
+            int maxEvents = subscribers.stream().mapToInt(s -> s.events.get()).max().orElse(0);
+            double evicted = meterRegistry.counter("jandi.poll.live.evicted").count();
+            System.out.printf("subscribers=%d slow=%d connect=%dms votes=%d rounds=%d maxEventsPerSubscriber=%d "
+                            + "fanout p50=%.1fms p99=%.1fms max=%.1fms evicted=%.0f serverThreads=%d%n",
+                    SUBSCRIBERS, SLOW_SUBSCRIBERS, connectMs, votes.get(), rounds, maxEvents,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0),
+                    evicted, serverThreads());
+
+            assertThat(consistent).isTrue();
+            // 스냅샷 1번 + 주기당 최대 1번
+            assertThat(maxEvents).isLessThanOrEqualTo(rounds + 1);
+            assertThat(subscribers).allMatch(s -> !s.failed);
+            assertThat(evicted).isEqualTo(SLOW_SUBSCRIBERS);
+            assertThat(service.subscriberCount()).isEqualTo(SUBSCRIBERS);
+        } finally {
+            flusher.shutdownNow();
+            for (Socket socket : slowSockets) {
+                socket.close();
+            }
+            service.stop();
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private List<VoteTally> currentTallies() {
+        List<VoteTally> tallies = new ArrayList<>();
+        tallies.add(new VoteTally(MARKER_SONG_ID, VotedMark.LIKE, round.get()));
+        for (int songId = 1; songId <= SONGS; songId++) {
+            for (VotedMark mark : MARKS) {
+                int count = counts.get(songId * MARKS.length + mark.ordinal());
+                if (count > 0) {
+                    tallies.add(new VoteTally(songId, mark, count));
+                }
+            }
+        }
+        return tallies;
+    }
+
+    private Map<Integer, long[]> expectedTallies() {
+        Map<Integer, long[]> expected = new HashMap<>();
+        for (VoteTally tally : currentTallies()) {
+            if (tally.pollSongId() != MARKER_SONG_ID) {
+                expected.computeIfAbsent(tally.pollSongId(), id -> new long[MARKS.length])[tally.votedMark().ordinal()] =
+                        tally.voteCount();
+            }
+        }
+        return expected;
+    }
+
+    // 구독자 수와 무관하게 작업 스레드 풀 크기 이내여야 함
+    private static long serverThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().contains("-exec-"))
+                .count();
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static boolean waitUntil(java.util.function.BooleanSupplier condition, long timeoutMs)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return condition.getAsBoolean();
+    }
+
+    /**
+     * SSE 한 줄씩 받아 곡별 집계를 유지하는 구독자 (HttpClient 가 한 구독자에게는 순서대로 전달)
+     */
+    private class Subscriber implements Flow.Subscriber<String> {
+
+        private final CountDownLatch snapshots;
+        private final Map<Integer, long[]> tallies = new ConcurrentHashMap<>();
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicInteger events = new AtomicInteger();
+        private volatile boolean failed;
+
+        Subscriber(CountDownLatch snapshots) {
+            this.snapshots = snapshots;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("data:")) {
+                return;
+            }
+            long receivedAt = System.nanoTime();
+            PollTallyEventRespDTO event;
+            try {
+                event = objectMapper.readValue(line.substring("data:".length()).trim(), PollTallyEventRespDTO.class);
+            } catch (IOException e) {
+                failed = true;
+                return;
+            }
+            events.incrementAndGet();
+            if (event.isSnapshot()) {
+                tallies.clear();
+            }
+            for (PollSongTallyRespDTO song : event.getSongs()) {
+                if (song.getSongId() == MARKER_SONG_ID) {
+                    if (!event.isSnapshot()) {
+                        synchronized (latencies) {
+                            latencies.add(receivedAt - roundStartedAt.get((int) song.getLikeCount()));
+                        }
+                    }
+                    continue;
+                }
+                tallies.put(song.getSongId(), new long[]{
+                        song.getLikeCount(), song.getDislikeCount(), song.getCantCount(), song.getHajjCount()});
+            }
+            if (event.isSnapshot()) {
+                snapshots.countDown();
+            }
+        }
+
+        boolean matches(Map<Integer, long[]> expected) {
+            for (int songId = 1; songId <= SONGS; songId++) {
+                long[] actual = tallies.getOrDefault(songId, new long[MARKS.length]);
+                long[] wanted = expected.getOrDefault(songId, new long[MARKS.length]);
+                if (!Arrays.equals(actual, wanted)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failed = true;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
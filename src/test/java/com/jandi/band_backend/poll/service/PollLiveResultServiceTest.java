@@ -0,0 +1,329 @@
+package com.jandi.band_backend.poll.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jandi.band_backend.global.util.EntityValidationUtil;
+import com.jandi.band_backend.poll.entity.Vote.VotedMark;
+import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.poll.repository.VoteTally;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PollLiveResultService 테스트")
+class PollLiveResultServiceTest {
+
+    private static final long MAX_LAG_MS = 200;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private EntityValidationUtil entityValidationUtil;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PollLiveResultService pollLiveResultService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pollLiveResultService = new PollLiveResultService(voteRepository, entityValidationUtil, OBJECT_MAPPER,
+                meterRegistry, 60_000, MAX_LAG_MS);
+    }
+
+    @Test
+    @DisplayName("구독하면 첫 이벤트로 현재 전체 집계를 보낸다")
+    void subscribe_SendsSnapshot() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of(
+                new VoteTally(10, VotedMark.LIKE, 3),
+                new VoteTally(10, VotedMark.HAJJ, 1),
+                new VoteTally(11, VotedMark.DISLIKE, 2)));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        StreamResponse response = new StreamResponse();
+
+        pollLiveResultService.subscribe(1, request, response);
+
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(response.getContentType()).startsWith("text/event-stream");
+        assertThat(response.getHeader("X-Accel-Buffering")).isEqualTo("no");
+        List<JsonNode> events = response.stream.tallies();
+        assertThat(events).hasSize(1);
+        JsonNode snapshot = events.get(0);
+        assertThat(snapshot.get("snapshot").asBoolean()).isTrue();
+        assertThat(snapshot.get("pollId").asInt()).isEqualTo(1);
+        assertThat(snapshot.get("songs")).hasSize(2);
+        assertThat(song(snapshot, 10).get("likeCount").asInt()).isEqualTo(3);
+        assertThat(song(snapshot, 10).get("hajjCount").asInt()).isEqualTo(1);
+        assertThat(song(snapshot, 10).get("dislikeCount").asInt()).isZero();
+        assertThat(song(snapshot, 11).get("dislikeCount").asInt()).isEqualTo(2);
+        assertThat(pollLiveResultService.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 여러 변경은 투표당 집계 1회, 구독자당 전송 1회로 합친다")
+    void flush_CoalescesChangesPerPoll() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of());
+        FakeOutputStream first = subscribe(1);
+        FakeOutputStream second = subscribe(1);
+
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of(
+                new VoteTally(10, VotedMark.LIKE, 5),
+                new VoteTally(12, VotedMark.CANT, 1)));
+        for (int i = 0; i < 20; i++) {
+            pollLiveResultService.onVoteChanged(1, 10);
+        }
+        pollLiveResultService.onVoteChanged(1, 11);
+        pollLiveResultService.flush();
+        pollLiveResultService.flush();
+
+        for (FakeOutputStream stream : List.of(first, second)) {
+            List<JsonNode> events = stream.tallies();
+            assertThat(events).hasSize(2);
+            JsonNode delta = events.get(1);
+            assertThat(delta.get("snapshot").asBoolean()).isFalse();
+            // 바뀐 곡만, 표가 모두 취소된 곡은 0으로
+            assertThat(delta.get("songs")).hasSize(2);
+            assertThat(song(delta, 10).get("likeCount").asInt()).isEqualTo(5);
+            assertThat(song(delta, 11).get("likeCount").asInt()).isZero();
+        }
+        // 구독 시 스냅샷 2회 + 주기 1회
+        verify(voteRepository, times(3)).countTalliesByPollId(1);
+    }
+
+    @Test
+    @DisplayName("이 서버에 구독자가 없는 투표의 변경은 조회하지 않는다")
+    void onVoteChanged_IgnoresPollsWithoutSubscribers() {
+        pollLiveResultService.onVoteChanged(2, 20);
+        pollLiveResultService.flush();
+
+        verify(voteRepository, never()).countTalliesByPollId(2);
+    }
+
+    @Test
+    @DisplayName("쓸 수 없는 구독자의 변경은 곡 단위로 합쳐 두었다가 쓸 수 있게 되면 한 번에 보낸다")
+    void blockedSubscriber_CoalescesUntilWritable() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of());
+        FakeOutputStream fast = subscribe(1);
+        FakeOutputStream slow = subscribe(1);
+        slow.ready = false;
+
+        for (int round = 1; round <= 3; round++) {
+            List<VoteTally> tallies = new ArrayList<>(List.of(new VoteTally(10, VotedMark.LIKE, round)));
+            if (round == 2) {
+                tallies.add(new VoteTally(11, VotedMark.CANT, 7));
+                pollLiveResultService.onVoteChanged(1, 11);
+            }
+            when(voteRepository.countTalliesByPollId(1)).thenReturn(tallies);
+            pollLiveResultService.onVoteChanged(1, 10);
+            pollLiveResultService.flush();
+        }
+
+        assertThat(fast.tallies()).hasSize(4);
+        assertThat(slow.tallies()).hasSize(1);
+
+        slow.becomeWritable();
+
+        List<JsonNode> events = slow.tallies();
+        assertThat(events).hasSize(2);
+        JsonNode merged = events.get(1);
+        assertThat(merged.get("songs")).hasSize(2);
+        assertThat(song(merged, 10).get("likeCount").asInt()).isEqualTo(3);
+        assertThat(song(merged, 11).get("cantCount").asInt()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("max-lag-ms 넘게 쓸 수 없는 구독자는 연결을 끊는다 (다른 구독자는 계속 받음)")
+    void blockedSubscriber_EvictedAfterMaxLag() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of());
+        FakeOutputStream fast = subscribe(1);
+        MockHttpServletRequest slowRequest = new MockHttpServletRequest();
+        FakeOutputStream slow = subscribe(1, slowRequest);
+        slow.ready = false;
+
+        pollLiveResultService.heartbeat();
+        Thread.sleep(MAX_LAG_MS + 50);
+        pollLiveResultService.onVoteChanged(1, 10);
+        pollLiveResultService.flush();
+
+        assertThat(pollLiveResultService.subscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("jandi.poll.live.evicted").counter().count()).isEqualTo(1);
+        assertThat(slowRequest.isAsyncStarted()).isFalse();
+        assertThat(fast.tallies()).hasSize(2);
+
+        // 이미 끊은 구독자에게는 더 쓰지 않음
+        slow.becomeWritable();
+        assertThat(slow.tallies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("끊긴 연결에 쓰기가 실패하면 구독을 해제한다")
+    void writeFailure_RemovesSubscriber() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of());
+        FakeOutputStream stream = subscribe(1);
+        stream.fail = true;
+
+        pollLiveResultService.heartbeat();
+
+        assertThat(pollLiveResultService.subscriberCount()).isZero();
+        assertThat(meterRegistry.get("jandi.poll.live.evicted").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 시간 초과되면 구독을 해제하고 응답을 완료한다")
+    void asyncTimeout_RemovesSubscriber() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        subscribe(1, request);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+
+        for (AsyncListener listener : List.copyOf(asyncContext.getListeners())) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(pollLiveResultService.subscriberCount()).isZero();
+        assertThat(request.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("집계 조회에 실패하면 구독을 남기지 않는다")
+    void subscribe_QueryFailure_DoesNotRegister() {
+        when(voteRepository.countTalliesByPollId(1)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> subscribe(1)).isInstanceOf(IllegalStateException.class);
+        assertThat(pollLiveResultService.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 구독자에게 연결 유지용 주석을 보낸다")
+    void heartbeat_SendsComment() throws Exception {
+        when(voteRepository.countTalliesByPollId(1)).thenReturn(List.of());
+        FakeOutputStream stream = subscribe(1);
+
+        pollLiveResultService.heartbeat();
+
+        assertThat(stream.text()).endsWith(": heartbeat\n\n");
+    }
+
+    private FakeOutputStream subscribe(Integer pollId) throws IOException {
+        return subscribe(pollId, new MockHttpServletRequest());
+    }
+
+    private FakeOutputStream subscribe(Integer pollId, MockHttpServletRequest request) throws IOException {
+        request.setAsyncSupported(true);
+        StreamResponse response = new StreamResponse();
+        pollLiveResultService.subscribe(pollId, request, response);
+        return response.stream;
+    }
+
+    private static JsonNode song(JsonNode event, int songId) {
+        for (JsonNode song : event.get("songs")) {
+            if (song.get("songId").asInt() == songId) {
+                return song;
+            }
+        }
+        throw new AssertionError("song " + songId + " not in " + event);
+    }
+
+    private static class StreamResponse extends HttpServletResponseWrapper {
+
+        private final FakeOutputStream stream = new FakeOutputStream();
+
+        StreamResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return stream;
+        }
+    }
+
+    /**
+     * 컨테이너처럼 setWriteListener 직후 onWritePossible 을 호출하고, ready 가 false 면 쓸 수 없는 소켓처럼 동작
+     */
+    private static class FakeOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private WriteListener writeListener;
+        volatile boolean ready = true;
+        volatile boolean fail;
+
+        void becomeWritable() throws IOException {
+            ready = true;
+            writeListener.onWritePossible();
+        }
+
+        synchronized String text() {
+            return written.toString(StandardCharsets.UTF_8);
+        }
+
+        List<JsonNode> tallies() throws IOException {
+            List<JsonNode> events = new ArrayList<>();
+            for (String event : text().split("\n\n")) {
+                if (event.startsWith("event: " + PollLiveResultService.EVENT_NAME + "\ndata: ")) {
+                    events.add(OBJECT_MAPPER.readTree(event.substring(event.indexOf("data: ") + "data: ".length())));
+                }
+            }
+            return events;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.writeListener = writeListener;
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException e) {
+                writeListener.onError(e);
+            }
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            written.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            written.write(b, off, len);
+        }
+    }
+}
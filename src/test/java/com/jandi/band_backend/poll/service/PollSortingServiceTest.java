@@ -10,6 +10,7 @@ import com.jandi.band_backend.poll.entity.Vote.VotedMark;
 import com.jandi.band_backend.poll.repository.PollRepository;
 import com.jandi.band_backend.poll.repository.PollSongRepository;
 import com.jandi.band_backend.poll.repository.VoteRepository;
+import com.jandi.band_backend.poll.repository.VoteTally;
 import com.jandi.band_backend.user.entity.Users;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +21,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +52,7 @@ class PollSortingServiceTest {
     private Poll testPoll;
     private Users testUser;
     private PollSong song1, song2, song3;
+    private final List<PollSong> createdSongs = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
@@ -63,6 +67,19 @@ class PollSortingServiceTest {
         song1 = createPollSong(1, "Song A", "Artist A", createVotes(5, 1, 0, 2)); // 점수: (5+2) - (1+0) = 6
         song2 = createPollSong(2, "Song B", "Artist B", createVotes(3, 2, 1, 1)); // 점수: (3+1) - (2+1) = 1
         song3 = createPollSong(3, "Song C", "Artist C", createVotes(8, 0, 0, 0)); // 점수: (8+0) - (0+0) = 8
+
+        // 투표 수는 집계 쿼리로 조회 - 테스트에서 만든 곡들의 투표 목록으로 집계 결과를 만든다
+        lenient().when(voteRepository.countTalliesByPollId(1)).thenAnswer(invocation -> tallies());
+    }
+
+    private List<VoteTally> tallies() {
+        List<VoteTally> tallies = new ArrayList<>();
+        for (PollSong pollSong : createdSongs) {
+            pollSong.getVotes().stream()
+                    .collect(Collectors.groupingBy(Vote::getVotedMark, Collectors.counting()))
+                    .forEach((mark, count) -> tallies.add(new VoteTally(pollSong.getId(), mark, count)));
+        }
+        return tallies;
     }
 
     private PollSong createPollSong(Integer id, String songName, String artistName, List<Vote> votes) {
@@ -74,6 +91,7 @@ class PollSortingServiceTest {
         pollSong.setSuggester(testUser);
         pollSong.setVotes(votes);
         pollSong.setCreatedAt(LocalDateTime.now());
+        createdSongs.add(pollSong);
         return pollSong;
     }
 
@@ -49,6 +49,9 @@ class PollVoteCancelServiceTest {
     @Mock
     private EntityValidationUtil entityValidationUtil;
 
+    @Mock
+    private PollVoteNotifier pollVoteNotifier;
+
     private Poll testPoll;
     private Users testUser;
     private PollSong testPollSong;
@@ -111,6 +114,7 @@ class PollVoteCancelServiceTest {
         verify(entityValidationUtil).validatePollSongBelongsToPoll(1, 1);
         verify(voteRepository).findByPollSongIdAndUserIdAndVotedMarkAndDeletedAtIsNull(1, 1, VotedMark.LIKE);
         verify(voteRepository).delete(testVote);
+        verify(pollVoteNotifier).voteChanged(1, 1);
     }
 
     @Test
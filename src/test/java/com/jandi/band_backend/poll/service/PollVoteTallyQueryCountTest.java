@@ -0,0 +1,232 @@
+package com.jandi.band_backend.poll.service;
+
+import com.jandi.band_backend.club.entity.Club;
+import com.jandi.band_backend.global.util.EntityValidationUtil;
+import com.jandi.band_backend.global.util.PermissionValidationUtil;
+import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.poll.dto.PollDetailRespDTO;
+import com.jandi.band_backend.poll.dto.PollSongRespDTO;
+import com.jandi.band_backend.poll.dto.PollSongResultRespDTO;
+import com.jandi.band_backend.poll.entity.Poll;
+import com.jandi.band_backend.poll.entity.PollSong;
+import com.jandi.band_backend.poll.entity.Vote;
+import com.jandi.band_backend.poll.entity.Vote.VotedMark;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 투표 결과 조회가 투표 수와 무관하게 집계 쿼리로 처리되는지 검증 (곡 50개 x 투표자 40명)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PollService.class, EntityValidationUtil.class})
+@DisplayName("투표 결과 집계 쿼리 수 테스트")
+class PollVoteTallyQueryCountTest {
+
+    private static final int SONG_COUNT = 50;
+    private static final int VOTER_COUNT = 40;
+
+    @Autowired
+    private PollService pollService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private UserValidationUtil userValidationUtil;
+
+    @MockBean
+    private PermissionValidationUtil permissionValidationUtil;
+
+    @MockBean
+    private PollVoteNotifier pollVoteNotifier;
+
+    private Poll votedPoll;
+    private Poll emptyPoll;
+    private List<Users> voters;
+
+    @BeforeEach
+    void setUp() {
+        Users creator = new Users();
+        creator.setKakaoOauthId("poll_creator");
+        creator.setNickname("투표생성자");
+        creator.setIsRegistered(true);
+        entityManager.persist(creator);
+
+        Club club = new Club();
+        club.setName("집계 밴드");
+        entityManager.persist(club);
+
+        voters = new ArrayList<>();
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            Users voter = new Users();
+            voter.setKakaoOauthId("voter_" + i);
+            voter.setNickname("투표자" + i);
+            voter.setIsRegistered(true);
+            entityManager.persist(voter);
+            voters.add(voter);
+        }
+
+        votedPoll = createPoll(club, creator, "투표 있는 곡 선정");
+        emptyPoll = createPoll(club, creator, "투표 없는 곡 선정");
+        for (int s = 0; s < SONG_COUNT; s++) {
+            PollSong song = createSong(votedPoll, creator, s);
+            createSong(emptyPoll, creator, s);
+            for (int v = 0; v < VOTER_COUNT; v++) {
+                Vote vote = new Vote();
+                vote.setPollSong(song);
+                vote.setUser(voters.get(v));
+                vote.setVotedMark(mark(s, v));
+                entityManager.persist(vote);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 투표 수와 무관하게 집계 1회 + 내 투표 1회만 조회")
+    void getPollDetail_StatementsIndependentOfVotes() {
+        Integer voterId = voters.get(3).getId();
+
+        long emptyStatements = countStatements(() -> pollService.getPollDetail(emptyPoll.getId(), voterId));
+        PollDetailRespDTO[] detail = new PollDetailRespDTO[1];
+        long votedStatements = countStatements(() -> detail[0] = pollService.getPollDetail(votedPoll.getId(), voterId));
+
+        assertThat(votedStatements).isEqualTo(emptyStatements);
+        // 투표 2,000건 중 내 투표(곡당 1건)만 엔티티로 읽음
+        assertThat(voteLoadCount()).isEqualTo(SONG_COUNT);
+
+        assertThat(detail[0].getSongs()).hasSize(SONG_COUNT);
+        for (PollSongRespDTO song : detail[0].getSongs()) {
+            int index = songIndex(song.getSongName());
+            assertThat(song.getLikeCount()).isEqualTo(expectedCount(index, VotedMark.LIKE));
+            assertThat(song.getDislikeCount()).isEqualTo(expectedCount(index, VotedMark.DISLIKE));
+            assertThat(song.getCantCount()).isEqualTo(expectedCount(index, VotedMark.CANT));
+            assertThat(song.getHajjCount()).isEqualTo(expectedCount(index, VotedMark.HAJJ));
+            assertThat(song.getUserVoteType()).isEqualTo(mark(index, 3).name());
+        }
+    }
+
+    @Test
+    @DisplayName("결과 조회는 투표 엔티티를 읽지 않고 집계 1회로 처리")
+    void getPollSongs_SingleAggregateQuery() {
+        long emptyStatements = countStatements(() -> pollService.getPollSongs(emptyPoll.getId(), "SCORE", "desc"));
+        List<PollSongResultRespDTO> results = new ArrayList<>();
+        long votedStatements = countStatements(() ->
+                results.addAll(pollService.getPollSongs(votedPoll.getId(), "SCORE", "desc")));
+
+        assertThat(votedStatements).isEqualTo(emptyStatements);
+        assertThat(voteLoadCount()).isZero();
+        assertThat(results.stream().mapToInt(song -> song.getLikeCount() + song.getDislikeCount()
+                + song.getCantCount() + song.getHajjCount()).sum()).isEqualTo(SONG_COUNT * VOTER_COUNT);
+    }
+
+    @Test
+    @DisplayName("투표 변경 응답은 방금 바꾼 투표까지 반영한 곡 하나의 집계를 반환")
+    void setVoteForSong_ReturnsFreshTally() {
+        Users voter = voters.get(0);
+        PollSong song = entityManager.createQuery(
+                        "SELECT ps FROM PollSong ps WHERE ps.poll.id = :pollId AND ps.songName = :name", PollSong.class)
+                .setParameter("pollId", votedPoll.getId())
+                .setParameter("name", "곡 0")
+                .getSingleResult();
+        when(userValidationUtil.getUserById(voter.getId())).thenReturn(voter);
+        VotedMark before = mark(0, 0);
+        VotedMark after = before == VotedMark.LIKE ? VotedMark.DISLIKE : VotedMark.LIKE;
+
+        PollSongRespDTO changed = pollService.setVoteForSong(votedPoll.getId(), song.getId(), after.name(), voter.getId());
+
+        assertThat(changed.getUserVoteType()).isEqualTo(after.name());
+        assertThat(count(changed, before)).isEqualTo(expectedCount(0, before) - 1);
+        assertThat(count(changed, after)).isEqualTo(expectedCount(0, after) + 1);
+
+        PollSongRespDTO removed = pollService.removeVoteFromSong(votedPoll.getId(), song.getId(), after.name(), voter.getId());
+
+        assertThat(removed.getUserVoteType()).isNull();
+        assertThat(count(removed, after)).isEqualTo(expectedCount(0, after));
+    }
+
+    private Poll createPoll(Club club, Users creator, String title) {
+        Poll poll = new Poll();
+        poll.setClub(club);
+        poll.setCreator(creator);
+        poll.setTitle(title);
+        poll.setStartDatetime(LocalDateTime.now());
+        poll.setEndDatetime(LocalDateTime.now().plusDays(7));
+        entityManager.persist(poll);
+        return poll;
+    }
+
+    private PollSong createSong(Poll poll, Users suggester, int index) {
+        PollSong song = new PollSong();
+        song.setPoll(poll);
+        song.setSuggester(suggester);
+        song.setSongName("곡 " + index);
+        song.setArtistName("아티스트");
+        entityManager.persist(song);
+        return song;
+    }
+
+    // 곡마다 표시별 투표 수가 다르게 분포
+    private static VotedMark mark(int songIndex, int voterIndex) {
+        VotedMark[] marks = VotedMark.values();
+        return marks[(voterIndex * (songIndex % 3 + 1) + songIndex) % marks.length];
+    }
+
+    private static int expectedCount(int songIndex, VotedMark votedMark) {
+        int count = 0;
+        for (int v = 0; v < VOTER_COUNT; v++) {
+            if (mark(songIndex, v) == votedMark) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int songIndex(String songName) {
+        return Integer.parseInt(songName.substring("곡 ".length()));
+    }
+
+    private static int count(PollSongRespDTO song, VotedMark votedMark) {
+        return switch (votedMark) {
+            case LIKE -> song.getLikeCount();
+            case DISLIKE -> song.getDislikeCount();
+            case CANT -> song.getCantCount();
+            case HAJJ -> song.getHajjCount();
+        };
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long voteLoadCount() {
+        return statistics().getEntityStatistics(Vote.class.getName()).getLoadCount();
+    }
+
+    private long countStatements(Runnable query) {
+        entityManager.clear();
+        statistics().clear();
+        query.run();
+        return statistics().getPrepareStatementCount();
+    }
+}
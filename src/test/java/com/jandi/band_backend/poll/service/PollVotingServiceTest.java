@@ -54,6 +54,9 @@ class PollVotingServiceTest {
     @Mock
     private UserValidationUtil userValidationUtil;
 
+    @Mock
+    private PollVoteNotifier pollVoteNotifier;
+
     private Poll testPoll;
     private Users testUser;
     private PollSong testPollSong;
@@ -120,6 +123,7 @@ class PollVotingServiceTest {
         verify(entityValidationUtil).validatePollSongBelongsToPoll(1, 1);
         verify(voteRepository).findByPollSongIdAndUserIdAndDeletedAtIsNull(1, 1);
         verify(voteRepository).save(any(Vote.class));
+        verify(pollVoteNotifier).voteChanged(1, 1);
     }
 
     @Test
@@ -138,6 +142,7 @@ class PollVotingServiceTest {
         verify(entityValidationUtil).validatePollSongBelongsToPoll(1, 1);
         verify(voteRepository).findByPollSongIdAndUserIdAndDeletedAtIsNull(1, 1);
         verify(voteRepository, never()).save(any());
+        verify(pollVoteNotifier, never()).voteChanged(any(), any());
     }
 
     @Test
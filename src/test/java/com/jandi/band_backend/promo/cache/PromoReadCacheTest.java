@@ -0,0 +1,180 @@
+package com.jandi.band_backend.promo.cache;
+
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PromoReadCache 공연 홍보 조회 캐시 테스트")
+class PromoReadCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PromoReadCache cache;
+
+    private final Pageable firstPage = PageRequest.of(0, 2);
+    private final Pageable secondPage = PageRequest.of(1, 2);
+
+    @BeforeEach
+    void setUp() {
+        cache = new PromoReadCache(meterRegistry, 100, 100, 5, 60);
+        cache.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("같은 페이지는 한 번만 조회하고, 캐시 대상 밖의 뒤쪽 페이지는 매번 조회")
+    void getPage_CachesLeadingPages() {
+        CountingLoader<Page<PromoRespDTO>> loader = new CountingLoader<>(() -> page(firstPage, 1, 2));
+
+        cache.getPage(firstPage, loader);
+        Page<PromoRespDTO> cached = cache.getPage(firstPage, loader);
+
+        assertThat(loader.count()).isEqualTo(1);
+        assertThat(cached.getContent()).extracting(PromoRespDTO::getId).containsExactly(1, 2);
+
+        CountingLoader<Page<PromoRespDTO>> deepLoader = new CountingLoader<>(() -> page(PageRequest.of(5, 2), 11, 12));
+        cache.getPage(PageRequest.of(5, 2), deepLoader);
+        cache.getPage(PageRequest.of(5, 2), deepLoader);
+        assertThat(deepLoader.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좋아요/댓글 변경은 해당 공연이 포함된 페이지만 무효화")
+    void onPromoChanged_InvalidatesContainingPagesOnly() {
+        CountingLoader<Page<PromoRespDTO>> first = new CountingLoader<>(() -> page(firstPage, 1, 2));
+        CountingLoader<Page<PromoRespDTO>> second = new CountingLoader<>(() -> page(secondPage, 3, 4));
+        cache.getPage(firstPage, first);
+        cache.getPage(secondPage, second);
+
+        cache.onPromoChanged(new PromoChangedEvent(3, PromoChangedEvent.Type.LIKED));
+        cache.getPage(firstPage, first);
+        cache.getPage(secondPage, second);
+
+        assertThat(first.count()).isEqualTo(1);
+        assertThat(second.count()).isEqualTo(2);
+
+        // 다시 캐시된 페이지도 이후 변경에서 무효화됨
+        cache.onPromoChanged(new PromoChangedEvent(4, PromoChangedEvent.Type.COMMENTED));
+        cache.getPage(secondPage, second);
+        assertThat(second.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("생성/삭제/일시 변경과 자정 갱신은 모든 페이지 무효화")
+    void onPromoChanged_ReorderInvalidatesAllPages() {
+        CountingLoader<Page<PromoRespDTO>> first = new CountingLoader<>(() -> page(firstPage, 1, 2));
+        CountingLoader<Page<PromoRespDTO>> second = new CountingLoader<>(() -> page(secondPage, 3, 4));
+        cache.getPage(firstPage, first);
+        cache.getPage(secondPage, second);
+
+        cache.onPromoChanged(new PromoChangedEvent(99, PromoChangedEvent.Type.CREATED));
+        cache.getPage(firstPage, first);
+        cache.getPage(secondPage, second);
+        assertThat(first.count()).isEqualTo(2);
+        assertThat(second.count()).isEqualTo(2);
+
+        cache.refreshPages();
+        cache.getPage(firstPage, first);
+        assertThat(first.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 캐시하지 않음")
+    void getPage_SkipsStoreWhenInvalidatedDuringLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<PromoRespDTO>> racingLoader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                cache.onPromoChanged(new PromoChangedEvent(1, PromoChangedEvent.Type.UPDATED));
+            }
+            return page(firstPage, 1, 2);
+        };
+
+        cache.getPage(firstPage, racingLoader);
+        cache.getPage(firstPage, racingLoader);
+        cache.getPage(firstPage, racingLoader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상세는 복사본을 반환하고, 조회수 반영 시 해당 상세만 무효화")
+    void getDetail_ReturnsCopyAndInvalidatesOnViewsFlushed() {
+        CountingLoader<PromoRespDTO> loader = new CountingLoader<>(() -> promo(1));
+        CountingLoader<Page<PromoRespDTO>> pageLoader = new CountingLoader<>(() -> page(firstPage, 1, 2));
+        cache.getPage(firstPage, pageLoader);
+
+        PromoRespDTO first = cache.getDetail(1, loader);
+        first.setViewCount(999);
+        PromoRespDTO second = cache.getDetail(1, loader);
+
+        assertThat(loader.count()).isEqualTo(1);
+        assertThat(second.getViewCount()).isEqualTo(10);
+
+        cache.onPromoChanged(new PromoChangedEvent(1, PromoChangedEvent.Type.VIEWS_FLUSHED));
+        cache.getDetail(1, loader);
+        cache.getPage(firstPage, pageLoader);
+        assertThat(loader.count()).isEqualTo(2);
+        assertThat(pageLoader.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적중률과 캐시 지표를 노출")
+    void registerMetrics_ExposesHitRatio() {
+        CountingLoader<Page<PromoRespDTO>> loader = new CountingLoader<>(() -> page(firstPage, 1, 2));
+        cache.getPage(firstPage, loader);
+        cache.getPage(firstPage, loader);
+        cache.getPage(firstPage, loader);
+        cache.getPage(firstPage, loader);
+
+        assertThat(meterRegistry.get("jandi.promo.cache.hit.ratio").tag("cache", "promo.feed.pages").gauge().value())
+                .isEqualTo(0.75);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "promo.feed.pages").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "promo.details").functionCounter()).isNotNull();
+    }
+
+    private Page<PromoRespDTO> page(Pageable pageable, Integer... ids) {
+        List<PromoRespDTO> content = Arrays.stream(ids).map(this::promo).toList();
+        return new PageImpl<>(content, pageable, 20);
+    }
+
+    private PromoRespDTO promo(Integer id) {
+        PromoRespDTO promo = new PromoRespDTO();
+        promo.setId(id);
+        promo.setTitle("공연 " + id);
+        promo.setViewCount(10);
+        return promo;
+    }
+
+    private static class CountingLoader<T> implements Supplier<T> {
+
+        private final Supplier<T> delegate;
+        private int count;
+
+        CountingLoader(Supplier<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T get() {
+            count++;
+            return delegate.get();
+        }
+
+        int count() {
+            return count;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.jandi.band_backend.promo.controller;
 
 import com.jandi.band_backend.config.IntegrationTest;
-import com.jandi.band_backend.image.S3Service;
+import com.jandi.band_backend.image.StorageService;
 import com.jandi.band_backend.promo.entity.Promo;
 import com.jandi.band_backend.promo.entity.PromoLike;
 import com.jandi.band_backend.promo.repository.PromoLikeRepository;
@@ -39,7 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <ul>
  *   <li>MockMvc를 사용한 전체 Spring Boot 통합 테스트</li>
  *   <li>실제 JWT 인증 플로우 포함</li>
- *   <li>S3Service는 Mock으로 외부 의존성 격리</li>
+ *   <li>StorageService는 Mock으로 외부 의존성 격리</li>
  *   <li>공연 홍보글의 CRUD, 좋아요, 검색 기능 검증</li>
  * </ul>
  *
@@ -59,7 +59,7 @@ public class PromoControllerIntegrationTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private S3Service s3Service;
+    private StorageService storageService;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
@@ -106,7 +106,7 @@ public class PromoControllerIntegrationTest {
         otherUserToken = jwtTokenProvider.generateAccessToken(otherUser.getKakaoOauthId());
 
         // S3 Mock 설정
-        when(s3Service.uploadImage(any(), anyString())).thenReturn("https://s3.example.com/promo/test-image.jpg");
+        when(storageService.uploadImage(any(), anyString())).thenReturn("https://s3.example.com/promo/test-image.jpg");
     }
 
     // === 홍보글 생성 테스트 ===
@@ -0,0 +1,72 @@
+package com.jandi.band_backend.promo.controller;
+
+import com.jandi.band_backend.promo.service.PromoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromoController 상태별 필터링 정렬 테스트")
+class PromoControllerStatusSortTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private PromoService promoService;
+
+    @InjectMocks
+    private PromoController promoController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(promoController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        when(promoService.filterPromosByStatus(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Page.empty());
+    }
+
+    @Test
+    @DisplayName("sort 를 생략하면 정렬 없이 전달해 서비스가 상태별 기본 정렬을 적용")
+    void filterPromosByStatus_WithoutSort_PassesUnsorted() throws Exception {
+        mockMvc.perform(get("/api/promos/status").param("status", "ended"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(promoService).filterPromosByStatus(eq("ended"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                pageable.capture());
+        assertThat(pageable.getValue().getSort().isUnsorted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sort 를 지정하면 그대로 전달")
+    void filterPromosByStatus_WithSort() throws Exception {
+        mockMvc.perform(get("/api/promos/status").param("status", "ended").param("sort", "eventDatetime,asc"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(promoService).filterPromosByStatus(eq("ended"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                pageable.capture());
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "eventDatetime"));
+    }
+}
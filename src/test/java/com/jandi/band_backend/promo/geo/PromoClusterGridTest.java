@@ -0,0 +1,133 @@
+package com.jandi.band_backend.promo.geo;
+
+import com.jandi.band_backend.promo.geo.PromoClusterGrid.Cluster;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("PromoClusterGrid 지도 클러스터 집계 테스트")
+class PromoClusterGridTest {
+
+    private static final Comparator<Cluster> CELL_ORDER = Comparator.comparingDouble(Cluster::latitude)
+            .thenComparingDouble(Cluster::longitude);
+
+    @Test
+    @DisplayName("같은 셀의 공연은 하나의 클러스터로 묶이고 중심은 좌표 평균")
+    void clusters_GroupsPointsInCell() {
+        PromoClusterGrid grid = new PromoClusterGrid();
+        grid.add(point(1, 37.5560, 126.9220, 1));
+        grid.add(point(2, 37.5562, 126.9224, 2));
+        grid.add(point(3, 35.1796, 129.0756, 3));
+
+        List<Cluster> clusters = grid.clusters(33.0, 39.0, 124.0, 131.0, 10);
+
+        assertThat(clusters).hasSize(2);
+        Cluster seoul = clusters.get(0);
+        assertThat(seoul.count()).isEqualTo(2);
+        assertThat(seoul.latitude()).isCloseTo(37.5561, within(1e-9));
+        assertThat(seoul.longitude()).isCloseTo(126.9222, within(1e-9));
+        assertThat(seoul.promoIds()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("줌 아웃할수록 셀이 합쳐지고 전체 개수는 유지")
+    void clusters_MergeWhenZoomingOut() {
+        PromoClusterGrid grid = new PromoClusterGrid();
+        grid.add(point(1, 37.5563, 126.9220, 1)); // 홍대
+        grid.add(point(2, 37.4979, 127.0276, 2)); // 강남
+        grid.add(point(3, 35.1796, 129.0756, 3)); // 부산
+
+        assertThat(grid.clusters(33.0, 39.0, 124.0, 131.0, 15)).hasSize(3);
+        assertThat(grid.clusters(33.0, 39.0, 124.0, 131.0, 5)).extracting(Cluster::count).containsExactly(2, 1);
+        // 범위 밖 줌은 보정
+        assertThat(grid.clusters(33.0, 39.0, 124.0, 131.0, 0)).hasSize(2);
+        assertThat(grid.clusters(33.0, 39.0, 124.0, 131.0, 20)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("대표 공연이 삭제되면 다음 최신 공연으로 다시 선정")
+    void remove_RefillsRepresentatives() {
+        PromoClusterGrid grid = new PromoClusterGrid();
+        for (int id = 1; id <= 5; id++) {
+            grid.add(point(id, 37.55 + id * 0.01, 126.95, id));
+        }
+        assertThat(grid.clusters(37.0, 38.0, 126.0, 127.5, 5).get(0).promoIds()).containsExactly(5, 4, 3);
+
+        grid.remove(point(4, 37.59, 126.95, 4));
+        grid.remove(point(5, 37.60, 126.95, 5));
+
+        Cluster cluster = grid.clusters(37.0, 38.0, 126.0, 127.5, 5).get(0);
+        assertThat(cluster.count()).isEqualTo(3);
+        assertThat(cluster.promoIds()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("마지막 공연이 빠지면 셀 제거")
+    void remove_DropsEmptyCells() {
+        PromoClusterGrid grid = new PromoClusterGrid();
+        GeoPoint point = point(1, 37.5563, 126.9220, 1);
+        grid.add(point);
+        grid.remove(point);
+
+        for (int zoom = PromoClusterGrid.MIN_ZOOM; zoom <= PromoClusterGrid.MAX_ZOOM; zoom++) {
+            assertThat(grid.cellCount(zoom)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 추가/이동/삭제 후 증분 집계가 처음부터 만든 집계와 동일")
+    void incrementalUpdates_MatchFreshBuild() {
+        Random random = new Random(11);
+        PromoClusterGrid grid = new PromoClusterGrid();
+        Map<Integer, GeoPoint> live = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int id = 1 + random.nextInt(3_000);
+            GeoPoint previous = live.remove(id);
+            if (previous != null) {
+                grid.remove(previous);
+            }
+            // 삭제 30%, 그 외에는 새 위치로 추가/이동
+            if (random.nextDouble() >= 0.3) {
+                GeoPoint point = point(id, 37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6,
+                        random.nextInt(10_000));
+                live.put(id, point);
+                grid.add(point);
+            }
+        }
+
+        PromoClusterGrid fresh = new PromoClusterGrid();
+        live.values().forEach(fresh::add);
+
+        for (int zoom = PromoClusterGrid.MIN_ZOOM; zoom <= PromoClusterGrid.MAX_ZOOM; zoom++) {
+            List<Cluster> actual = new ArrayList<>(grid.clusters(37.0, 38.0, 126.0, 128.0, zoom));
+            List<Cluster> expected = new ArrayList<>(fresh.clusters(37.0, 38.0, 126.0, 128.0, zoom));
+            actual.sort(CELL_ORDER);
+            expected.sort(CELL_ORDER);
+
+            assertThat(grid.cellCount(zoom)).isEqualTo(fresh.cellCount(zoom));
+            assertThat(actual).hasSameSizeAs(expected);
+            assertThat(actual.stream().mapToInt(Cluster::count).sum()).isEqualTo(live.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).count()).isEqualTo(expected.get(i).count());
+                assertThat(actual.get(i).latitude()).isCloseTo(expected.get(i).latitude(), within(1e-6));
+                assertThat(actual.get(i).longitude()).isCloseTo(expected.get(i).longitude(), within(1e-6));
+                assertThat(actual.get(i).promoIds()).isEqualTo(expected.get(i).promoIds());
+            }
+        }
+    }
+
+    private GeoPoint point(int id, double latitude, double longitude, long createdAt) {
+        return new GeoPoint(id, latitude, longitude, createdAt, createdAt);
+    }
+}
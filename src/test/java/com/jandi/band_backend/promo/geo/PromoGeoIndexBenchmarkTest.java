@@ -0,0 +1,127 @@
+package com.jandi.band_backend.promo.geo;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 지도 색인 vs 위경도 BETWEEN 전체 스캔 지연시간 비교 (줌 레벨별 화면 영역)
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PromoGeoIndexBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("PromoGeoIndex 벤치마크")
+class PromoGeoIndexBenchmarkTest {
+
+    // 공연이 몰리는 도시 중심 좌표 (서울, 부산, 대구, 대전, 광주)
+    private static final double[][] CITIES = {
+            {37.5665, 126.9780}, {35.1796, 129.0756}, {35.8714, 128.6014}, {36.3504, 127.3845}, {35.1595, 126.8526}
+    };
+    // 줌 레벨별 화면 크기 (위도/경도 폭, 도)
+    private static final double[][] ZOOM_LEVELS = {
+            {0.01, 0.015}, {0.05, 0.07}, {0.2, 0.3}, {1.0, 1.4}, {5.0, 7.0}
+    };
+    private static final int[] ZOOMS = {16, 14, 12, 10, 7};
+    private static final int ITERATIONS = 50;
+
+    @ParameterizedTest(name = "promos={0}")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareLatency(int promoCount) {
+        List<Promo> promos = generate(promoCount);
+        PromoRepository promoRepository = mock(PromoRepository.class);
+        when(promoRepository.findNotDeletedAfterId(anyInt(), any()))
+                .thenReturn(promos)
+                .thenReturn(Collections.emptyList());
+        PromoGeoIndex index = new PromoGeoIndex(promoRepository);
+        index.rebuild();
+
+        List<PromoGeoIndex.GeoPoint> points = promos.stream()
+                .map(PromoGeoIndex.GeoPoint::of)
+                .toList();
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        double[] center = CITIES[0];
+
+        for (int i = 0; i < ZOOM_LEVELS.length; i++) {
+            double minLat = center[0] - ZOOM_LEVELS[i][0] / 2;
+            double maxLat = center[0] + ZOOM_LEVELS[i][0] / 2;
+            double minLng = center[1] - ZOOM_LEVELS[i][1] / 2;
+            double maxLng = center[1] + ZOOM_LEVELS[i][1] / 2;
+
+            long[] matches = new long[1];
+            long indexNanos = measure(() -> matches[0] = index.search(minLat, maxLat, minLng, maxLng, pageable)
+                    .getTotalElements());
+            long scanNanos = measure(() -> betweenScan(points, minLat, maxLat, minLng, maxLng));
+            System.out.printf("promos=%d zoom=%d matches=%d index=%.3fms betweenScan=%.3fms%n",
+                    promoCount, ZOOMS[i], matches[0], indexNanos / 1_000_000.0, scanNanos / 1_000_000.0);
+        }
+    }
+
+    // latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ? 전체 스캔 후 상위 20개 정렬과 동일한 비교
+    private List<PromoGeoIndex.GeoPoint> betweenScan(List<PromoGeoIndex.GeoPoint> points,
+                                                    double minLat, double maxLat, double minLng, double maxLng) {
+        List<PromoGeoIndex.GeoPoint> matches = new ArrayList<>();
+        for (PromoGeoIndex.GeoPoint point : points) {
+            if (point.latitude() >= minLat && point.latitude() <= maxLat
+                    && point.longitude() >= minLng && point.longitude() <= maxLng) {
+                matches.add(point);
+            }
+        }
+        matches.sort((a, b) -> Long.compare(b.createdAt(), a.createdAt()));
+        return matches.subList(0, Math.min(20, matches.size()));
+    }
+
+    private long measure(Runnable task) {
+        for (int i = 0; i < 5; i++) {
+            task.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    // 80% 는 도시 주변에 정규분포로, 나머지는 국토 전역에 고르게 분포
+    private List<Promo> generate(int count) {
+        Random random = new Random(42);
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Promo> promos = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            double latitude;
+            double longitude;
+            if (random.nextDouble() < 0.8) {
+                double[] city = CITIES[random.nextInt(CITIES.length)];
+                latitude = city[0] + random.nextGaussian() * 0.08;
+                longitude = city[1] + random.nextGaussian() * 0.1;
+            } else {
+                latitude = 34.0 + random.nextDouble() * 4.5;
+                longitude = 126.0 + random.nextDouble() * 3.5;
+            }
+            Promo promo = new Promo();
+            promo.setId(i);
+            promo.setLatitude(BigDecimal.valueOf(latitude));
+            promo.setLongitude(BigDecimal.valueOf(longitude));
+            promo.setCreatedAt(baseTime.plusSeconds(random.nextInt(31_536_000)));
+            promo.setEventDatetime(baseTime.plusSeconds(random.nextInt(31_536_000)));
+            promos.add(promo);
+        }
+        return promos;
+    }
+}
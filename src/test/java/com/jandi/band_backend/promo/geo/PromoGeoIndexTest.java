@@ -0,0 +1,266 @@
+package com.jandi.band_backend.promo.geo;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoGeoRow;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromoGeoIndex 지도 색인 테스트")
+class PromoGeoIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private PromoRepository promoRepository;
+
+    private PromoGeoIndex promoGeoIndex;
+
+    private final Pageable latestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @BeforeEach
+    void setUp() {
+        promoGeoIndex = new PromoGeoIndex(promoRepository);
+        when(promoRepository.findNotDeletedAfterId(eq(0), any())).thenReturn(Arrays.asList(
+                createPromo(1, "37.5563", "126.9220", 1), // 홍대
+                createPromo(2, "37.5559", "126.9368", 2), // 신촌
+                createPromo(3, "37.4979", "127.0276", 3), // 강남
+                createPromo(4, "35.1796", "129.0756", 4), // 부산
+                createPromo(5, null, null, 5)));           // 위치 없음
+        promoGeoIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("재구성 후 색인 준비 완료 - 좌표 없는 공연은 제외")
+    void rebuild_MarksReady() {
+        assertThat(promoGeoIndex.isReady()).isTrue();
+        assertThat(promoGeoIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("영역 내 공연만 최신 등록순으로 반환")
+    void search_ReturnsPromosInArea() {
+        Page<Integer> result = promoGeoIndex.search(37.4, 37.6, 126.9, 127.1, latestFirst);
+
+        assertThat(result.getContent()).containsExactly(3, 2, 1);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("영역 경계에 걸친 좌표도 포함 (BETWEEN 과 동일)")
+    void search_IncludesBoundary() {
+        Page<Integer> result = promoGeoIndex.search(37.5563, 37.5563, 126.9220, 126.9220, latestFirst);
+
+        assertThat(result.getContent()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("공연 일시 오름차순 정렬 및 페이지 단위 반환")
+    void search_SortsAndPaginates() {
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "eventDatetime"));
+
+        Page<Integer> result = promoGeoIndex.search(30.0, 40.0, 120.0, 130.0, pageable);
+
+        assertThat(result.getContent()).containsExactly(3, 4);
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("색인이 처리할 수 있는 정렬만 지원")
+    void supports_SortableProperties() {
+        assertThat(promoGeoIndex.supports(Sort.unsorted())).isTrue();
+        assertThat(promoGeoIndex.supports(Sort.by("createdAt", "id"))).isTrue();
+        assertThat(promoGeoIndex.supports(Sort.by("title"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("위치 변경 시 이전 셀에서 제거되고 새 셀에 반영")
+    void put_MovesPoint() {
+        promoGeoIndex.put(PromoGeoIndex.GeoPoint.of(createPromo(4, "37.5000", "127.0000", 4)));
+
+        assertThat(promoGeoIndex.search(35.0, 35.5, 128.5, 129.5, latestFirst).getContent()).isEmpty();
+        assertThat(promoGeoIndex.search(37.4, 37.6, 126.9, 127.1, latestFirst).getContent())
+                .containsExactly(4, 3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("위치 변경 시 클러스터 집계도 함께 갱신")
+    void put_UpdatesClusters() {
+        assertThat(promoGeoIndex.clusters(33.0, 39.0, 124.0, 131.0, 5))
+                .extracting(PromoClusterGrid.Cluster::count).containsExactly(3, 1);
+
+        promoGeoIndex.put(PromoGeoIndex.GeoPoint.of(createPromo(1, "35.1800", "129.0800", 1)));
+
+        assertThat(promoGeoIndex.clusters(33.0, 39.0, 124.0, 131.0, 5))
+                .extracting(PromoClusterGrid.Cluster::count).containsExactly(2, 2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 index/remove 호출 시 즉시 반영 - 좌표가 사라지면 제거")
+    void indexAndRemove_OutsideTransaction() {
+        promoGeoIndex.index(createPromo(6, "33.4996", "126.5312", 6)); // 제주
+        assertThat(promoGeoIndex.search(33.0, 34.0, 126.0, 127.0, latestFirst).getContent()).containsExactly(6);
+
+        promoGeoIndex.index(createPromo(6, null, null, 6));
+        assertThat(promoGeoIndex.search(33.0, 34.0, 126.0, 127.0, latestFirst).getContent()).isEmpty();
+
+        promoGeoIndex.remove(3);
+        assertThat(promoGeoIndex.search(37.4, 37.6, 126.9, 127.1, latestFirst).getContent()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("무작위 영역 검색 결과가 전체 스캔과 동일")
+    void search_MatchesLinearScan() {
+        Random random = new Random(7);
+        Arrays.asList(1, 2, 3, 4).forEach(promoGeoIndex::delete);
+        List<Promo> promos = new ArrayList<>();
+        for (int id = 10; id < 2010; id++) {
+            Promo promo = createPromo(id,
+                    String.valueOf(33 + random.nextDouble() * 5),
+                    String.valueOf(125 + random.nextDouble() * 5),
+                    random.nextInt(500));
+            promos.add(promo);
+            promoGeoIndex.put(PromoGeoIndex.GeoPoint.of(promo));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            double minLat = 33 + random.nextDouble() * 5;
+            double minLng = 125 + random.nextDouble() * 5;
+            double maxLat = minLat + random.nextDouble() * (i % 2 == 0 ? 0.1 : 3);
+            double maxLng = minLng + random.nextDouble() * (i % 2 == 0 ? 0.1 : 3);
+
+            List<Integer> expected = promos.stream()
+                    .filter(p -> p.getLatitude().doubleValue() >= minLat && p.getLatitude().doubleValue() <= maxLat
+                            && p.getLongitude().doubleValue() >= minLng && p.getLongitude().doubleValue() <= maxLng)
+                    .sorted(Comparator.comparing(Promo::getCreatedAt).reversed()
+                            .thenComparing(Comparator.comparing(Promo::getId).reversed()))
+                    .map(Promo::getId)
+                    .toList();
+
+            Page<Integer> result = promoGeoIndex.search(minLat, maxLat, minLng, maxLng,
+                    PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt")));
+            assertThat(result.getTotalElements()).isEqualTo(expected.size());
+            assertThat(result.getContent()).isEqualTo(expected.subList(0, Math.min(50, expected.size())));
+        }
+    }
+
+    @Test
+    @DisplayName("근처 공연 - 가까운 순 정렬, 반경 및 공연 일시 조건 적용")
+    void nearest_OrdersByDistance() {
+        // 홍대 기준 반경 15km: 홍대(0m) < 신촌(약 1.3km) < 강남(약 11.5km), 부산 제외
+        List<PromoGeoIndex.Nearby> result = promoGeoIndex.nearest(37.5563, 126.9220, 15_000, BASE_TIME, null, 10);
+        assertThat(result).extracting(PromoGeoIndex.Nearby::id).containsExactly(1, 2, 3);
+        assertThat(result.get(1).distanceMeters()).isBetween(1_200.0, 1_400.0);
+
+        // 반경 5km 이내만
+        assertThat(promoGeoIndex.nearest(37.5563, 126.9220, 5_000, BASE_TIME, null, 10))
+                .extracting(PromoGeoIndex.Nearby::id).containsExactly(1, 2);
+
+        // 공연 일시가 기준 이전인 공연 제외 (id 1, 2 는 BASE_TIME + 1, 2일)
+        assertThat(promoGeoIndex.nearest(37.5563, 126.9220, 15_000, BASE_TIME.plusDays(3), null, 10))
+                .extracting(PromoGeoIndex.Nearby::id).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("근처 공연 - 커서로 이어서 조회한 결과가 전체 거리순 정렬과 동일")
+    void nearest_MatchesBruteForceWithCursor() {
+        Random random = new Random(3);
+        Arrays.asList(1, 2, 3, 4).forEach(promoGeoIndex::delete);
+        List<PromoGeoIndex.GeoPoint> points = new ArrayList<>();
+        for (int id = 10; id < 3010; id++) {
+            Promo promo = createPromo(id,
+                    String.valueOf(37.2 + random.nextDouble() * 0.8),
+                    String.valueOf(126.6 + random.nextDouble() * 0.9),
+                    random.nextInt(1000));
+            PromoGeoIndex.GeoPoint point = PromoGeoIndex.GeoPoint.of(promo);
+            points.add(point);
+            promoGeoIndex.put(point);
+        }
+
+        for (int i = 0; i < 30; i++) {
+            double latitude = 37.2 + random.nextDouble() * 0.8;
+            double longitude = 126.6 + random.nextDouble() * 0.9;
+            double radius = 1_000 + random.nextDouble() * 20_000;
+            LocalDateTime eventFrom = BASE_TIME.plusDays(random.nextInt(500));
+            long eventFromMillis = PromoGeoIndex.GeoPoint.epochMillis(eventFrom);
+
+            List<PromoGeoIndex.Nearby> expected = points.stream()
+                    .filter(point -> point.eventDatetime() >= eventFromMillis)
+                    .map(point -> new PromoGeoIndex.Nearby(point.id(),
+                            PromoGeoIndex.haversineMeters(latitude, longitude, point.latitude(), point.longitude())))
+                    .filter(nearby -> nearby.distanceMeters() <= radius)
+                    .sorted()
+                    .toList();
+
+            List<PromoGeoIndex.Nearby> actual = new ArrayList<>();
+            PromoGeoIndex.Nearby cursor = null;
+            List<PromoGeoIndex.Nearby> page;
+            do {
+                page = promoGeoIndex.nearest(latitude, longitude, radius, eventFrom, cursor, 25);
+                actual.addAll(page);
+                cursor = page.isEmpty() ? null : page.get(page.size() - 1);
+            } while (page.size() == 25);
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("근처 공연 - 색인 재구성 전 DB 계산은 경계 상자로 조회하고 색인과 같은 결과를 반환")
+    void nearestFromDatabase_MatchesIndex() {
+        // DB 는 경계 상자/공연 일시 조건을 적용해 반환 - 상자 모서리의 반경 밖 좌표(강남)도 포함될 수 있음
+        when(promoRepository.findGeoRowsInArea(any(), any(), any(), any(), eq(BASE_TIME))).thenReturn(List.of(
+                new PromoGeoRow(1, new BigDecimal("37.5563"), new BigDecimal("126.9220")),
+                new PromoGeoRow(2, new BigDecimal("37.5559"), new BigDecimal("126.9368")),
+                new PromoGeoRow(3, new BigDecimal("37.4979"), new BigDecimal("127.0276"))));
+
+        List<PromoGeoIndex.Nearby> result = promoGeoIndex.nearestFromDatabase(37.5563, 126.9220, 5_000, BASE_TIME, null, 10);
+
+        assertThat(result).isEqualTo(promoGeoIndex.nearest(37.5563, 126.9220, 5_000, BASE_TIME, null, 10));
+        assertThat(result).extracting(PromoGeoIndex.Nearby::id).containsExactly(1, 2);
+        ArgumentCaptor<BigDecimal> minLat = ArgumentCaptor.forClass(BigDecimal.class);
+        ArgumentCaptor<BigDecimal> maxLat = ArgumentCaptor.forClass(BigDecimal.class);
+        verify(promoRepository).findGeoRowsInArea(minLat.capture(), maxLat.capture(), any(), any(), eq(BASE_TIME));
+        assertThat(minLat.getValue().doubleValue()).isBetween(37.50, 37.52);
+        assertThat(maxLat.getValue().doubleValue()).isBetween(37.59, 37.61);
+
+        // 커서 다음부터
+        assertThat(promoGeoIndex.nearestFromDatabase(37.5563, 126.9220, 5_000, BASE_TIME, result.get(0), 10))
+                .extracting(PromoGeoIndex.Nearby::id).containsExactly(2);
+    }
+
+    private Promo createPromo(Integer id, String latitude, String longitude, int minutes) {
+        Promo promo = new Promo();
+        promo.setId(id);
+        promo.setTitle("공연 " + id);
+        promo.setLatitude(latitude != null ? new BigDecimal(latitude) : null);
+        promo.setLongitude(longitude != null ? new BigDecimal(longitude) : null);
+        promo.setCreatedAt(BASE_TIME.plusMinutes(minutes));
+        promo.setEventDatetime(BASE_TIME.plusDays(minutes));
+        return promo;
+    }
+}
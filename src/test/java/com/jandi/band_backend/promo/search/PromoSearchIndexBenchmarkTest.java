@@ -0,0 +1,129 @@
+package com.jandi.band_backend.promo.search;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 검색 색인 vs LIKE 전체 스캔 지연시간 비교
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PromoSearchIndexBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("PromoSearchIndex 벤치마크")
+class PromoSearchIndexBenchmarkTest {
+
+    private static final String[] COMMON_WORDS = {
+            "락밴드", "정기공연", "재즈", "어쿠스틱", "버스킹", "홍대", "신촌", "강남", "힙합", "인디",
+            "동아리", "라이브", "페스티벌", "클럽", "콘서트", "보컬", "기타", "드럼", "베이스", "키보드"
+    };
+    private static final String[] QUERIES = {"락밴드", "정기", "홍대 클럽", "페스티벌", "잔디"};
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int ITERATIONS = 50;
+
+    @ParameterizedTest(name = "promos={0}")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareLatency(int promoCount) {
+        List<Promo> promos = generate(promoCount);
+        PromoRepository promoRepository = mock(PromoRepository.class);
+        when(promoRepository.findNotDeletedAfterId(anyInt(), any()))
+                .thenReturn(promos)
+                .thenReturn(Collections.emptyList());
+        PromoSearchIndex index = new PromoSearchIndex(promoRepository);
+        index.rebuild();
+
+        List<PromoSearchIndex.IndexedPromo> documents = promos.stream()
+                .map(PromoSearchIndex.IndexedPromo::of)
+                .toList();
+        Pageable pageable = PageRequest.of(0, 20);
+
+        for (String query : QUERIES) {
+            long indexNanos = measure(() -> index.search(query, pageable));
+            long scanNanos = measure(() -> likeScan(documents, query));
+            System.out.printf("promos=%d query=%s index=%.3fms likeScan=%.3fms%n",
+                    promoCount, query, indexNanos / 1_000_000.0, scanNanos / 1_000_000.0);
+        }
+    }
+
+    // LOWER(...) LIKE '%kw%' 4개 컬럼 전체 스캔과 동일한 비교
+    private int likeScan(List<PromoSearchIndex.IndexedPromo> documents, String query) {
+        String keyword = NGramTokenizer.normalize(query);
+        int matches = 0;
+        for (PromoSearchIndex.IndexedPromo document : documents) {
+            if (document.title().contains(keyword) || document.description().contains(keyword)
+                    || document.location().contains(keyword) || document.teamName().contains(keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private long measure(Runnable task) {
+        for (int i = 0; i < 5; i++) {
+            task.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    private List<Promo> generate(int count) {
+        Random random = new Random(42);
+        String[] vocabulary = vocabulary(random);
+        List<Promo> promos = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Promo promo = new Promo();
+            promo.setId(i);
+            promo.setTitle(sentence(random, vocabulary, 3));
+            promo.setTeamName(sentence(random, vocabulary, 1));
+            promo.setLocation(sentence(random, vocabulary, 2));
+            promo.setDescription(sentence(random, vocabulary, 8));
+            promos.add(promo);
+        }
+        return promos;
+    }
+
+    // 자주 쓰이는 단어 + 무작위 음절 조합 단어로 어휘 구성
+    private String[] vocabulary(Random random) {
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        System.arraycopy(COMMON_WORDS, 0, vocabulary, 0, COMMON_WORDS.length);
+        for (int i = COMMON_WORDS.length; i < VOCABULARY_SIZE; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('가' + random.nextInt(11172)));
+            }
+            vocabulary[i] = word.toString();
+        }
+        return vocabulary;
+    }
+
+    // 앞쪽 단어일수록 자주 등장하도록 치우친 분포로 단어 선택
+    private String sentence(Random random, String[] vocabulary, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            double skew = random.nextDouble();
+            builder.append(vocabulary[(int) (skew * skew * skew * vocabulary.length)]);
+        }
+        return builder.toString();
+    }
+}
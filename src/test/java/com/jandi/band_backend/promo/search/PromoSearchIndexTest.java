@@ -0,0 +1,159 @@
+package com.jandi.band_backend.promo.search;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromoSearchIndex 검색 색인 테스트")
+class PromoSearchIndexTest {
+
+    @Mock
+    private PromoRepository promoRepository;
+
+    private PromoSearchIndex promoSearchIndex;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @BeforeEach
+    void setUp() {
+        promoSearchIndex = new PromoSearchIndex(promoRepository);
+        when(promoRepository.findNotDeletedAfterId(eq(0), any())).thenReturn(Arrays.asList(
+                createPromo(1, "락밴드 정기공연", "잔디밴드", "홍대 클럽", "정기 공연입니다"),
+                createPromo(2, "재즈의 밤", "스윙팀", "강남 라이브홀", "락밴드 게스트 출연"),
+                createPromo(3, "어쿠스틱 공연", "락밴드", "신촌", null)));
+        promoSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("재구성 후 색인 준비 완료")
+    void rebuild_MarksReady() {
+        assertThat(promoSearchIndex.isReady()).isTrue();
+        assertThat(promoSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색 - 필드 가중치 순으로 정렬")
+    void search_RanksByFieldWeight() {
+        Page<Integer> result = promoSearchIndex.search("락밴드", pageable);
+
+        // 제목(1) > 팀명(3) > 설명(2)
+        assertThat(result.getContent()).containsExactly(1, 3, 2);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드와 대소문자 무시 검색")
+    void search_SingleCharacterAndCaseInsensitive() {
+        Promo promo = createPromo(4, "ROCK Festival", "Band", null, null);
+        promoSearchIndex.put(PromoSearchIndex.IndexedPromo.of(promo));
+
+        assertThat(promoSearchIndex.search("밤", pageable).getContent()).containsExactly(2);
+        assertThat(promoSearchIndex.search("rock fest", pageable).getContent()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("n-gram 은 모두 포함하지만 연속 부분 문자열이 아니면 제외")
+    void search_VerifiesSubstring() {
+        assertThat(promoSearchIndex.search("공연 정기", pageable).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 갱신 및 삭제 반영")
+    void putAndDelete_UpdatesPostings() {
+        promoSearchIndex.put(PromoSearchIndex.IndexedPromo.of(
+                createPromo(1, "힙합 공연", "잔디밴드", "홍대 클럽", null)));
+        assertThat(promoSearchIndex.search("락밴드", pageable).getContent()).containsExactly(3, 2);
+        assertThat(promoSearchIndex.search("힙합", pageable).getContent()).containsExactly(1);
+
+        promoSearchIndex.delete(3);
+        assertThat(promoSearchIndex.search("락밴드", pageable).getContent()).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("페이지 단위 결과 반환")
+    void search_Paginates() {
+        Page<Integer> secondPage = promoSearchIndex.search("락밴드", PageRequest.of(1, 2));
+
+        assertThat(secondPage.getContent()).containsExactly(2);
+        assertThat(secondPage.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 index/remove 호출 시 즉시 반영")
+    void indexAndRemove_OutsideTransaction() {
+        promoSearchIndex.index(createPromo(5, "블루스 공연", "블루스팀", null, null));
+        assertThat(promoSearchIndex.search("블루스", pageable).getContent()).containsExactly(5);
+
+        promoSearchIndex.remove(5);
+        assertThat(promoSearchIndex.search("블루스", pageable).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 중 커밋 후 반영된 변경은 새 색인으로 교체된 뒤에도 유지")
+    void rebuild_KeepsChangesAppliedDuringRebuild() {
+        // DB 배치를 읽는 동안 다른 요청의 커밋 후 갱신/삭제가 반영됨 (배치는 변경 전 상태)
+        when(promoRepository.findNotDeletedAfterId(eq(0), any())).thenAnswer(invocation -> {
+            promoSearchIndex.put(PromoSearchIndex.IndexedPromo.of(createPromo(5, "블루스 공연", "블루스팀", null, null)));
+            promoSearchIndex.put(PromoSearchIndex.IndexedPromo.of(createPromo(1, "힙합 정기공연", "잔디밴드", null, null)));
+            promoSearchIndex.delete(2);
+            return Arrays.asList(
+                    createPromo(1, "락밴드 정기공연", "잔디밴드", "홍대 클럽", "정기 공연입니다"),
+                    createPromo(2, "재즈의 밤", "스윙팀", "강남 라이브홀", "락밴드 게스트 출연"),
+                    createPromo(3, "어쿠스틱 공연", "락밴드", "신촌", null));
+        });
+
+        promoSearchIndex.rebuild();
+
+        assertThat(promoSearchIndex.size()).isEqualTo(3);
+        assertThat(promoSearchIndex.search("블루스", pageable).getContent()).containsExactly(5);
+        assertThat(promoSearchIndex.search("힙합", pageable).getContent()).containsExactly(1);
+        assertThat(promoSearchIndex.search("재즈", pageable).getContent()).isEmpty();
+        assertThat(promoSearchIndex.search("락밴드", pageable).getContent()).containsExactly(3);
+
+        // 이전 재구성 중 기록한 변경은 다음 재구성에 다시 적용되지 않음
+        when(promoRepository.findNotDeletedAfterId(eq(0), any()))
+                .thenReturn(List.of(createPromo(3, "어쿠스틱 공연", "락밴드", "신촌", null)));
+        promoSearchIndex.rebuild();
+        assertThat(promoSearchIndex.size()).isEqualTo(1);
+        assertThat(promoSearchIndex.search("블루스", pageable).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문자/숫자가 없는 키워드는 전체 문서를 비교하지 않고 빈 결과")
+    void search_PunctuationOnlyKeyword() {
+        promoSearchIndex.index(createPromo(6, "!!! 공연", "팀", null, null));
+
+        Page<Integer> result = promoSearchIndex.search("!!!", pageable);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(promoSearchIndex.search("   ", pageable).getContent()).isEmpty();
+    }
+
+    private Promo createPromo(Integer id, String title, String teamName, String location, String description) {
+        Promo promo = new Promo();
+        promo.setId(id);
+        promo.setTitle(title);
+        promo.setTeamName(teamName);
+        promo.setLocation(location);
+        promo.setDescription(description);
+        return promo;
+    }
+}
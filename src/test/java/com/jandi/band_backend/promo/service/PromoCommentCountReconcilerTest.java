@@ -0,0 +1,105 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoComment;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PromoCommentCountReconciler.class)
+@DisplayName("공연 홍보 댓글 수 보정 테스트")
+class PromoCommentCountReconcilerTest {
+
+    @Autowired
+    private PromoCommentCountReconciler promoCommentCountReconciler;
+
+    @Autowired
+    private PromoRepository promoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("삭제되지 않은 댓글 수와 다른 댓글 수만 보정한다")
+    void reconcile_FixesDriftedCounts() {
+        // Given
+        Users user = createUser();
+        Promo drifted = createPromo(user, 5);    // 실제 댓글 1개 (삭제된 댓글 1개 제외)
+        Promo correct = createPromo(user, 2);    // 실제 댓글 2개
+        Promo orphan = createPromo(user, 3);     // 실제 댓글 0개
+        comment(drifted, user, false);
+        comment(drifted, user, true);
+        comment(correct, user, false);
+        comment(correct, user, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int fixed = promoCommentCountReconciler.reconcile();
+
+        // Then
+        entityManager.clear();
+        assertThat(fixed).isEqualTo(2);
+        assertThat(promoRepository.findById(drifted.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+        assertThat(promoRepository.findById(correct.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+        assertThat(promoRepository.findById(orphan.getId()).orElseThrow().getCommentCount()).isZero();
+    }
+
+    private Users createUser() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users user = new Users();
+        user.setKakaoOauthId("reconcile_user");
+        user.setNickname("보정사용자");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Promo createPromo(Users creator, int commentCount) {
+        Promo promo = new Promo();
+        promo.setTitle("공연");
+        promo.setTeamName("잔디밴드");
+        promo.setCreator(creator);
+        promo.setEventDatetime(LocalDateTime.now().plusDays(1));
+        promo.setAdmissionFee(BigDecimal.ZERO);
+        promo.setCommentCount(commentCount);
+        entityManager.persist(promo);
+        return promo;
+    }
+
+    private void comment(Promo promo, Users user, boolean deleted) {
+        PromoComment comment = new PromoComment();
+        comment.setPromo(promo);
+        comment.setCreator(user);
+        comment.setDescription("댓글");
+        comment.setDeletedAt(deleted ? LocalDateTime.now() : null);
+        entityManager.persist(comment);
+    }
+}
@@ -0,0 +1,139 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.exception.ResourceNotFoundException;
+import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.promo.dto.PromoCommentReqDTO;
+import com.jandi.band_backend.promo.dto.PromoCommentRespDTO;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoComment;
+import com.jandi.band_backend.promo.repository.PromoCommentRepository;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 댓글 생성/삭제 시 comment_count 가 COUNT 집계 없이 원자적 증감으로 유지되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PromoCommentService.class, PromoCommentLikeService.class})
+@DisplayName("공연 홍보 댓글 수 증감 테스트")
+class PromoCommentCountTest {
+
+    @Autowired
+    private PromoCommentService promoCommentService;
+
+    @Autowired
+    private PromoRepository promoRepository;
+
+    @Autowired
+    private PromoCommentRepository promoCommentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private UserValidationUtil userValidationUtil;
+
+    private Users user;
+    private Promo promo;
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        user = new Users();
+        user.setKakaoOauthId("comment_user");
+        user.setNickname("댓글사용자");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+
+        promo = new Promo();
+        promo.setTitle("공연");
+        promo.setTeamName("잔디밴드");
+        promo.setCreator(user);
+        promo.setEventDatetime(LocalDateTime.now().plusDays(1));
+        promo.setAdmissionFee(BigDecimal.ZERO);
+        entityManager.persist(promo);
+        entityManager.flush();
+        entityManager.clear();
+
+        when(userValidationUtil.getUserById(user.getId())).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("댓글 생성/삭제마다 댓글 수를 1씩 증감하고 COUNT 집계를 하지 않음")
+    void createAndDelete_AdjustCommentCount() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        PromoCommentRespDTO first = promoCommentService.createComment(promo.getId(), request("첫 댓글"), user.getId());
+        promoCommentService.createComment(promo.getId(), request("둘째 댓글"), user.getId());
+        assertThat(commentCount()).isEqualTo(2);
+
+        promoCommentService.deleteComment(first.getId(), user.getId());
+        assertThat(commentCount()).isEqualTo(1);
+
+        assertThat(statistics.getQueries())
+                .noneMatch(query -> query.contains("count(") || query.contains("COUNT("));
+    }
+
+    @Test
+    @DisplayName("이미 삭제된 댓글은 다시 삭제해도 댓글 수가 줄지 않음")
+    void deleteTwice_DecrementsOnce() {
+        PromoCommentRespDTO comment = promoCommentService.createComment(promo.getId(), request("댓글"), user.getId());
+        promoCommentService.deleteComment(comment.getId(), user.getId());
+
+        // 동시에 들어온 두 번째 삭제는 조건부 업데이트에서 걸러짐
+        assertThat(promoCommentRepository.softDeleteById(comment.getId(), LocalDateTime.now())).isZero();
+        assertThatThrownBy(() -> promoCommentService.deleteComment(comment.getId(), user.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(commentCount()).isZero();
+        entityManager.clear();
+        assertThat(entityManager.find(PromoComment.class, comment.getId()).getDeletedAt()).isNotNull();
+    }
+
+    private int commentCount() {
+        entityManager.flush();
+        entityManager.clear();
+        return promoRepository.findById(promo.getId()).orElseThrow().getCommentCount();
+    }
+
+    private PromoCommentReqDTO request(String description) {
+        PromoCommentReqDTO request = new PromoCommentReqDTO();
+        request.setDescription(description);
+        return request;
+    }
+}
@@ -0,0 +1,189 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.promo.dto.PromoCommentRespDTO;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoComment;
+import com.jandi.band_backend.promo.repository.PromoCommentRepository;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.UserPhoto;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 목록이 댓글 수와 관계없이 일정한 쿼리 수로 조회되고, 댓글 좋아요 수가 원자적으로 유지되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PromoCommentService.class, PromoCommentLikeService.class})
+@DisplayName("공연 홍보 댓글 목록 쿼리 수 테스트")
+class PromoCommentPageQueryCountTest {
+
+    private static final int COMMENT_COUNT = 20;
+
+    @Autowired
+    private PromoCommentService promoCommentService;
+
+    @Autowired
+    private PromoCommentLikeService promoCommentLikeService;
+
+    @Autowired
+    private PromoCommentRepository promoCommentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private UserValidationUtil userValidationUtil;
+
+    private Users viewer;
+    private Promo promo;
+    private final List<PromoComment> comments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        viewer = createUser(university, "viewer");
+
+        promo = new Promo();
+        promo.setTitle("공연");
+        promo.setTeamName("잔디밴드");
+        promo.setCreator(viewer);
+        promo.setEventDatetime(LocalDateTime.now().plusDays(1));
+        promo.setAdmissionFee(BigDecimal.ZERO);
+        entityManager.persist(promo);
+
+        // 댓글마다 다른 작성자 (각자 프로필 사진 보유)
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Users writer = createUser(university, "writer_" + i);
+            UserPhoto photo = new UserPhoto();
+            photo.setUser(writer);
+            photo.setImageUrl("https://example.com/profile-" + i + ".jpg");
+            entityManager.persist(photo);
+
+            PromoComment comment = new PromoComment();
+            comment.setPromo(promo);
+            comment.setCreator(writer);
+            comment.setDescription("댓글 " + i);
+            entityManager.persist(comment);
+            comments.add(comment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 짝수 번째 댓글에 좋아요
+        for (int i = 0; i < COMMENT_COUNT; i += 2) {
+            promoCommentLikeService.togglePromoCommentLike(comments.get(i).getId(), viewer.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "pageSize={0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("페이지 크기와 관계없이 공연 확인, 댓글(작성자 포함), 개수, 프로필 사진, 좋아요 상태 5회 조회")
+    void getCommentsByPromo_FixedStatementCount(int pageSize) {
+        Statistics statistics = collectStatistics(() ->
+                promoCommentService.getCommentsByPromo(promo.getId(), viewer.getId(), PageRequest.of(0, pageSize)));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수, 좋아요 상태, 프로필 사진을 함께 반환")
+    void getCommentsByPromo_ReturnsBatchedFields() {
+        Page<PromoCommentRespDTO> page = promoCommentService.getCommentsByPromo(
+                promo.getId(), viewer.getId(), PageRequest.of(0, COMMENT_COUNT));
+
+        assertThat(page.getContent()).hasSize(COMMENT_COUNT);
+        for (PromoCommentRespDTO comment : page.getContent()) {
+            int i = Integer.parseInt(comment.getDescription().substring("댓글 ".length()));
+            boolean liked = i % 2 == 0;
+            assertThat(comment.getIsLikedByUser()).isEqualTo(liked);
+            assertThat(comment.getLikeCount()).isEqualTo(liked ? 1 : 0);
+            assertThat(comment.getCreatorProfilePhoto()).isEqualTo("https://example.com/profile-" + i + ".jpg");
+        }
+
+        Page<PromoCommentRespDTO> anonymous = promoCommentService.getCommentsByPromo(
+                promo.getId(), PageRequest.of(0, COMMENT_COUNT));
+        assertThat(anonymous.getContent()).allSatisfy(comment -> assertThat(comment.getIsLikedByUser()).isNull());
+    }
+
+    @Test
+    @DisplayName("좋아요 토글과 탈퇴 시 좋아요 수를 원자적으로 증감")
+    void toggleAndWithdraw_AdjustLikeCount() {
+        Integer commentId = comments.get(0).getId();
+        assertThat(promoCommentLikeService.getLikeCount(commentId)).isEqualTo(1);
+
+        promoCommentLikeService.togglePromoCommentLike(commentId, viewer.getId());
+        entityManager.clear();
+        assertThat(promoCommentLikeService.getLikeCount(commentId)).isZero();
+        assertThat(promoCommentLikeService.isLikedByUser(commentId, viewer.getId())).isFalse();
+
+        promoCommentLikeService.togglePromoCommentLike(commentId, viewer.getId());
+        entityManager.clear();
+        assertThat(promoCommentLikeService.getLikeCount(commentId)).isEqualTo(1);
+        assertThat(promoCommentLikeService.isLikedByUser(commentId, viewer.getId())).isTrue();
+
+        // 회원 탈퇴: 좋아요 행 삭제 전 좋아요 수 일괄 감소
+        assertThat(promoCommentRepository.decrementLikeCountsLikedByUser(viewer.getId())).isEqualTo(COMMENT_COUNT / 2);
+        entityManager.clear();
+        assertThat(promoCommentLikeService.getLikeCount(commentId)).isZero();
+        assertThat(promoCommentLikeService.getLikeCount(comments.get(2).getId())).isZero();
+    }
+
+    private Users createUser(University university, String kakaoId) {
+        Users user = new Users();
+        user.setKakaoOauthId(kakaoId);
+        user.setNickname(kakaoId);
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Statistics collectStatistics(Supplier<Page<PromoCommentRespDTO>> query) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        query.get();
+        return statistics;
+    }
+}
@@ -0,0 +1,174 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 커서 기반 피드 vs OFFSET 목록 조회 페이지 깊이별 지연시간 비교
+ * - feed: PromoFeedService 전체 경로 (DTO 변환 포함), seekSql/offsetSql: 쿼리만
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PromoFeedBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+// logback-spring.xml 의 SQL DEBUG 로그가 측정을 왜곡하지 않도록 끔
+@DataJpaTest(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@Import({PromoFeedService.class, PromoLikeService.class})
+@DisplayName("PromoFeedService 벤치마크")
+class PromoFeedBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PROMO_COUNT = 5_000 * PAGE_SIZE;
+    private static final int[] PAGES = {1, 10, 100, 1_000, 5_000};
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private PromoFeedService promoFeedService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private record Row(int bucket, LocalDateTime eventDatetime, int id) {
+    }
+
+    @Test
+    void comparePageDepthLatency() {
+        Users user = createUser();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        insertPromos(jdbcTemplate, user.getId());
+
+        LocalDate today = LocalDate.now();
+        List<Row> ordered = new ArrayList<>(jdbcTemplate.query("SELECT promo_id, event_datetime FROM promo",
+                (rs, rowNum) -> {
+                    LocalDateTime eventDatetime = rs.getTimestamp("event_datetime").toLocalDateTime();
+                    return new Row(bucketOf(eventDatetime, today), eventDatetime, rs.getInt("promo_id"));
+                }));
+        ordered.sort(Comparator.comparingInt(Row::bucket)
+                .thenComparing(Row::eventDatetime)
+                .thenComparingInt(Row::id));
+
+        for (int page : PAGES) {
+            String cursor = null;
+            if (page > 1) {
+                Row last = ordered.get((page - 1) * PAGE_SIZE - 1);
+                cursor = new PromoFeedCursor(last.bucket(), last.eventDatetime(), last.id()).encode();
+            }
+            String pageCursor = cursor;
+            Row after = page > 1 ? ordered.get((page - 1) * PAGE_SIZE - 1) : null;
+            long feedNanos = measure(ITERATIONS, () -> promoFeedService.getFeed(pageCursor, PAGE_SIZE, null));
+            long seekNanos = measure(ITERATIONS, () -> seekPage(jdbcTemplate, today, after));
+            long offsetNanos = measure(ITERATIONS, () -> offsetPage(jdbcTemplate, page));
+            System.out.printf("promos=%d page=%d feed=%.3fms seekSql=%.3fms offsetSql=%.3fms%n",
+                    PROMO_COUNT, page, feedNanos / 1_000_000.0, seekNanos / 1_000_000.0, offsetNanos / 1_000_000.0);
+        }
+    }
+
+    // PromoRepository.findFeedIdsAfter 와 같은 키셋 조건 (커서 구간 한 번만 조회)
+    private int seekPage(JdbcTemplate jdbcTemplate, LocalDate today, Row after) {
+        LocalDateTime from = after == null || after.bucket() == PromoFeedService.TODAY
+                ? today.atStartOfDay()
+                : after.bucket() == PromoFeedService.UPCOMING ? today.plusDays(1).atStartOfDay() : LocalDateTime.of(1000, 1, 1, 0, 0);
+        LocalDateTime until = after == null || after.bucket() == PromoFeedService.TODAY
+                ? today.plusDays(1).atStartOfDay()
+                : after.bucket() == PromoFeedService.UPCOMING ? LocalDateTime.of(9999, 12, 31, 23, 59, 59) : today.atStartOfDay();
+        LocalDateTime afterDatetime = after != null ? after.eventDatetime() : from;
+        int afterId = after != null ? after.id() : 0;
+        return jdbcTemplate.queryForList("SELECT promo_id FROM promo WHERE deleted_at IS NULL " +
+                        "AND event_datetime >= ? AND event_datetime < ? AND event_datetime >= ? " +
+                        "AND (event_datetime > ? OR (event_datetime = ? AND promo_id > ?)) " +
+                        "ORDER BY event_datetime, promo_id LIMIT ?", Integer.class,
+                from, until, afterDatetime, afterDatetime, afterDatetime, afterId, PAGE_SIZE + 1).size();
+    }
+
+    // 기존 목록 조회와 같은 DATE() 기반 CASE 정렬 + OFFSET + COUNT (H2 에는 DATE() 가 없어 CAST 사용)
+    private int offsetPage(JdbcTemplate jdbcTemplate, int page) {
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT promo_id FROM promo WHERE deleted_at IS NULL " +
+                "ORDER BY CASE WHEN CAST(event_datetime AS DATE) = CURRENT_DATE THEN 0 " +
+                "WHEN CAST(event_datetime AS DATE) > CURRENT_DATE THEN 1 ELSE 2 END, event_datetime ASC " +
+                "LIMIT ? OFFSET ?", Integer.class, PAGE_SIZE, (page - 1) * PAGE_SIZE);
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM promo WHERE deleted_at IS NULL", Integer.class);
+        return ids.size() + total;
+    }
+
+    private long measure(int iterations, Runnable task) {
+        entityManager.clear();
+        task.run();
+        long total = 0;
+        for (int i = 0; i < iterations; i++) {
+            entityManager.clear();
+            long startedAt = System.nanoTime();
+            task.run();
+            total += System.nanoTime() - startedAt;
+        }
+        return total / iterations;
+    }
+
+    private Users createUser() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users user = new Users();
+        user.setKakaoOauthId("feed_benchmark_kakao_id");
+        user.setNickname("벤치마크");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+        entityManager.flush();
+        return user;
+    }
+
+    // 공연 일시는 1년 전 ~ 1년 후에 고르게 분포
+    private void insertPromos(JdbcTemplate jdbcTemplate, Integer creatorId) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDate.now().minusYears(1).atStartOfDay();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(PROMO_COUNT);
+        for (int i = 0; i < PROMO_COUNT; i++) {
+            LocalDateTime eventDatetime = base.plusMinutes(random.nextInt(2 * 365 * 24 * 60));
+            rows.add(new Object[]{"밴드 " + (i % 500), creatorId, "공연 " + i, Timestamp.valueOf(eventDatetime), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO promo (team_name, creator_user_id, title, event_datetime, " +
+                "view_count, comment_count, like_count, report_count, created_at, updated_at) VALUES (?, ?, ?, ?, 0, 0, 0, 0, ?, ?)", rows);
+    }
+
+    private int bucketOf(LocalDateTime eventDatetime, LocalDate today) {
+        LocalDate eventDate = eventDatetime.toLocalDate();
+        if (eventDate.isEqual(today)) {
+            return PromoFeedService.TODAY;
+        }
+        return eventDate.isAfter(today) ? PromoFeedService.UPCOMING : PromoFeedService.PAST;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.dto.CursorRespDTO;
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PromoFeedService.class, PromoLikeService.class})
+@DisplayName("PromoFeedService 커서 기반 피드 테스트")
+class PromoFeedServiceTest {
+
+    @Autowired
+    private PromoFeedService promoFeedService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final List<Promo> promos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users user = new Users();
+        user.setKakaoOauthId("feed_user_kakao_id");
+        user.setNickname("피드사용자");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+
+        // 지난/오늘/예정/일시 없음 공연을 섞고, 같은 일시 공연도 포함
+        Random random = new Random(5);
+        LocalDateTime todayNoon = LocalDate.now().atTime(12, 0);
+        for (int i = 0; i < 47; i++) {
+            LocalDateTime eventDatetime = switch (i % 5) {
+                case 0 -> todayNoon.plusMinutes(random.nextInt(4) * 30L);
+                case 1, 2 -> todayNoon.plusDays(1 + random.nextInt(20));
+                case 3 -> todayNoon.minusDays(1 + random.nextInt(20));
+                default -> i % 10 == 4 ? null : todayNoon.plusDays(3);
+            };
+            Promo promo = new Promo();
+            promo.setTitle("공연 " + i);
+            promo.setTeamName("밴드");
+            promo.setCreator(user);
+            promo.setEventDatetime(eventDatetime);
+            promo.setAdmissionFee(BigDecimal.ZERO);
+            entityManager.persist(promo);
+            promos.add(promo);
+        }
+
+        Promo deleted = new Promo();
+        deleted.setTitle("삭제된 공연");
+        deleted.setTeamName("밴드");
+        deleted.setCreator(user);
+        deleted.setEventDatetime(todayNoon);
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(deleted);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회한 결과가 오늘 → 예정 → 지난 → 일시 없음 순서와 동일")
+    void getFeed_WalksAllPagesInOrder() {
+        LocalDate today = LocalDate.now();
+        List<Integer> expected = promos.stream()
+                .sorted(Comparator.comparingInt((Promo promo) -> bucketOf(promo, today))
+                        .thenComparing(Promo::getEventDatetime, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Promo::getId))
+                .map(Promo::getId)
+                .toList();
+
+        List<Integer> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorRespDTO<PromoRespDTO> page = promoFeedService.getFeed(cursor, 4, null);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(4);
+            page.getContent().forEach(promo -> actual.add(promo.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(pages).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 남은 공연 수와 같으면 다음 페이지 없음")
+    void getFeed_ExactLastPage() {
+        CursorRespDTO<PromoRespDTO> page = promoFeedService.getFeed(null, 47, null);
+
+        assertThat(page.getContent()).hasSize(47);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 또는 페이지 크기는 요청 오류")
+    void getFeed_InvalidRequest() {
+        assertThatThrownBy(() -> promoFeedService.getFeed("not-a-cursor", 20, null))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> promoFeedService.getFeed(new PromoFeedCursor(9, null, 1).encode(), 20, null))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> promoFeedService.getFeed(null, 0, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private int bucketOf(Promo promo, LocalDate today) {
+        if (promo.getEventDatetime() == null) {
+            return PromoFeedService.UNSCHEDULED;
+        }
+        LocalDate eventDate = promo.getEventDatetime().toLocalDate();
+        if (eventDate.isEqual(today)) {
+            return PromoFeedService.TODAY;
+        }
+        return eventDate.isAfter(today) ? PromoFeedService.UPCOMING : PromoFeedService.PAST;
+    }
+}
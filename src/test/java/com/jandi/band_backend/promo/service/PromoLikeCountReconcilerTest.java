@@ -0,0 +1,101 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoLike;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PromoLikeCountReconciler.class)
+@DisplayName("공연 홍보 좋아요 수 보정 테스트")
+class PromoLikeCountReconcilerTest {
+
+    @Autowired
+    private PromoLikeCountReconciler promoLikeCountReconciler;
+
+    @Autowired
+    private PromoRepository promoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("promo_like 행 수와 다른 좋아요 수만 보정한다")
+    void reconcile_FixesDriftedCounts() {
+        // Given
+        Users user = createUser();
+        Promo drifted = createPromo(user, 7);    // 실제 좋아요 1개
+        Promo correct = createPromo(user, 1);    // 실제 좋아요 1개
+        Promo orphan = createPromo(user, 3);     // 실제 좋아요 0개
+        like(drifted, user);
+        like(correct, user);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int fixed = promoLikeCountReconciler.reconcile();
+
+        // Then
+        entityManager.clear();
+        assertThat(fixed).isEqualTo(2);
+        assertThat(promoRepository.findById(drifted.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+        assertThat(promoRepository.findById(correct.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+        assertThat(promoRepository.findById(orphan.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+
+    private Users createUser() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users user = new Users();
+        user.setKakaoOauthId("reconcile_user");
+        user.setNickname("보정사용자");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Promo createPromo(Users creator, int likeCount) {
+        Promo promo = new Promo();
+        promo.setTitle("공연");
+        promo.setTeamName("잔디밴드");
+        promo.setCreator(creator);
+        promo.setEventDatetime(LocalDateTime.now().plusDays(1));
+        promo.setAdmissionFee(BigDecimal.ZERO);
+        promo.setLikeCount(likeCount);
+        entityManager.persist(promo);
+        return promo;
+    }
+
+    private void like(Promo promo, Users user) {
+        PromoLike promoLike = new PromoLike();
+        promoLike.setPromo(promo);
+        promoLike.setUser(user);
+        entityManager.persist(promoLike);
+    }
+}
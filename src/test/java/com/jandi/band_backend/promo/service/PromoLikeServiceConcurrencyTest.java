@@ -0,0 +1,185 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoLikeRepository;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.univ.repository.RegionRepository;
+import com.jandi.band_backend.univ.repository.UniversityRepository;
+import com.jandi.band_backend.user.entity.Users;
+import com.jandi.band_backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 사용자가 같은 공연 홍보에 동시에 좋아요를 눌러도 like_count 가 promo_like 행 수와 일치하는지 검증
+ * 실제 커밋이 필요하므로 테스트 트랜잭션을 사용하지 않고 직접 정리합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PromoLikeService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("공연 홍보 좋아요 동시성 테스트")
+class PromoLikeServiceConcurrencyTest {
+
+    private static final int USER_COUNT = 40;
+
+    @Autowired
+    private PromoLikeService promoLikeService;
+
+    @Autowired
+    private PromoRepository promoRepository;
+
+    @Autowired
+    private PromoLikeRepository promoLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UniversityRepository universityRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    private Promo promo;
+    private final List<Users> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        region = regionRepository.save(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        university = universityRepository.save(university);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            Users user = new Users();
+            user.setKakaoOauthId("like_user_" + i);
+            user.setNickname("사용자" + i);
+            user.setUniversity(university);
+            user.setIsRegistered(true);
+            users.add(userRepository.save(user));
+        }
+
+        promo = new Promo();
+        promo.setTitle("인기 공연");
+        promo.setTeamName("잔디밴드");
+        promo.setCreator(users.get(0));
+        promo.setEventDatetime(LocalDateTime.now().plusDays(1));
+        promo.setAdmissionFee(BigDecimal.ZERO);
+        promo = promoRepository.save(promo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        promoLikeRepository.deleteAll();
+        promoRepository.deleteAll();
+        userRepository.deleteAll();
+        universityRepository.deleteAll();
+        regionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 좋아요/취소해도 좋아요 수가 유실되지 않는다")
+    void togglePromoLike_ConcurrentUsers() throws Exception {
+        // 모두 동시에 좋아요
+        runConcurrently(users, user -> promoLikeService.togglePromoLike(promo.getId(), user.getId()));
+        assertLikeCount(USER_COUNT);
+
+        // 절반이 동시에 좋아요 취소
+        runConcurrently(users.subList(0, USER_COUNT / 2),
+                user -> promoLikeService.togglePromoLike(promo.getId(), user.getId()));
+        assertLikeCount(USER_COUNT / 2);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 요청이 동시에 들어와도 좋아요 수와 실제 좋아요 행 수가 일치한다")
+    void togglePromoLike_ConcurrentSameUser() throws Exception {
+        Users user = users.get(0);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return promoLikeService.togglePromoLike(promo.getId(), user.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // 유니크 제약/잠금 충돌로 실패한 요청은 전체가 롤백되므로 카운트에 영향 없음
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long likes = promoLikeRepository.count();
+        assertThat(likes).isBetween(0L, 1L);
+        assertLikeCount((int) likes);
+    }
+
+    private void assertLikeCount(int expected) {
+        Promo reloaded = promoRepository.findById(promo.getId()).orElseThrow();
+        assertThat(reloaded.getLikeCount()).isEqualTo(expected);
+        assertThat(promoLikeRepository.count()).isEqualTo(expected);
+    }
+
+    private void runConcurrently(List<Users> targets, UserAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(targets.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Users target : targets) {
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    return action.run(target);
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface UserAction {
+        boolean run(Users user);
+    }
+}
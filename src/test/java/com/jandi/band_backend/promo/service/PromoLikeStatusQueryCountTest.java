@@ -0,0 +1,151 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.util.PermissionValidationUtil;
+import com.jandi.band_backend.global.util.S3FileManagementUtil;
+import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.promo.cache.PromoReadCache;
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoLike;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex;
+import com.jandi.band_backend.promo.search.PromoSearchIndex;
+import com.jandi.band_backend.promo.view.PromoViewCountBuffer;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 페이지 좋아요 상태 조회가 페이지 크기와 무관하게 쿼리 1회로 처리되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PromoService.class, PromoLikeService.class})
+@DisplayName("공연 홍보 목록 좋아요 상태 쿼리 수 테스트")
+class PromoLikeStatusQueryCountTest {
+
+    private static final int PROMO_COUNT = 30;
+
+    @Autowired
+    private PromoService promoService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private PermissionValidationUtil permissionValidationUtil;
+
+    @MockBean
+    private UserValidationUtil userValidationUtil;
+
+    @MockBean
+    private S3FileManagementUtil s3FileManagementUtil;
+
+    @MockBean
+    private PromoSearchIndex promoSearchIndex;
+
+    @MockBean
+    private PromoGeoIndex promoGeoIndex;
+
+    @MockBean
+    private PromoViewCountBuffer promoViewCountBuffer;
+
+    @MockBean
+    private PromoReadCache promoReadCache;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        user = new Users();
+        user.setKakaoOauthId("like_user_kakao_id");
+        user.setNickname("좋아요사용자");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+
+        for (int i = 0; i < PROMO_COUNT; i++) {
+            Promo promo = new Promo();
+            promo.setTitle("공연 " + i);
+            promo.setTeamName("밴드");
+            promo.setCreator(user);
+            promo.setEventDatetime(LocalDateTime.now().plusDays(i));
+            promo.setAdmissionFee(BigDecimal.ZERO);
+            promo.setViewCount(0);
+            promo.setCommentCount(0);
+            promo.setLikeCount(0);
+            entityManager.persist(promo);
+
+            // 짝수 번째 공연만 좋아요
+            if (i % 2 == 0) {
+                PromoLike promoLike = new PromoLike();
+                promoLike.setPromo(promo);
+                promoLike.setUser(user);
+                entityManager.persist(promoLike);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "pageSize={0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("좋아요 상태 조회는 페이지 크기와 무관하게 쿼리 1회만 추가된다")
+    void filterPromos_LikeStatusResolvedInSingleQuery(int pageSize) {
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+
+        long anonymousStatements = countStatements(() ->
+                promoService.filterPromos(null, null, "밴드", null, pageable));
+        long[] likedCount = new long[1];
+        long userStatements = countStatements(() -> {
+            Page<PromoRespDTO> page = promoService.filterPromos(null, null, "밴드", user.getId(), pageable);
+            likedCount[0] = page.getContent().stream().filter(PromoRespDTO::getIsLikedByUser).count();
+            return page;
+        });
+
+        assertThat(userStatements - anonymousStatements).isEqualTo(1);
+        assertThat(likedCount[0]).isEqualTo((pageSize + 1) / 2);
+    }
+
+    private long countStatements(Supplier<Page<PromoRespDTO>> query) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        query.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
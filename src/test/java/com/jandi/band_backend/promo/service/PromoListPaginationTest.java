@@ -0,0 +1,219 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.util.PermissionValidationUtil;
+import com.jandi.band_backend.global.util.S3FileManagementUtil;
+import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.promo.cache.PromoReadCache;
+import com.jandi.band_backend.promo.dto.PromoRespDTO;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoPhoto;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex;
+import com.jandi.band_backend.promo.repository.PromoPhotoRepository;
+import com.jandi.band_backend.promo.search.PromoSearchIndex;
+import com.jandi.band_backend.promo.view.PromoViewCountBuffer;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사진이 있는 공연 홍보 목록이 DB 에서 LIMIT 으로 페이징되는지 검증
+ * - hibernate.query.fail_on_pagination_over_collection_fetch 로 메모리 페이징(HHH000104) 시 예외 발생
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({PromoService.class, PromoLikeService.class})
+@DisplayName("공연 홍보 목록 2단계 페이징 테스트")
+class PromoListPaginationTest {
+
+    private static final int PROMO_COUNT = 30;
+
+    @Autowired
+    private PromoService promoService;
+
+    @Autowired
+    private PromoPhotoRepository promoPhotoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private PermissionValidationUtil permissionValidationUtil;
+
+    @MockBean
+    private UserValidationUtil userValidationUtil;
+
+    @MockBean
+    private S3FileManagementUtil s3FileManagementUtil;
+
+    @MockBean
+    private PromoSearchIndex promoSearchIndex;
+
+    @MockBean
+    private PromoGeoIndex promoGeoIndex;
+
+    @MockBean
+    private PromoViewCountBuffer promoViewCountBuffer;
+
+    @MockBean
+    private PromoReadCache promoReadCache;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시를 거치지 않고 항상 DB 조회
+        when(promoReadCache.getPage(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users user = new Users();
+        user.setKakaoOauthId("list_user_kakao_id");
+        user.setNickname("목록사용자");
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+
+        // i % 3 == 0: 오늘, 1: 예정, 2: 지난 공연 / 공연마다 사진 2장 (그중 1장은 삭제됨)
+        LocalDateTime todayNoon = LocalDate.now().atTime(12, 0);
+        for (int i = 0; i < PROMO_COUNT; i++) {
+            LocalDateTime eventDatetime = switch (i % 3) {
+                case 0 -> todayNoon.plusMinutes(i);
+                case 1 -> todayNoon.plusDays(1 + i);
+                default -> todayNoon.minusDays(1 + i);
+            };
+            Promo promo = new Promo();
+            promo.setTitle("공연 " + i);
+            promo.setTeamName("밴드");
+            promo.setCreator(user);
+            promo.setEventDatetime(eventDatetime);
+            promo.setAdmissionFee(BigDecimal.ZERO);
+            promo.setViewCount(0);
+            promo.setCommentCount(0);
+            promo.setLikeCount(0);
+            entityManager.persist(promo);
+
+            for (int j = 0; j < 2; j++) {
+                PromoPhoto photo = new PromoPhoto();
+                photo.setPromo(promo);
+                photo.setUploader(user);
+                photo.setImageUrl("https://example.com/promo-" + i + "-" + j + ".jpg");
+                photo.setIsCurrent(j == 0);
+                photo.setDeletedAt(j == 1 ? LocalDateTime.now() : null);
+                entityManager.persist(photo);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("오늘 → 예정 → 지난 공연 순으로 페이지를 나누고 삭제되지 않은 사진만 포함")
+    void getPromos_PagesInDatabase() {
+        Page<PromoRespDTO> first = promoService.getPromos(PageRequest.of(0, 12));
+        Page<PromoRespDTO> last = promoService.getPromos(PageRequest.of(2, 12));
+
+        assertThat(first.getTotalElements()).isEqualTo(PROMO_COUNT);
+        assertThat(first.getContent()).hasSize(12);
+        // 오늘 공연 10개가 먼저, 이어서 예정 공연이 가까운 순으로
+        assertThat(first.getContent()).extracting(PromoRespDTO::getTitle)
+                .containsExactly("공연 0", "공연 3", "공연 6", "공연 9", "공연 12", "공연 15",
+                        "공연 18", "공연 21", "공연 24", "공연 27", "공연 1", "공연 4");
+        // 지난 공연은 오래된 순으로 마지막 페이지에
+        assertThat(last.getContent()).extracting(PromoRespDTO::getTitle)
+                .containsExactly("공연 17", "공연 14", "공연 11", "공연 8", "공연 5", "공연 2");
+        assertThat(first.getContent()).allSatisfy(promo -> {
+            assertThat(promo.getPhotoUrls()).hasSize(1);
+            assertThat(promo.getCreatorName()).isEqualTo("목록사용자");
+        });
+    }
+
+    @ParameterizedTest(name = "pageSize={0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("ID 페이지, 개수, 목록 프로젝션 조회 3회로 처리하고 엔티티는 로드하지 않음")
+    void getPromos_FixedStatementCount(int pageSize) {
+        Statistics statistics = collectStatistics(() -> promoService.getPromos(PageRequest.of(0, pageSize)));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("썸네일이 기록된 사진은 목록에 썸네일 URL, 아직 없으면 원본 URL 사용")
+    void getPromos_UsesThumbnailWhenRecorded() {
+        PromoPhoto photo = entityManager.createQuery(
+                        "SELECT ph FROM PromoPhoto ph WHERE ph.imageUrl = :imageUrl", PromoPhoto.class)
+                .setParameter("imageUrl", "https://example.com/promo-0-0.jpg")
+                .getSingleResult();
+
+        // 처리 중 교체된 원본이면 기록하지 않음
+        assertThat(promoPhotoRepository.updateDerivatives(photo.getId(), "https://example.com/replaced.jpg",
+                "https://example.com/replaced_thumb.webp", "https://example.com/replaced_display.webp")).isZero();
+        assertThat(promoPhotoRepository.updateDerivatives(photo.getId(), photo.getImageUrl(),
+                "https://example.com/promo-0-0_thumb.webp", "https://example.com/promo-0-0_display.webp")).isEqualTo(1);
+        entityManager.clear();
+
+        Page<PromoRespDTO> page = promoService.getPromos(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(PromoRespDTO::getThumbnailUrl)
+                .containsExactly("https://example.com/promo-0-0_thumb.webp", "https://example.com/promo-3-0.jpg");
+        assertThat(page.getContent().get(0).getPhotoUrls()).containsExactly("https://example.com/promo-0-0.jpg");
+    }
+
+    @Test
+    @DisplayName("컬렉션 fetch join 을 페이징하면 메모리 페이징 대신 예외 발생")
+    void collectionFetchWithLimit_Fails() {
+        assertThatThrownBy(() -> entityManager
+                .createQuery("SELECT p FROM Promo p LEFT JOIN FETCH p.photos WHERE p.deletedAt IS NULL", Promo.class)
+                .setMaxResults(10)
+                .getResultList())
+                .hasStackTraceContaining("fail_on_pagination_over_collection_fetch");
+    }
+
+    private Statistics collectStatistics(Supplier<Page<PromoRespDTO>> query) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        query.get();
+        return statistics;
+    }
+}
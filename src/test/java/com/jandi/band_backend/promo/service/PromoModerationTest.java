@@ -0,0 +1,311 @@
+package com.jandi.band_backend.promo.service;
+
+import com.jandi.band_backend.global.dto.PagedRespDTO;
+import com.jandi.band_backend.global.exception.BadRequestException;
+import com.jandi.band_backend.global.exception.InvalidAccessException;
+import com.jandi.band_backend.global.exception.ResourceNotFoundException;
+import com.jandi.band_backend.manage.entity.ReportReason;
+import com.jandi.band_backend.promo.dto.PromoCommentReportReqDTO;
+import com.jandi.band_backend.promo.dto.PromoModerationRespDTO;
+import com.jandi.band_backend.promo.dto.PromoReportReqDTO;
+import com.jandi.band_backend.promo.dto.PromoReportRespDTO;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.entity.PromoComment;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex;
+import com.jandi.band_backend.promo.search.PromoSearchIndex;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 신고 집계 / 자동 숨김 / 검토 대기열 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "promo.moderation.promo-hide-threshold=3",
+        "promo.moderation.comment-hide-threshold=2"
+})
+@Import({PromoReportService.class, PromoCommentReportService.class, PromoModerationService.class})
+@DisplayName("공연 홍보 신고 검토 테스트")
+class PromoModerationTest {
+
+    @Autowired
+    private PromoReportService promoReportService;
+
+    @Autowired
+    private PromoCommentReportService promoCommentReportService;
+
+    @Autowired
+    private PromoModerationService promoModerationService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private PromoSearchIndex promoSearchIndex;
+
+    @MockBean
+    private PromoGeoIndex promoGeoIndex;
+
+    private University university;
+    private Users admin;
+    private Users creator;
+    private List<Users> reporters;
+    private ReportReason reason;
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        admin = createUser("admin");
+        admin.setAdminRole(Users.AdminRole.ADMIN);
+        creator = createUser("creator");
+        reporters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reporters.add(createUser("reporter" + i));
+        }
+
+        reason = new ReportReason();
+        reason.setCode("SPAM");
+        reason.setDescription("스팸/도배");
+        entityManager.persist(reason);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("서로 다른 신고자 수를 집계하고 같은 사용자의 중복 신고는 거부")
+    void createPromoReport_CountsDistinctReporters() {
+        Promo promo = createPromo("공연");
+
+        report(promo, reporters.get(0));
+        report(promo, reporters.get(1));
+        assertThatThrownBy(() -> report(promo, reporters.get(0)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미 신고한 게시물입니다.");
+
+        Promo reported = reload(promo);
+        assertThat(reported.getReportCount()).isEqualTo(2);
+        assertThat(reported.getLastReportedAt()).isNotNull();
+        assertThat(reported.getHiddenAt()).isNull();
+        assertThat(reported.getDeletedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("신고자 수가 기준에 도달하면 공연 홍보를 숨기고 색인에서 제거")
+    void createPromoReport_HidesAtThreshold() {
+        Promo promo = createPromo("공연");
+
+        report(promo, reporters.get(0));
+        report(promo, reporters.get(1));
+        verify(promoSearchIndex, never()).remove(promo.getId());
+
+        report(promo, reporters.get(2));
+
+        Promo hidden = reload(promo);
+        assertThat(hidden.getReportCount()).isEqualTo(3);
+        assertThat(hidden.getHiddenAt()).isNotNull();
+        assertThat(hidden.getDeletedAt()).isEqualTo(hidden.getHiddenAt());
+        verify(promoSearchIndex).remove(promo.getId());
+        verify(promoGeoIndex).remove(promo.getId());
+
+        // 숨겨진 뒤에는 삭제된 게시물로 취급
+        assertThatThrownBy(() -> report(promo, reporters.get(3)))
+                .hasMessage("삭제된 게시물은 신고할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("댓글이 기준에 도달하면 숨기고 공연 홍보 댓글 수에서 제외")
+    void createPromoCommentReport_HidesAndDecrementsCommentCount() {
+        Promo promo = createPromo("공연");
+        promo.setCommentCount(1);
+        PromoComment comment = createComment(promo);
+
+        reportComment(comment, reporters.get(0));
+        reportComment(comment, reporters.get(1));
+
+        assertThat(reload(promo).getCommentCount()).isZero();
+        PromoComment hidden = entityManager.find(PromoComment.class, comment.getId());
+        assertThat(hidden.getReportCount()).isEqualTo(2);
+        assertThat(hidden.getHiddenAt()).isNotNull();
+        assertThat(hidden.getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("검토 대기열은 신고자 수 → 최근 신고 순이며 직접 삭제된 대상은 제외하고 숨겨진 대상은 포함")
+    void getPromoQueue_OrdersByReportCountThenRecency() {
+        Promo once = createPromo("한 번");
+        Promo twiceEarlier = createPromo("두 번 (먼저)");
+        Promo twiceLater = createPromo("두 번 (나중)");
+        Promo hidden = createPromo("숨김");
+        Promo deleted = createPromo("삭제");
+        createPromo("신고 없음");
+
+        report(twiceEarlier, reporters.get(0));
+        report(twiceEarlier, reporters.get(1));
+        report(once, reporters.get(0));
+        report(deleted, reporters.get(0));
+        for (int i = 0; i < 3; i++) {
+            report(hidden, reporters.get(i));
+        }
+        report(twiceLater, reporters.get(2));
+        report(twiceLater, reporters.get(3));
+        entityManager.createQuery("UPDATE Promo p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.id = :id")
+                .setParameter("id", deleted.getId())
+                .executeUpdate();
+        // 같은 밀리초에 기록되지 않도록 최근 신고 시각을 명시
+        setLastReportedAt(twiceEarlier, LocalDateTime.now().minusMinutes(5));
+
+        PagedRespDTO<PromoModerationRespDTO> queue =
+                promoModerationService.getPromoQueue(admin.getId(), 0, 20, "reportCount,desc");
+
+        assertThat(queue.getContent()).extracting(PromoModerationRespDTO::getContent)
+                .containsExactly("숨김", "두 번 (나중)", "두 번 (먼저)", "한 번");
+        assertThat(queue.getContent().get(0).getHiddenAt()).isNotNull();
+        assertThat(queue.getContent().get(0).getCreatorName()).isEqualTo("creator");
+
+        PagedRespDTO<PromoModerationRespDTO> recent =
+                promoModerationService.getPromoQueue(admin.getId(), 0, 20, "lastReportedAt,asc");
+        assertThat(recent.getContent().get(0).getContent()).isEqualTo("두 번 (먼저)");
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 정렬 기준은 400")
+    void sortWhitelist_RejectsUnknownProperty() {
+        assertThatThrownBy(() -> promoModerationService.getPromoQueue(admin.getId(), 0, 20, "title,asc"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("정렬 기준은 lastReportedAt, reportCount 중 하나여야 합니다.");
+        assertThatThrownBy(() -> promoReportService.getPromoReports(admin.getId(), 0, 20, "reporter.nickname,asc"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> promoCommentReportService.getPromoCommentReports(admin.getId(), 0, 20, "description,asc"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 403, 없는 사용자면 404 로 매핑되는 예외")
+    void queue_RejectsNonAdminAndMissingUser() {
+        assertThatThrownBy(() -> promoModerationService.getPromoQueue(creator.getId(), 0, 20, null))
+                .isInstanceOf(InvalidAccessException.class);
+        assertThatThrownBy(() -> promoModerationService.getCommentQueue(creator.getId(), 0, 20, null))
+                .isInstanceOf(InvalidAccessException.class);
+        assertThatThrownBy(() -> promoModerationService.getPromoQueue(Integer.MAX_VALUE, 0, 20, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("신고 목록은 연관 엔티티를 함께 조회해 신고 수와 무관하게 고정 쿼리 수로 처리")
+    void getPromoReports_LoadsAssociationsInOneQuery() {
+        for (int i = 0; i < 4; i++) {
+            Promo promo = createPromo("공연 " + i);
+            report(promo, reporters.get(i));
+        }
+
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        PagedRespDTO<PromoReportRespDTO> reports =
+                promoReportService.getPromoReports(admin.getId(), 0, 3, "createdAt,desc");
+
+        assertThat(reports.getContent()).hasSize(3);
+        assertThat(reports.getContent()).allSatisfy(report -> {
+            assertThat(report.getPromoCreatorName()).isEqualTo("creator");
+            assertThat(report.getReportReasonCode()).isEqualTo("SPAM");
+        });
+        // 관리자 확인 1 + 신고 페이지 1 + 개수 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private void report(Promo promo, Users reporter) {
+        PromoReportReqDTO request = new PromoReportReqDTO();
+        request.setPromoId(promo.getId());
+        request.setReportReasonId(reason.getId());
+        promoReportService.createPromoReport(request, reporter.getId());
+    }
+
+    private void reportComment(PromoComment comment, Users reporter) {
+        PromoCommentReportReqDTO request = new PromoCommentReportReqDTO();
+        request.setPromoCommentId(comment.getId());
+        request.setReportReasonId(reason.getId());
+        promoCommentReportService.createPromoCommentReport(request, reporter.getId());
+    }
+
+    private Promo reload(Promo promo) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Promo.class, promo.getId());
+    }
+
+    private void setLastReportedAt(Promo promo, LocalDateTime lastReportedAt) {
+        entityManager.createQuery("UPDATE Promo p SET p.lastReportedAt = :at WHERE p.id = :id")
+                .setParameter("at", lastReportedAt)
+                .setParameter("id", promo.getId())
+                .executeUpdate();
+    }
+
+    private Users createUser(String nickname) {
+        Users user = new Users();
+        user.setKakaoOauthId(nickname + "_kakao_id");
+        user.setNickname(nickname);
+        user.setUniversity(university);
+        user.setIsRegistered(true);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Promo createPromo(String title) {
+        Promo promo = new Promo();
+        promo.setTitle(title);
+        promo.setTeamName("밴드");
+        promo.setCreator(creator);
+        promo.setEventDatetime(LocalDateTime.now().plusDays(1));
+        promo.setAdmissionFee(BigDecimal.ZERO);
+        entityManager.persist(promo);
+        entityManager.flush();
+        return promo;
+    }
+
+    private PromoComment createComment(Promo promo) {
+        PromoComment comment = new PromoComment();
+        comment.setPromo(promo);
+        comment.setCreator(creator);
+        comment.setDescription("댓글");
+        entityManager.persist(comment);
+        entityManager.flush();
+        return comment;
+    }
+}
@@ -1,37 +1,58 @@
 package com.jandi.band_backend.promo.service;
 
+import com.jandi.band_backend.global.dto.CursorRespDTO;
+import com.jandi.band_backend.global.exception.BadRequestException;
 import com.jandi.band_backend.global.exception.ResourceNotFoundException;
 import com.jandi.band_backend.global.util.PermissionValidationUtil;
 import com.jandi.band_backend.global.util.S3FileManagementUtil;
 import com.jandi.band_backend.global.util.UserValidationUtil;
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import com.jandi.band_backend.promo.cache.PromoReadCache;
 import com.jandi.band_backend.promo.dto.PromoReqDTO;
 import com.jandi.band_backend.promo.dto.PromoRespDTO;
 import com.jandi.band_backend.promo.dto.PromoSimpleRespDTO;
 import com.jandi.band_backend.promo.entity.Promo;
 import com.jandi.band_backend.promo.repository.PromoPhotoRepository;
+import com.jandi.band_backend.promo.repository.PromoListRow;
 import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.geo.PromoGeoIndex;
+import com.jandi.band_backend.promo.search.PromoSearchIndex;
+import com.jandi.band_backend.promo.view.PromoViewCountBuffer;
 import com.jandi.band_backend.user.entity.Users;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -57,18 +78,44 @@ class PromoServiceTest {
     @Mock
     private S3FileManagementUtil s3FileManagementUtil;
 
+    @Mock
+    private PromoSearchIndex promoSearchIndex;
+
+    @Mock
+    private PromoGeoIndex promoGeoIndex;
+
+    @Mock
+    private PromoViewCountBuffer promoViewCountBuffer;
+
+    @Mock
+    private PromoReadCache promoReadCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PromoService promoService;
 
+    @BeforeEach
+    void setUp() {
+        // 캐시는 항상 원본 조회를 그대로 호출
+        lenient().when(promoReadCache.getPage(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(promoReadCache.getDetail(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Test
     @DisplayName("공연 홍보 목록 조회 성공")
     void getPromos_Success() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
         Promo mockPromo = createMockPromo();
-        Page<Promo> promoPage = new PageImpl<>(Arrays.asList(mockPromo));
+        Page<Integer> idPage = new PageImpl<>(List.of(mockPromo.getId()), pageable, 1);
 
-        when(promoRepository.findAllSortedByEventDatetime(pageable)).thenReturn(promoPage);
+        when(promoRepository.findIdsSortedByEventDatetime(any(LocalDateTime.class), any(LocalDateTime.class), eq(pageable)))
+                .thenReturn(idPage);
+        when(promoRepository.findListRowsByIdIn(List.of(mockPromo.getId()))).thenReturn(List.of(toListRow(mockPromo)));
 
         // When
         Page<PromoRespDTO> result = promoService.getPromos(pageable);
@@ -79,7 +126,8 @@ class PromoServiceTest {
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 공연");
         assertThat(result.getContent().get(0).getTeamName()).isEqualTo("테스트 팀");
 
-        verify(promoRepository).findAllSortedByEventDatetime(pageable);
+        verify(promoRepository).findIdsSortedByEventDatetime(any(LocalDateTime.class), any(LocalDateTime.class), eq(pageable));
+        verify(promoRepository).findListRowsByIdIn(List.of(mockPromo.getId()));
     }
 
     @Test
@@ -89,10 +137,12 @@ class PromoServiceTest {
         Integer userId = 1;
         Pageable pageable = PageRequest.of(0, 20);
         Promo mockPromo = createMockPromo();
-        Page<Promo> promoPage = new PageImpl<>(Arrays.asList(mockPromo));
+        Page<Integer> idPage = new PageImpl<>(List.of(mockPromo.getId()), pageable, 1);
 
-        when(promoRepository.findAllSortedByEventDatetime(pageable)).thenReturn(promoPage);
-        when(promoLikeService.isLikedByUser(anyInt(), anyInt())).thenReturn(true);
+        when(promoRepository.findIdsSortedByEventDatetime(any(LocalDateTime.class), any(LocalDateTime.class), eq(pageable)))
+                .thenReturn(idPage);
+        when(promoRepository.findListRowsByIdIn(List.of(mockPromo.getId()))).thenReturn(List.of(toListRow(mockPromo)));
+        when(promoLikeService.getLikedPromoIds(List.of(mockPromo.getId()), userId)).thenReturn(Set.of(mockPromo.getId()));
 
         // When
         Page<PromoRespDTO> result = promoService.getPromos(userId, pageable);
@@ -101,9 +151,11 @@ class PromoServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 공연");
+        assertThat(result.getContent().get(0).getIsLikedByUser()).isTrue();
 
-        verify(promoRepository).findAllSortedByEventDatetime(pageable);
-        verify(promoLikeService).isLikedByUser(mockPromo.getId(), userId);
+        verify(promoRepository).findIdsSortedByEventDatetime(any(LocalDateTime.class), any(LocalDateTime.class), eq(pageable));
+        verify(promoRepository).findListRowsByIdIn(List.of(mockPromo.getId()));
+        verify(promoLikeService).getLikedPromoIds(List.of(mockPromo.getId()), userId);
     }
 
     @Test
@@ -115,6 +167,7 @@ class PromoServiceTest {
         mockPromo.setViewCount(100);
 
         when(promoRepository.findByIdAndNotDeleted(promoId)).thenReturn(mockPromo);
+        when(promoViewCountBuffer.increment(promoId)).thenReturn(1L);
 
         // When
         PromoRespDTO result = promoService.getPromo(promoId);
@@ -122,9 +175,11 @@ class PromoServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("테스트 공연");
-        assertThat(mockPromo.getViewCount()).isEqualTo(101); // 조회수 증가 확인
+        assertThat(result.getViewCount()).isEqualTo(101); // 미반영 조회수 포함
+        assertThat(mockPromo.getViewCount()).isEqualTo(100); // 엔티티는 변경하지 않음
 
         verify(promoRepository).findByIdAndNotDeleted(promoId);
+        verify(promoViewCountBuffer).increment(promoId);
     }
 
     @Test
@@ -154,6 +209,7 @@ class PromoServiceTest {
 
         when(promoRepository.findByIdAndNotDeleted(promoId)).thenReturn(mockPromo);
         when(promoLikeService.isLikedByUser(promoId, userId)).thenReturn(false);
+        when(promoViewCountBuffer.increment(promoId)).thenReturn(3L);
 
         // When
         PromoRespDTO result = promoService.getPromo(promoId, userId);
@@ -161,7 +217,8 @@ class PromoServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("테스트 공연");
-        assertThat(mockPromo.getViewCount()).isEqualTo(51); // 조회수 증가 확인
+        assertThat(result.getViewCount()).isEqualTo(53); // 미반영 조회수 포함
+        assertThat(mockPromo.getViewCount()).isEqualTo(50); // 엔티티는 변경하지 않음
 
         verify(promoRepository).findByIdAndNotDeleted(promoId);
         verify(promoLikeService).isLikedByUser(promoId, userId);
@@ -188,6 +245,7 @@ class PromoServiceTest {
 
         verify(userValidationUtil).getUserById(creatorId);
         verify(promoRepository).save(any(Promo.class));
+        verify(eventPublisher).publishEvent(new PromoChangedEvent(savedPromo.getId(), PromoChangedEvent.Type.CREATED));
     }
 
     @Test
@@ -252,7 +310,7 @@ class PromoServiceTest {
         Page<Promo> promoPage = new PageImpl<>(Arrays.asList(mockPromo));
 
         when(promoRepository.searchByKeyword(keyword, pageable)).thenReturn(promoPage);
-        when(promoLikeService.isLikedByUser(anyInt(), anyInt())).thenReturn(true);
+        when(promoLikeService.getLikedPromoIds(List.of(mockPromo.getId()), userId)).thenReturn(Set.of(mockPromo.getId()));
 
         // When
         Page<PromoRespDTO> result = promoService.searchPromos(keyword, userId, pageable);
@@ -262,8 +320,23 @@ class PromoServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 공연");
 
+        assertThat(result.getContent().get(0).getIsLikedByUser()).isTrue();
+
         verify(promoRepository).searchByKeyword(keyword, pageable);
-        verify(promoLikeService).isLikedByUser(mockPromo.getId(), userId);
+        verify(promoLikeService).getLikedPromoIds(List.of(mockPromo.getId()), userId);
+    }
+
+    @Test
+    @DisplayName("공연 홍보 검색 실패 - 문자나 숫자가 없는 키워드")
+    void searchPromos_PunctuationOnlyKeyword() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        assertThatThrownBy(() -> promoService.searchPromos("!!", pageable))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> promoService.searchPromos("  ", pageable))
+                .isInstanceOf(BadRequestException.class);
+        verify(promoRepository, never()).searchByKeyword(anyString(), any());
+        verify(promoSearchIndex, never()).search(anyString(), any());
     }
 
     @Test
@@ -286,6 +359,31 @@ class PromoServiceTest {
         verify(promoRepository).searchByKeyword(keyword, pageable);
     }
 
+    @Test
+    @DisplayName("공연 홍보 검색 - 검색 색인 사용 시 관련도 순서 유지")
+    void searchPromos_UsesIndexOrder() {
+        // Given
+        String keyword = "테스트";
+        Pageable pageable = PageRequest.of(0, 20);
+        Promo first = createMockPromo();
+        first.setId(2);
+        Promo second = createMockPromo();
+        second.setId(1);
+
+        when(promoSearchIndex.isReady()).thenReturn(true);
+        when(promoSearchIndex.search(keyword, pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(2, 1), pageable, 2));
+        when(promoRepository.findListRowsByIdIn(Arrays.asList(2, 1))).thenReturn(Arrays.asList(toListRow(second), toListRow(first)));
+
+        // When
+        Page<PromoRespDTO> result = promoService.searchPromos(keyword, pageable);
+
+        // Then
+        assertThat(result.getContent()).extracting(PromoRespDTO::getId).containsExactly(2, 1);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(promoRepository, never()).searchByKeyword(anyString(), any());
+    }
+
     @Test
     @DisplayName("공연 홍보 필터링 성공")
     void filterPromos_Success() {
@@ -311,6 +409,163 @@ class PromoServiceTest {
         verify(promoRepository).filterPromosByTeamName(startDate, endDate, teamName, pageable);
     }
 
+    @ParameterizedTest(name = "status={0}")
+    @CsvSource({"ended, DESC", "upcoming, ASC", "ongoing, ASC"})
+    @DisplayName("공연 상태별 필터링 - 정렬 미지정 시 종료된 공연은 최근 순, 나머지는 가까운 순")
+    void filterPromosByStatus_DefaultSortByStatus(String status, Sort.Direction expected) {
+        when(promoRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        promoService.filterPromosByStatus(status, null, null, null, null, null, PageRequest.of(0, 20));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(promoRepository).findAll(any(Specification.class), pageable.capture());
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(expected, "eventDatetime"));
+    }
+
+    @Test
+    @DisplayName("공연 상태별 필터링 - 정렬 지정 시 그대로 사용")
+    void filterPromosByStatus_ExplicitSort() {
+        Pageable requested = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "eventDatetime"));
+        when(promoRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        promoService.filterPromosByStatus("ended", null, null, null, null, null, requested);
+
+        verify(promoRepository).findAll(any(Specification.class), eq(requested));
+    }
+
+    @Test
+    @DisplayName("지도 기반 검색 - 지도 색인 사용 시 영역 좌표 정렬 및 색인 순서 유지")
+    void filterMapPromos_UsesGeoIndex() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Promo first = createMockPromo();
+        first.setId(2);
+        Promo second = createMockPromo();
+        second.setId(1);
+
+        when(promoGeoIndex.isReady()).thenReturn(true);
+        when(promoGeoIndex.supports(pageable.getSort())).thenReturn(true);
+        when(promoGeoIndex.search(37.4, 37.6, 126.9, 127.1, pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(2, 1), pageable, 2));
+        when(promoRepository.findListRowsByIdIn(Arrays.asList(2, 1))).thenReturn(Arrays.asList(toListRow(second), toListRow(first)));
+
+        // When - 시작/끝 좌표가 뒤바뀌어도 영역으로 정렬
+        Page<PromoRespDTO> result = promoService.filterMapPromos(
+                new BigDecimal("37.6"), new BigDecimal("127.1"),
+                new BigDecimal("37.4"), new BigDecimal("126.9"), null, pageable);
+
+        // Then
+        assertThat(result.getContent()).extracting(PromoRespDTO::getId).containsExactly(2, 1);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(promoRepository, never()).filterPromosInSpecArea(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("지도 기반 검색 - 색인이 지원하지 않는 정렬이면 DB 범위 검색")
+    void filterMapPromos_UnsupportedSort_FallsBackToRepository() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("title"));
+        BigDecimal minLat = new BigDecimal("37.4");
+        BigDecimal maxLat = new BigDecimal("37.6");
+        BigDecimal minLng = new BigDecimal("126.9");
+        BigDecimal maxLng = new BigDecimal("127.1");
+
+        when(promoGeoIndex.isReady()).thenReturn(true);
+        when(promoGeoIndex.supports(pageable.getSort())).thenReturn(false);
+        when(promoRepository.filterPromosInSpecArea(minLat, maxLat, minLng, maxLng, pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(createMockPromo())));
+
+        // When
+        Page<PromoRespDTO> result = promoService.filterMapPromos(minLat, minLng, maxLat, maxLng, null, pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(promoGeoIndex, never()).search(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    @DisplayName("근처 공연 조회 - 거리 포함, 다음 페이지 커서 반환")
+    void getNearbyPromos_ReturnsDistanceAndCursor() {
+        // Given
+        Promo first = createMockPromo();
+        first.setId(2);
+        Promo second = createMockPromo();
+        second.setId(1);
+
+        when(promoGeoIndex.isReady()).thenReturn(true);
+        when(promoGeoIndex.nearest(eq(37.5), eq(127.0), eq(5000.0), any(), isNull(), eq(3)))
+                .thenReturn(Arrays.asList(
+                        new PromoGeoIndex.Nearby(2, 120.5),
+                        new PromoGeoIndex.Nearby(1, 980.25),
+                        new PromoGeoIndex.Nearby(7, 1500.0)));
+        when(promoRepository.findListRowsByIdIn(Arrays.asList(2, 1))).thenReturn(Arrays.asList(toListRow(second), toListRow(first)));
+
+        // When
+        CursorRespDTO<PromoRespDTO> result = promoService.getNearbyPromos(
+                new BigDecimal("37.5"), new BigDecimal("127.0"), 5000, null, 2, null);
+
+        // Then
+        assertThat(result.getContent()).extracting(PromoRespDTO::getId).containsExactly(2, 1);
+        assertThat(result.getContent()).extracting(PromoRespDTO::getDistance).containsExactly(120.5, 980.25);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("980.25:1");
+    }
+
+    @Test
+    @DisplayName("근처 공연 조회 - 커서 전달 시 다음 순서부터 조회")
+    void getNearbyPromos_WithCursor() {
+        // Given
+        when(promoGeoIndex.isReady()).thenReturn(true);
+        when(promoGeoIndex.nearest(anyDouble(), anyDouble(), anyDouble(), any(), any(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        CursorRespDTO<PromoRespDTO> result = promoService.getNearbyPromos(
+                new BigDecimal("37.5"), new BigDecimal("127.0"), 5000, "980.25:1", 20, null);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(promoGeoIndex).nearest(anyDouble(), anyDouble(), anyDouble(), any(),
+                eq(new PromoGeoIndex.Nearby(1, 980.25)), eq(21));
+    }
+
+    @Test
+    @DisplayName("근처 공연 조회 - 지도 색인 재구성 전에는 빈 색인 대신 DB 에서 계산")
+    void getNearbyPromos_IndexNotReady_UsesDatabase() {
+        // Given
+        Promo promo = createMockPromo();
+        promo.setId(3);
+        when(promoGeoIndex.isReady()).thenReturn(false);
+        when(promoGeoIndex.nearestFromDatabase(eq(37.5), eq(127.0), eq(5000.0), any(), isNull(), eq(21)))
+                .thenReturn(List.of(new PromoGeoIndex.Nearby(3, 310.0)));
+        when(promoRepository.findListRowsByIdIn(List.of(3))).thenReturn(List.of(toListRow(promo)));
+
+        // When
+        CursorRespDTO<PromoRespDTO> result = promoService.getNearbyPromos(
+                new BigDecimal("37.5"), new BigDecimal("127.0"), 5000, null, 20, null);
+
+        // Then
+        assertThat(result.getContent()).extracting(PromoRespDTO::getId).containsExactly(3);
+        assertThat(result.getContent()).extracting(PromoRespDTO::getDistance).containsExactly(310.0);
+        assertThat(result.isHasNext()).isFalse();
+        verify(promoGeoIndex, never()).nearest(anyDouble(), anyDouble(), anyDouble(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("근처 공연 조회 실패 - 잘못된 커서 또는 반경")
+    void getNearbyPromos_InvalidRequest() {
+        BigDecimal latitude = new BigDecimal("37.5");
+        BigDecimal longitude = new BigDecimal("127.0");
+
+        assertThatThrownBy(() -> promoService.getNearbyPromos(latitude, longitude, 5000, "abc", 20, null))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> promoService.getNearbyPromos(latitude, longitude, 100_000, null, 20, null))
+                .isInstanceOf(BadRequestException.class);
+        verify(promoGeoIndex, never()).nearest(anyDouble(), anyDouble(), anyDouble(), any(), any(), anyInt());
+    }
+
     // Helper methods for creating mock objects
     private Promo createMockPromo() {
         Promo promo = new Promo();
@@ -329,6 +584,14 @@ class PromoServiceTest {
         return promo;
     }
 
+    private PromoListRow toListRow(Promo promo) {
+        return new PromoListRow(promo.getId(), promo.getTeamName(), promo.getCreator().getId(),
+                promo.getCreator().getNickname(), promo.getTitle(), promo.getAdmissionFee(),
+                promo.getEventDatetime(), promo.getLocation(), promo.getAddress(), promo.getLatitude(),
+                promo.getLongitude(), promo.getDescription(), promo.getViewCount(), promo.getCommentCount(),
+                promo.getLikeCount(), promo.getCreatedAt(), promo.getUpdatedAt(), null, null);
+    }
+
     private Users createMockUser() {
         Users user = new Users();
         user.setId(1);
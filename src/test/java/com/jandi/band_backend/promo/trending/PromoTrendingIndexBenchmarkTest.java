@@ -0,0 +1,84 @@
+package com.jandi.band_backend.promo.trending;
+
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.trending.PromoTrendingIndex.Signal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인기 순위 점수 갱신 경로 처리량 / 페이지 조회 지연시간 측정 (공연 수별)
+ * - 반응은 일부 공연에 몰리도록 제곱 분포로 공연을 고름
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PromoTrendingIndexBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("PromoTrendingIndex 벤치마크")
+class PromoTrendingIndexBenchmarkTest {
+
+    private static final int UPDATES = 1_000_000;
+    private static final int THREADS = 4;
+    private static final int PAGE_ITERATIONS = 1_000;
+    private static final Signal[] SIGNALS = Signal.values();
+
+    @ParameterizedTest(name = "promos={0}")
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void measureUpdateThroughput(int promoCount) throws Exception {
+        PromoTrendingIndex index = new PromoTrendingIndex(
+                mock(PromoRepository.class), new SimpleMeterRegistry(), 1, 5, 10, 24, 7);
+
+        // 워밍업
+        runUpdates(index, promoCount, UPDATES / 10, 1);
+
+        long singleNanos = runUpdates(index, promoCount, UPDATES, 1);
+        long concurrentNanos = runUpdates(index, promoCount, UPDATES, THREADS);
+
+        long pageStartedAt = System.nanoTime();
+        for (int i = 0; i < PAGE_ITERATIONS; i++) {
+            index.page(PageRequest.of(i % 5, 20));
+        }
+        long pageNanos = (System.nanoTime() - pageStartedAt) / PAGE_ITERATIONS;
+
+        System.out.printf("promos=%d ranked=%d update(1 thread)=%.0f ops/s (%.0fns/op) update(%d threads)=%.0f ops/s page=%.3fms%n",
+                promoCount, index.size(),
+                UPDATES * 1e9 / singleNanos, (double) singleNanos / UPDATES,
+                THREADS, UPDATES * 1e9 / concurrentNanos,
+                pageNanos / 1_000_000.0);
+    }
+
+    private long runUpdates(PromoTrendingIndex index, int promoCount, int updates, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long startedAt = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < updates / threads; i++) {
+                        double skewed = random.nextDouble();
+                        int promoId = 1 + (int) (skewed * skewed * promoCount);
+                        index.record(promoId, SIGNALS[random.nextInt(SIGNALS.length)], 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.jandi.band_backend.promo.trending;
+
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.repository.PromoTrendingSeed;
+import com.jandi.band_backend.promo.trending.PromoTrendingIndex.Signal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromoTrendingIndex 인기 순위 테스트")
+class PromoTrendingIndexTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long NOW = System.currentTimeMillis();
+
+    @Mock
+    private PromoRepository promoRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PromoTrendingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 조회 1, 좋아요 5, 댓글 10, 반감기 1시간
+        index = new PromoTrendingIndex(promoRepository, meterRegistry, 1, 5, 10, 1, 7);
+        index.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("반응 종류별 가중치로 점수를 누적하고 점수 높은 순으로 페이지 반환")
+    void record_RanksByWeightedScore() {
+        index.record(1, Signal.VIEW, 30, NOW);
+        index.record(2, Signal.LIKE, 2, NOW);
+        index.record(3, Signal.COMMENT, 1, NOW);
+        index.record(3, Signal.VIEW, 5, NOW);
+
+        assertThat(index.page(PageRequest.of(0, 10)).getContent()).containsExactly(1, 3, 2);
+        assertThat(index.score(3, NOW)).isCloseTo(15.0, within(1e-9));
+
+        Page<Integer> second = index.page(PageRequest.of(1, 2));
+        assertThat(second.getContent()).containsExactly(2);
+        assertThat(second.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반감기마다 점수가 절반으로 줄어 최근 반응이 오래된 반응보다 앞섬")
+    void record_DecaysOlderSignals() {
+        index.record(1, Signal.LIKE, 4, NOW - 3 * HOUR);
+        index.record(2, Signal.LIKE, 1, NOW);
+
+        assertThat(index.score(1, NOW)).isCloseTo(20.0 / 8, within(1e-9));
+        assertThat(index.score(1, NOW + HOUR)).isCloseTo(20.0 / 16, within(1e-9));
+        assertThat(index.page(PageRequest.of(0, 10)).getContent()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소/댓글 삭제는 차감하고, 0 이하가 되거나 삭제되면 순위에서 제거")
+    void onPromoChanged_AppliesDeltasAndRemovals() {
+        index.onPromoChanged(new PromoChangedEvent(1, PromoChangedEvent.Type.LIKED, 1));
+        index.onPromoChanged(new PromoChangedEvent(2, PromoChangedEvent.Type.COMMENTED, 1));
+        index.onPromoChanged(new PromoChangedEvent(3, PromoChangedEvent.Type.VIEWS_FLUSHED, 3));
+        index.onPromoChanged(new PromoChangedEvent(3, PromoChangedEvent.Type.UPDATED));
+        assertThat(index.size()).isEqualTo(3);
+
+        index.onPromoChanged(new PromoChangedEvent(1, PromoChangedEvent.Type.LIKED, -1));
+        index.onPromoChanged(new PromoChangedEvent(2, PromoChangedEvent.Type.DELETED));
+
+        assertThat(index.page(PageRequest.of(0, 10)).getContent()).containsExactly(3);
+        assertThat(meterRegistry.get("jandi.promo.trending.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기준 시각에서 멀어지면 점수를 다시 맞춰도 순위와 감쇠 점수가 유지됨")
+    void record_RebasesWithoutChangingOrder() {
+        index.record(1, Signal.COMMENT, 1, NOW);
+        index.record(2, Signal.LIKE, 1, NOW);
+        // 반감기 1시간 기준 지수 50 을 넘는 시점 (약 72시간 후)
+        long later = NOW + 100 * HOUR;
+        index.record(3, Signal.VIEW, 1, later);
+
+        assertThat(index.score(3, later)).isCloseTo(1.0, within(1e-9));
+        // 100 반감기가 지난 공연은 정리 기준 미만이라 제거됨
+        assertThat(index.page(PageRequest.of(0, 10)).getContent()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("정리 시 감쇠가 끝난 공연만 제거")
+    void prune_RemovesDecayedEntries() {
+        index.record(1, Signal.VIEW, 1, NOW);
+        index.record(2, Signal.COMMENT, 100, NOW);
+
+        // 10 반감기 후: 1/1024 < 0.01, 1000/1024 ≈ 0.98
+        index.prune(NOW + 10 * HOUR);
+
+        assertThat(index.page(PageRequest.of(0, 10)).getContent()).containsExactly(2);
+        assertThat(index.score(2, NOW + 10 * HOUR)).isCloseTo(1000.0 / 1024, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("시작 시 최근 공연의 누적 반응 수를 작성 시각 기준으로 반영")
+    void seed_UsesAccumulatedCounts() {
+        LocalDateTime now = LocalDateTime.now();
+        when(promoRepository.findTrendingSeedsAfterId(any(), eq(0), any())).thenReturn(List.of(
+                new PromoTrendingSeed(1, 100, 0, 0, now.minusHours(5)),
+                new PromoTrendingSeed(2, 10, 2, 1, now),
+                new PromoTrendingSeed(3, 0, 0, 0, now)));
+
+        index.seed();
+
+        // 1: 100 / 32 ≈ 3.1, 2: 10 + 10 + 10 = 30, 3: 반응 없음
+        assertThat(index.page(PageRequest.of(0, 10)).getContent()).containsExactly(2, 1);
+    }
+}
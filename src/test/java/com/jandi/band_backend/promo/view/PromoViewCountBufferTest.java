@@ -0,0 +1,249 @@
+package com.jandi.band_backend.promo.view;
+
+import com.jandi.band_backend.promo.cache.PromoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromoViewCountBuffer 조회수 버퍼 테스트")
+class PromoViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // DB 에 반영된 조회수 (promoId -> 누적분)
+    private final Map<Integer, LongAdder> flushedViews = new ConcurrentHashMap<>();
+
+    private PromoViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PromoViewCountBuffer(jdbcTemplate, transactionTemplate, meterRegistry, eventPublisher);
+        buffer.registerMetrics();
+
+        stubTransaction();
+        lenient().doAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            for (Object[] args : batch) {
+                flushedViews.computeIfAbsent((Integer) args[1], key -> new LongAdder()).add((Long) args[0]);
+            }
+            return new int[batch.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 동시에 조회해도 반영 중 유실되는 조회수가 없다")
+    void increment_NoLostUpdatesUnderConcurrency() throws Exception {
+        // Given
+        int threads = 64;
+        int viewsPerThread = 5_000;
+        int promoCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 조회 중에도 주기적 반영이 계속 일어나도록 별도 스레드에서 flush 반복
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    buffer.increment((offset + i) % promoCount + 1);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        buffer.flush();
+
+        // Then
+        long expectedPerPromo = (long) threads * viewsPerThread / promoCount;
+        for (int promoId = 1; promoId <= promoCount; promoId++) {
+            assertThat(flushedViews.get(promoId).sum()).isEqualTo(expectedPerPromo);
+        }
+        assertThat(buffer.pendingTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("직전 주기 이후 조회가 없는 공연 홍보의 카운터는 제거한다")
+    void flush_RemovesIdleCounters() {
+        // Given
+        buffer.increment(1);
+        buffer.increment(2);
+
+        // When & Then - 첫 주기는 반영만 하고, 조회가 없던 다음 주기에 제거
+        buffer.flush();
+        assertThat(buffer.size()).isEqualTo(2);
+        buffer.increment(2);
+        buffer.flush();
+        assertThat(buffer.size()).isEqualTo(1);
+        buffer.flush();
+        assertThat(buffer.size()).isZero();
+
+        // 제거된 뒤 다시 조회되면 새 카운터로 집계
+        assertThat(buffer.increment(1)).isEqualTo(1);
+        buffer.flush();
+        assertThat(flushedViews.get(1).sum()).isEqualTo(2);
+        assertThat(flushedViews.get(2).sum()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회가 드문 공연 홍보의 카운터가 반영 중 제거되어도 유실되는 조회수가 없다")
+    void increment_NoLostUpdatesWhileRemovingIdleCounters() throws Exception {
+        // Given - 공연 홍보 수가 많아 대부분의 카운터가 주기마다 비어 제거 대상이 됨
+        int threads = 32;
+        int viewsPerThread = 20_000;
+        int promoCount = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] expected = new long[promoCount + 1];
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < viewsPerThread; i++) {
+                expected[promoId(t, i, promoCount)]++;
+            }
+        }
+
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    buffer.increment(promoId(thread, i, promoCount));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        buffer.flush();
+        buffer.flush();
+
+        // Then
+        for (int promoId = 1; promoId <= promoCount; promoId++) {
+            LongAdder flushed = flushedViews.get(promoId);
+            assertThat(flushed != null ? flushed.sum() : 0).as("promoId=%d", promoId).isEqualTo(expected[promoId]);
+        }
+        assertThat(buffer.pendingTotal()).isZero();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 누적분을 유지했다가 다음 주기에 반영한다")
+    void flush_RestoresDeltasOnFailure() {
+        // Given
+        buffer.increment(1);
+        buffer.increment(1);
+        buffer.increment(2);
+        doAnswer(invocation -> {
+            throw new DataAccessResourceFailureException("connection lost");
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(flushedViews).isEmpty();
+        assertThat(buffer.pendingViews(1)).isEqualTo(2);
+        assertThat(buffer.pendingViews(2)).isEqualTo(1);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        // 다음 주기에는 정상 반영되고, 반영된 공연 홍보의 캐시 무효화 이벤트를 반영분과 함께 발행
+        stubTransaction();
+        buffer.flush();
+        assertThat(flushedViews.get(1).sum()).isEqualTo(2);
+        assertThat(flushedViews.get(2).sum()).isEqualTo(1);
+        assertThat(buffer.pendingTotal()).isZero();
+        verify(eventPublisher).publishEvent(new PromoChangedEvent(1, PromoChangedEvent.Type.VIEWS_FLUSHED, 2));
+        verify(eventPublisher).publishEvent(new PromoChangedEvent(2, PromoChangedEvent.Type.VIEWS_FLUSHED, 1));
+    }
+
+    @Test
+    @DisplayName("미반영 조회수를 게이지로 노출한다")
+    void registerMetrics_ExposesPendingGauge() {
+        // Given
+        buffer.increment(1);
+        buffer.increment(2);
+        buffer.increment(2);
+
+        // When & Then
+        assertThat(meterRegistry.get("jandi.promo.views.pending").gauge().value()).isEqualTo(3.0);
+
+        buffer.flush();
+        assertThat(meterRegistry.get("jandi.promo.views.pending").gauge().value()).isZero();
+    }
+
+    private static int promoId(int thread, int i, int promoCount) {
+        return (int) (((long) thread * 7919 + (long) i * i) % promoCount) + 1;
+    }
+
+    private void stubTransaction() {
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
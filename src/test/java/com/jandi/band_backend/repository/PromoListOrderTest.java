@@ -0,0 +1,106 @@
+package com.jandi.band_backend.repository;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공연 홍보 목록 1단계(ID 정렬 조회)가 공연 일시가 같은 홍보를 페이지마다 겹치거나 빠뜨리지 않는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("공연 홍보 목록 정렬 테스트")
+class PromoListOrderTest {
+
+    private static final LocalDateTime TODAY_START = LocalDate.of(2025, 6, 15).atStartOfDay();
+    private static final LocalDateTime TOMORROW_START = TODAY_START.plusDays(1);
+
+    @Autowired
+    private PromoRepository promoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final List<Integer> expectedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users creator = new Users();
+        creator.setKakaoOauthId("order_creator");
+        creator.setNickname("생성자");
+        creator.setUniversity(university);
+        creator.setIsRegistered(true);
+        entityManager.persist(creator);
+
+        // 오늘 공연 4건 → 예정 공연 7건 → 지난 공연 4건, 각 구간 안에서는 공연 일시가 모두 같음
+        List<Integer> today = persistPromos(creator, TODAY_START.plusHours(19), 4);
+        List<Integer> upcoming = persistPromos(creator, TOMORROW_START.plusDays(3), 7);
+        List<Integer> past = persistPromos(creator, TODAY_START.minusDays(2), 4);
+        expectedIds.addAll(today);
+        expectedIds.addAll(upcoming);
+        expectedIds.addAll(past);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("공연 일시가 같으면 ID 순으로 정렬되어 모든 페이지를 이어 붙이면 전체 목록과 같다")
+    void findIdsSortedByEventDatetime_TiesOrderedById() {
+        List<Integer> pagedIds = new ArrayList<>();
+        Page<Integer> page;
+        int pageNumber = 0;
+        do {
+            page = promoRepository.findIdsSortedByEventDatetime(TODAY_START, TOMORROW_START,
+                    PageRequest.of(pageNumber++, 4));
+            pagedIds.addAll(page.getContent());
+        } while (page.hasNext());
+
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    private List<Integer> persistPromos(Users creator, LocalDateTime eventDatetime, int count) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Promo promo = new Promo();
+            promo.setCreator(creator);
+            promo.setTitle("공연 " + i);
+            promo.setTeamName("잔디밴드");
+            promo.setEventDatetime(eventDatetime);
+            promo.setAdmissionFee(BigDecimal.ZERO);
+            entityManager.persist(promo);
+            ids.add(promo.getId());
+        }
+        return ids;
+    }
+}
@@ -4,6 +4,8 @@ import com.jandi.band_backend.club.entity.Club;
 import com.jandi.band_backend.club.repository.ClubRepository;
 import com.jandi.band_backend.promo.entity.Promo;
 import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.repository.PromoSpecifications;
+import com.jandi.band_backend.promo.repository.PromoSpecifications.EventStatus;
 import com.jandi.band_backend.univ.entity.Region;
 import com.jandi.band_backend.univ.entity.University;
 import com.jandi.band_backend.univ.repository.RegionRepository;
@@ -18,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -225,39 +228,53 @@ class PromoRepositoryTest {
     }
 
     @Test
-    @DisplayName("오늘 이후 공연 조회 - H2 호환성 문제로 스킵")
+    @DisplayName("오늘 이후 공연 조회")
     void findUpcomingPromos_Success() {
         // Given
         LocalDate today = LocalDate.now();
         Pageable pageable = PageRequest.of(0, 10);
 
-        // H2는 DATE() 함수를 지원하지 않으므로 실제 실행 스킵
-        // Page<Promo> promos = promoRepository.findUpcomingPromos(today, pageable);
-        // assertThat(promos).isNotNull();
+        // When
+        Page<Promo> promos = promoRepository.findAll(Specification
+                .where(PromoSpecifications.notDeleted())
+                .and(PromoSpecifications.hasStatus(EventStatus.UPCOMING, today)), pageable);
+
+        // Then
+        assertThat(promos.getContent()).extracting(Promo::getId).containsExactly(promo.getId());
     }
 
     @Test
-    @DisplayName("오늘 공연 조회 - H2 호환성 문제로 스킵")
+    @DisplayName("오늘 공연 조회 - 결과 없음")
     void findOngoingPromos_Empty() {
         // Given
         LocalDate today = LocalDate.now();
         Pageable pageable = PageRequest.of(0, 10);
 
-        // H2는 DATE() 함수를 지원하지 않으므로 실제 실행 스킵
-        // Page<Promo> promos = promoRepository.findOngoingPromos(today, pageable);
-        // assertThat(promos).isNotNull();
+        // When
+        Page<Promo> promos = promoRepository.findAll(Specification
+                .where(PromoSpecifications.notDeleted())
+                .and(PromoSpecifications.hasStatus(EventStatus.ONGOING, today)), pageable);
+
+        // Then
+        assertThat(promos.getContent()).isEmpty();
+        assertThat(promos.getTotalElements()).isZero();
     }
 
     @Test
-    @DisplayName("종료된 공연 조회 - H2 호환성 문제로 스킵")
+    @DisplayName("종료된 공연 조회 - 결과 없음")
     void findEndedPromos_Empty() {
         // Given
         LocalDate today = LocalDate.now();
         Pageable pageable = PageRequest.of(0, 10);
 
-        // H2는 DATE() 함수를 지원하지 않으므로 실제 실행 스킵
-        // Page<Promo> promos = promoRepository.findEndedPromos(today, pageable);
-        // assertThat(promos).isNotNull();
+        // When
+        Page<Promo> promos = promoRepository.findAll(Specification
+                .where(PromoSpecifications.notDeleted())
+                .and(PromoSpecifications.hasStatus(EventStatus.ENDED, today)), pageable);
+
+        // Then
+        assertThat(promos.getContent()).isEmpty();
+        assertThat(promos.getTotalElements()).isZero();
     }
 
     @Test
@@ -432,14 +449,23 @@ class PromoRepositoryTest {
     }
 
     @Test
-    @DisplayName("상태별 프로모 필터링 - H2 호환성 문제로 스킵")
+    @DisplayName("상태별 프로모 필터링 - 키워드/팀명 조건 조합")
     void filterPromosByStatusAndConditions_Success() {
-        // Given - H2에서 복잡한 날짜 비교 쿼리가 지원되지 않으므로 스킵
-        // Page<Promo> promos = promoRepository.filterPromosByStatusAndConditions(
-        //     "upcoming", "첫번째", "메인밴드", LocalDateTime.now(), PageRequest.of(0, 10));
-        
-        // 대신 기본 조회로 테스트
-        assertThat(promo.getTitle()).isEqualTo("첫번째 공연 홍보");
+        // Given
+        Specification<Promo> upcoming = Specification.where(PromoSpecifications.notDeleted())
+                .and(PromoSpecifications.hasStatus(EventStatus.UPCOMING, LocalDate.now()));
+
+        // When
+        Page<Promo> matched = promoRepository.findAll(upcoming
+                .and(PromoSpecifications.containsKeyword("첫번째"))
+                .and(PromoSpecifications.teamNameContains("메인밴드")), PageRequest.of(0, 10));
+        Page<Promo> unmatched = promoRepository.findAll(upcoming
+                .and(PromoSpecifications.containsKeyword("첫번째"))
+                .and(PromoSpecifications.teamNameContains("없는팀")), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(matched.getContent()).extracting(Promo::getTitle).containsExactly("첫번째 공연 홍보");
+        assertThat(unmatched.getContent()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,189 @@
+package com.jandi.band_backend.repository;
+
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.promo.repository.PromoSpecifications;
+import com.jandi.band_backend.promo.repository.PromoSpecifications.EventStatus;
+import com.jandi.band_backend.univ.entity.Region;
+import com.jandi.band_backend.univ.entity.University;
+import com.jandi.band_backend.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공연 홍보 동적 검색 조건을 무작위 데이터에 대해 단순 메모리 필터링 결과와 비교
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("PromoSpecifications 무작위 비교 테스트")
+class PromoSpecificationsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+    private static final int PROMO_COUNT = 300;
+    private static final int QUERY_COUNT = 300;
+
+    private static final String[] WORDS = {
+            "락밴드", "재즈", "Rock", "JAZZ", "정기공연", "버스킹", "홍대", "신촌", "100%", "a_b", "공연", "밤"
+    };
+    private static final String[] TEAM_NAMES = {"잔디밴드", "스윙팀", "RockCrew", "rockcrew2", "어쿠스틱"};
+    private static final String[] KEYWORDS = {
+            "락", "락밴드", "재즈", "rock", "jazz", "공연", "홍대", "%", "_", "a_b", "100%", "밤", "없는단어", "  재즈  "
+    };
+    private static final String[] TEAM_FILTERS = {"밴드", "팀", "rock", "ROCKCREW", "crew2", "없는팀"};
+    private static final Sort SORT = Sort.by(Sort.Order.asc("eventDatetime"), Sort.Order.asc("id"));
+
+    @Autowired
+    private PromoRepository promoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Random random = new Random(20250615L);
+    private final List<Promo> promos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Region region = new Region();
+        region.setCode("SEOUL");
+        region.setName("서울");
+        entityManager.persist(region);
+
+        University university = new University();
+        university.setUniversityCode("SNU0001");
+        university.setName("서울대학교");
+        university.setRegion(region);
+        entityManager.persist(university);
+
+        Users creator = new Users();
+        creator.setKakaoOauthId("spec_creator");
+        creator.setNickname("생성자");
+        creator.setUniversity(university);
+        creator.setIsRegistered(true);
+        entityManager.persist(creator);
+
+        for (int i = 0; i < PROMO_COUNT; i++) {
+            Promo promo = new Promo();
+            promo.setCreator(creator);
+            promo.setTitle(sentence(3));
+            promo.setDescription(random.nextInt(4) == 0 ? null : sentence(6));
+            promo.setLocation(random.nextInt(4) == 0 ? null : sentence(2));
+            promo.setTeamName(TEAM_NAMES[random.nextInt(TEAM_NAMES.length)]);
+            promo.setEventDatetime(randomEventDatetime());
+            promo.setAdmissionFee(BigDecimal.ZERO);
+            if (random.nextInt(10) == 0) {
+                promo.setDeletedAt(LocalDateTime.now());
+            }
+            entityManager.persist(promo);
+            promos.add(promo);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("무작위 조건 조합의 결과/전체 개수/페이지가 메모리 필터링과 일치한다")
+    void specifications_MatchBruteForce() {
+        for (int q = 0; q < QUERY_COUNT; q++) {
+            EventStatus status = EventStatus.values()[random.nextInt(EventStatus.values().length)];
+            String keyword = random.nextBoolean() ? KEYWORDS[random.nextInt(KEYWORDS.length)] : null;
+            String teamName = random.nextInt(3) == 0 ? TEAM_FILTERS[random.nextInt(TEAM_FILTERS.length)] : null;
+            LocalDateTime startDate = random.nextInt(3) == 0 ? randomEventDatetime() : null;
+            LocalDateTime endDate = random.nextInt(3) == 0 ? randomEventDatetime() : null;
+            int size = 1 + random.nextInt(15);
+            int page = random.nextInt(4);
+
+            Specification<Promo> spec = Specification.where(PromoSpecifications.notDeleted())
+                    .and(PromoSpecifications.hasStatus(status, TODAY))
+                    .and(PromoSpecifications.containsKeyword(keyword))
+                    .and(PromoSpecifications.teamNameContains(teamName))
+                    .and(PromoSpecifications.eventFrom(startDate))
+                    .and(PromoSpecifications.eventUntil(endDate));
+            Page<Promo> actual = promoRepository.findAll(spec, PageRequest.of(page, size, SORT));
+
+            List<Integer> expected = promos.stream()
+                    .filter(promo -> promo.getDeletedAt() == null)
+                    .filter(statusMatches(status))
+                    .filter(promo -> keyword == null || keywordMatches(promo, keyword.trim().toLowerCase()))
+                    .filter(promo -> teamName == null || promo.getTeamName().toLowerCase().contains(teamName.toLowerCase()))
+                    .filter(promo -> startDate == null || !promo.getEventDatetime().isBefore(startDate))
+                    .filter(promo -> endDate == null || !promo.getEventDatetime().isAfter(endDate))
+                    .sorted(Comparator.comparing(Promo::getEventDatetime).thenComparing(Promo::getId))
+                    .map(Promo::getId)
+                    .toList();
+            int from = Math.min(page * size, expected.size());
+            int to = Math.min(from + size, expected.size());
+
+            String description = String.format("status=%s keyword=%s teamName=%s start=%s end=%s page=%d size=%d",
+                    status, keyword, teamName, startDate, endDate, page, size);
+            assertThat(actual.getTotalElements()).as(description).isEqualTo(expected.size());
+            assertThat(actual.getContent()).as(description)
+                    .extracting(Promo::getId)
+                    .containsExactlyElementsOf(expected.subList(from, to));
+        }
+    }
+
+    private Predicate<Promo> statusMatches(EventStatus status) {
+        return promo -> {
+            LocalDate eventDate = promo.getEventDatetime().toLocalDate();
+            return switch (status) {
+                case ONGOING -> eventDate.isEqual(TODAY);
+                case UPCOMING -> eventDate.isAfter(TODAY);
+                case ENDED -> eventDate.isBefore(TODAY);
+            };
+        };
+    }
+
+    private boolean keywordMatches(Promo promo, String keyword) {
+        return contains(promo.getTitle(), keyword)
+                || contains(promo.getDescription(), keyword)
+                || contains(promo.getLocation(), keyword)
+                || contains(promo.getTeamName(), keyword);
+    }
+
+    private boolean contains(String value, String keyword) {
+        return value != null && value.toLowerCase().contains(keyword);
+    }
+
+    // 오늘 0시/내일 0시 경계값이 자주 나오도록 구성
+    private LocalDateTime randomEventDatetime() {
+        LocalDateTime todayStart = TODAY.atStartOfDay();
+        return switch (random.nextInt(5)) {
+            case 0 -> todayStart;
+            case 1 -> todayStart.plusDays(1);
+            case 2 -> todayStart.minusMinutes(1);
+            default -> todayStart.plusMinutes(random.nextInt(60 * 24 * 6) - 60 * 24 * 3);
+        };
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
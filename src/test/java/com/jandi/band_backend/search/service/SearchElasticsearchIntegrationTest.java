@@ -0,0 +1,184 @@
+package com.jandi.band_backend.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.jandi.band_backend.club.entity.Club;
+import com.jandi.band_backend.club.repository.ClubRepository;
+import com.jandi.band_backend.promo.entity.Promo;
+import com.jandi.band_backend.promo.repository.PromoRepository;
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import com.jandi.band_backend.search.dto.SearchResultRespDTO;
+import com.jandi.band_backend.team.repository.TeamRepository;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 Elasticsearch 에 공연 홍보/동아리 문서를 색인하고 매핑(cjk 분석기, 가중치, 하이라이트)대로 검색되는지 검증
+ * - Docker 가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Elasticsearch 검색 통합 테스트")
+class SearchElasticsearchIntegrationTest {
+
+    private static final String ALIAS = "jandi-search-test";
+
+    @Container
+    private static final ElasticsearchContainer ELASTICSEARCH = new ElasticsearchContainer(
+            DockerImageName.parse("docker.elastic.co/elasticsearch/elasticsearch:8.12.0"))
+            .withEnv("discovery.type", "single-node")
+            .withEnv("xpack.security.enabled", "false")
+            .withEnv("ES_JAVA_OPTS", "-Xms512m -Xmx512m");
+
+    private static RestClient restClient;
+    private static ElasticsearchClient elasticsearchClient;
+
+    private final PromoRepository promoRepository = mock(PromoRepository.class);
+    private final ClubRepository clubRepository = mock(ClubRepository.class);
+    private SearchIndexClient searchIndexClient;
+    private SearchDocumentLoader searchDocumentLoader;
+    private SearchService searchService;
+
+    @BeforeAll
+    static void connect() {
+        restClient = RestClient.builder(HttpHost.create(ELASTICSEARCH.getHttpHostAddress())).build();
+        elasticsearchClient = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+    }
+
+    @AfterAll
+    static void disconnect() throws IOException {
+        restClient.close();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        if (elasticsearchClient.indices().existsAlias(e -> e.name(ALIAS)).value()) {
+            for (String index : elasticsearchClient.indices().getAlias(g -> g.name(ALIAS)).result().keySet()) {
+                elasticsearchClient.indices().delete(d -> d.index(index));
+            }
+        }
+        searchIndexClient = new SearchIndexClient(elasticsearchClient);
+        ReflectionTestUtils.setField(searchIndexClient, "alias", ALIAS);
+        searchIndexClient.ensureAlias();
+        searchDocumentLoader = new SearchDocumentLoader(promoRepository, clubRepository, mock(TeamRepository.class));
+        searchService = new SearchService(searchIndexClient);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 cjk 분석기로 찾고, 제목 일치가 본문 일치보다 먼저 나온다")
+    void search_UsesAnalyzerAndFieldBoosts() throws IOException {
+        index(SearchDocumentType.PROMO, List.of(
+                promo(1, "봄 정기 공연", "잔디밴드", "동아리 무대입니다", "홍대 클럽"),
+                promo(2, "버스킹 안내", "그루브", "이번 정기공연 연습 겸 버스킹", "신촌")));
+
+        Page<SearchResultRespDTO> result = searchService.search("정기 공연", null, PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(SearchResultRespDTO::getTargetId).containsExactly(1, 2);
+        assertThat(result.getContent().get(0).getHighlights().get("title")).anyMatch(text -> text.contains("<em>"));
+    }
+
+    @Test
+    @DisplayName("하이라이트는 사용자가 입력한 HTML 을 이스케이프하고 강조 태그만 남긴다")
+    void search_HighlightEscapesHtml() throws IOException {
+        index(SearchDocumentType.PROMO, List.of(
+                promo(1, "<script>alert(1)</script> 정기 공연", "잔디밴드", "<img src=x onerror=alert(1)> 공연 소개", "홍대")));
+
+        SearchResultRespDTO result = searchService.search("공연", null, PageRequest.of(0, 10)).getContent().get(0);
+
+        assertThat(result.getHighlights().get("title")).singleElement().satisfies(title -> {
+            assertThat(title).doesNotContain("<script>").contains("&lt;script&gt;").contains("<em>공연</em>");
+        });
+        assertThat(result.getHighlights().get("content"))
+                .allSatisfy(content -> assertThat(content).doesNotContain("<img").contains("&lt;img"));
+    }
+
+    @Test
+    @DisplayName("팀명과 장소로 검색되고 타입 필터는 다른 문서를 제외한다")
+    void search_SubtitleLocationAndTypeFilter() throws IOException {
+        index(SearchDocumentType.PROMO, List.of(promo(1, "여름 공연", "잔디밴드", "공연 소개", "홍대 롤링홀")));
+        Club club = new Club();
+        club.setId(7);
+        club.setName("잔디밴드 동아리");
+        when(clubRepository.findAllById(anyCollection())).thenReturn(List.of(club));
+        bulk(searchDocumentLoader.loadByIds(SearchDocumentType.CLUB, List.of(7)).values(), List.of());
+
+        assertThat(searchService.search("롤링홀", null, PageRequest.of(0, 10)).getContent())
+                .extracting(SearchResultRespDTO::getType).containsExactly("PROMO");
+        assertThat(searchService.search("잔디밴드", null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+        assertThat(searchService.search("잔디밴드", "promo", PageRequest.of(0, 10)).getContent())
+                .extracting(SearchResultRespDTO::getTargetId).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 공연은 색인에서 지워지고, 재색인 후 별칭 교체 시에도 검색된다")
+    void deleteAndReindex() throws IOException {
+        Promo kept = promo(1, "가을 공연", "잔디밴드", "소개", "홍대");
+        Promo deleted = promo(2, "가을 축제 공연", "그루브", "소개", "신촌");
+        index(SearchDocumentType.PROMO, List.of(kept, deleted));
+
+        // SearchIndexer 처럼 삭제된 대상은 로더 결과에서 빠지므로 삭제 요청
+        deleted.setDeletedAt(LocalDateTime.now());
+        when(promoRepository.findAllById(anyCollection())).thenReturn(List.of(kept, deleted));
+        Map<Integer, SearchDocument> loaded = searchDocumentLoader.loadByIds(SearchDocumentType.PROMO, List.of(1, 2));
+        assertThat(loaded).containsOnlyKeys(1);
+        bulk(loaded.values(), List.of(SearchDocumentType.PROMO.documentId(2)));
+
+        assertThat(searchService.search("가을", null, PageRequest.of(0, 10)).getContent())
+                .extracting(SearchResultRespDTO::getTargetId).containsExactly(1);
+
+        String newIndex = searchIndexClient.createIndex();
+        assertThat(searchIndexClient.bulk(newIndex, loaded.values(), List.of())).isEmpty();
+        searchIndexClient.swapAlias(newIndex);
+        elasticsearchClient.indices().refresh(r -> r.index(ALIAS));
+
+        assertThat(elasticsearchClient.indices().getAlias(g -> g.name(ALIAS)).result()).containsOnlyKeys(newIndex);
+        assertThat(searchService.search("가을", null, PageRequest.of(0, 10)).getContent())
+                .extracting(SearchResultRespDTO::getTargetId).containsExactly(1);
+    }
+
+    private void index(SearchDocumentType type, List<Promo> promos) throws IOException {
+        when(promoRepository.findAllById(anyCollection())).thenReturn(promos);
+        bulk(searchDocumentLoader.loadByIds(type, promos.stream().map(Promo::getId).toList()).values(), List.of());
+    }
+
+    private void bulk(Collection<SearchDocument> upserts, Collection<String> deleteIds) throws IOException {
+        assertThat(searchIndexClient.bulk(ALIAS, upserts, deleteIds)).isEmpty();
+        elasticsearchClient.indices().refresh(r -> r.index(ALIAS));
+    }
+
+    private static Promo promo(int id, String title, String teamName, String description, String location) {
+        Promo promo = new Promo();
+        promo.setId(id);
+        promo.setTitle(title);
+        promo.setTeamName(teamName);
+        promo.setDescription(description);
+        promo.setLocation(location);
+        promo.setCreatedAt(LocalDateTime.now());
+        return promo;
+    }
+}
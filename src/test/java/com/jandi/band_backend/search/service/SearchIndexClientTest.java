@@ -0,0 +1,49 @@
+package com.jandi.band_backend.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.Highlight;
+import co.elastic.clients.elasticsearch.core.search.HighlighterEncoder;
+import co.elastic.clients.util.ObjectBuilder;
+import com.jandi.band_backend.search.document.SearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexClient 테스트")
+class SearchIndexClientTest {
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @InjectMocks
+    private SearchIndexClient searchIndexClient;
+
+    @Test
+    @DisplayName("검색 하이라이트는 HTML 인코더로 원문을 이스케이프한다")
+    @SuppressWarnings("unchecked")
+    void search_HighlightUsesHtmlEncoder() throws IOException {
+        // When
+        searchIndexClient.search("<script>", null, 0, 10);
+
+        // Then
+        ArgumentCaptor<Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>>> request =
+                ArgumentCaptor.forClass(Function.class);
+        verify(elasticsearchClient).search(request.capture(), eq(SearchDocument.class));
+        Highlight highlight = request.getValue().apply(new SearchRequest.Builder()).build().highlight();
+        assertThat(highlight.encoder()).isEqualTo(HighlighterEncoder.Html);
+        assertThat(highlight.preTags()).containsExactly("<em>");
+    }
+}
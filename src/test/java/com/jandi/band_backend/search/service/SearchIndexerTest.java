@@ -0,0 +1,155 @@
+package com.jandi.band_backend.search.service;
+
+import com.jandi.band_backend.search.document.SearchDocument;
+import com.jandi.band_backend.search.document.SearchDocumentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexer 테스트")
+class SearchIndexerTest {
+
+    private static final String ALIAS = "jandi-search";
+
+    @Mock
+    private SearchIndexClient searchIndexClient;
+
+    @Mock
+    private SearchDocumentLoader searchDocumentLoader;
+
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexer = new SearchIndexer(searchIndexClient, searchDocumentLoader, 100, 50, 10, 3, 1);
+        when(searchIndexClient.getAlias()).thenReturn(ALIAS);
+    }
+
+    @Test
+    @DisplayName("같은 배치의 중복 변경은 한 번만 색인하고 없는 대상은 삭제한다")
+    void processBatch_DeduplicatesAndDeletesMissing() throws IOException {
+        // Given
+        SearchDocument promo = document(SearchDocumentType.PROMO, 1);
+        when(searchDocumentLoader.loadByIds(eq(SearchDocumentType.PROMO), any()))
+                .thenReturn(Map.of(1, promo));
+        when(searchIndexClient.bulk(eq(ALIAS), anyCollection(), anyCollection())).thenReturn(List.of());
+
+        // When
+        searchIndexer.processBatch(List.of(
+                new SearchIndexer.SearchIndexTask(SearchDocumentType.PROMO, 1),
+                new SearchIndexer.SearchIndexTask(SearchDocumentType.PROMO, 1),
+                new SearchIndexer.SearchIndexTask(SearchDocumentType.PROMO, 2)));
+
+        // Then
+        ArgumentCaptor<Collection<Integer>> ids = idsCaptor();
+        verify(searchDocumentLoader).loadByIds(eq(SearchDocumentType.PROMO), ids.capture());
+        assertThat(ids.getValue()).containsExactly(1, 2);
+
+        ArgumentCaptor<Collection<SearchDocument>> upserts = upsertsCaptor();
+        ArgumentCaptor<Collection<String>> deletes = deletesCaptor();
+        verify(searchIndexClient).bulk(eq(ALIAS), upserts.capture(), deletes.capture());
+        assertThat(upserts.getValue()).containsExactly(promo);
+        assertThat(deletes.getValue()).containsExactly("promo-2");
+    }
+
+    @Test
+    @DisplayName("실패한 문서만 다시 전송한다")
+    void processBatch_RetriesOnlyFailedDocuments() throws IOException {
+        // Given
+        SearchDocument first = document(SearchDocumentType.CLUB, 1);
+        SearchDocument second = document(SearchDocumentType.CLUB, 2);
+        when(searchDocumentLoader.loadByIds(eq(SearchDocumentType.CLUB), any()))
+                .thenReturn(Map.of(1, first, 2, second));
+
+        List<List<SearchDocument>> sent = new ArrayList<>();
+        when(searchIndexClient.bulk(eq(ALIAS), anyCollection(), anyCollection())).thenAnswer(invocation -> {
+            Collection<SearchDocument> documents = invocation.getArgument(1);
+            sent.add(new ArrayList<>(documents));
+            return sent.size() == 1 ? List.of("club-2") : List.of();
+        });
+
+        // When
+        searchIndexer.processBatch(List.of(
+                new SearchIndexer.SearchIndexTask(SearchDocumentType.CLUB, 1),
+                new SearchIndexer.SearchIndexTask(SearchDocumentType.CLUB, 2)));
+
+        // Then
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0)).containsExactlyInAnyOrder(first, second);
+        assertThat(sent.get(1)).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("요청 실패가 계속되면 최대 시도 횟수까지만 재시도한다")
+    void processBatch_GivesUpAfterMaxAttempts() throws IOException {
+        // Given
+        when(searchDocumentLoader.loadByIds(eq(SearchDocumentType.TEAM), any()))
+                .thenReturn(Map.of(1, document(SearchDocumentType.TEAM, 1)));
+        when(searchIndexClient.bulk(eq(ALIAS), anyCollection(), anyCollection()))
+                .thenThrow(new IOException("connection refused"));
+
+        // When
+        searchIndexer.processBatch(List.of(new SearchIndexer.SearchIndexTask(SearchDocumentType.TEAM, 1)));
+
+        // Then
+        verify(searchIndexClient, times(3)).bulk(eq(ALIAS), anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("전체 재색인 중에는 새 인덱스에도 함께 기록한다")
+    void processBatch_WritesToShadowIndex() throws IOException {
+        // Given
+        when(searchDocumentLoader.loadByIds(eq(SearchDocumentType.PROMO), any())).thenReturn(Map.of());
+        when(searchIndexClient.bulk(any(), anyCollection(), anyCollection())).thenReturn(List.of());
+        searchIndexer.setShadowIndex("jandi-search-new");
+
+        // When
+        searchIndexer.processBatch(List.of(new SearchIndexer.SearchIndexTask(SearchDocumentType.PROMO, 3)));
+
+        // Then
+        verify(searchIndexClient).bulk(eq(ALIAS), anyCollection(), eq(List.of("promo-3")));
+        verify(searchIndexClient).bulk(eq("jandi-search-new"), anyCollection(), eq(List.of("promo-3")));
+    }
+
+    private SearchDocument document(SearchDocumentType type, Integer id) {
+        return SearchDocument.builder()
+                .type(type.name())
+                .targetId(id)
+                .title("제목 " + id)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<Integer>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<SearchDocument>> upsertsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<String>> deletesCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.jandi.band_backend.search.service;
+
+import com.jandi.band_backend.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchService 테스트")
+class SearchServiceTest {
+
+    @Mock
+    private SearchIndexClient searchIndexClient;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("검색 서버 연결 실패는 ServiceUnavailableException 으로 전환한다")
+    void search_ConnectionFailure() throws IOException {
+        // Given
+        IOException cause = new IOException("Connection refused");
+        when(searchIndexClient.search(eq("공연"), any(), anyInt(), anyInt())).thenThrow(cause);
+
+        // When & Then
+        assertThatThrownBy(() -> searchService.search("공연", null, PageRequest.of(0, 10)))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("검색 서버에 연결할 수 없습니다.")
+                .hasCause(cause);
+    }
+}